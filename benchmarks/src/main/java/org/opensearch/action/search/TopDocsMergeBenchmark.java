@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.BytesRef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the merge of the top docs of many shards sorted by a single numeric or keyword field on the coordinating node,
+ * with {@link TopDocs#merge} and with the {@link SingleSortTopDocsMerger}.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TopDocsMergeBenchmark {
+
+    @Param({ "long", "keyword" })
+    public String type;
+
+    @Param({ "1000" })
+    public int shards;
+
+    @Param({ "1000" })
+    public int size;
+
+    private Sort sort;
+    private TopFieldDocs[] shardTopDocs;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        boolean keyword = "keyword".equals(type);
+        sort = new Sort(new SortField("field", keyword ? SortField.Type.STRING : SortField.Type.LONG));
+        Comparator<FieldDoc> comparator = keyword
+            ? Comparator.comparing(doc -> (BytesRef) doc.fields[0])
+            : Comparator.comparing(doc -> (Long) doc.fields[0]);
+        shardTopDocs = new TopFieldDocs[shards];
+        for (int shard = 0; shard < shards; shard++) {
+            FieldDoc[] docs = new FieldDoc[size];
+            for (int i = 0; i < size; i++) {
+                long value = random.nextInt(1_000_000);
+                Object sortValue = keyword ? new BytesRef(String.format(Locale.ROOT, "user-%08d", value)) : value;
+                docs[i] = new FieldDoc(i, Float.NaN, new Object[] { sortValue });
+                docs[i].shardIndex = shard;
+            }
+            Arrays.sort(docs, comparator);
+            shardTopDocs[shard] = new TopFieldDocs(new TotalHits(size * 10, TotalHits.Relation.EQUAL_TO), docs, sort.getSort());
+        }
+    }
+
+    @Benchmark
+    public TopFieldDocs lucene() {
+        return TopDocs.merge(sort, 0, size, shardTopDocs, false);
+    }
+
+    @Benchmark
+    public TopFieldDocs primitive() {
+        return SingleSortTopDocsMerger.mergeOrNull(sort, 0, size, shardTopDocs);
+    }
+}
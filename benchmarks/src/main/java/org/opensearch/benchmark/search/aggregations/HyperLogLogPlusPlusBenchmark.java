@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.aggregations;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.search.aggregations.metrics.AbstractHyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast the counts of the cardinality aggregation collect hashes and how fast the counts of many shards are deserialized
+ * and merged on the coordinating node.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class HyperLogLogPlusPlusBenchmark {
+
+    @Param({ "14", "18" })
+    public int precision;
+
+    /**
+     * The number of distinct values of each shard, the counts of a shard use linear counting if it is small enough.
+     */
+    @Param({ "1000", "1000000" })
+    public int cardinality;
+
+    @Param({ "100" })
+    public int shards;
+
+    private long[] hashes;
+    private byte[][] serializedShards;
+    private HyperLogLogPlusPlus[] shardCounts;
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(0);
+        hashes = new long[cardinality];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = random.nextLong();
+        }
+        serializedShards = new byte[shards][];
+        shardCounts = new HyperLogLogPlusPlus[shards];
+        for (int shard = 0; shard < shards; shard++) {
+            final HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1);
+            for (int i = 0; i < cardinality; i++) {
+                counts.collect(0, random.nextLong());
+            }
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                counts.writeTo(0, out);
+                serializedShards[shard] = BytesReference.toBytes(out.bytes());
+            }
+            shardCounts[shard] = counts;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (HyperLogLogPlusPlus counts : shardCounts) {
+            counts.close();
+        }
+    }
+
+    @Benchmark
+    public long collect() {
+        try (HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            for (long hash : hashes) {
+                counts.collect(0, hash);
+            }
+            return counts.cardinality(0);
+        }
+    }
+
+    @Benchmark
+    public long merge() {
+        try (HyperLogLogPlusPlus reduced = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            for (HyperLogLogPlusPlus counts : shardCounts) {
+                reduced.merge(0, counts, 0);
+            }
+            return reduced.cardinality(0);
+        }
+    }
+
+    @Benchmark
+    public long readAndMerge() throws IOException {
+        try (HyperLogLogPlusPlus reduced = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            for (byte[] serialized : serializedShards) {
+                try (StreamInput in = StreamInput.wrap(serialized);
+                     AbstractHyperLogLogPlusPlus counts = AbstractHyperLogLogPlusPlus.readFrom(in, BigArrays.NON_RECYCLING_INSTANCE)) {
+                    reduced.merge(0, counts, 0);
+                }
+            }
+            return reduced.cardinality(0);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares random increments, like the ones of bucket counts of aggregations, and sequential reads of big arrays that are allocated on
+ * the heap and from direct memory, see {@link BigArrays#MEMORY_TYPE_SETTING}.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BigArraysBenchmark {
+
+    @Param({ "heap", "direct" })
+    public String memoryType;
+
+    @Param({ "100000", "10000000" })
+    public int size;
+
+    private LongArray longs;
+    private DoubleArray doubles;
+    private int[] indices;
+
+    @Setup
+    public void setup() {
+        final BigArrays bigArrays = new BigArrays(new PageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService(),
+            CircuitBreaker.REQUEST, BigArrays.MemoryType.parse(memoryType));
+        longs = bigArrays.newLongArray(size);
+        doubles = bigArrays.newDoubleArray(size);
+        final Random random = new Random(0);
+        indices = new int[1 << 16];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(size);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        longs.close();
+        doubles.close();
+    }
+
+    @Benchmark
+    public long incrementLongs() {
+        long sum = 0;
+        for (int index : indices) {
+            sum += longs.increment(index, 1);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double incrementDoubles() {
+        double sum = 0;
+        for (int index : indices) {
+            sum += doubles.increment(index, 1d);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long readLongs() {
+        long sum = 0;
+        for (long i = 0; i < size; i++) {
+            sum += longs.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.index.translog.Translog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures concurrent puts and lookups on the {@link LiveVersionMap}, with and without the {@link CompactVersionMap}. The {@code gc}
+ * profiler ({@code -prof gc}) shows the difference in allocation rate.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Threads(4)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LiveVersionMapBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean compact;
+
+    @Param({ "10000", "1000000" })
+    public int numUids;
+
+    private LiveVersionMap versionMap;
+    private BytesRef[] uids;
+    private final AtomicLong seqNo = new AtomicLong();
+
+    @Setup
+    public void setup() {
+        versionMap = new LiveVersionMap(compact);
+        versionMap.enforceSafeAccess();
+        uids = new BytesRef[numUids];
+        for (int i = 0; i < numUids; i++) {
+            uids[i] = new BytesRef(String.format(Locale.ROOT, "%020d", i).getBytes(StandardCharsets.UTF_8));
+        }
+        // start from a populated map so lookups hit
+        for (BytesRef uid : uids) {
+            index(uid);
+        }
+    }
+
+    private BytesRef randomUid() {
+        return uids[ThreadLocalRandom.current().nextInt(uids.length)];
+    }
+
+    private void index(BytesRef uid) {
+        final long opSeqNo = seqNo.incrementAndGet();
+        try (Releasable ignored = versionMap.acquireLock(uid)) {
+            versionMap.putIndexUnderLock(uid, new IndexVersionValue(new Translog.Location(1, opSeqNo * 100, 100), 1, opSeqNo, 1));
+        }
+    }
+
+    @Benchmark
+    public void put() {
+        index(randomUid());
+    }
+
+    @Benchmark
+    public VersionValue get() {
+        final BytesRef uid = randomUid();
+        try (Releasable ignored = versionMap.acquireLock(uid)) {
+            return versionMap.getUnderLock(uid);
+        }
+    }
+}
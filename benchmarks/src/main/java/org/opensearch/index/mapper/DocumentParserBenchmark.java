@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
+import org.opensearch.script.ScriptService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+
+/**
+ * Measures parsing of web server log documents, mostly made of fields inside objects, against a fully mapped index. Run with
+ * {@code -prof gc} to see the allocations per document.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class DocumentParserBenchmark {
+
+    private static final String MAPPING = "{\"_doc\":{\"properties\":{"
+        + "\"@timestamp\":{\"type\":\"date\"},"
+        + "\"message\":{\"type\":\"text\"},"
+        + "\"host\":{\"properties\":{\"name\":{\"type\":\"keyword\"},\"ip\":{\"type\":\"ip\"}}},"
+        + "\"http\":{\"properties\":{"
+        + "\"request\":{\"properties\":{\"method\":{\"type\":\"keyword\"},\"bytes\":{\"type\":\"long\"}}},"
+        + "\"response\":{\"properties\":{\"status_code\":{\"type\":\"short\"},\"bytes\":{\"type\":\"long\"}}},"
+        + "\"version\":{\"type\":\"keyword\"}}},"
+        + "\"url\":{\"properties\":{\"path\":{\"type\":\"keyword\"},\"query\":{\"type\":\"keyword\"}}},"
+        + "\"user_agent\":{\"properties\":{\"original\":{\"type\":\"keyword\"},"
+        + "\"os\":{\"properties\":{\"name\":{\"type\":\"keyword\"},\"version\":{\"type\":\"keyword\"}}}}},"
+        + "\"event\":{\"properties\":{\"duration\":{\"type\":\"long\"},\"dataset\":{\"type\":\"keyword\"}}}"
+        + "}}}";
+
+    private static final String[] METHODS = { "GET", "POST", "PUT", "DELETE" };
+    private static final String[] PATHS = { "/", "/index.html", "/api/v1/users", "/api/v1/orders", "/static/app.js" };
+    private static final String[] OS_NAMES = { "Linux", "Mac OS X", "Windows" };
+
+    @Param({ "100" })
+    public int numDocs;
+
+    private DocumentMapper documentMapper;
+    private SourceToParse[] sources;
+    private int next;
+
+    @Setup
+    public void setup() throws Exception {
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .build();
+        final IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder("logs").settings(settings).build(), Settings.EMPTY);
+        final IndexAnalyzers indexAnalyzers = new IndexAnalyzers(
+            singletonMap("default", new NamedAnalyzer("default", AnalyzerScope.INDEX, new StandardAnalyzer())), emptyMap(), emptyMap());
+        final ScriptService scriptService = new ScriptService(Settings.EMPTY, emptyMap(), emptyMap());
+        final MapperService mapperService = new MapperService(indexSettings, indexAnalyzers, NamedXContentRegistry.EMPTY,
+            new SimilarityService(indexSettings, scriptService, emptyMap()), new IndicesModule(emptyList()).getMapperRegistry(),
+            () -> { throw new UnsupportedOperationException(); }, () -> true, scriptService);
+        documentMapper = mapperService.merge("_doc", new CompressedXContent(MAPPING), MapperService.MergeReason.MAPPING_UPDATE);
+
+        final Random random = new Random(0);
+        sources = new SourceToParse[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            sources[i] = new SourceToParse("logs", "_doc", Integer.toString(i), new BytesArray(logDocument(random, i)), XContentType.JSON);
+        }
+    }
+
+    private static byte[] logDocument(Random random, int i) {
+        final String method = METHODS[random.nextInt(METHODS.length)];
+        final String path = PATHS[random.nextInt(PATHS.length)];
+        final int status = random.nextInt(10) == 0 ? 404 : 200;
+        final String doc = String.format(Locale.ROOT,
+            "{\"@timestamp\":%d,\"message\":\"%s %s HTTP/1.1 %d\","
+                + "\"host\":{\"name\":\"web-%02d\",\"ip\":\"10.0.%d.%d\"},"
+                + "\"http\":{\"request\":{\"method\":\"%s\",\"bytes\":%d},\"response\":{\"status_code\":%d,\"bytes\":%d},"
+                + "\"version\":\"1.1\"},"
+                + "\"url\":{\"path\":\"%s\",\"query\":\"page=%d\"},"
+                + "\"user_agent\":{\"original\":\"Mozilla/5.0\",\"os\":{\"name\":\"%s\",\"version\":\"%d.0\"}},"
+                + "\"event\":{\"duration\":%d,\"dataset\":\"access\"}}",
+            1600000000000L + i * 1000L, method, path, status,
+            random.nextInt(20), random.nextInt(256), random.nextInt(256),
+            method, random.nextInt(2048), status, random.nextInt(65536),
+            path, random.nextInt(100),
+            OS_NAMES[random.nextInt(OS_NAMES.length)], random.nextInt(20),
+            random.nextInt(1_000_000));
+        return doc.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ParsedDocument parse() {
+        final SourceToParse source = sources[next];
+        next = (next + 1) % sources.length;
+        return documentMapper.parse(source);
+    }
+}
@@ -54,6 +54,16 @@ public class OneMergeHelper {
         return Double.POSITIVE_INFINITY;
     }
 
+    /**
+     * The rate limiter of this merge, or {@code null} if the merge does not run on a merge thread.
+     **/
+    public static MergeRateLimiter getRateLimiter(Thread thread) {
+        if (thread instanceof ConcurrentMergeScheduler.MergeThread) {
+            return ((ConcurrentMergeScheduler.MergeThread) thread).rateLimiter;
+        }
+        return null;
+    }
+
     /**
      * Returns total bytes written by this merge.
      **/
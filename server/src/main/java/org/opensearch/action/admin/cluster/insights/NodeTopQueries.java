@@ -0,0 +1,65 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.admin.cluster.insights;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.search.insights.QueryGroup;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The top query groups of the current window of a node.
+ */
+public class NodeTopQueries extends BaseNodeResponse {
+
+    private final long windowStartMillis;
+    private final long droppedRequests;
+    private final List<QueryGroup> topQueries;
+
+    public NodeTopQueries(StreamInput in) throws IOException {
+        super(in);
+        windowStartMillis = in.readVLong();
+        droppedRequests = in.readVLong();
+        topQueries = in.readList(QueryGroup::new);
+    }
+
+    public NodeTopQueries(DiscoveryNode node, long windowStartMillis, long droppedRequests, List<QueryGroup> topQueries) {
+        super(node);
+        this.windowStartMillis = windowStartMillis;
+        this.droppedRequests = droppedRequests;
+        this.topQueries = topQueries;
+    }
+
+    public long getWindowStartMillis() {
+        return windowStartMillis;
+    }
+
+    /**
+     * The number of requests of the window that the node did not record because the window had too many query groups already.
+     */
+    public long getDroppedRequests() {
+        return droppedRequests;
+    }
+
+    public List<QueryGroup> getTopQueries() {
+        return topQueries;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVLong(windowStartMillis);
+        out.writeVLong(droppedRequests);
+        out.writeList(topQueries);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.admin.cluster.insights;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.search.insights.QueryGroup;
+
+import java.io.IOException;
+
+/**
+ * Requests the query groups of the current window that used the most of a resource on the coordinating nodes.
+ */
+public class TopQueriesRequest extends BaseNodesRequest<TopQueriesRequest> {
+
+    private QueryGroup.Metric metric = QueryGroup.Metric.LATENCY;
+    private int size = -1;
+
+    public TopQueriesRequest(StreamInput in) throws IOException {
+        super(in);
+        metric = in.readEnum(QueryGroup.Metric.class);
+        size = in.readInt();
+    }
+
+    /**
+     * Get the top queries of the nodes with the given ids, or of all nodes if none are passed.
+     */
+    public TopQueriesRequest(String... nodesIds) {
+        super(nodesIds);
+    }
+
+    public QueryGroup.Metric metric() {
+        return metric;
+    }
+
+    /**
+     * The resource by which the query groups are ranked, defaults to {@link QueryGroup.Metric#LATENCY}.
+     */
+    public TopQueriesRequest metric(QueryGroup.Metric metric) {
+        this.metric = metric;
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The number of query groups to return, defaults to {@code search.insights.top_queries.top_n_size} if negative.
+     */
+    public TopQueriesRequest size(int size) {
+        this.size = size;
+        return this;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeEnum(metric);
+        out.writeInt(size);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.admin.cluster.insights;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.search.insights.QueryGroup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The top query groups of the nodes. The groups of the nodes that have the same shape are merged, so the response ranks the shapes of
+ * the whole cluster. Since every node only returns its own top groups, a shape that is just below the top on every node may be missing,
+ * like the terms of a terms aggregation.
+ */
+public class TopQueriesResponse extends BaseNodesResponse<NodeTopQueries> implements ToXContentFragment {
+
+    private final QueryGroup.Metric metric;
+    private final int size;
+
+    public TopQueriesResponse(StreamInput in) throws IOException {
+        super(in);
+        metric = in.readEnum(QueryGroup.Metric.class);
+        size = in.readVInt();
+    }
+
+    public TopQueriesResponse(ClusterName clusterName, List<NodeTopQueries> nodes, List<FailedNodeException> failures,
+                              QueryGroup.Metric metric, int size) {
+        super(clusterName, nodes, failures);
+        this.metric = metric;
+        this.size = size;
+    }
+
+    @Override
+    protected List<NodeTopQueries> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(NodeTopQueries::new);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<NodeTopQueries> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeEnum(metric);
+        out.writeVInt(size);
+    }
+
+    public QueryGroup.Metric getMetric() {
+        return metric;
+    }
+
+    /**
+     * The query groups of all nodes merged by shape, from the one that used the most of the metric of the request.
+     */
+    public List<QueryGroup> getTopQueries() {
+        final Map<String, QueryGroup> merged = new HashMap<>();
+        for (NodeTopQueries node : getNodes()) {
+            for (QueryGroup group : node.getTopQueries()) {
+                final QueryGroup existing = merged.get(group.getId());
+                if (existing == null) {
+                    merged.put(group.getId(), group.copy());
+                } else {
+                    existing.merge(group);
+                }
+            }
+        }
+        final List<QueryGroup> topQueries = new ArrayList<>(merged.values());
+        topQueries.sort(metric.comparator());
+        return topQueries.subList(0, Math.min(size, topQueries.size()));
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.field("type", metric.getName());
+        builder.startObject("nodes");
+        for (NodeTopQueries node : getNodes()) {
+            builder.startObject(node.getNode().getId());
+            builder.field("window_start", node.getWindowStartMillis());
+            builder.field("dropped_requests", node.getDroppedRequests());
+            builder.endObject();
+        }
+        builder.endObject();
+        builder.startArray("top_queries");
+        for (QueryGroup group : getTopQueries()) {
+            group.toXContent(builder, params);
+        }
+        builder.endArray();
+        return builder;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.admin.cluster.insights;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.BaseNodeRequest;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.search.insights.QueryInsightsService;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Collects the top query groups of the current window of each node for the requested metric. The groups are merged by shape in
+ * {@link TopQueriesResponse}.
+ */
+public class TransportTopQueriesAction
+        extends TransportNodesAction<TopQueriesRequest, TopQueriesResponse, TransportTopQueriesAction.NodeRequest, NodeTopQueries> {
+
+    private final QueryInsightsService queryInsightsService;
+
+    @Inject
+    public TransportTopQueriesAction(ThreadPool threadPool, ClusterService clusterService, TransportService transportService,
+                                     ActionFilters actionFilters, QueryInsightsService queryInsightsService) {
+        super(TopQueriesAction.NAME, threadPool, clusterService, transportService, actionFilters,
+            TopQueriesRequest::new, NodeRequest::new, ThreadPool.Names.MANAGEMENT, NodeTopQueries.class);
+        this.queryInsightsService = queryInsightsService;
+    }
+
+    @Override
+    protected TopQueriesResponse newResponse(TopQueriesRequest request, List<NodeTopQueries> responses,
+                                             List<FailedNodeException> failures) {
+        return new TopQueriesResponse(clusterService.getClusterName(), responses, failures, request.metric(), size(request));
+    }
+
+    @Override
+    protected NodeRequest newNodeRequest(TopQueriesRequest request) {
+        return new NodeRequest(request);
+    }
+
+    @Override
+    protected NodeTopQueries newNodeResponse(StreamInput in) throws IOException {
+        return new NodeTopQueries(in);
+    }
+
+    @Override
+    protected NodeTopQueries nodeOperation(NodeRequest nodeRequest) {
+        final TopQueriesRequest request = nodeRequest.request;
+        return new NodeTopQueries(clusterService.localNode(), queryInsightsService.getWindowStartMillis(),
+            queryInsightsService.getDroppedRequests(), queryInsightsService.getTopQueries(request.metric(), size(request)));
+    }
+
+    private int size(TopQueriesRequest request) {
+        return request.size() >= 0 ? request.size() : queryInsightsService.getTopQueriesSize();
+    }
+
+    public static class NodeRequest extends BaseNodeRequest {
+
+        TopQueriesRequest request;
+
+        public NodeRequest(StreamInput in) throws IOException {
+            super(in);
+            request = new TopQueriesRequest(in);
+        }
+
+        NodeRequest(TopQueriesRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            request.writeTo(out);
+        }
+    }
+}
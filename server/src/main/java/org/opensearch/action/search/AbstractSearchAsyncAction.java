@@ -47,8 +47,10 @@ import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.AtomicArray;
+import org.opensearch.common.util.concurrent.RunOnce;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
@@ -56,6 +58,8 @@ import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.transport.Transport;
 
 import java.util.ArrayDeque;
@@ -69,6 +73,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -78,6 +83,8 @@ import java.util.stream.Collectors;
  * referred to as the {@code shardIndex}.
  * The fan out and collect algorithm is traditionally used as the initial phase which can either be a query execution or collection of
  * distributed frequencies
+ * If {@link HedgedShardRequests} are provided, a shard request that takes longer than expected is sent a second time to the next replica of
+ * the shard and the first response is used.
  */
 abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> extends SearchPhase implements SearchPhaseContext {
     private static final float DEFAULT_INDEX_BOOST = 1.0f;
@@ -111,6 +118,9 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
     private final int maxConcurrentRequestsPerNode;
     private final Map<String, PendingExecutions> pendingExecutionsPerNode = new ConcurrentHashMap<>();
     private final boolean throttleConcurrentRequests;
+    @Nullable
+    private final HedgedShardRequests hedgedShardRequests;
+    private final HedgedShard[] hedgedShards;
 
     private final List<Releasable> releasables = new ArrayList<>();
 
@@ -123,6 +133,19 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                               TransportSearchAction.SearchTimeProvider timeProvider, ClusterState clusterState,
                               SearchTask task, SearchPhaseResults<Result> resultConsumer, int maxConcurrentRequestsPerNode,
                               SearchResponse.Clusters clusters) {
+        this(name, logger, searchTransportService, nodeIdToConnection, aliasFilter, concreteIndexBoosts, indexRoutings, executor, request,
+            listener, shardsIts, timeProvider, clusterState, task, resultConsumer, maxConcurrentRequestsPerNode, clusters, null);
+    }
+
+    AbstractSearchAsyncAction(String name, Logger logger, SearchTransportService searchTransportService,
+                              BiFunction<String, String, Transport.Connection> nodeIdToConnection,
+                              Map<String, AliasFilter> aliasFilter, Map<String, Float> concreteIndexBoosts,
+                              Map<String, Set<String>> indexRoutings,
+                              Executor executor, SearchRequest request,
+                              ActionListener<SearchResponse> listener, GroupShardsIterator<SearchShardIterator> shardsIts,
+                              TransportSearchAction.SearchTimeProvider timeProvider, ClusterState clusterState,
+                              SearchTask task, SearchPhaseResults<Result> resultConsumer, int maxConcurrentRequestsPerNode,
+                              SearchResponse.Clusters clusters, @Nullable HedgedShardRequests hedgedShardRequests) {
         super(name);
         final List<SearchShardIterator> toSkipIterators = new ArrayList<>();
         final List<SearchShardIterator> iterators = new ArrayList<>();
@@ -157,6 +180,19 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         this.indexRoutings = indexRoutings;
         this.results = resultConsumer;
         this.clusters = clusters;
+        this.hedgedShardRequests = hedgedShardRequests;
+        if (hedgedShardRequests != null) {
+            this.hedgedShards = new HedgedShard[this.shardsIts.size()];
+            for (int index = 0; index < this.shardsIts.size(); index++) {
+                final SearchShardIterator shardRoutings = this.shardsIts.get(index);
+                // requests that target a specific search context must go to the copy that holds it
+                if (shardRoutings.size() > 1 && shardRoutings.getSearchContextId() == null) {
+                    hedgedShards[index] = new HedgedShard();
+                }
+            }
+        } else {
+            this.hedgedShards = null;
+        }
     }
 
     @Override
@@ -237,6 +273,13 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
     }
 
     private void performPhaseOnShard(final int shardIndex, final SearchShardIterator shardIt, final SearchShardTarget shard) {
+        final HedgedShard hedgedShard = hedgedShards == null ? null : hedgedShards[shardIndex];
+        final int attempt = hedgedShard == null || shard == null ? 0 : hedgedShard.startAttempt();
+        performPhaseOnShard(shardIndex, shardIt, shard, hedgedShard, attempt);
+    }
+
+    private void performPhaseOnShard(final int shardIndex, final SearchShardIterator shardIt, final SearchShardTarget shard,
+                                     @Nullable final HedgedShard hedgedShard, final int attempt) {
         /*
          * We capture the thread that this phase is starting on. When we are called back after executing the phase, we are either on the
          * same thread (because we never went async, or the same thread was selected from the thread pool) or a different thread. If we
@@ -250,16 +293,34 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
             final PendingExecutions pendingExecutions = throttleConcurrentRequests ?
                 pendingExecutionsPerNode.computeIfAbsent(shard.getNodeId(), n -> new PendingExecutions(maxConcurrentRequestsPerNode))
                 : null;
+            if (hedgedShard != null) {
+                // the time the request waits for a permit counts as well, so that requests queued behind a slow node are hedged too
+                scheduleHedge(shardIndex, shardIt, shard, hedgedShard, attempt);
+            }
+            // a hedged request counts against the hedging budget until it completes
+            final Runnable onHedgeDone = hedgedShard != null && attempt == hedgedShard.hedgeAttempt()
+                ? new RunOnce(hedgedShardRequests::onHedgedRequestDone) : () -> {};
             Runnable r = () -> {
                 final Thread thread = Thread.currentThread();
+                if (hedgedShard != null && hedgedShard.isDone()) {
+                    // another copy of the shard responded while this request was waiting for a permit
+                    onHedgeDone.run();
+                    executeNext(pendingExecutions, thread);
+                    return;
+                }
                 try {
                     executePhaseOnShard(shardIt, shard,
                         new SearchActionListener<Result>(shard, shardIndex) {
                             @Override
                             public void innerOnResponse(Result result) {
                                 try {
-                                    onShardResult(result, shardIt);
+                                    if (hedgedShard == null) {
+                                        onShardResult(result, shardIt);
+                                    } else {
+                                        onHedgedShardResult(result, shardIt, hedgedShard, attempt);
+                                    }
                                 } finally {
+                                    onHedgeDone.run();
                                     executeNext(pendingExecutions, thread);
                                 }
                             }
@@ -267,8 +328,13 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                             @Override
                             public void onFailure(Exception t) {
                                 try {
-                                    onShardFailure(shardIndex, shard, shardIt, t);
+                                    if (hedgedShard == null) {
+                                        onShardFailure(shardIndex, shard, shardIt, t);
+                                    } else {
+                                        onHedgedShardFailure(shardIndex, shard, shardIt, t, hedgedShard);
+                                    }
                                 } finally {
+                                    onHedgeDone.run();
                                     executeNext(pendingExecutions, thread);
                                 }
                             }
@@ -279,8 +345,13 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                          * It is possible to run into connection exceptions here because we are getting the connection early and might
                          * run into nodes that are not connected. In this case, on shard failure will move us to the next shard copy.
                          */
-                        fork(() -> onShardFailure(shardIndex, shard, shardIt, e));
+                        if (hedgedShard == null) {
+                            fork(() -> onShardFailure(shardIndex, shard, shardIt, e));
+                        } else {
+                            fork(() -> onHedgedShardFailure(shardIndex, shard, shardIt, e, hedgedShard));
+                        }
                     } finally {
+                        onHedgeDone.run();
                         executeNext(pendingExecutions, thread);
                     }
                 }
@@ -293,6 +364,64 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         }
     }
 
+    private void scheduleHedge(int shardIndex, SearchShardIterator shardIt, SearchShardTarget shard, HedgedShard hedgedShard, int attempt) {
+        final TimeValue delay = hedgedShard.canHedge(attempt) ? hedgedShardRequests.hedgeDelay(shard) : null;
+        if (delay != null) {
+            hedgedShard.setHedgeTimer(attempt, hedgedShardRequests.schedule(() -> {
+                final SearchShardTarget hedgeShard = hedgedShard.startHedge(attempt, shardIt,
+                    targetNodeId -> hedgedShardRequests.tryStartHedgedRequest(shard.getNodeId(), targetNodeId));
+                if (hedgeShard != null) {
+                    logger.trace("{}: no response after [{}], sending the request to [{}] as well", shard, delay, hedgeShard);
+                    final int hedgeAttempt = hedgedShard.hedgeAttempt();
+                    fork(() -> performPhaseOnShard(shardIndex, shardIt, hedgeShard, hedgedShard, hedgeAttempt));
+                }
+            }, delay));
+        }
+    }
+
+    private void onHedgedShardResult(Result result, SearchShardIterator shardIt, HedgedShard hedgedShard, int attempt) {
+        if (hedgedShard.onResponse()) {
+            if (attempt == hedgedShard.hedgeAttempt()) {
+                hedgedShardRequests.onHedgedRequestWon();
+            }
+            onShardResult(result, shardIt);
+        } else {
+            // another copy of the shard responded first, we don't need the search context of this one
+            final QuerySearchResult queryResult = result.queryResult();
+            if (result.getContextId() != null && (queryResult == null || queryResult.hasSearchContext())) {
+                try {
+                    final SearchShardTarget shardTarget = result.getSearchShardTarget();
+                    final Transport.Connection connection = getConnection(shardTarget.getClusterAlias(), shardTarget.getNodeId());
+                    sendReleaseSearchContext(result.getContextId(), connection, shardTarget.getOriginalIndices());
+                } catch (Exception e) {
+                    logger.trace("failed to release context", e);
+                }
+            }
+        }
+    }
+
+    private void onHedgedShardFailure(int shardIndex, SearchShardTarget shard, SearchShardIterator shardIt, Exception e,
+                                      HedgedShard hedgedShard) {
+        switch (hedgedShard.onFailure()) {
+            case IGNORE:
+                // another copy of the shard already responded and accounted for this request
+                logger.trace(() -> new ParameterizedMessage("{}: ignoring failure of hedged request", shard), e);
+                break;
+            case WAIT:
+                // the request is still running on another copy of the shard
+                onShardFailure(shardIndex, shard, e);
+                logger.debug(() -> new ParameterizedMessage("{}: Failed to execute [{}] while another copy is still running",
+                    shard, request), e);
+                incrementTotalOps();
+                break;
+            case RETRY:
+                onShardFailure(shardIndex, shard, shardIt, e);
+                break;
+            default:
+                throw new AssertionError("unknown failure outcome");
+        }
+    }
+
     /**
      * Sends the request to the actual shard.
      * @param shardIt the shards iterator
@@ -407,17 +536,24 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         if (lastShard) {
             onShardGroupFailure(shardIndex, shard, e);
         }
+        if (incrementTotalOps() == false && lastShard == false) {
+            performPhaseOnShard(shardIndex, shardIt, nextShard);
+        }
+    }
+
+    /**
+     * Accounts for one failed shard request and returns {@code true} if this was the last one of the phase.
+     */
+    private boolean incrementTotalOps() {
         final int totalOps = this.totalOps.incrementAndGet();
         if (totalOps == expectedTotalOps) {
             onPhaseDone();
+            return true;
         } else if (totalOps > expectedTotalOps) {
             throw new AssertionError("unexpected higher total ops [" + totalOps + "] compared to expected [" + expectedTotalOps + "]",
                 new SearchPhaseExecutionException(getName(), "Shard failures", null, buildShardFailures()));
-        } else {
-            if (lastShard == false) {
-                performPhaseOnShard(shardIndex, shardIt, nextShard);
-            }
         }
+        return false;
     }
 
     /**
@@ -483,6 +619,10 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         if (logger.isTraceEnabled()) {
             logger.trace("got first-phase result from {}", result != null ? result.getSearchShardTarget() : null);
         }
+        final QuerySearchResult queryResult = result.queryResult();
+        if (queryResult != null) {
+            task.addShardResourceUsage(queryResult.cpuTimeNanos(), queryResult.allocatedBytes());
+        }
         results.consumeResult(result, () -> onShardResultConsumed(result, shardIt));
     }
 
@@ -500,15 +640,23 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         // cause the successor to read a wrong value from successfulOps if second phase is very fast ie. count etc.
         // increment all the "future" shards to update the total ops since we some may work and some may not...
         // and when that happens, we break on total ops, so we must maintain them
-        successfulShardExecution(shardIt);
+        final HedgedShard hedgedShard = hedgedShards == null ? null : hedgedShards[result.getShardIndex()];
+        successfulShardExecution(shardIt, hedgedShard == null ? 0 : hedgedShard.lostAttempts());
     }
 
     private void successfulShardExecution(SearchShardIterator shardsIt) {
+        successfulShardExecution(shardsIt, 0);
+    }
+
+    /**
+     * @param lostAttempts the number of requests to other copies of the shard that are still running but whose result won't be used
+     */
+    private void successfulShardExecution(SearchShardIterator shardsIt, int lostAttempts) {
         final int remainingOpsOnIterator;
         if (shardsIt.skip()) {
             remainingOpsOnIterator = shardsIt.remaining();
         } else {
-            remainingOpsOnIterator = shardsIt.remaining() + 1;
+            remainingOpsOnIterator = shardsIt.remaining() + 1 + lostAttempts;
         }
         final int xTotalOps = totalOps.addAndGet(remainingOpsOnIterator);
         if (xTotalOps == expectedTotalOps) {
@@ -678,6 +826,110 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         }
     }
 
+    /**
+     * Tracks the requests that are running for a shard whose request may be hedged. Only the first response of the shard is used, and a
+     * failure only moves on to the next copy of the shard once no other request is running for it.
+     */
+    private static final class HedgedShard {
+        private int attempts;
+        private int inFlight;
+        private int hedgeAttempt;
+        private int lostAttempts;
+        private boolean done;
+        private Scheduler.ScheduledCancellable hedgeTimer;
+
+        synchronized int startAttempt() {
+            assert done == false : "shard request already completed";
+            inFlight++;
+            return ++attempts;
+        }
+
+        synchronized boolean canHedge(int attempt) {
+            return done == false && hedgeAttempt == 0 && attempt == attempts && inFlight == 1;
+        }
+
+        synchronized void setHedgeTimer(int attempt, Scheduler.ScheduledCancellable timer) {
+            if (canHedge(attempt)) {
+                hedgeTimer = timer;
+            } else {
+                timer.cancel();
+            }
+        }
+
+        /**
+         * Moves the shard iterator to the next copy of the shard if the given request is still the only one that runs and
+         * <code>canHedgeTo</code> accepts the node of that copy, and returns that copy or {@code null} if the request should not be
+         * hedged. The iterator does not move if the request is not hedged, so that a failure still moves on to the next copy.
+         */
+        synchronized SearchShardTarget startHedge(int attempt, SearchShardIterator shardIt, Predicate<String> canHedgeTo) {
+            hedgeTimer = null;
+            if (canHedge(attempt) == false) {
+                return null;
+            }
+            final String targetNodeId = shardIt.peekNodeIdOrNull();
+            if (targetNodeId == null || canHedgeTo.test(targetNodeId) == false) {
+                return null;
+            }
+            final SearchShardTarget hedgeShard = shardIt.nextOrNull();
+            hedgeAttempt = startAttempt();
+            return hedgeShard;
+        }
+
+        synchronized int hedgeAttempt() {
+            return hedgeAttempt;
+        }
+
+        synchronized boolean isDone() {
+            return done;
+        }
+
+        /**
+         * Returns {@code true} if the given request is the first one of the shard to respond.
+         */
+        synchronized boolean onResponse() {
+            inFlight--;
+            if (done) {
+                return false;
+            }
+            done = true;
+            lostAttempts = inFlight;
+            cancelHedgeTimer();
+            return true;
+        }
+
+        synchronized FailureOutcome onFailure() {
+            if (done) {
+                return FailureOutcome.IGNORE;
+            }
+            inFlight--;
+            cancelHedgeTimer();
+            return inFlight > 0 ? FailureOutcome.WAIT : FailureOutcome.RETRY;
+        }
+
+        /**
+         * The number of requests that were still running when the first response of the shard was received.
+         */
+        synchronized int lostAttempts() {
+            return lostAttempts;
+        }
+
+        private void cancelHedgeTimer() {
+            if (hedgeTimer != null) {
+                hedgeTimer.cancel();
+                hedgeTimer = null;
+            }
+        }
+    }
+
+    private enum FailureOutcome {
+        /** another request of the shard already responded */
+        IGNORE,
+        /** another request of the shard is still running */
+        WAIT,
+        /** no other request of the shard is running, move on to the next copy */
+        RETRY
+    }
+
     private static final class PendingExecutions {
         private final int permits;
         private int permitsTaken = 0;
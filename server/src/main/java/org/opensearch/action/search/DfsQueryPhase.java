@@ -98,6 +98,7 @@ final class DfsQueryPhase extends SearchPhase {
 
                     @Override
                     protected void innerOnResponse(QuerySearchResult response) {
+                        context.getTask().addShardResourceUsage(response.cpuTimeNanos(), response.allocatedBytes());
                         try {
                             counter.onResult(response);
                         } catch (Exception e) {
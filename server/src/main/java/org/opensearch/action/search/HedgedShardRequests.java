@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.node.ResponseCollectorService;
+import org.opensearch.node.ResponseCollectorService.ComputedNodeStats;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Decides when the query of a shard is hedged, that is sent a second time to another copy of the shard because it is taking longer than
+ * most of the recent queries on the same index. Whichever copy responds first is used, so that a single slow node, for instance because
+ * of a long garbage collection, does not hold back the whole search.
+ *
+ * Hedging adds load, so it is limited in two ways. The hedged requests that run at the same time on the coordinating node are capped to
+ * a percentage of all the shard requests it has in flight. A request is also not hedged to a copy that looks more loaded than the one it
+ * is waiting for, that is whose node has a larger search queue or a worse adaptive replica selection rank. Only shards of the local
+ * cluster are hedged: the latencies of the shards of remote clusters are not recorded.
+ */
+final class HedgedShardRequests {
+
+    private static final Logger logger = LogManager.getLogger(HedgedShardRequests.class);
+
+    private final ThreadPool threadPool;
+    private final ResponseCollectorService responseCollectorService;
+    private final Supplier<Map<String, Long>> pendingRequests;
+    private final double latencyPercentile;
+    private final TimeValue minDelay;
+    private final double budgetPercent;
+
+    /**
+     * @param pendingRequests the number of shard requests this node is waiting for, per node
+     * @param budgetPercent   the maximum percentage of these requests that may be hedged requests
+     */
+    HedgedShardRequests(ThreadPool threadPool, ResponseCollectorService responseCollectorService,
+                        Supplier<Map<String, Long>> pendingRequests, double latencyPercentile, TimeValue minDelay, double budgetPercent) {
+        this.threadPool = threadPool;
+        this.responseCollectorService = responseCollectorService;
+        this.pendingRequests = pendingRequests;
+        this.latencyPercentile = latencyPercentile;
+        this.minDelay = minDelay;
+        this.budgetPercent = budgetPercent;
+    }
+
+    /**
+     * Returns how long to wait for the response of the given shard before hedging its query, or {@code null} if the query should not be
+     * hedged, because the shard belongs to a remote cluster or not enough queries have been executed on its index yet to tell whether the
+     * query is slow.
+     */
+    @Nullable
+    TimeValue hedgeDelay(SearchShardTarget shard) {
+        if (shard.getClusterAlias() != null) {
+            return null;
+        }
+        final long latencyNanos = responseCollectorService.getQueryLatencyPercentile(shard.getShardId().getIndexName(),
+            latencyPercentile);
+        if (latencyNanos < 0) {
+            return null;
+        }
+        return TimeValue.timeValueNanos(Math.max(minDelay.nanos(), latencyNanos));
+    }
+
+    Scheduler.ScheduledCancellable schedule(Runnable command, TimeValue delay) {
+        return threadPool.schedule(command, delay, ThreadPool.Names.SAME);
+    }
+
+    /**
+     * Returns whether the query of a shard that is running on <code>nodeId</code> should be hedged to <code>targetNodeId</code>, in which
+     * case the hedged request is counted against the budget until {@link #onHedgedRequestDone()} is called.
+     */
+    boolean tryStartHedgedRequest(String nodeId, String targetNodeId) {
+        final Map<String, Long> pending = pendingRequests.get();
+        final Optional<ComputedNodeStats> stats = responseCollectorService.getNodeStatistics(nodeId);
+        final Optional<ComputedNodeStats> targetStats = responseCollectorService.getNodeStatistics(targetNodeId);
+        if (stats.isPresent() && targetStats.isPresent()) {
+            // the outstanding requests include the slow one, so the rank of its node degrades while it does not respond
+            final double rank = stats.get().rank(pending.getOrDefault(nodeId, 0L));
+            final double targetRank = targetStats.get().rank(pending.getOrDefault(targetNodeId, 0L));
+            if (targetStats.get().queueSize > stats.get().queueSize || targetRank > rank) {
+                logger.trace("not hedging request to [{}] since [{}] is more loaded", nodeId, targetNodeId);
+                return false;
+            }
+        }
+        long inFlight = 0;
+        for (long count : pending.values()) {
+            inFlight += count;
+        }
+        final long maxHedgedRequests = (long) Math.ceil(inFlight * budgetPercent / 100);
+        if (responseCollectorService.tryStartHedgedRequest(maxHedgedRequests) == false) {
+            logger.trace("not hedging request to [{}] since [{}] hedged requests are already running", nodeId, maxHedgedRequests);
+            return false;
+        }
+        return true;
+    }
+
+    void onHedgedRequestDone() {
+        responseCollectorService.onHedgedRequestDone();
+    }
+
+    void onHedgedRequestWon() {
+        responseCollectorService.onHedgedRequestWon();
+    }
+}
@@ -33,8 +33,10 @@
 package org.opensearch.action.search;
 
 import org.opensearch.action.ActionListener;
+import org.opensearch.common.Nullable;
 import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.transport.Transport;
 
@@ -44,26 +46,35 @@ import java.util.function.BiFunction;
 /**
  * A wrapper of search action listeners (search results) that unwraps the query
  * result to get the piggybacked queue size and service time EWMA, adding those
- * values to the coordinating nodes' {@link ResponseCollectorService}.
+ * values to the coordinating nodes' {@link ResponseCollectorService}. The
+ * response time is also recorded as a query latency of the index of the shard
+ * if it belongs to the local cluster.
  */
 public final class SearchExecutionStatsCollector implements ActionListener<SearchPhaseResult> {
 
     private final ActionListener<SearchPhaseResult> listener;
     private final String nodeId;
+    private final String indexName;
     private final ResponseCollectorService collector;
     private final long startNanos;
 
     SearchExecutionStatsCollector(ActionListener<SearchPhaseResult> listener,
                                   ResponseCollectorService collector,
-                                  String nodeId) {
+                                  String nodeId,
+                                  @Nullable String indexName) {
         this.listener = Objects.requireNonNull(listener, "listener cannot be null");
         this.collector = Objects.requireNonNull(collector, "response collector cannot be null");
         this.startNanos = System.nanoTime();
         this.nodeId = nodeId;
+        this.indexName = indexName;
     }
 
     public static BiFunction<Transport.Connection, SearchActionListener, ActionListener> makeWrapper(ResponseCollectorService service) {
-        return (connection, originalListener) -> new SearchExecutionStatsCollector(originalListener, service, connection.getNode().getId());
+        return (connection, originalListener) -> {
+            final SearchShardTarget shardTarget = originalListener.getSearchShardTarget();
+            return new SearchExecutionStatsCollector(originalListener, service, connection.getNode().getId(),
+                shardTarget == null || shardTarget.getClusterAlias() != null ? null : shardTarget.getShardId().getIndexName());
+        };
     }
 
     @Override
@@ -77,6 +88,9 @@ public final class SearchExecutionStatsCollector implements ActionListener<Searc
             if (serviceTimeEWMA > 0 && queueSize >= 0) {
                 collector.addNodeStatistics(nodeId, queueSize, responseDuration, serviceTimeEWMA);
             }
+            if (indexName != null) {
+                collector.addQueryLatency(indexName, responseDuration);
+            }
         }
         listener.onResponse(response);
     }
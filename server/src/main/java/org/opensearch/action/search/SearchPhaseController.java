@@ -226,7 +226,9 @@ public final class SearchPhaseController {
             TopFieldDocs firstTopDocs = (TopFieldDocs) topDocs;
             final Sort sort = new Sort(firstTopDocs.fields);
             final TopFieldDocs[] shardTopDocs = results.toArray(new TopFieldDocs[numShards]);
-            mergedTopDocs = TopDocs.merge(sort, from, topN, shardTopDocs, setShardIndex);
+            // single numeric or keyword sorts are merged on primitive sort values
+            final TopFieldDocs primitiveTopDocs = SingleSortTopDocsMerger.mergeOrNull(sort, from, topN, shardTopDocs);
+            mergedTopDocs = primitiveTopDocs != null ? primitiveTopDocs : TopDocs.merge(sort, from, topN, shardTopDocs, setShardIndex);
         } else {
             final TopDocs[] shardTopDocs = results.toArray(new TopDocs[numShards]);
             mergedTopDocs = TopDocs.merge(from, topN, shardTopDocs, setShardIndex);
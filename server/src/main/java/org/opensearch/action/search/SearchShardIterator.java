@@ -118,6 +118,15 @@ public final class SearchShardIterator implements Comparable<SearchShardIterator
         return targetNodesIterator.remaining();
     }
 
+    /**
+     * Returns the node of the shard copy that {@link #nextOrNull()} returns next, without moving to it.
+     */
+    @Nullable
+    String peekNodeIdOrNull() {
+        final int remaining = targetNodesIterator.remaining();
+        return remaining == 0 ? null : targetNodesIterator.asList().get(targetNodesIterator.size() - remaining);
+    }
+
     /**
      * Returns a non-null value if this request should use a specific search context instead of the latest one.
      */
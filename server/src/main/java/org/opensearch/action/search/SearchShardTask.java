@@ -32,6 +32,8 @@
 
 package org.opensearch.action.search;
 
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.monitor.jvm.ThreadResourceProbe;
 import org.opensearch.search.fetch.ShardFetchSearchRequest;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.tasks.CancellableTask;
@@ -45,6 +47,14 @@ import java.util.Map;
  */
 public class SearchShardTask extends CancellableTask {
 
+    // the resources used by the executions of this task that already completed
+    private long cpuTimeNanos;
+    private long allocatedBytes;
+    // the thread that currently executes this task, or -1, and the resources it had used when the execution started
+    private long threadId = -1;
+    private long threadStartCpuTimeNanos;
+    private long threadStartAllocatedBytes;
+
     public SearchShardTask(long id, String type, String action, String description, TaskId parentTaskId, Map<String, String> headers) {
         super(id, type, action, description, parentTaskId, headers);
     }
@@ -53,4 +63,56 @@ public class SearchShardTask extends CancellableTask {
     public boolean shouldCancelChildrenOnCancellation() {
         return false;
     }
+
+    /**
+     * Accounts the CPU time and the heap allocations of the current thread to this task until the returned releasable is closed. Nested
+     * calls on the thread that already executes the task are not accounted twice.
+     */
+    public Releasable startResourceTracking() {
+        final long currentThreadId = Thread.currentThread().getId();
+        final long startCpuTimeNanos = ThreadResourceProbe.getThreadCpuTimeNanos(currentThreadId);
+        final long startAllocatedBytes = ThreadResourceProbe.getThreadAllocatedBytes(currentThreadId);
+        synchronized (this) {
+            if (threadId != -1) {
+                return () -> {};
+            }
+            threadId = currentThreadId;
+            threadStartCpuTimeNanos = startCpuTimeNanos;
+            threadStartAllocatedBytes = startAllocatedBytes;
+        }
+        return () -> {
+            final long endCpuTimeNanos = ThreadResourceProbe.getThreadCpuTimeNanos(currentThreadId);
+            final long endAllocatedBytes = ThreadResourceProbe.getThreadAllocatedBytes(currentThreadId);
+            synchronized (SearchShardTask.this) {
+                cpuTimeNanos += usage(threadStartCpuTimeNanos, endCpuTimeNanos);
+                allocatedBytes += usage(threadStartAllocatedBytes, endAllocatedBytes);
+                threadId = -1;
+            }
+        };
+    }
+
+    /**
+     * Returns the CPU time in nanoseconds that this task used so far, including the execution that is currently running.
+     */
+    public synchronized long getCpuTimeNanos() {
+        if (threadId == -1) {
+            return cpuTimeNanos;
+        }
+        return cpuTimeNanos + usage(threadStartCpuTimeNanos, ThreadResourceProbe.getThreadCpuTimeNanos(threadId));
+    }
+
+    /**
+     * Returns the number of bytes that this task allocated on the heap so far, including the execution that is currently running.
+     */
+    public synchronized long getAllocatedBytes() {
+        if (threadId == -1) {
+            return allocatedBytes;
+        }
+        return allocatedBytes + usage(threadStartAllocatedBytes, ThreadResourceProbe.getThreadAllocatedBytes(threadId));
+    }
+
+    private static long usage(long start, long end) {
+        // the probes return -1 if the resource cannot be measured
+        return start >= 0 && end >= start ? end - start : 0;
+    }
 }
@@ -36,6 +36,7 @@ import org.opensearch.tasks.CancellableTask;
 import org.opensearch.tasks.TaskId;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 /**
@@ -45,6 +46,8 @@ public class SearchTask extends CancellableTask {
     // generating description in a lazy way since source can be quite big
     private final Supplier<String> descriptionSupplier;
     private SearchProgressListener progressListener = SearchProgressListener.NOOP;
+    private final AtomicLong shardCpuTimeNanos = new AtomicLong();
+    private final AtomicLong shardAllocatedBytes = new AtomicLong();
 
     public SearchTask(long id, String type, String action, Supplier<String> descriptionSupplier,
                       TaskId parentTaskId, Map<String, String> headers) {
@@ -71,6 +74,28 @@ public class SearchTask extends CancellableTask {
         return progressListener;
     }
 
+    /**
+     * Adds the resources that the query phase of a shard reported to have used for this search.
+     */
+    public void addShardResourceUsage(long cpuTimeNanos, long allocatedBytes) {
+        shardCpuTimeNanos.addAndGet(cpuTimeNanos);
+        shardAllocatedBytes.addAndGet(allocatedBytes);
+    }
+
+    /**
+     * Returns the CPU time in nanoseconds that the query phase of the shards used for this search so far.
+     */
+    public long getShardCpuTimeNanos() {
+        return shardCpuTimeNanos.get();
+    }
+
+    /**
+     * Returns the number of bytes that the query phase of the shards allocated on the heap for this search so far.
+     */
+    public long getShardAllocatedBytes() {
+        return shardAllocatedBytes.get();
+    }
+
     @Override
     public boolean shouldCancelChildrenOnCancellation() {
         return true;
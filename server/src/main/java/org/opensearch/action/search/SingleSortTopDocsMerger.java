@@ -0,0 +1,285 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.SortedSetSortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
+
+/**
+ * Merges the top docs of shards sorted by a single numeric or keyword field. The sort value of the next doc
+ * of each shard is packed into a {@code long} that preserves its order and the shards are merged with a loser
+ * tree that compares these primitive longs, which is much cheaper than {@link TopDocs#merge(Sort, int, int, TopFieldDocs[], boolean)}
+ * comparing boxed sort values with {@link org.apache.lucene.search.FieldComparator#compareValues} on every
+ * step when the fan-out is large. Keyword sort values are packed using their first eight bytes and only
+ * compared in full on prefix ties.
+ *
+ * The merged docs are the same, and in the same order, as the ones returned by {@link TopDocs#merge}
+ * with {@code setShardIndex} set to {@code false}: ties are broken on {@link ScoreDoc#shardIndex} and then
+ * on the position of the docs in their shard.
+ */
+final class SingleSortTopDocsMerger {
+    private final TopFieldDocs[] shardTopDocs;
+    private final SortField.Type type;
+    private final boolean reverse;
+    private final int missingSortCmp;
+    /** the position of the next doc of each shard */
+    private final int[] positions;
+    /** the packed sort value of the next doc of each shard */
+    private final long[] heads;
+    /** the sort value of the next doc of each shard for keyword sorts */
+    private final BytesRef[] headTerms;
+
+    private SingleSortTopDocsMerger(TopFieldDocs[] shardTopDocs, SortField.Type type, boolean reverse, int missingSortCmp) {
+        this.shardTopDocs = shardTopDocs;
+        this.type = type;
+        this.reverse = reverse;
+        this.missingSortCmp = missingSortCmp;
+        this.positions = new int[shardTopDocs.length];
+        this.heads = new long[shardTopDocs.length];
+        this.headTerms = type == SortField.Type.STRING ? new BytesRef[shardTopDocs.length] : null;
+    }
+
+    /**
+     * Returns the top docs from <code>from</code> to <code>from + size</code> of the merged <code>shardTopDocs</code>
+     * or null if the sort or the sort values are not supported.
+     */
+    static TopFieldDocs mergeOrNull(Sort sort, int from, int size, TopFieldDocs[] shardTopDocs) {
+        if (sort.getSort().length != 1) {
+            return null;
+        }
+        final SortField sortField = sort.getSort()[0];
+        final SortField.Type type = reducedType(sortField);
+        if (type == null) {
+            return null;
+        }
+        // see FieldComparator.TermOrdValComparator
+        final int missingSortCmp = sortField.getMissingValue() == SortField.STRING_LAST ? 1 : -1;
+        return new SingleSortTopDocsMerger(shardTopDocs, type, sortField.getReverse(), missingSortCmp).merge(sort, from, size);
+    }
+
+    /**
+     * Returns the type used to compare the sort values of <code>sortField</code> on the coordinating node
+     * or null if the sort field uses a custom comparator.
+     */
+    private static SortField.Type reducedType(SortField sortField) {
+        final SortField.Type type;
+        if (sortField.getClass() == SortField.class) {
+            type = sortField.getType();
+        } else if (sortField.getClass() == SortedNumericSortField.class) {
+            type = ((SortedNumericSortField) sortField).getNumericType();
+        } else if (sortField.getClass() == SortedSetSortField.class) {
+            type = SortField.Type.STRING;
+        } else {
+            return null;
+        }
+        switch (type) {
+            case LONG:
+            case INT:
+            case DOUBLE:
+            case FLOAT:
+            case STRING:
+                return type;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Packs the first eight bytes of <code>term</code> in a long that sorts like the unsigned bytes of the term.
+     */
+    static long prefix(BytesRef term) {
+        long prefix = 0;
+        final int length = Math.min(Long.BYTES, term.length);
+        for (int i = 0; i < length; i++) {
+            prefix |= (term.bytes[term.offset + i] & 0xFFL) << (56 - (i << 3));
+        }
+        // flip the sign bit so that signed comparisons of the prefixes are unsigned comparisons of the bytes
+        return prefix ^ Long.MIN_VALUE;
+    }
+
+    private TopFieldDocs merge(Sort sort, int from, int size) {
+        long totalHitCount = 0;
+        TotalHits.Relation totalHitsRelation = TotalHits.Relation.EQUAL_TO;
+        int availHitCount = 0;
+        int numRuns = 0;
+        final int[] runs = new int[shardTopDocs.length];
+        for (int shard = 0; shard < shardTopDocs.length; shard++) {
+            final TopDocs topDocs = shardTopDocs[shard];
+            totalHitCount += topDocs.totalHits.value;
+            if (topDocs.totalHits.relation == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO) {
+                totalHitsRelation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
+            }
+            if (topDocs.scoreDocs.length > 0) {
+                if (loadHead(shard) == false) {
+                    return null;
+                }
+                availHitCount += topDocs.scoreDocs.length;
+                runs[numRuns++] = shard;
+            }
+        }
+
+        final ScoreDoc[] hits;
+        if (availHitCount <= from) {
+            hits = new ScoreDoc[0];
+        } else {
+            hits = new ScoreDoc[Math.min(size, availHitCount - from)];
+            final int numIterOnHits = Math.min(availHitCount, from + size);
+            // tree[0] is the run with the next doc and tree[1..numRuns-1] the losers of each match
+            final int[] tree = buildTree(runs, numRuns);
+            for (int hitUpto = 0; hitUpto < numIterOnHits; hitUpto++) {
+                int winner = tree[0];
+                final int shard = runs[winner];
+                final ScoreDoc hit = shardTopDocs[shard].scoreDocs[positions[shard]++];
+                if (hitUpto >= from) {
+                    hits[hitUpto - from] = hit;
+                }
+                if (loadHead(shard) == false) {
+                    return null;
+                }
+                // replay the matches from the leaf of the winner to the root
+                for (int node = (numRuns + winner) >>> 1; node >= 1; node >>>= 1) {
+                    final int loser = tree[node];
+                    if (lessThan(runs[loser], runs[winner])) {
+                        tree[node] = winner;
+                        winner = loser;
+                    }
+                }
+                tree[0] = winner;
+            }
+        }
+        return new TopFieldDocs(new TotalHits(totalHitCount, totalHitsRelation), hits, sort.getSort());
+    }
+
+    /**
+     * Packs the sort value of the next doc of <code>shard</code> and returns false if the value is not supported.
+     */
+    private boolean loadHead(int shard) {
+        final ScoreDoc[] scoreDocs = shardTopDocs[shard].scoreDocs;
+        final int pos = positions[shard];
+        if (pos == scoreDocs.length) {
+            return true;
+        }
+        if (scoreDocs[pos] instanceof FieldDoc == false || ((FieldDoc) scoreDocs[pos]).fields.length != 1) {
+            return false;
+        }
+        final Object value = ((FieldDoc) scoreDocs[pos]).fields[0];
+        final long key;
+        switch (type) {
+            case LONG:
+                if (value instanceof Long == false) {
+                    return false;
+                }
+                key = (Long) value;
+                break;
+            case INT:
+                if (value instanceof Integer == false) {
+                    return false;
+                }
+                key = (Integer) value;
+                break;
+            case DOUBLE:
+                if (value instanceof Double == false) {
+                    return false;
+                }
+                key = NumericUtils.doubleToSortableLong((Double) value);
+                break;
+            case FLOAT:
+                if (value instanceof Float == false) {
+                    return false;
+                }
+                key = NumericUtils.floatToSortableInt((Float) value);
+                break;
+            case STRING:
+                if (value == null) {
+                    key = missingSortCmp > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+                } else if (value instanceof BytesRef) {
+                    key = prefix((BytesRef) value);
+                } else {
+                    return false;
+                }
+                headTerms[shard] = (BytesRef) value;
+                break;
+            default:
+                throw new AssertionError("unexpected sort type [" + type + "]");
+        }
+        // ~key reverses the order of all longs
+        heads[shard] = reverse ? ~key : key;
+        return true;
+    }
+
+    private int[] buildTree(int[] runs, int numRuns) {
+        final int[] tree = new int[numRuns];
+        // winners of the matches, the leaves are at numRuns + run
+        final int[] winners = new int[numRuns << 1];
+        for (int i = 0; i < numRuns; i++) {
+            winners[numRuns + i] = i;
+        }
+        for (int node = numRuns - 1; node >= 1; node--) {
+            final int left = winners[node << 1];
+            final int right = winners[(node << 1) + 1];
+            if (lessThan(runs[right], runs[left])) {
+                winners[node] = right;
+                tree[node] = left;
+            } else {
+                winners[node] = left;
+                tree[node] = right;
+            }
+        }
+        tree[0] = winners[1];
+        return tree;
+    }
+
+    /**
+     * Returns true if the next doc of <code>shard</code> sorts before the next doc of <code>otherShard</code>.
+     * Exhausted shards sort last.
+     */
+    private boolean lessThan(int shard, int otherShard) {
+        final int pos = positions[shard];
+        final int otherPos = positions[otherShard];
+        if (pos == shardTopDocs[shard].scoreDocs.length) {
+            return false;
+        } else if (otherPos == shardTopDocs[otherShard].scoreDocs.length) {
+            return true;
+        }
+        if (heads[shard] != heads[otherShard]) {
+            return heads[shard] < heads[otherShard];
+        }
+        if (headTerms != null) {
+            final int cmp = compareTerms(headTerms[shard], headTerms[otherShard]);
+            if (cmp != 0) {
+                return reverse ? cmp > 0 : cmp < 0;
+            }
+        }
+        // tie break on the shard index and then on the position of the docs in their shard, like TopDocs#merge
+        final int shardIndex = shardTopDocs[shard].scoreDocs[pos].shardIndex;
+        final int otherShardIndex = shardTopDocs[otherShard].scoreDocs[otherPos].shardIndex;
+        if (shardIndex != otherShardIndex) {
+            return shardIndex < otherShardIndex;
+        }
+        return pos != otherPos ? pos < otherPos : shard < otherShard;
+    }
+
+    private int compareTerms(BytesRef term, BytesRef otherTerm) {
+        if (term == null) {
+            return otherTerm == null ? 0 : missingSortCmp;
+        } else if (otherTerm == null) {
+            return -missingSortCmp;
+        }
+        return term.compareTo(otherTerm);
+    }
+}
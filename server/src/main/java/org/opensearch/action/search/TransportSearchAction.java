@@ -61,6 +61,7 @@ import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.unit.TimeValue;
@@ -76,6 +77,7 @@ import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.insights.QueryInsightsService;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.internal.SearchContext;
@@ -121,6 +123,30 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
     public static final Setting<Long> SHARD_COUNT_LIMIT_SETTING = Setting.longSetting(
             "action.search.shard_count.limit", Long.MAX_VALUE, 1L, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * Whether shard queries that take longer than most recent queries on the same index are sent to another copy of the shard as well.
+     */
+    public static final Setting<Boolean> HEDGED_REQUESTS_ENABLED_SETTING = Setting.boolSetting(
+            "search.hedged_requests.enabled", false, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The percentile of the latencies of the recent shard queries of an index after which a shard query is hedged.
+     */
+    public static final Setting<Double> HEDGED_REQUESTS_LATENCY_PERCENTILE_SETTING = Setting.doubleSetting(
+            "search.hedged_requests.latency_percentile", 95d, 50d, 100d, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The minimum time to wait for the response of a shard query before it is hedged.
+     */
+    public static final Setting<TimeValue> HEDGED_REQUESTS_MIN_DELAY_SETTING = Setting.timeSetting(
+            "search.hedged_requests.min_delay", TimeValue.timeValueMillis(10), TimeValue.ZERO, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The maximum percentage of the shard requests in flight on the coordinating node that may be hedged requests.
+     */
+    public static final Setting<Double> HEDGED_REQUESTS_BUDGET_PERCENT_SETTING = Setting.doubleSetting(
+            "search.hedged_requests.budget_percent", 5d, 0d, 100d, Property.Dynamic, Property.NodeScope);
+
     private final NodeClient client;
     private final ThreadPool threadPool;
     private final ClusterService clusterService;
@@ -131,6 +157,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
     private final IndexNameExpressionResolver indexNameExpressionResolver;
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final CircuitBreaker circuitBreaker;
+    private final QueryInsightsService queryInsightsService;
 
     @Inject
     public TransportSearchAction(NodeClient client,
@@ -143,7 +170,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                                  ClusterService clusterService,
                                  ActionFilters actionFilters,
                                  IndexNameExpressionResolver indexNameExpressionResolver,
-                                 NamedWriteableRegistry namedWriteableRegistry) {
+                                 NamedWriteableRegistry namedWriteableRegistry,
+                                 QueryInsightsService queryInsightsService) {
         super(SearchAction.NAME, transportService, actionFilters, (Writeable.Reader<SearchRequest>) SearchRequest::new);
         this.client = client;
         this.threadPool = threadPool;
@@ -156,6 +184,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         this.searchService = searchService;
         this.indexNameExpressionResolver = indexNameExpressionResolver;
         this.namedWriteableRegistry = namedWriteableRegistry;
+        this.queryInsightsService = queryInsightsService;
     }
 
     private Map<String, AliasFilter> buildPerIndexAliasFilter(SearchRequest request, ClusterState clusterState,
@@ -239,7 +268,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
 
     @Override
     protected void doExecute(Task task, SearchRequest searchRequest, ActionListener<SearchResponse> listener) {
-        executeRequest(task, searchRequest, this::searchAsyncAction, listener);
+        executeRequest(task, searchRequest, this::searchAsyncAction,
+            queryInsightsService.wrap((SearchTask) task, searchRequest, listener));
     }
 
     public interface SinglePhaseSearchAction {
@@ -826,7 +856,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 case QUERY_THEN_FETCH:
                     searchAsyncAction = new SearchQueryThenFetchAsyncAction(logger, searchTransportService, connectionLookup,
                         aliasFilter, concreteIndexBoosts, indexRoutings, searchPhaseController, executor, queryResultConsumer,
-                        searchRequest, listener, shardIterators, timeProvider, clusterState, task, clusters);
+                        searchRequest, listener, shardIterators, timeProvider, clusterState, task, clusters,
+                        buildHedgedShardRequests(searchRequest));
                     break;
                 default:
                     throw new IllegalStateException("Unknown search type: [" + searchRequest.searchType() + "]");
@@ -835,6 +866,22 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         }
     }
 
+    /**
+     * Returns how to hedge the shard queries of the given request, or {@code null} if they should not be hedged. Scroll and point in
+     * time searches are never hedged since they keep the search contexts of the shards around after the query.
+     */
+    private HedgedShardRequests buildHedgedShardRequests(SearchRequest searchRequest) {
+        final ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        if (clusterSettings.get(HEDGED_REQUESTS_ENABLED_SETTING) == false
+                || searchRequest.scroll() != null
+                || searchRequest.pointInTimeBuilder() != null) {
+            return null;
+        }
+        return new HedgedShardRequests(threadPool, searchService.getResponseCollectorService(),
+            searchTransportService::getPendingSearchRequests, clusterSettings.get(HEDGED_REQUESTS_LATENCY_PERCENTILE_SETTING),
+            clusterSettings.get(HEDGED_REQUESTS_MIN_DELAY_SETTING), clusterSettings.get(HEDGED_REQUESTS_BUDGET_PERCENT_SETTING));
+    }
+
     private void cancelTask(SearchTask task, Exception exc) {
         String errorMsg = exc.getMessage() != null ? exc.getMessage() : "";
         CancelTasksRequest req = new CancelTasksRequest()
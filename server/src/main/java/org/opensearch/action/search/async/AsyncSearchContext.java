@@ -0,0 +1,307 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.async;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.SearchProgressActionListener;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchResponse.Clusters;
+import org.opensearch.action.search.SearchShard;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.CircuitBreakingException;
+import org.opensearch.common.io.stream.DelayableWriteable;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.tasks.TaskId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the progress of an async search and keeps its final response until it expires. Partial aggregations are serialized when they
+ * are reduced because the search keeps reducing them further, and only reduced one last time when a partial response is requested.
+ * The final response is kept serialized too. The serialized bytes are accounted on the request circuit breaker until the context is
+ * closed: partial aggregations that would trip it are dropped and a final response that would trip it is replaced with the failure.
+ */
+final class AsyncSearchContext extends SearchProgressActionListener implements Releasable {
+
+    private static final Logger logger = LogManager.getLogger(AsyncSearchContext.class);
+
+    private final InternalAggregation.ReduceContextBuilder reduceContextBuilder;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    private final CircuitBreaker breaker;
+    @Nullable
+    private final String user;
+    private final long startTimeMillis;
+    private final long startTimeNanos;
+    private final List<Runnable> completionListeners = new ArrayList<>();
+
+    private String id;
+    private TaskId taskId;
+    private volatile long expirationTimeMillis;
+    private long accountedBytes;
+    private boolean closed;
+
+    private int totalShards;
+    private int skippedShards;
+    private int successfulShards;
+    private Clusters clusters = Clusters.EMPTY;
+    private final List<ShardSearchFailure> shardFailures = new ArrayList<>();
+    private TotalHits totalHits;
+    private DelayableWriteable.Serialized<InternalAggregations> aggs;
+    private boolean finalAggs;
+    private int reducePhase;
+
+    private boolean completed;
+    private DelayableWriteable.Serialized<SearchResponse> response;
+    private Exception failure;
+
+    /**
+     * @param user the user that submitted the search, {@code null} if the cluster does not authenticate users
+     */
+    AsyncSearchContext(InternalAggregation.ReduceContextBuilder reduceContextBuilder, NamedWriteableRegistry namedWriteableRegistry,
+                       CircuitBreaker breaker, @Nullable String user, long startTimeMillis, long startTimeNanos,
+                       long expirationTimeMillis) {
+        this.reduceContextBuilder = reduceContextBuilder;
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        this.breaker = breaker;
+        this.user = user;
+        this.startTimeMillis = startTimeMillis;
+        this.startTimeNanos = startTimeNanos;
+        this.expirationTimeMillis = expirationTimeMillis;
+    }
+
+    synchronized void setId(String id, TaskId taskId) {
+        this.id = id;
+        this.taskId = taskId;
+    }
+
+    synchronized String getId() {
+        return id;
+    }
+
+    synchronized TaskId getTaskId() {
+        return taskId;
+    }
+
+    @Nullable
+    String getUser() {
+        return user;
+    }
+
+    long getExpirationTimeMillis() {
+        return expirationTimeMillis;
+    }
+
+    void setExpirationTimeMillis(long expirationTimeMillis) {
+        this.expirationTimeMillis = expirationTimeMillis;
+    }
+
+    synchronized boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Runs the provided listener once the search completed, immediately if it already did.
+     */
+    void addCompletionListener(Runnable listener) {
+        synchronized (this) {
+            if (completed == false) {
+                completionListeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    @Override
+    protected synchronized void onListShards(List<SearchShard> shards, List<SearchShard> skippedShards, Clusters clusters,
+                                             boolean fetchPhase) {
+        this.totalShards = shards.size() + skippedShards.size();
+        this.skippedShards = skippedShards.size();
+        this.clusters = clusters;
+    }
+
+    @Override
+    protected synchronized void onQueryResult(int shardIndex) {
+        successfulShards++;
+    }
+
+    @Override
+    protected synchronized void onQueryFailure(int shardIndex, SearchShardTarget shardTarget, Exception exc) {
+        shardFailures.add(new ShardSearchFailure(exc, shardTarget));
+    }
+
+    @Override
+    protected void onPartialReduce(List<SearchShard> shards, TotalHits totalHits, InternalAggregations aggs, int reducePhase) {
+        onReduce(totalHits, aggs, false, reducePhase);
+    }
+
+    @Override
+    protected void onFinalReduce(List<SearchShard> shards, TotalHits totalHits, InternalAggregations aggs, int reducePhase) {
+        onReduce(totalHits, aggs, true, reducePhase);
+    }
+
+    private void onReduce(TotalHits totalHits, InternalAggregations aggs, boolean finalAggs, int reducePhase) {
+        final DelayableWriteable.Serialized<InternalAggregations> serialized = aggs == null ? null
+            : DelayableWriteable.referencing(aggs).asSerialized(InternalAggregations::readFrom, namedWriteableRegistry);
+        synchronized (this) {
+            if (closed || completed || reducePhase < this.reducePhase) {
+                return;
+            }
+            try {
+                account(serialized == null ? 0 : serialized.ramBytesUsed());
+            } catch (CircuitBreakingException e) {
+                // keep the previous partial aggregations, the final response will hold the complete ones
+                logger.debug("not keeping partial aggregations of async search [{}]: {}", taskId, e.getMessage());
+                return;
+            }
+            this.totalHits = totalHits;
+            this.aggs = serialized;
+            this.finalAggs = finalAggs;
+            this.reducePhase = reducePhase;
+        }
+    }
+
+    @Override
+    public void onResponse(SearchResponse searchResponse) {
+        onCompletion(searchResponse, null);
+    }
+
+    @Override
+    public void onFailure(Exception e) {
+        onCompletion(null, e);
+    }
+
+    private void onCompletion(SearchResponse searchResponse, Exception e) {
+        DelayableWriteable.Serialized<SearchResponse> serialized = null;
+        if (searchResponse != null) {
+            try {
+                serialized = DelayableWriteable.referencing(searchResponse).asSerialized(SearchResponse::new, namedWriteableRegistry);
+            } catch (Exception inner) {
+                e = inner;
+            }
+        }
+        final List<Runnable> listeners;
+        synchronized (this) {
+            assert completed == false;
+            completed = true;
+            aggs = null;
+            if (closed == false) {
+                try {
+                    account(serialized == null ? 0 : serialized.ramBytesUsed());
+                    response = serialized;
+                    failure = e;
+                } catch (CircuitBreakingException inner) {
+                    account(0);
+                    failure = inner;
+                }
+            }
+            listeners = new ArrayList<>(completionListeners);
+            completionListeners.clear();
+        }
+        listeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Replaces the bytes accounted for this context with <code>bytes</code>.
+     */
+    private void account(long bytes) {
+        assert Thread.holdsLock(this);
+        final long delta = bytes - accountedBytes;
+        if (delta > 0) {
+            breaker.addEstimateBytesAndMaybeBreak(delta, "<async_search>");
+        } else {
+            breaker.addWithoutBreaking(delta);
+        }
+        accountedBytes = bytes;
+    }
+
+    /**
+     * Releases the partial aggregations and the final response of the search.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed == false) {
+            closed = true;
+            aggs = null;
+            response = null;
+            account(0);
+        }
+    }
+
+    /**
+     * Builds the current state of the search. This final reduces the partial aggregations and should be called on a search thread.
+     */
+    AsyncSearchResponse buildResponse(long relativeTimeNanos) {
+        final String responseId;
+        final boolean isCompleted;
+        final DelayableWriteable.Serialized<SearchResponse> finalResponse;
+        final Exception finalFailure;
+        final SearchResponse searchResponse;
+        final DelayableWriteable.Serialized<InternalAggregations> partialAggs;
+        final boolean reduceAggs;
+        final TotalHits hits;
+        final int phase;
+        final int total;
+        final int successful;
+        final int skipped;
+        final ShardSearchFailure[] failures;
+        final Clusters searchClusters;
+        synchronized (this) {
+            responseId = id;
+            if (completed == false && reducePhase == 0 && successfulShards == 0) {
+                return new AsyncSearchResponse(responseId, true, startTimeMillis, expirationTimeMillis, null, null);
+            }
+            isCompleted = completed;
+            finalResponse = response;
+            finalFailure = failure;
+            partialAggs = aggs;
+            reduceAggs = finalAggs == false;
+            hits = totalHits;
+            phase = reducePhase;
+            total = totalShards;
+            successful = successfulShards;
+            skipped = skippedShards;
+            failures = shardFailures.toArray(ShardSearchFailure.EMPTY_ARRAY);
+            searchClusters = clusters;
+        }
+        if (isCompleted) {
+            // the final response is expanded outside of the lock, it may be large
+            return new AsyncSearchResponse(responseId, false, startTimeMillis, expirationTimeMillis,
+                finalResponse == null ? null : finalResponse.expand(), finalFailure);
+        }
+        InternalAggregations reducedAggs = null;
+        if (partialAggs != null) {
+            reducedAggs = partialAggs.expand();
+            if (reduceAggs) {
+                reducedAggs = InternalAggregations.topLevelReduce(Collections.singletonList(reducedAggs),
+                    reduceContextBuilder.forFinalReduction());
+            }
+        }
+        final SearchHits searchHits = new SearchHits(new SearchHit[0], hits, Float.NaN);
+        final InternalSearchResponse internalResponse = new InternalSearchResponse(searchHits, reducedAggs, null, null, false, null,
+            phase);
+        final long tookInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeNanos - startTimeNanos);
+        searchResponse = new SearchResponse(internalResponse, null, total, successful, skipped, tookInMillis, failures, searchClusters);
+        return new AsyncSearchResponse(responseId, true, startTimeMillis, expirationTimeMillis, searchResponse, null);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.async;
+
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * The id of an async search. It holds the node that keeps the state of the search, so that requests can be routed to it, the id of the
+ * search task and a random secret so that the ids of the searches of other users cannot be guessed from the ids of running tasks.
+ */
+final class AsyncSearchId {
+
+    private final String nodeId;
+
+    private AsyncSearchId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Creates the id of a new async search running as the provided task on the provided node.
+     */
+    static String encode(String nodeId, long taskId) {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeString(nodeId);
+            out.writeLong(taskId);
+            out.writeString(UUIDs.randomBase64UUID());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(BytesReference.toBytes(out.bytes()));
+        } catch (IOException e) {
+            throw new IllegalStateException("unexpected failure while encoding async search id", e);
+        }
+    }
+
+    /**
+     * Parses an id created by {@link #encode}.
+     *
+     * @throws IllegalArgumentException if the id is malformed
+     */
+    static AsyncSearchId decode(String id) {
+        final byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid async search id [" + id + "]", e);
+        }
+        try (StreamInput in = StreamInput.wrap(bytes)) {
+            final AsyncSearchId asyncSearchId = new AsyncSearchId(in.readString());
+            // the task id and the secret are only checked by the node that holds the search, by comparing the whole id
+            in.readLong();
+            in.readString();
+            if (in.available() > 0) {
+                throw new IllegalArgumentException("invalid async search id [" + id + "], not all bytes were read");
+            }
+            return asyncSearchId;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("invalid async search id [" + id + "]", e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.async;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.ActionResponse;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.xcontent.StatusToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.rest.RestStatus;
+
+import java.io.IOException;
+
+/**
+ * The state of an async search: the final response once the search is done, or the response built from the shards that returned so
+ * far while it is running.
+ */
+public class AsyncSearchResponse extends ActionResponse implements StatusToXContentObject {
+
+    @Nullable
+    private final String id;
+    private final boolean running;
+    private final long startTimeMillis;
+    private final long expirationTimeMillis;
+    @Nullable
+    private final SearchResponse searchResponse;
+    @Nullable
+    private final Exception failure;
+
+    public AsyncSearchResponse(@Nullable String id, boolean running, long startTimeMillis, long expirationTimeMillis,
+                               @Nullable SearchResponse searchResponse, @Nullable Exception failure) {
+        this.id = id;
+        this.running = running;
+        this.startTimeMillis = startTimeMillis;
+        this.expirationTimeMillis = expirationTimeMillis;
+        this.searchResponse = searchResponse;
+        this.failure = failure;
+    }
+
+    public AsyncSearchResponse(StreamInput in) throws IOException {
+        super(in);
+        id = in.readOptionalString();
+        running = in.readBoolean();
+        startTimeMillis = in.readVLong();
+        expirationTimeMillis = in.readVLong();
+        searchResponse = in.readOptionalWriteable(SearchResponse::new);
+        failure = in.readException();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalString(id);
+        out.writeBoolean(running);
+        out.writeVLong(startTimeMillis);
+        out.writeVLong(expirationTimeMillis);
+        out.writeOptionalWriteable(searchResponse);
+        out.writeException(failure);
+    }
+
+    /**
+     * The id to retrieve the search with, or {@code null} if the search completed before the submit request returned and is not kept.
+     */
+    @Nullable
+    public String getId() {
+        return id;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    public long getExpirationTimeMillis() {
+        return expirationTimeMillis;
+    }
+
+    /**
+     * The final response, or a partial response without hits while the search is running. {@code null} if no shard returned yet.
+     */
+    @Nullable
+    public SearchResponse getSearchResponse() {
+        return searchResponse;
+    }
+
+    @Nullable
+    public Exception getFailure() {
+        return failure;
+    }
+
+    @Override
+    public RestStatus status() {
+        if (failure != null) {
+            return ExceptionsHelper.status(failure);
+        }
+        return searchResponse != null && running == false ? searchResponse.status() : RestStatus.OK;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (id != null) {
+            builder.field("id", id);
+        }
+        builder.field("is_running", running);
+        builder.field("start_time_in_millis", startTimeMillis);
+        builder.field("expiration_time_in_millis", expirationTimeMillis);
+        if (searchResponse != null) {
+            builder.field("response");
+            searchResponse.toXContent(builder, params);
+        }
+        if (failure != null) {
+            builder.startObject("error");
+            OpenSearchException.generateThrowableXContent(builder, params, failure);
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder;
+    }
+}
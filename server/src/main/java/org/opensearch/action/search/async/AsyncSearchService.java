@@ -0,0 +1,310 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.async;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionRunnable;
+import org.opensearch.action.admin.cluster.node.tasks.cancel.CancelTasksRequest;
+import org.opensearch.action.search.SearchAction;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchTask;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.indices.breaker.CircuitBreakerService;
+import org.opensearch.search.SearchService;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.opensearch.common.unit.TimeValue.timeValueDays;
+import static org.opensearch.common.unit.TimeValue.timeValueHours;
+
+/**
+ * Runs async searches on the coordinating node and keeps their state in memory until they expire. A search runs as a regular
+ * {@link SearchTask} whose {@link org.opensearch.action.search.SearchProgressListener} records the partial reduces, so that clients can
+ * poll for the aggregations of the shards that returned so far. The id of an async search tells which node holds its state and
+ * contains a random secret so that it cannot be guessed. The number of async searches a node keeps is limited by
+ * {@link #MAX_CONTEXTS_SETTING} and their partial and final responses are accounted on the request circuit breaker.
+ *
+ * If the user that submits a search is known, only this user can retrieve or delete it.
+ */
+public class AsyncSearchService implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(AsyncSearchService.class);
+
+    /**
+     * How long the state of an async search is kept when the request does not specify a keep alive.
+     */
+    public static final Setting<TimeValue> DEFAULT_KEEPALIVE_SETTING =
+        Setting.positiveTimeSetting("search.async.default_keep_alive", timeValueHours(1), Property.NodeScope, Property.Dynamic);
+    /**
+     * The maximum keep alive that async search requests may ask for.
+     */
+    public static final Setting<TimeValue> MAX_KEEPALIVE_SETTING =
+        Setting.positiveTimeSetting("search.async.max_keep_alive", timeValueDays(1), Property.NodeScope, Property.Dynamic);
+
+    /**
+     * The maximum number of async searches whose state a node keeps.
+     */
+    public static final Setting<Integer> MAX_CONTEXTS_SETTING =
+        Setting.intSetting("search.async.max_contexts", 100, 0, Property.NodeScope, Property.Dynamic);
+
+    /**
+     * The thread context transient that holds the authenticated user, set by the security plugin.
+     */
+    static final String USER_TRANSIENT = "_opendistro_security_user_info";
+
+    /**
+     * Async searches reduce the shard results in smaller batches than regular searches so that partial results show up early.
+     */
+    public static final int DEFAULT_BATCHED_REDUCE_SIZE = 5;
+
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final NodeClient client;
+    private final SearchService searchService;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    private final CircuitBreakerService circuitBreakerService;
+    private final Map<String, AsyncSearchContext> contexts = ConcurrentCollections.newConcurrentMap();
+    private final AtomicInteger numContexts = new AtomicInteger();
+    private final Scheduler.Cancellable reaper;
+
+    private volatile TimeValue defaultKeepAlive;
+    private volatile TimeValue maxKeepAlive;
+    private volatile int maxContexts;
+
+    public AsyncSearchService(Settings settings, ClusterService clusterService, ThreadPool threadPool, NodeClient client,
+                              SearchService searchService, NamedWriteableRegistry namedWriteableRegistry,
+                              CircuitBreakerService circuitBreakerService) {
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.client = client;
+        this.searchService = searchService;
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        this.circuitBreakerService = circuitBreakerService;
+        this.defaultKeepAlive = DEFAULT_KEEPALIVE_SETTING.get(settings);
+        this.maxKeepAlive = MAX_KEEPALIVE_SETTING.get(settings);
+        this.maxContexts = MAX_CONTEXTS_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(DEFAULT_KEEPALIVE_SETTING, v -> defaultKeepAlive = v);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_KEEPALIVE_SETTING, v -> maxKeepAlive = v);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_CONTEXTS_SETTING, v -> maxContexts = v);
+        this.reaper = threadPool.scheduleWithFixedDelay(this::removeExpired, SearchService.KEEPALIVE_INTERVAL_SETTING.get(settings),
+            ThreadPool.Names.SAME);
+    }
+
+    /**
+     * Starts the provided search in the background and responds once it completed or the wait for completion timeout elapsed,
+     * whichever comes first.
+     *
+     * @param keepOnCompletion whether to keep the state of the search if it completes within the wait for completion timeout
+     */
+    public void submit(SearchRequest request, TimeValue waitForCompletionTimeout, @Nullable TimeValue keepAlive, boolean keepOnCompletion,
+                       ActionListener<AsyncSearchResponse> listener) {
+        final long expirationTimeMillis;
+        try {
+            expirationTimeMillis = expirationTimeMillis(keepAlive);
+        } catch (IllegalArgumentException e) {
+            listener.onFailure(e);
+            return;
+        }
+        if (numContexts.incrementAndGet() > maxContexts) {
+            numContexts.decrementAndGet();
+            listener.onFailure(new OpenSearchRejectedExecutionException("Trying to create too many async searches. Must be less than or "
+                + "equal to: [" + maxContexts + "]. This limit can be set by changing the [" + MAX_CONTEXTS_SETTING.getKey()
+                + "] setting."));
+            return;
+        }
+        final AsyncSearchContext context = new AsyncSearchContext(searchService.aggReduceContextBuilder(request), namedWriteableRegistry,
+            circuitBreakerService.getBreaker(CircuitBreaker.REQUEST), currentUser(), threadPool.absoluteTimeInMillis(),
+            threadPool.relativeTimeInNanos(), expirationTimeMillis);
+        final SearchRequest searchRequest = new SearchRequest(request) {
+            @Override
+            public SearchTask createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+                final SearchTask task = super.createTask(id, type, action, parentTaskId, headers);
+                task.setProgressListener(context);
+                return task;
+            }
+        };
+        final Task task;
+        try {
+            task = client.executeLocally(SearchAction.INSTANCE, searchRequest, context);
+        } catch (Exception e) {
+            numContexts.decrementAndGet();
+            listener.onFailure(e);
+            return;
+        }
+        final String nodeId = clusterService.localNode().getId();
+        final String id = AsyncSearchId.encode(nodeId, task.getId());
+        context.setId(id, new TaskId(nodeId, task.getId()));
+        contexts.put(id, context);
+        waitForCompletion(context, waitForCompletionTimeout, ActionListener.wrap(response -> {
+            if (response.isRunning() == false && keepOnCompletion == false) {
+                removeContext(id, context);
+                listener.onResponse(new AsyncSearchResponse(null, false, response.getStartTimeMillis(),
+                    response.getExpirationTimeMillis(), response.getSearchResponse(), response.getFailure()));
+            } else {
+                listener.onResponse(response);
+            }
+        }, listener::onFailure));
+    }
+
+    /**
+     * Retrieves the state of an async search of this node, waiting for its completion up to the provided timeout.
+     *
+     * @param keepAlive if not {@code null}, extends the expiration of the search to this long from now
+     */
+    public void get(String id, TimeValue waitForCompletionTimeout, @Nullable TimeValue keepAlive,
+                    ActionListener<AsyncSearchResponse> listener) {
+        final AsyncSearchContext context;
+        try {
+            context = getContext(id);
+            if (keepAlive != null) {
+                context.setExpirationTimeMillis(expirationTimeMillis(keepAlive));
+            }
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        waitForCompletion(context, waitForCompletionTimeout, listener);
+    }
+
+    /**
+     * Removes the state of an async search of this node and cancels the search if it is still running.
+     */
+    public void delete(String id, ActionListener<Void> listener) {
+        final AsyncSearchContext context;
+        try {
+            context = getContext(id);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        if (removeContext(id, context)) {
+            cancel(context);
+        }
+        listener.onResponse(null);
+    }
+
+    private AsyncSearchContext getContext(String id) {
+        final AsyncSearchContext context = contexts.get(id);
+        // searches of other users are reported as missing so that their ids cannot be probed
+        if (context == null || context.getExpirationTimeMillis() < threadPool.absoluteTimeInMillis()
+            || Objects.equals(context.getUser(), currentUser()) == false) {
+            throw new ResourceNotFoundException("async search [{}] not found", id);
+        }
+        return context;
+    }
+
+    /**
+     * Removes the provided context and releases its resources, returns false if it was already removed.
+     */
+    private boolean removeContext(String id, AsyncSearchContext context) {
+        if (contexts.remove(id, context)) {
+            numContexts.decrementAndGet();
+            context.close();
+            return true;
+        }
+        return false;
+    }
+
+    @Nullable
+    private String currentUser() {
+        final Object user = threadPool.getThreadContext().getTransient(USER_TRANSIENT);
+        return user == null ? null : user.toString();
+    }
+
+    private long expirationTimeMillis(@Nullable TimeValue keepAlive) {
+        final TimeValue value = keepAlive != null ? keepAlive : defaultKeepAlive;
+        if (value.millis() > maxKeepAlive.millis()) {
+            throw new IllegalArgumentException("Keep alive for async search (" + value + ") is too large. It must be less than ("
+                + maxKeepAlive + "). This limit can be set by changing the [" + MAX_KEEPALIVE_SETTING.getKey()
+                + "] cluster level setting.");
+        }
+        return threadPool.absoluteTimeInMillis() + value.millis();
+    }
+
+    private void waitForCompletion(AsyncSearchContext context, TimeValue timeout, ActionListener<AsyncSearchResponse> listener) {
+        if (timeout.millis() <= 0 || context.isCompleted()) {
+            respond(context, listener);
+            return;
+        }
+        final ActionListener<AsyncSearchResponse> onceListener = ActionListener.notifyOnce(listener);
+        final Scheduler.ScheduledCancellable timeoutTask = threadPool.schedule(() -> respond(context, onceListener), timeout,
+            ThreadPool.Names.SAME);
+        context.addCompletionListener(() -> {
+            timeoutTask.cancel();
+            respond(context, onceListener);
+        });
+    }
+
+    private void respond(AsyncSearchContext context, ActionListener<AsyncSearchResponse> listener) {
+        // reducing partial aggregations may be expensive, don't do it on a network or scheduler thread
+        threadPool.executor(ThreadPool.Names.SEARCH)
+            .execute(ActionRunnable.supply(listener, () -> context.buildResponse(threadPool.relativeTimeInNanos())));
+    }
+
+    private void cancel(AsyncSearchContext context) {
+        if (context.isCompleted()) {
+            return;
+        }
+        final CancelTasksRequest request = new CancelTasksRequest();
+        request.setTaskId(context.getTaskId());
+        request.setReason("async search was deleted or expired");
+        client.admin().cluster().cancelTasks(request, ActionListener.wrap(() -> {}));
+    }
+
+    private void removeExpired() {
+        final long now = threadPool.absoluteTimeInMillis();
+        for (Map.Entry<String, AsyncSearchContext> entry : contexts.entrySet()) {
+            final AsyncSearchContext context = entry.getValue();
+            if (context.getExpirationTimeMillis() < now && removeContext(entry.getKey(), context)) {
+                logger.debug("removing expired async search [{}]", context.getTaskId());
+                try {
+                    cancel(context);
+                } catch (Exception e) {
+                    logger.warn(new ParameterizedMessage("failed to cancel expired async search [{}]", context.getTaskId()), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * The number of async searches whose state this node keeps.
+     */
+    int numContexts() {
+        return contexts.size();
+    }
+
+    @Override
+    public void close() {
+        reaper.cancel();
+        for (Map.Entry<String, AsyncSearchContext> entry : contexts.entrySet()) {
+            removeContext(entry.getKey(), entry.getValue());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.async;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.TimeValue;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * A request to retrieve the state of an async search, see {@link AsyncSearchService#get}.
+ */
+public class GetAsyncSearchRequest extends ActionRequest {
+
+    private final String id;
+    private TimeValue waitForCompletionTimeout = TimeValue.MINUS_ONE;
+    @Nullable
+    private TimeValue keepAlive;
+
+    public GetAsyncSearchRequest(String id) {
+        this.id = Objects.requireNonNull(id);
+    }
+
+    public GetAsyncSearchRequest(StreamInput in) throws IOException {
+        super(in);
+        id = in.readString();
+        waitForCompletionTimeout = in.readTimeValue();
+        keepAlive = in.readOptionalTimeValue();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(id);
+        out.writeTimeValue(waitForCompletionTimeout);
+        out.writeOptionalTimeValue(keepAlive);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public TimeValue getWaitForCompletionTimeout() {
+        return waitForCompletionTimeout;
+    }
+
+    /**
+     * How long to wait for the search to complete before responding with its partial results. Responds immediately by default.
+     */
+    public GetAsyncSearchRequest setWaitForCompletionTimeout(TimeValue waitForCompletionTimeout) {
+        this.waitForCompletionTimeout = Objects.requireNonNull(waitForCompletionTimeout);
+        return this;
+    }
+
+    @Nullable
+    public TimeValue getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * If set, extends the expiration of the search to this long from now.
+     */
+    public GetAsyncSearchRequest setKeepAlive(@Nullable TimeValue keepAlive) {
+        this.keepAlive = keepAlive;
+        return this;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = validateId(id, null);
+        if (keepAlive != null && keepAlive.millis() <= 0) {
+            validationException = addValidationError("[keep_alive] must be positive", validationException);
+        }
+        return validationException;
+    }
+
+    static ActionRequestValidationException validateId(String id, ActionRequestValidationException validationException) {
+        try {
+            AsyncSearchId.decode(id);
+        } catch (IllegalArgumentException e) {
+            validationException = addValidationError("invalid async search id [" + id + "]", validationException);
+        }
+        return validationException;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.async;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.IndicesRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.TimeValue;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * A request to run a search in the background, see {@link AsyncSearchService#submit}.
+ */
+public class SubmitAsyncSearchRequest extends ActionRequest implements IndicesRequest {
+
+    public static final TimeValue DEFAULT_WAIT_FOR_COMPLETION_TIMEOUT = TimeValue.timeValueSeconds(1);
+
+    private final SearchRequest searchRequest;
+    private TimeValue waitForCompletionTimeout = DEFAULT_WAIT_FOR_COMPLETION_TIMEOUT;
+    @Nullable
+    private TimeValue keepAlive;
+    private boolean keepOnCompletion = false;
+
+    public SubmitAsyncSearchRequest(SearchRequest searchRequest) {
+        this.searchRequest = Objects.requireNonNull(searchRequest);
+    }
+
+    public SubmitAsyncSearchRequest(StreamInput in) throws IOException {
+        super(in);
+        searchRequest = new SearchRequest(in);
+        waitForCompletionTimeout = in.readTimeValue();
+        keepAlive = in.readOptionalTimeValue();
+        keepOnCompletion = in.readBoolean();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        searchRequest.writeTo(out);
+        out.writeTimeValue(waitForCompletionTimeout);
+        out.writeOptionalTimeValue(keepAlive);
+        out.writeBoolean(keepOnCompletion);
+    }
+
+    public SearchRequest getSearchRequest() {
+        return searchRequest;
+    }
+
+    public TimeValue getWaitForCompletionTimeout() {
+        return waitForCompletionTimeout;
+    }
+
+    /**
+     * How long to wait for the search to complete before responding with its partial results. Defaults to one second.
+     */
+    public SubmitAsyncSearchRequest setWaitForCompletionTimeout(TimeValue waitForCompletionTimeout) {
+        this.waitForCompletionTimeout = Objects.requireNonNull(waitForCompletionTimeout);
+        return this;
+    }
+
+    @Nullable
+    public TimeValue getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * How long to keep the state of the search, defaults to {@link AsyncSearchService#DEFAULT_KEEPALIVE_SETTING}.
+     */
+    public SubmitAsyncSearchRequest setKeepAlive(@Nullable TimeValue keepAlive) {
+        this.keepAlive = keepAlive;
+        return this;
+    }
+
+    public boolean isKeepOnCompletion() {
+        return keepOnCompletion;
+    }
+
+    /**
+     * Whether to keep the state of the search if it completes within the wait for completion timeout. Defaults to {@code false}.
+     */
+    public SubmitAsyncSearchRequest setKeepOnCompletion(boolean keepOnCompletion) {
+        this.keepOnCompletion = keepOnCompletion;
+        return this;
+    }
+
+    @Override
+    public String[] indices() {
+        return searchRequest.indices();
+    }
+
+    @Override
+    public IndicesOptions indicesOptions() {
+        return searchRequest.indicesOptions();
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = searchRequest.validate();
+        if (searchRequest.scroll() != null) {
+            validationException = addValidationError("[scroll] is not supported by async search", validationException);
+        }
+        if (keepAlive != null && keepAlive.millis() <= 0) {
+            validationException = addValidationError("[keep_alive] must be positive", validationException);
+        }
+        return validationException;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.async;
+
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.action.support.master.AcknowledgedResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Cancels an async search and removes its state, moving to the node that holds it if this isn't the one.
+ */
+public class TransportDeleteAsyncSearchAction extends HandledTransportAction<DeleteAsyncSearchRequest, AcknowledgedResponse> {
+
+    private final ClusterService clusterService;
+    private final TransportService transportService;
+    private final AsyncSearchService asyncSearchService;
+
+    @Inject
+    public TransportDeleteAsyncSearchAction(TransportService transportService, ClusterService clusterService,
+                                            ActionFilters actionFilters, AsyncSearchService asyncSearchService) {
+        super(DeleteAsyncSearchAction.NAME, transportService, actionFilters, DeleteAsyncSearchRequest::new);
+        this.clusterService = clusterService;
+        this.transportService = transportService;
+        this.asyncSearchService = asyncSearchService;
+    }
+
+    @Override
+    protected void doExecute(Task task, DeleteAsyncSearchRequest request, ActionListener<AcknowledgedResponse> listener) {
+        final AsyncSearchId id;
+        try {
+            id = AsyncSearchId.decode(request.getId());
+        } catch (IllegalArgumentException e) {
+            listener.onFailure(e);
+            return;
+        }
+        if (clusterService.localNode().getId().equals(id.getNodeId())) {
+            asyncSearchService.delete(request.getId(), ActionListener.map(listener, v -> new AcknowledgedResponse(true)));
+        } else {
+            final DiscoveryNode node = clusterService.state().nodes().get(id.getNodeId());
+            if (node == null) {
+                listener.onFailure(new ResourceNotFoundException("async search [{}] not found, node [{}] isn't part of the cluster",
+                    request.getId(), id.getNodeId()));
+                return;
+            }
+            transportService.sendRequest(node, DeleteAsyncSearchAction.NAME, request,
+                new ActionListenerResponseHandler<>(listener, AcknowledgedResponse::new, ThreadPool.Names.SAME));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.async;
+
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Retrieves the state of an async search, moving to the node that holds it if this isn't the one.
+ */
+public class TransportGetAsyncSearchAction extends HandledTransportAction<GetAsyncSearchRequest, AsyncSearchResponse> {
+
+    private final ClusterService clusterService;
+    private final TransportService transportService;
+    private final AsyncSearchService asyncSearchService;
+
+    @Inject
+    public TransportGetAsyncSearchAction(TransportService transportService, ClusterService clusterService, ActionFilters actionFilters,
+                                         AsyncSearchService asyncSearchService) {
+        super(GetAsyncSearchAction.NAME, transportService, actionFilters, GetAsyncSearchRequest::new);
+        this.clusterService = clusterService;
+        this.transportService = transportService;
+        this.asyncSearchService = asyncSearchService;
+    }
+
+    @Override
+    protected void doExecute(Task task, GetAsyncSearchRequest request, ActionListener<AsyncSearchResponse> listener) {
+        final AsyncSearchId id;
+        try {
+            id = AsyncSearchId.decode(request.getId());
+        } catch (IllegalArgumentException e) {
+            listener.onFailure(e);
+            return;
+        }
+        if (clusterService.localNode().getId().equals(id.getNodeId())) {
+            asyncSearchService.get(request.getId(), request.getWaitForCompletionTimeout(), request.getKeepAlive(), listener);
+        } else {
+            final DiscoveryNode node = clusterService.state().nodes().get(id.getNodeId());
+            if (node == null) {
+                listener.onFailure(new ResourceNotFoundException("async search [{}] not found, node [{}] isn't part of the cluster",
+                    request.getId(), id.getNodeId()));
+                return;
+            }
+            transportService.sendRequest(node, GetAsyncSearchAction.NAME, request,
+                new ActionListenerResponseHandler<>(listener, AsyncSearchResponse::new, ThreadPool.Names.SAME));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+/**
+ * Async search: searches that run in the background of the coordinating node and whose partial and final responses can be retrieved
+ * until they expire.
+ */
+package org.opensearch.action.search.async;
@@ -32,6 +32,7 @@
 
 package org.opensearch.cluster;
 
+import com.carrotsearch.hppc.cursors.IntObjectCursor;
 import com.carrotsearch.hppc.cursors.ObjectCursor;
 import com.carrotsearch.hppc.cursors.ObjectObjectCursor;
 import org.opensearch.cluster.metadata.IndexGraveyard;
@@ -39,9 +40,12 @@ import org.opensearch.cluster.metadata.IndexGraveyard.IndexGraveyardDiff;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
 import org.opensearch.common.collect.ImmutableOpenMap;
 import org.opensearch.gateway.GatewayService;
 import org.opensearch.index.Index;
+import org.opensearch.index.shard.ShardId;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -119,6 +123,51 @@ public class ClusterChangedEvent {
         return true;
     }
 
+    /**
+     * Returns the ids of all shards whose {@link IndexShardRoutingTable} has been added, changed or removed between the previous cluster
+     * state and the current cluster state. Note that this is an object reference equality test, not an equals test: cluster states that
+     * are received as a diff keep the identity of the shard routing tables that did not change, whereas on the master a rerouted routing
+     * table may report shards as changed even though their routing is equal. A cluster state that is received in full rather than as a
+     * diff reports all its shards as changed.
+     */
+    public Set<ShardId> changedShardRoutingSet() {
+        if (routingTableChanged() == false) {
+            return Collections.emptySet();
+        }
+        final Set<ShardId> result = new HashSet<>();
+        final ImmutableOpenMap<String, IndexRoutingTable> currentIndices = state.routingTable().indicesRouting();
+        final ImmutableOpenMap<String, IndexRoutingTable> previousIndices = previousState.routingTable().indicesRouting();
+        for (ObjectObjectCursor<String, IndexRoutingTable> cursor : currentIndices) {
+            final IndexRoutingTable current = cursor.value;
+            final IndexRoutingTable previous = previousIndices.get(cursor.key);
+            if (current == previous) {
+                continue;
+            }
+            for (IntObjectCursor<IndexShardRoutingTable> shardCursor : current.shards()) {
+                if (previous == null || previous.getIndex().equals(current.getIndex()) == false
+                    || shardCursor.value != previous.shards().get(shardCursor.key)) {
+                    result.add(shardCursor.value.shardId());
+                }
+            }
+            if (previous != null) {
+                for (IntObjectCursor<IndexShardRoutingTable> shardCursor : previous.shards()) {
+                    if (current.getIndex().equals(previous.getIndex()) == false
+                        || current.shards().containsKey(shardCursor.key) == false) {
+                        result.add(shardCursor.value.shardId());
+                    }
+                }
+            }
+        }
+        for (ObjectObjectCursor<String, IndexRoutingTable> cursor : previousIndices) {
+            if (currentIndices.containsKey(cursor.key) == false) {
+                for (IndexShardRoutingTable indexShardRoutingTable : cursor.value) {
+                    result.add(indexShardRoutingTable.shardId());
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns the indices created in this event
      */
@@ -0,0 +1,248 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.collect.ImmutableOpenMap;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.monitor.fs.FsInfo;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportResponse;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Runs on data nodes and pushes the local disk usage to the elected master whenever it changes by more than
+ * {@link #PUSH_THRESHOLD_SETTING} since the last report, so that the {@link InternalClusterInfoService} on the master (and hence the disk
+ * threshold decider and monitor) sees fast-filling disks without waiting for the next {@code cluster.info.update.interval} poll. The
+ * poll remains the source of truth for shard sizes and acts as a fallback for any reports that are lost.
+ */
+public class DiskUsageReporter extends AbstractLifecycleComponent {
+
+    private static final Logger logger = LogManager.getLogger(DiskUsageReporter.class);
+
+    public static final String ACTION_NAME = "internal:cluster/info/disk_usage";
+
+    public static final Setting<Boolean> PUSH_ENABLED_SETTING =
+        Setting.boolSetting("cluster.info.push.enabled", true, Property.Dynamic, Property.NodeScope);
+    public static final Setting<TimeValue> PUSH_INTERVAL_SETTING =
+        Setting.timeSetting("cluster.info.push.interval", TimeValue.timeValueSeconds(5), TimeValue.timeValueSeconds(1),
+            Property.NodeScope);
+    /**
+     * The change in available space, as a percentage of the total space of the path, that triggers a new report.
+     */
+    public static final Setting<Double> PUSH_THRESHOLD_SETTING =
+        Setting.doubleSetting("cluster.info.push.threshold", 1.0, 0.0, 100.0, Property.Dynamic, Property.NodeScope);
+
+    private final Settings settings;
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final TransportService transportService;
+    private final Supplier<FsInfo> fsInfoSupplier;
+    private final TimeValue interval;
+    private final AtomicBoolean reportInFlight = new AtomicBoolean();
+
+    private volatile boolean enabled;
+    private volatile double threshold;
+    private volatile Scheduler.Cancellable scheduledReport;
+
+    // the master to which the last report was sent, and that report, accessed only by the (single) scheduled task and its responses
+    @Nullable
+    private volatile String lastReportedMasterId;
+    @Nullable
+    private volatile DiskUsageReportRequest lastReport;
+
+    public DiskUsageReporter(Settings settings, ClusterService clusterService, ThreadPool threadPool, TransportService transportService,
+                             Supplier<FsInfo> fsInfoSupplier, ClusterInfoService clusterInfoService) {
+        this.settings = settings;
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.transportService = transportService;
+        this.fsInfoSupplier = fsInfoSupplier;
+        this.interval = PUSH_INTERVAL_SETTING.get(settings);
+        this.enabled = PUSH_ENABLED_SETTING.get(settings);
+        this.threshold = PUSH_THRESHOLD_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(PUSH_ENABLED_SETTING, this::setEnabled);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(PUSH_THRESHOLD_SETTING, this::setThreshold);
+
+        transportService.registerRequestHandler(ACTION_NAME, ThreadPool.Names.MANAGEMENT, DiskUsageReportRequest::new,
+            (request, channel, task) -> {
+                if (clusterInfoService instanceof InternalClusterInfoService) {
+                    ((InternalClusterInfoService) clusterInfoService).onDiskUsageReport(
+                        request.getLeastAvailableUsage(), request.getMostAvailableUsage(), request.getTimestamp());
+                }
+                channel.sendResponse(TransportResponse.Empty.INSTANCE);
+            });
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private void setThreshold(double threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void doStart() {
+        if (DiscoveryNode.isDataNode(settings)) {
+            scheduledReport = threadPool.scheduleWithFixedDelay(this::maybeReport, interval, ThreadPool.Names.MANAGEMENT);
+        }
+    }
+
+    @Override
+    protected void doStop() {
+        if (scheduledReport != null) {
+            scheduledReport.cancel();
+        }
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    void maybeReport() {
+        if (enabled == false) {
+            return;
+        }
+        final DiscoveryNode masterNode = clusterService.state().nodes().getMasterNode();
+        if (masterNode == null || masterNode.getVersion().before(Version.V_1_1_0)) {
+            return;
+        }
+        final DiskUsageReportRequest report = buildReport(clusterService.localNode(), fsInfoSupplier.get());
+        if (report == null) {
+            return;
+        }
+        if (masterNode.getId().equals(lastReportedMasterId) && shouldReport(lastReport, report, threshold) == false) {
+            return;
+        }
+        if (reportInFlight.compareAndSet(false, true) == false) {
+            logger.trace("skipping disk usage report to [{}], previous report still in flight", masterNode);
+            return;
+        }
+
+        logger.trace("reporting disk usage [{}] / [{}] to [{}]",
+            report.getLeastAvailableUsage(), report.getMostAvailableUsage(), masterNode);
+        transportService.sendRequest(masterNode, ACTION_NAME, report, new ActionListenerResponseHandler<>(
+            new ActionListener<TransportResponse.Empty>() {
+                @Override
+                public void onResponse(TransportResponse.Empty empty) {
+                    lastReportedMasterId = masterNode.getId();
+                    lastReport = report;
+                    reportInFlight.set(false);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    logger.debug(new ParameterizedMessage("failed to report disk usage to [{}]", masterNode), e);
+                    reportInFlight.set(false);
+                }
+            }, in -> TransportResponse.Empty.INSTANCE));
+    }
+
+    @Nullable
+    static DiskUsageReportRequest buildReport(DiscoveryNode localNode, @Nullable FsInfo fsInfo) {
+        if (fsInfo == null) {
+            return null;
+        }
+        final ImmutableOpenMap.Builder<String, DiskUsage> leastAvailableUsages = ImmutableOpenMap.builder();
+        final ImmutableOpenMap.Builder<String, DiskUsage> mostAvailableUsages = ImmutableOpenMap.builder();
+        InternalClusterInfoService.fillDiskUsage(logger, localNode.getId(), localNode.getName(), fsInfo,
+            leastAvailableUsages, mostAvailableUsages);
+        final DiskUsage leastAvailableUsage = leastAvailableUsages.get(localNode.getId());
+        final DiskUsage mostAvailableUsage = mostAvailableUsages.get(localNode.getId());
+        if (leastAvailableUsage == null || mostAvailableUsage == null) {
+            return null;
+        }
+        return new DiskUsageReportRequest(leastAvailableUsage, mostAvailableUsage, fsInfo.getTimestamp());
+    }
+
+    /**
+     * @return whether the available space of either path moved by at least {@code thresholdPercent} of its total space, or the paths
+     *         themselves changed, since the previous report.
+     */
+    static boolean shouldReport(@Nullable DiskUsageReportRequest previous, DiskUsageReportRequest current, double thresholdPercent) {
+        if (previous == null) {
+            return true;
+        }
+        return hasChanged(previous.getLeastAvailableUsage(), current.getLeastAvailableUsage(), thresholdPercent)
+            || hasChanged(previous.getMostAvailableUsage(), current.getMostAvailableUsage(), thresholdPercent);
+    }
+
+    private static boolean hasChanged(DiskUsage previous, DiskUsage current, double thresholdPercent) {
+        if (Objects.equals(previous.getPath(), current.getPath()) == false || previous.getTotalBytes() != current.getTotalBytes()) {
+            return true;
+        }
+        final long delta = Math.abs(previous.getFreeBytes() - current.getFreeBytes());
+        return delta > 0 && delta >= current.getTotalBytes() * thresholdPercent / 100.0;
+    }
+
+    public static class DiskUsageReportRequest extends TransportRequest {
+
+        private final DiskUsage leastAvailableUsage;
+        private final DiskUsage mostAvailableUsage;
+        private final long timestamp;
+
+        public DiskUsageReportRequest(DiskUsage leastAvailableUsage, DiskUsage mostAvailableUsage, long timestamp) {
+            this.leastAvailableUsage = Objects.requireNonNull(leastAvailableUsage);
+            this.mostAvailableUsage = Objects.requireNonNull(mostAvailableUsage);
+            this.timestamp = timestamp;
+        }
+
+        public DiskUsageReportRequest(StreamInput in) throws IOException {
+            super(in);
+            leastAvailableUsage = new DiskUsage(in);
+            mostAvailableUsage = new DiskUsage(in);
+            timestamp = in.readLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            leastAvailableUsage.writeTo(out);
+            mostAvailableUsage.writeTo(out);
+            out.writeLong(timestamp);
+        }
+
+        public DiskUsage getLeastAvailableUsage() {
+            return leastAvailableUsage;
+        }
+
+        public DiskUsage getMostAvailableUsage() {
+            return mostAvailableUsage;
+        }
+
+        /**
+         * The time, in milliseconds since the epoch on the clock of the reporting node, at which the disk usage was sampled.
+         */
+        public long getTimestamp() {
+            return timestamp;
+        }
+    }
+}
@@ -82,7 +82,9 @@ import java.util.function.Consumer;
  * ClusterInfoUpdateJob if a node has been added.
  *
  * Every time the timer runs, gathers information about the disk usage and
- * shard sizes across the cluster.
+ * shard sizes across the cluster. In between these polls data nodes may push
+ * their disk usage via the {@link DiskUsageReporter} when it changes
+ * significantly, see {@link #onDiskUsageReport(DiskUsage, DiskUsage, long)}.
  */
 public class InternalClusterInfoService implements ClusterInfoService, ClusterStateListener {
 
@@ -101,12 +103,15 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
 
     private volatile ImmutableOpenMap<String, DiskUsage> leastAvailableSpaceUsages;
     private volatile ImmutableOpenMap<String, DiskUsage> mostAvailableSpaceUsages;
+    // the time at which each node sampled the disk usage that is held for it, on the clock of that node
+    private Map<String, Long> diskUsageTimestamps = new HashMap<>(); // guarded by this
     private volatile IndicesStatsSummary indicesStatsSummary;
     // null if this node is not currently the master
     private final AtomicReference<RefreshAndRescheduleRunnable> refreshAndRescheduleRunnable = new AtomicReference<>();
     private volatile boolean enabled;
     private volatile TimeValue fetchTimeout;
     private final ThreadPool threadPool;
+    private final ClusterService clusterService;
     private final Client client;
     private final List<Consumer<ClusterInfo>> listeners = new CopyOnWriteArrayList<>();
 
@@ -115,6 +120,7 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
         this.mostAvailableSpaceUsages = ImmutableOpenMap.of();
         this.indicesStatsSummary = IndicesStatsSummary.EMPTY;
         this.threadPool = threadPool;
+        this.clusterService = clusterService;
         this.client = client;
         this.updateFrequency = INTERNAL_CLUSTER_INFO_UPDATE_INTERVAL_SETTING.get(settings);
         this.fetchTimeout = INTERNAL_CLUSTER_INFO_TIMEOUT_SETTING.get(settings);
@@ -238,12 +244,7 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
         final CountDownLatch nodeLatch = updateNodeStats(new ActionListener<NodesStatsResponse>() {
             @Override
             public void onResponse(NodesStatsResponse nodesStatsResponse) {
-                ImmutableOpenMap.Builder<String, DiskUsage> leastAvailableUsagesBuilder = ImmutableOpenMap.builder();
-                ImmutableOpenMap.Builder<String, DiskUsage> mostAvailableUsagesBuilder = ImmutableOpenMap.builder();
-                fillDiskUsagePerNode(logger, adjustNodesStats(nodesStatsResponse.getNodes()),
-                    leastAvailableUsagesBuilder, mostAvailableUsagesBuilder);
-                leastAvailableSpaceUsages = leastAvailableUsagesBuilder.build();
-                mostAvailableSpaceUsages = mostAvailableUsagesBuilder.build();
+                applyPolledDiskUsages(adjustNodesStats(nodesStatsResponse.getNodes()));
             }
 
             @Override
@@ -259,8 +260,7 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
                         logger.warn("Failed to execute NodeStatsAction for ClusterInfoUpdateJob", e);
                     }
                     // we empty the usages list, to be safe - we don't know what's going on.
-                    leastAvailableSpaceUsages = ImmutableOpenMap.of();
-                    mostAvailableSpaceUsages = ImmutableOpenMap.of();
+                    clearDiskUsages();
                 }
             }
         });
@@ -316,7 +316,86 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt(); // restore interrupt status
         }
-        ClusterInfo clusterInfo = getClusterInfo();
+        final ClusterInfo clusterInfo = getClusterInfo();
+        notifyListeners(clusterInfo);
+        return clusterInfo;
+    }
+
+    private synchronized void applyPolledDiskUsages(List<NodeStats> nodeStats) {
+        final ImmutableOpenMap.Builder<String, DiskUsage> leastAvailableUsagesBuilder = ImmutableOpenMap.builder();
+        final ImmutableOpenMap.Builder<String, DiskUsage> mostAvailableUsagesBuilder = ImmutableOpenMap.builder();
+        fillDiskUsagePerNode(logger, nodeStats, leastAvailableUsagesBuilder, mostAvailableUsagesBuilder);
+        final Map<String, Long> newDiskUsageTimestamps = new HashMap<>();
+        for (NodeStats stats : nodeStats) {
+            if (stats.getFs() == null) {
+                continue;
+            }
+            final String nodeId = stats.getNode().getId();
+            final Long heldTimestamp = diskUsageTimestamps.get(nodeId);
+            if (heldTimestamp != null && heldTimestamp > stats.getFs().getTimestamp()) {
+                // the node pushed a newer disk usage while the nodes stats were in flight, keep it
+                logger.trace("keeping disk usage of [{}] reported at [{}] over the polled one", nodeId, heldTimestamp);
+                final DiskUsage leastAvailableUsage = leastAvailableSpaceUsages.get(nodeId);
+                final DiskUsage mostAvailableUsage = mostAvailableSpaceUsages.get(nodeId);
+                if (leastAvailableUsage != null && mostAvailableUsage != null) {
+                    leastAvailableUsagesBuilder.put(nodeId, leastAvailableUsage);
+                    mostAvailableUsagesBuilder.put(nodeId, mostAvailableUsage);
+                    newDiskUsageTimestamps.put(nodeId, heldTimestamp);
+                    continue;
+                }
+            }
+            newDiskUsageTimestamps.put(nodeId, stats.getFs().getTimestamp());
+        }
+        leastAvailableSpaceUsages = leastAvailableUsagesBuilder.build();
+        mostAvailableSpaceUsages = mostAvailableUsagesBuilder.build();
+        diskUsageTimestamps = newDiskUsageTimestamps;
+    }
+
+    private synchronized void clearDiskUsages() {
+        leastAvailableSpaceUsages = ImmutableOpenMap.of();
+        mostAvailableSpaceUsages = ImmutableOpenMap.of();
+        diskUsageTimestamps = new HashMap<>();
+    }
+
+    /**
+     * Applies the disk usage pushed by a data node in between two scheduled refreshes, notifying the listeners so that e.g. the
+     * {@link org.opensearch.cluster.routing.allocation.DiskThresholdMonitor} can react without waiting for the next poll. The usage
+     * of the node is replaced again by the result of the next full refresh, unless the node sampled it after the polled one.
+     *
+     * @param timestamp the time at which the node sampled its disk usage, on the clock of that node
+     */
+    synchronized void onDiskUsageReport(DiskUsage leastAvailableUsage, DiskUsage mostAvailableUsage, long timestamp) {
+        assert leastAvailableUsage.getNodeId().equals(mostAvailableUsage.getNodeId()) : leastAvailableUsage + " vs " + mostAvailableUsage;
+        final String nodeId = leastAvailableUsage.getNodeId();
+        if (enabled == false || refreshAndRescheduleRunnable.get() == null) {
+            logger.trace("ignoring disk usage report from [{}] since cluster info is disabled or this node is not the master", nodeId);
+            return;
+        }
+        if (clusterService.state().nodes().getDataNodes().containsKey(nodeId) == false) {
+            logger.trace("ignoring disk usage report from [{}] since it is not a data node in the cluster", nodeId);
+            return;
+        }
+        final Long heldTimestamp = diskUsageTimestamps.get(nodeId);
+        if (heldTimestamp != null && heldTimestamp >= timestamp) {
+            // the report was overtaken by a poll, or by another report, that sampled the disk usage later
+            logger.trace("ignoring disk usage report from [{}] sampled at [{}], the held one was sampled at [{}]",
+                nodeId, timestamp, heldTimestamp);
+            return;
+        }
+        diskUsageTimestamps.put(nodeId, timestamp);
+        if (leastAvailableUsage.equals(leastAvailableSpaceUsages.get(nodeId))
+            && mostAvailableUsage.equals(mostAvailableSpaceUsages.get(nodeId))) {
+            logger.trace("disk usage report from [{}] is unchanged", nodeId);
+            return;
+        }
+
+        logger.trace("applying disk usage report [{}] / [{}]", leastAvailableUsage, mostAvailableUsage);
+        leastAvailableSpaceUsages = ImmutableOpenMap.builder(leastAvailableSpaceUsages).fPut(nodeId, leastAvailableUsage).build();
+        mostAvailableSpaceUsages = ImmutableOpenMap.builder(mostAvailableSpaceUsages).fPut(nodeId, mostAvailableUsage).build();
+        notifyListeners(getClusterInfo());
+    }
+
+    private void notifyListeners(ClusterInfo clusterInfo) {
         boolean anyListeners = false;
         for (final Consumer<ClusterInfo> listener : listeners) {
             anyListeners = true;
@@ -328,7 +407,6 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
             }
         }
         assert anyListeners : "expected to notify at least one listener";
-        return clusterInfo;
     }
 
     @Override
@@ -370,46 +448,54 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
             if (nodeStats.getFs() == null) {
                 logger.warn("Unable to retrieve node FS stats for {}", nodeStats.getNode().getName());
             } else {
-                FsInfo.Path leastAvailablePath = null;
-                FsInfo.Path mostAvailablePath = null;
-                for (FsInfo.Path info : nodeStats.getFs()) {
-                    if (leastAvailablePath == null) {
-                        assert mostAvailablePath == null;
-                        mostAvailablePath = leastAvailablePath = info;
-                    } else if (leastAvailablePath.getAvailable().getBytes() > info.getAvailable().getBytes()) {
-                        leastAvailablePath = info;
-                    } else if (mostAvailablePath.getAvailable().getBytes() < info.getAvailable().getBytes()) {
-                        mostAvailablePath = info;
-                    }
-                }
-                String nodeId = nodeStats.getNode().getId();
-                String nodeName = nodeStats.getNode().getName();
-                if (logger.isTraceEnabled()) {
-                    logger.trace("node: [{}], most available: total disk: {}," +
-                            " available disk: {} / least available: total disk: {}, available disk: {}",
-                            nodeId, mostAvailablePath.getTotal(), mostAvailablePath.getAvailable(),
-                            leastAvailablePath.getTotal(), leastAvailablePath.getAvailable());
-                }
-                if (leastAvailablePath.getTotal().getBytes() < 0) {
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("node: [{}] least available path has less than 0 total bytes of disk [{}], skipping",
-                                nodeId, leastAvailablePath.getTotal().getBytes());
-                    }
-                } else {
-                    newLeastAvailableUsages.put(nodeId, new DiskUsage(nodeId, nodeName, leastAvailablePath.getPath(),
-                        leastAvailablePath.getTotal().getBytes(), leastAvailablePath.getAvailable().getBytes()));
-                }
-                if (mostAvailablePath.getTotal().getBytes() < 0) {
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("node: [{}] most available path has less than 0 total bytes of disk [{}], skipping",
-                                nodeId, mostAvailablePath.getTotal().getBytes());
-                    }
-                } else {
-                    newMostAvailableUsages.put(nodeId, new DiskUsage(nodeId, nodeName, mostAvailablePath.getPath(),
-                        mostAvailablePath.getTotal().getBytes(), mostAvailablePath.getAvailable().getBytes()));
-                }
+                fillDiskUsage(logger, nodeStats.getNode().getId(), nodeStats.getNode().getName(), nodeStats.getFs(),
+                    newLeastAvailableUsages, newMostAvailableUsages);
+            }
+        }
+    }
 
+    static void fillDiskUsage(Logger logger, String nodeId, String nodeName, FsInfo fsInfo,
+            ImmutableOpenMap.Builder<String, DiskUsage> newLeastAvailableUsages,
+            ImmutableOpenMap.Builder<String, DiskUsage> newMostAvailableUsages) {
+        FsInfo.Path leastAvailablePath = null;
+        FsInfo.Path mostAvailablePath = null;
+        for (FsInfo.Path info : fsInfo) {
+            if (leastAvailablePath == null) {
+                assert mostAvailablePath == null;
+                mostAvailablePath = leastAvailablePath = info;
+            } else if (leastAvailablePath.getAvailable().getBytes() > info.getAvailable().getBytes()) {
+                leastAvailablePath = info;
+            } else if (mostAvailablePath.getAvailable().getBytes() < info.getAvailable().getBytes()) {
+                mostAvailablePath = info;
+            }
+        }
+        if (leastAvailablePath == null) {
+            logger.trace("node: [{}] has no data paths, skipping", nodeId);
+            return;
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace("node: [{}], most available: total disk: {}," +
+                    " available disk: {} / least available: total disk: {}, available disk: {}",
+                    nodeId, mostAvailablePath.getTotal(), mostAvailablePath.getAvailable(),
+                    leastAvailablePath.getTotal(), leastAvailablePath.getAvailable());
+        }
+        if (leastAvailablePath.getTotal().getBytes() < 0) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("node: [{}] least available path has less than 0 total bytes of disk [{}], skipping",
+                        nodeId, leastAvailablePath.getTotal().getBytes());
+            }
+        } else {
+            newLeastAvailableUsages.put(nodeId, new DiskUsage(nodeId, nodeName, leastAvailablePath.getPath(),
+                leastAvailablePath.getTotal().getBytes(), leastAvailablePath.getAvailable().getBytes()));
+        }
+        if (mostAvailablePath.getTotal().getBytes() < 0) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("node: [{}] most available path has less than 0 total bytes of disk [{}], skipping",
+                        nodeId, mostAvailablePath.getTotal().getBytes());
             }
+        } else {
+            newMostAvailableUsages.put(nodeId, new DiskUsage(nodeId, nodeName, mostAvailablePath.getPath(),
+                mostAvailablePath.getTotal().getBytes(), mostAvailablePath.getAvailable().getBytes()));
         }
     }
 
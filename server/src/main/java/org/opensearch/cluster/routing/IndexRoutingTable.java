@@ -36,6 +36,7 @@ import com.carrotsearch.hppc.IntSet;
 import com.carrotsearch.hppc.cursors.IntCursor;
 import com.carrotsearch.hppc.cursors.IntObjectCursor;
 import org.apache.lucene.util.CollectionUtil;
+import org.opensearch.Version;
 import org.opensearch.cluster.AbstractDiffable;
 import org.opensearch.cluster.Diff;
 import org.opensearch.cluster.metadata.IndexMetadata;
@@ -45,6 +46,7 @@ import org.opensearch.cluster.routing.RecoverySource.ExistingStoreRecoverySource
 import org.opensearch.cluster.routing.RecoverySource.LocalShardsRecoverySource;
 import org.opensearch.cluster.routing.RecoverySource.PeerRecoverySource;
 import org.opensearch.cluster.routing.RecoverySource.SnapshotRecoverySource;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.collect.ImmutableOpenIntMap;
 import org.opensearch.common.io.stream.StreamInput;
@@ -326,7 +328,15 @@ public class IndexRoutingTable extends AbstractDiffable<IndexRoutingTable> imple
         return builder.build();
     }
 
+    @Override
+    public Diff<IndexRoutingTable> diff(IndexRoutingTable previousState) {
+        return new IndexRoutingTableDiff(previousState, this);
+    }
+
     public static Diff<IndexRoutingTable> readDiffFrom(StreamInput in) throws IOException {
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            return new IndexRoutingTableDiff(in);
+        }
         return readDiffFrom(IndexRoutingTable::readFrom, in);
     }
 
@@ -343,6 +353,117 @@ public class IndexRoutingTable extends AbstractDiffable<IndexRoutingTable> imple
         return new Builder(index);
     }
 
+    /**
+     * Diff that only carries the {@link IndexShardRoutingTable}s that changed, so that a state change of a single shard does not resend
+     * the routing of every other shard of the index. The shard routing tables that did not change keep their identity when the diff is
+     * applied, which lets {@link org.opensearch.cluster.ClusterChangedEvent#changedShardRoutingSet()} find the changed shards cheaply.
+     */
+    private static class IndexRoutingTableDiff implements Diff<IndexRoutingTable> {
+
+        @Nullable // if received in the shard-level format
+        private final IndexRoutingTable before;
+
+        @Nullable // if received in the shard-level format
+        private final IndexRoutingTable after;
+
+        private final Index index;
+
+        @Nullable // if the whole index routing table must be replaced, e.g. because the index was recreated with a different UUID
+        private final List<IndexShardRoutingTable> changedShards;
+
+        IndexRoutingTableDiff(IndexRoutingTable before, IndexRoutingTable after) {
+            this.before = before;
+            this.after = after;
+            this.index = after.index;
+            if (before.index.equals(after.index) && sameShardIds(before, after)) {
+                final List<IndexShardRoutingTable> changedShards = new ArrayList<>();
+                for (IntObjectCursor<IndexShardRoutingTable> cursor : after.shards) {
+                    if (cursor.value.equals(before.shards.get(cursor.key)) == false) {
+                        changedShards.add(cursor.value);
+                    }
+                }
+                this.changedShards = Collections.unmodifiableList(changedShards);
+            } else {
+                this.changedShards = null;
+            }
+        }
+
+        IndexRoutingTableDiff(StreamInput in) throws IOException {
+            this.before = null;
+            if (in.readBoolean()) {
+                this.after = IndexRoutingTable.readFrom(in);
+                this.index = after.index;
+                this.changedShards = null;
+            } else {
+                this.after = null;
+                this.index = new Index(in);
+                final int size = in.readVInt();
+                final List<IndexShardRoutingTable> changedShards = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    changedShards.add(IndexShardRoutingTable.Builder.readFromThin(in, index));
+                }
+                this.changedShards = Collections.unmodifiableList(changedShards);
+            }
+        }
+
+        private static boolean sameShardIds(IndexRoutingTable before, IndexRoutingTable after) {
+            if (before.shards.size() != after.shards.size()) {
+                return false;
+            }
+            for (IntCursor cursor : after.shards.keys()) {
+                if (before.shards.containsKey(cursor.value) == false) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            if (out.getVersion().before(Version.V_1_1_0)) {
+                // older nodes only understand a complete diff
+                assert before != null && after != null : "only diffs created locally can be written";
+                if (before.equals(after)) {
+                    out.writeBoolean(false);
+                } else {
+                    out.writeBoolean(true);
+                    after.writeTo(out);
+                }
+                return;
+            }
+            if (changedShards == null) {
+                out.writeBoolean(true);
+                after.writeTo(out);
+            } else {
+                out.writeBoolean(false);
+                index.writeTo(out);
+                out.writeVInt(changedShards.size());
+                for (IndexShardRoutingTable indexShard : changedShards) {
+                    IndexShardRoutingTable.Builder.writeToThin(indexShard, out);
+                }
+            }
+        }
+
+        @Override
+        public IndexRoutingTable apply(IndexRoutingTable part) {
+            if (changedShards == null) {
+                return after;
+            }
+            if (changedShards.isEmpty()) {
+                return part;
+            }
+            assert part.index.equals(index) : "diff for " + index + " applied to " + part.index;
+            final Builder builder = new Builder(index);
+            for (IntObjectCursor<IndexShardRoutingTable> cursor : part.shards) {
+                builder.addIndexShard(cursor.value);
+            }
+            for (IndexShardRoutingTable indexShard : changedShards) {
+                builder.addIndexShard(indexShard);
+            }
+            return builder.build();
+        }
+    }
+
     public static class Builder {
 
         private final Index index;
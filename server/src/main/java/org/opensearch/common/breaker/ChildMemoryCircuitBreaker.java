@@ -59,7 +59,7 @@ public class ChildMemoryCircuitBreaker implements CircuitBreaker {
      * the given overheadConstant. Uses the given oldBreaker to initialize
      * the starting offset.
      * @param settings settings to configure this breaker
-     * @param parent parent circuit breaker service to delegate tripped breakers to
+     * @param parent parent circuit breaker service to delegate tripped breakers to, or {@code null} if this breaker has no parent
      * @param name the name of the breaker
      */
     public ChildMemoryCircuitBreaker(BreakerSettings settings, Logger logger, HierarchyCircuitBreakerService parent, String name) {
@@ -118,14 +118,16 @@ public class ChildMemoryCircuitBreaker implements CircuitBreaker {
         }
 
         // Additionally, we need to check that we haven't exceeded the parent's limit
-        try {
-            parent.checkParentLimit((long) (bytes * overheadConstant), label);
-        } catch (CircuitBreakingException e) {
-            // If the parent breaker is tripped, this breaker has to be
-            // adjusted back down because the allocation is "blocked" but the
-            // breaker has already been incremented
-            this.addWithoutBreaking(-bytes);
-            throw e;
+        if (parent != null) {
+            try {
+                parent.checkParentLimit((long) (bytes * overheadConstant), label);
+            } catch (CircuitBreakingException e) {
+                // If the parent breaker is tripped, this breaker has to be
+                // adjusted back down because the allocation is "blocked" but the
+                // breaker has already been incremented
+                this.addWithoutBreaking(-bytes);
+                throw e;
+            }
         }
         assert newUsed >= 0 : "Used bytes: [" + newUsed + "] must be >= 0";
         return newUsed;
@@ -73,6 +73,12 @@ public interface CircuitBreaker {
      * segments.
      */
     String ACCOUNTING = "accounting";
+    /**
+     * The native breaker tracks direct memory that is allocated for big arrays
+     * off the Java heap. It is not part of the parent breaker, which only
+     * limits heap memory.
+     */
+    String NATIVE = "native";
 
     enum Type {
         // A regular or ChildMemoryCircuitBreaker
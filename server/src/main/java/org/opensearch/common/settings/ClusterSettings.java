@@ -37,6 +37,7 @@ import org.opensearch.watcher.ResourceWatcherService;
 import org.opensearch.action.admin.cluster.configuration.TransportAddVotingConfigExclusionsAction;
 import org.opensearch.action.admin.indices.close.TransportCloseIndexAction;
 import org.opensearch.action.search.TransportSearchAction;
+import org.opensearch.action.search.async.AsyncSearchService;
 import org.opensearch.action.support.AutoCreateIndex;
 import org.opensearch.action.support.DestructiveOperations;
 import org.opensearch.action.support.replication.TransportReplicationAction;
@@ -45,6 +46,7 @@ import org.opensearch.client.Client;
 import org.opensearch.client.transport.TransportClient;
 import org.opensearch.cluster.ClusterModule;
 import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.DiskUsageReporter;
 import org.opensearch.cluster.InternalClusterInfoService;
 import org.opensearch.cluster.NodeConnectionsService;
 import org.opensearch.cluster.action.index.MappingUpdatedAction;
@@ -82,6 +84,7 @@ import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.network.NetworkModule;
 import org.opensearch.common.network.NetworkService;
 import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -97,12 +100,14 @@ import org.opensearch.discovery.zen.ZenDiscovery;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.gateway.DanglingIndicesState;
+import org.opensearch.gateway.GatewayAllocator;
 import org.opensearch.gateway.GatewayService;
 import org.opensearch.gateway.PersistedClusterStateService;
 import org.opensearch.http.HttpTransportSettings;
 import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressure;
+import org.opensearch.index.merge.NodeMergeCoordinator;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
@@ -131,7 +136,9 @@ import org.opensearch.script.ScriptService;
 import org.opensearch.search.SearchModule;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.search.backpressure.SearchBackpressureService;
 import org.opensearch.search.fetch.subphase.highlight.FastVectorHighlighter;
+import org.opensearch.search.insights.QueryInsightsService;
 import org.opensearch.snapshots.InternalSnapshotsInfoService;
 import org.opensearch.snapshots.SnapshotsService;
 import org.opensearch.threadpool.ThreadPool;
@@ -272,6 +279,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
             ShardStateAction.FOLLOW_UP_REROUTE_PRIORITY_SETTING,
             InternalClusterInfoService.INTERNAL_CLUSTER_INFO_UPDATE_INTERVAL_SETTING,
             InternalClusterInfoService.INTERNAL_CLUSTER_INFO_TIMEOUT_SETTING,
+            DiskUsageReporter.PUSH_ENABLED_SETTING,
+            DiskUsageReporter.PUSH_INTERVAL_SETTING,
+            DiskUsageReporter.PUSH_THRESHOLD_SETTING,
             InternalSnapshotsInfoService.INTERNAL_SNAPSHOT_INFO_MAX_CONCURRENT_FETCHES_SETTING,
             DestructiveOperations.REQUIRES_NAME_SETTING,
             DiscoverySettings.PUBLISH_TIMEOUT_SETTING,
@@ -279,6 +289,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             DiscoverySettings.COMMIT_TIMEOUT_SETTING,
             NoMasterBlockService.NO_MASTER_BLOCK_SETTING,
             NoMasterBlockService.LEGACY_NO_MASTER_BLOCK_SETTING,
+            GatewayAllocator.BATCH_FETCH_STARTED_SHARDS_SETTING,
             GatewayService.EXPECTED_DATA_NODES_SETTING,
             GatewayService.EXPECTED_MASTER_NODES_SETTING,
             GatewayService.EXPECTED_NODES_SETTING,
@@ -337,6 +348,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
             HierarchyCircuitBreakerService.REQUEST_CIRCUIT_BREAKER_OVERHEAD_SETTING,
             HierarchyCircuitBreakerService.ACCOUNTING_CIRCUIT_BREAKER_LIMIT_SETTING,
             HierarchyCircuitBreakerService.ACCOUNTING_CIRCUIT_BREAKER_OVERHEAD_SETTING,
+            HierarchyCircuitBreakerService.NATIVE_CIRCUIT_BREAKER_LIMIT_SETTING,
+            HierarchyCircuitBreakerService.NATIVE_CIRCUIT_BREAKER_OVERHEAD_SETTING,
             IndexModule.NODE_STORE_ALLOW_MMAP,
             ClusterApplierService.CLUSTER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING,
             ClusterService.USER_DEFINED_METADATA,
@@ -345,6 +358,22 @@ public final class ClusterSettings extends AbstractScopedSettings {
             SearchService.DEFAULT_ALLOW_PARTIAL_SEARCH_RESULTS,
             ElectMasterService.DISCOVERY_ZEN_MINIMUM_MASTER_NODES_SETTING,
             TransportSearchAction.SHARD_COUNT_LIMIT_SETTING,
+            TransportSearchAction.HEDGED_REQUESTS_ENABLED_SETTING,
+            TransportSearchAction.HEDGED_REQUESTS_LATENCY_PERCENTILE_SETTING,
+            TransportSearchAction.HEDGED_REQUESTS_MIN_DELAY_SETTING,
+            TransportSearchAction.HEDGED_REQUESTS_BUDGET_PERCENT_SETTING,
+            SearchBackpressureService.ENABLED_SETTING,
+            SearchBackpressureService.INTERVAL_SETTING,
+            SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING,
+            SearchBackpressureService.CPU_THRESHOLD_SETTING,
+            SearchBackpressureService.HEAP_THRESHOLD_SETTING,
+            SearchBackpressureService.TASK_CPU_TIME_THRESHOLD_SETTING,
+            SearchBackpressureService.TASK_ALLOCATION_RATE_THRESHOLD_SETTING,
+            SearchBackpressureService.MAX_CANCELLATIONS_SETTING,
+            QueryInsightsService.TOP_QUERIES_ENABLED_SETTING,
+            QueryInsightsService.TOP_QUERIES_WINDOW_SIZE_SETTING,
+            QueryInsightsService.TOP_QUERIES_SIZE_SETTING,
+            QueryInsightsService.TOP_QUERIES_EXPORT_ENABLED_SETTING,
             RemoteClusterService.REMOTE_CLUSTER_SKIP_UNAVAILABLE,
             RemoteClusterService.SEARCH_REMOTE_CLUSTER_SKIP_UNAVAILABLE,
             SniffConnectionStrategy.REMOTE_CONNECTIONS_PER_CLUSTER,
@@ -487,6 +516,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
             SeedHostsResolver.LEGACY_DISCOVERY_ZEN_PING_UNICAST_CONCURRENT_CONNECTS_SETTING,
             SeedHostsResolver.LEGACY_DISCOVERY_ZEN_PING_UNICAST_HOSTS_RESOLVE_TIMEOUT,
             SearchService.DEFAULT_KEEPALIVE_SETTING,
+            AsyncSearchService.DEFAULT_KEEPALIVE_SETTING,
+            AsyncSearchService.MAX_KEEPALIVE_SETTING,
+            AsyncSearchService.MAX_CONTEXTS_SETTING,
             SearchService.KEEPALIVE_INTERVAL_SETTING,
             SearchService.MAX_KEEPALIVE_SETTING,
             SearchService.ALLOW_EXPENSIVE_QUERIES,
@@ -526,6 +558,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
             PageCacheRecycler.WEIGHT_LONG_SETTING,
             PageCacheRecycler.WEIGHT_OBJECTS_SETTING,
             PageCacheRecycler.TYPE_SETTING,
+            PageCacheRecycler.LIMIT_DIRECT_SETTING,
+            BigArrays.MEMORY_TYPE_SETTING,
             PluginsService.MANDATORY_SETTING,
             BootstrapSettings.SECURITY_FILTER_BAD_DEFAULTS_SETTING,
             BootstrapSettings.MEMORY_LOCK_SETTING,
@@ -537,6 +571,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             IndexingMemoryController.MAX_INDEX_BUFFER_SIZE_SETTING,
             IndexingMemoryController.SHARD_INACTIVE_TIME_SETTING,
             IndexingMemoryController.SHARD_MEMORY_INTERVAL_TIME_SETTING,
+            NodeMergeCoordinator.MAX_BYTES_PER_SEC_SETTING,
             ResourceWatcherService.ENABLED,
             ResourceWatcherService.RELOAD_INTERVAL_HIGH,
             ResourceWatcherService.RELOAD_INTERVAL_MEDIUM,
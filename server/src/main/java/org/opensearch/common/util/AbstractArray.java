@@ -54,13 +54,20 @@ abstract class AbstractArray implements BigArray {
     public final void close() {
         if (closed.compareAndSet(false, true)) {
             try {
-                bigArrays.adjustBreaker(-ramBytesUsed(), true);
+                adjustBreaker(-ramBytesUsed());
             } finally {
                 doClose();
             }
         }
     }
 
+    /**
+     * Adjusts the circuit breaker that accounts for the memory of this array.
+     */
+    void adjustBreaker(long delta) {
+        bigArrays.adjustBreaker(delta, true);
+    }
+
     protected abstract void doClose();
 
     @Override
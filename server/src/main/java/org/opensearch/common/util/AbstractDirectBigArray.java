@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.recycler.Recycler;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Common implementation for arrays that slice data into fixed-size pages of direct memory. The pages are taken from and given back to
+ * the {@link PageCacheRecycler} when the array is resized or closed, so that the native memory is reused instead of waiting for the
+ * garbage collector to free it. Their size is accounted on the {@link org.opensearch.common.breaker.CircuitBreaker#NATIVE} breaker.
+ */
+abstract class AbstractDirectBigArray extends AbstractArray {
+
+    private final BigArrays bigArrays;
+    private final PageCacheRecycler recycler;
+    private Recycler.V<?>[] cache;
+
+    private final int elementShift;
+    private final int pageShift;
+    private final int pageMask;
+    protected ByteBuffer[] pages;
+    protected long size;
+
+    protected AbstractDirectBigArray(long size, int bytesPerElement, BigArrays bigArrays, boolean clearOnResize) {
+        super(bigArrays, clearOnResize);
+        assert Integer.bitCount(bytesPerElement) == 1;
+        this.bigArrays = bigArrays;
+        this.recycler = bigArrays.recycler;
+        final int pageSize = PageCacheRecycler.PAGE_SIZE_IN_BYTES / bytesPerElement;
+        this.elementShift = Integer.numberOfTrailingZeros(bytesPerElement);
+        this.pageShift = Integer.numberOfTrailingZeros(pageSize);
+        this.pageMask = pageSize - 1;
+        final int numPages = numPages(size);
+        this.pages = new ByteBuffer[numPages];
+        this.cache = recycler != null ? new Recycler.V<?>[numPages] : null;
+        for (int i = 0; i < numPages; ++i) {
+            pages[i] = newPage(i);
+        }
+        this.size = size;
+    }
+
+    final int numPages(long capacity) {
+        final long numPages = (capacity + pageMask) >>> pageShift;
+        if (numPages > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("pageSize=" + (pageMask + 1) + " is too small for such as capacity: " + capacity);
+        }
+        return (int) numPages;
+    }
+
+    final int pageIndex(long index) {
+        return (int) (index >>> pageShift);
+    }
+
+    /**
+     * The offset in bytes of the element at the given index in its page.
+     */
+    final int offsetInPage(long index) {
+        return ((int) (index & pageMask)) << elementShift;
+    }
+
+    @Override
+    public final long size() {
+        return size;
+    }
+
+    @Override
+    public final long ramBytesUsed() {
+        return ramBytesEstimated(size);
+    }
+
+    /** Given the size of the array, estimate the number of bytes of direct memory it will use. */
+    public final long ramBytesEstimated(final long size) {
+        return (long) numPages(size) * PageCacheRecycler.PAGE_SIZE_IN_BYTES;
+    }
+
+    @Override
+    final void adjustBreaker(long delta) {
+        bigArrays.adjustNativeBreaker(delta, true);
+    }
+
+    /** Change the size of this array. Content between indexes <code>0</code> and <code>min(size(), newSize)</code> will be preserved. */
+    public final void resize(long newSize) {
+        final int numPages = numPages(newSize);
+        if (numPages > pages.length) {
+            final int newLength = ArrayUtil.oversize(numPages, RamUsageEstimator.NUM_BYTES_OBJECT_REF);
+            pages = Arrays.copyOf(pages, newLength);
+            if (cache != null) {
+                cache = Arrays.copyOf(cache, newLength);
+            }
+        }
+        for (int i = numPages - 1; i >= 0 && pages[i] == null; --i) {
+            pages[i] = newPage(i);
+        }
+        for (int i = numPages; i < pages.length && pages[i] != null; ++i) {
+            pages[i] = null;
+            releasePage(i);
+        }
+        this.size = newSize;
+    }
+
+    private ByteBuffer newPage(int page) {
+        if (recycler != null) {
+            final Recycler.V<ByteBuffer> v = recycler.directPage(clearOnResize);
+            assert cache[page] == null;
+            cache[page] = v;
+            return v.v();
+        } else {
+            return ByteBuffer.allocateDirect(PageCacheRecycler.PAGE_SIZE_IN_BYTES).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    private void releasePage(int page) {
+        if (recycler != null) {
+            cache[page].close();
+            cache[page] = null;
+        }
+    }
+
+    @Override
+    protected final void doClose() {
+        if (recycler != null) {
+            Releasables.close(cache);
+            cache = null;
+        }
+        pages = null;
+    }
+}
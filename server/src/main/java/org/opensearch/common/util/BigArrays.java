@@ -41,15 +41,53 @@ import org.opensearch.common.breaker.CircuitBreakingException;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.recycler.Recycler;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 
 import java.util.Arrays;
+import java.util.Locale;
 
 /** Utility class to work with arrays. */
 public class BigArrays {
 
     public static final BigArrays NON_RECYCLING_INSTANCE = new BigArrays(null, null, CircuitBreaker.REQUEST);
 
+    /**
+     * Where the node allocates the pages of big int, long and double arrays, see {@link MemoryType}.
+     */
+    public static final Setting<MemoryType> MEMORY_TYPE_SETTING =
+        new Setting<>("indices.big_arrays.memory_type", MemoryType.HEAP.toString(), MemoryType::parse, Property.NodeScope);
+
+    /**
+     * The memory that the pages of big arrays are allocated from.
+     */
+    public enum MemoryType {
+        /**
+         * Pages are allocated on the Java heap and accounted on the breaker of the {@link BigArrays} instance.
+         */
+        HEAP,
+        /**
+         * The pages of int, long and double arrays that are larger than a page are allocated from direct memory and accounted on the
+         * {@link CircuitBreaker#NATIVE} breaker, which keeps large aggregations off the heap. Smaller arrays and other array types stay
+         * on the heap.
+         */
+        DIRECT;
+
+        public static MemoryType parse(String value) {
+            try {
+                return MemoryType.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("unknown big arrays memory type [" + value + "], must be one of [heap, direct]");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
     /** Returns the next size to grow when working with parallel arrays that
      *  may have different page sizes or number of bytes per element. */
     public static long overSize(long minTargetSize) {
@@ -379,22 +417,35 @@ public class BigArrays {
     private final boolean checkBreaker;
     private final BigArrays circuitBreakingInstance;
     private final String breakerName;
+    private final MemoryType memoryType;
 
     public BigArrays(PageCacheRecycler recycler, @Nullable final CircuitBreakerService breakerService, String breakerName) {
         // Checking the breaker is disabled if not specified
         this(recycler, breakerService, breakerName, false);
     }
 
+    public BigArrays(PageCacheRecycler recycler, @Nullable final CircuitBreakerService breakerService, String breakerName,
+                     MemoryType memoryType) {
+        // Checking the breaker is disabled if not specified
+        this(recycler, breakerService, breakerName, false, memoryType);
+    }
+
     protected BigArrays(PageCacheRecycler recycler, @Nullable final CircuitBreakerService breakerService, String breakerName,
                         boolean checkBreaker) {
+        this(recycler, breakerService, breakerName, checkBreaker, MemoryType.HEAP);
+    }
+
+    protected BigArrays(PageCacheRecycler recycler, @Nullable final CircuitBreakerService breakerService, String breakerName,
+                        boolean checkBreaker, MemoryType memoryType) {
         this.checkBreaker = checkBreaker;
         this.recycler = recycler;
         this.breakerService = breakerService;
         this.breakerName = breakerName;
+        this.memoryType = memoryType;
         if (checkBreaker) {
             this.circuitBreakingInstance = this;
         } else {
-            this.circuitBreakingInstance = new BigArrays(recycler, breakerService, breakerName, true);
+            this.circuitBreakingInstance = new BigArrays(recycler, breakerService, breakerName, true, memoryType);
         }
     }
 
@@ -407,6 +458,18 @@ public class BigArrays {
      * we do not add the delta to the breaker if it trips.
      */
     void adjustBreaker(final long delta, final boolean isDataAlreadyCreated) {
+        adjustBreaker(breakerName, delta, isDataAlreadyCreated);
+    }
+
+    /**
+     * Adjust the {@link CircuitBreaker#NATIVE} breaker that accounts for the direct memory of arrays, see
+     * {@link #adjustBreaker(long, boolean)}.
+     */
+    void adjustNativeBreaker(final long delta, final boolean isDataAlreadyCreated) {
+        adjustBreaker(CircuitBreaker.NATIVE, delta, isDataAlreadyCreated);
+    }
+
+    private void adjustBreaker(final String breakerName, final long delta, final boolean isDataAlreadyCreated) {
         if (this.breakerService != null) {
             CircuitBreaker breaker = this.breakerService.getBreaker(breakerName);
             if (this.checkBreaker) {
@@ -459,6 +522,20 @@ public class BigArrays {
         return array;
     }
 
+    private <T extends AbstractDirectBigArray> T resizeInPlace(T array, long newSize) {
+        final long estimatedIncreaseInBytes = array.ramBytesEstimated(newSize) - array.ramBytesUsed();
+        adjustNativeBreaker(estimatedIncreaseInBytes, false);
+        array.resize(newSize);
+        return array;
+    }
+
+    /**
+     * Whether arrays of the given size are allocated from direct memory.
+     */
+    private boolean useDirectMemory(long size, int pageSize) {
+        return memoryType == MemoryType.DIRECT && size > pageSize;
+    }
+
     private <T extends BigArray> T validate(T array) {
         boolean success = false;
         try {
@@ -562,7 +639,10 @@ public class BigArrays {
      * @param clearOnResize whether values should be set to 0 on initialization and resize
      */
     public IntArray newIntArray(long size, boolean clearOnResize) {
-        if (size > PageCacheRecycler.INT_PAGE_SIZE) {
+        if (useDirectMemory(size, PageCacheRecycler.INT_PAGE_SIZE)) {
+            adjustNativeBreaker(DirectIntArray.estimateRamBytes(size), false);
+            return new DirectIntArray(size, this, clearOnResize);
+        } else if (size > PageCacheRecycler.INT_PAGE_SIZE) {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
             adjustBreaker(BigIntArray.estimateRamBytes(size), false);
@@ -587,6 +667,8 @@ public class BigArrays {
     public IntArray resize(IntArray array, long size) {
         if (array instanceof BigIntArray) {
             return resizeInPlace((BigIntArray) array, size);
+        } else if (array instanceof DirectIntArray) {
+            return resizeInPlace((DirectIntArray) array, size);
         } else {
             AbstractArray arr = (AbstractArray) array;
             final IntArray newArray = newIntArray(size, arr.clearOnResize);
@@ -614,7 +696,10 @@ public class BigArrays {
      * @param clearOnResize whether values should be set to 0 on initialization and resize
      */
     public LongArray newLongArray(long size, boolean clearOnResize) {
-        if (size > PageCacheRecycler.LONG_PAGE_SIZE) {
+        if (useDirectMemory(size, PageCacheRecycler.LONG_PAGE_SIZE)) {
+            adjustNativeBreaker(DirectLongArray.estimateRamBytes(size), false);
+            return new DirectLongArray(size, this, clearOnResize);
+        } else if (size > PageCacheRecycler.LONG_PAGE_SIZE) {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
             adjustBreaker(BigLongArray.estimateRamBytes(size), false);
@@ -639,6 +724,8 @@ public class BigArrays {
     public LongArray resize(LongArray array, long size) {
         if (array instanceof BigLongArray) {
             return resizeInPlace((BigLongArray) array, size);
+        } else if (array instanceof DirectLongArray) {
+            return resizeInPlace((DirectLongArray) array, size);
         } else {
             AbstractArray arr = (AbstractArray) array;
             final LongArray newArray = newLongArray(size, arr.clearOnResize);
@@ -666,7 +753,10 @@ public class BigArrays {
      * @param clearOnResize whether values should be set to 0 on initialization and resize
      */
     public DoubleArray newDoubleArray(long size, boolean clearOnResize) {
-        if (size > PageCacheRecycler.LONG_PAGE_SIZE) {
+        if (useDirectMemory(size, PageCacheRecycler.LONG_PAGE_SIZE)) {
+            adjustNativeBreaker(DirectDoubleArray.estimateRamBytes(size), false);
+            return new DirectDoubleArray(size, this, clearOnResize);
+        } else if (size > PageCacheRecycler.LONG_PAGE_SIZE) {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
             adjustBreaker(BigDoubleArray.estimateRamBytes(size), false);
@@ -688,6 +778,8 @@ public class BigArrays {
     public DoubleArray resize(DoubleArray array, long size) {
         if (array instanceof BigDoubleArray) {
             return resizeInPlace((BigDoubleArray) array, size);
+        } else if (array instanceof DirectDoubleArray) {
+            return resizeInPlace((DirectDoubleArray) array, size);
         } else {
             AbstractArray arr = (AbstractArray) array;
             final DoubleArray newArray = newDoubleArray(size, arr.clearOnResize);
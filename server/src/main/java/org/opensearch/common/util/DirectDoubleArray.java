@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Double array abstraction able to support more than 2B values that keeps its values in pages of direct memory.
+ */
+final class DirectDoubleArray extends AbstractDirectBigArray implements DoubleArray {
+
+    private static final long PAGE_SIZE = PageCacheRecycler.PAGE_SIZE_IN_BYTES / Double.BYTES;
+
+    DirectDoubleArray(long size, BigArrays bigArrays, boolean clearOnResize) {
+        super(size, Double.BYTES, bigArrays, clearOnResize);
+    }
+
+    @Override
+    public double get(long index) {
+        return pages[pageIndex(index)].getDouble(offsetInPage(index));
+    }
+
+    @Override
+    public double set(long index, double value) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final double ret = page.getDouble(offset);
+        page.putDouble(offset, value);
+        return ret;
+    }
+
+    @Override
+    public double increment(long index, double inc) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final double value = page.getDouble(offset) + inc;
+        page.putDouble(offset, value);
+        return value;
+    }
+
+    @Override
+    public void fill(long fromIndex, long toIndex, double value) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        for (long i = fromIndex; i < toIndex; ++i) {
+            pages[pageIndex(i)].putDouble(offsetInPage(i), value);
+        }
+    }
+
+    /** Estimates the number of bytes of direct memory that would be consumed by an array of the given size. */
+    public static long estimateRamBytes(final long size) {
+        return (size + PAGE_SIZE - 1) / PAGE_SIZE * PageCacheRecycler.PAGE_SIZE_IN_BYTES;
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Long array abstraction able to support more than 2B values that keeps its values in pages of direct memory.
+ */
+final class DirectLongArray extends AbstractDirectBigArray implements LongArray {
+
+    private static final long PAGE_SIZE = PageCacheRecycler.PAGE_SIZE_IN_BYTES / Long.BYTES;
+
+    DirectLongArray(long size, BigArrays bigArrays, boolean clearOnResize) {
+        super(size, Long.BYTES, bigArrays, clearOnResize);
+    }
+
+    @Override
+    public long get(long index) {
+        return pages[pageIndex(index)].getLong(offsetInPage(index));
+    }
+
+    @Override
+    public long set(long index, long value) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final long ret = page.getLong(offset);
+        page.putLong(offset, value);
+        return ret;
+    }
+
+    @Override
+    public long increment(long index, long inc) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final long value = page.getLong(offset) + inc;
+        page.putLong(offset, value);
+        return value;
+    }
+
+    @Override
+    public void fill(long fromIndex, long toIndex, long value) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        for (long i = fromIndex; i < toIndex; ++i) {
+            pages[pageIndex(i)].putLong(offsetInPage(i), value);
+        }
+    }
+
+    /** Estimates the number of bytes of direct memory that would be consumed by an array of the given size. */
+    public static long estimateRamBytes(final long size) {
+        return (size + PAGE_SIZE - 1) / PAGE_SIZE * PageCacheRecycler.PAGE_SIZE_IN_BYTES;
+    }
+
+}
@@ -38,9 +38,12 @@ import org.opensearch.common.recycler.Recycler;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Locale;
 
@@ -65,6 +68,9 @@ public class PageCacheRecycler {
     // object pages are less useful to us so we give them a lower weight by default
     public static final Setting<Double> WEIGHT_OBJECTS_SETTING  =
         Setting.doubleSetting("cache.recycler.page.weight.objects", 0.1d, 0d, Property.NodeScope);
+    // direct pages are only allocated if big arrays use direct memory, see BigArrays#MEMORY_TYPE_SETTING
+    public static final Setting<ByteSizeValue> LIMIT_DIRECT_SETTING =
+        Setting.byteSizeSetting("cache.recycler.page.limit.direct", new ByteSizeValue(64, ByteSizeUnit.MB), Property.NodeScope);
 
     /** Page size in bytes: 16KB */
     public static final int PAGE_SIZE_IN_BYTES = 1 << 14;
@@ -77,11 +83,15 @@ public class PageCacheRecycler {
     private final Recycler<int[]> intPage;
     private final Recycler<long[]> longPage;
     private final Recycler<Object[]> objectPage;
+    private final Recycler<ByteBuffer> directPage;
 
     public static final PageCacheRecycler NON_RECYCLING_INSTANCE;
 
     static {
-        NON_RECYCLING_INSTANCE = new PageCacheRecycler(Settings.builder().put(LIMIT_HEAP_SETTING.getKey(), "0%").build());
+        NON_RECYCLING_INSTANCE = new PageCacheRecycler(Settings.builder()
+            .put(LIMIT_HEAP_SETTING.getKey(), "0%")
+            .put(LIMIT_DIRECT_SETTING.getKey(), "0b")
+            .build());
     }
 
     public PageCacheRecycler(Settings settings) {
@@ -159,6 +169,20 @@ public class PageCacheRecycler {
         });
 
         assert PAGE_SIZE_IN_BYTES * (maxBytePageCount + maxIntPageCount + maxLongPageCount + maxObjectPageCount) <= limit;
+
+        // direct pages can be interpreted as any primitive type so they share a single pool
+        final long directLimit = LIMIT_DIRECT_SETTING.get(settings).getBytes();
+        final int maxDirectPageCount = (int) Math.min(Integer.MAX_VALUE, directLimit / PAGE_SIZE_IN_BYTES);
+        directPage = build(type, maxDirectPageCount, allocatedProcessors, new AbstractRecyclerC<ByteBuffer>() {
+            @Override
+            public ByteBuffer newInstance() {
+                return ByteBuffer.allocateDirect(PAGE_SIZE_IN_BYTES).order(ByteOrder.nativeOrder());
+            }
+            @Override
+            public void recycle(ByteBuffer value) {
+                // nothing to do
+            }
+        });
     }
 
     public Recycler.V<byte[]> bytePage(boolean clear) {
@@ -190,6 +214,21 @@ public class PageCacheRecycler {
         return objectPage.obtain();
     }
 
+    /**
+     * Returns a page of {@link #PAGE_SIZE_IN_BYTES} bytes of direct memory in native byte order. Pages that are not kept by the recycler
+     * once they are released are freed by the garbage collector.
+     */
+    public Recycler.V<ByteBuffer> directPage(boolean clear) {
+        final Recycler.V<ByteBuffer> v = directPage.obtain();
+        if (v.isRecycled() && clear) {
+            final ByteBuffer page = v.v();
+            for (int i = 0; i < PAGE_SIZE_IN_BYTES; i += Long.BYTES) {
+                page.putLong(i, 0L);
+            }
+        }
+        return v;
+    }
+
     private static <T> Recycler<T> build(Type type, int limit, int availableProcessors, Recycler.C<T> c) {
         final Recycler<T> recycler;
         if (limit == 0) {
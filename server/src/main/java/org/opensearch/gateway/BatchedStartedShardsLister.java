@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.gateway.TransportNodesBatchListGatewayStartedShards.NodeGatewayStartedShardsBatch;
+import org.opensearch.gateway.TransportNodesBatchListGatewayStartedShards.NodesGatewayStartedShardsBatch;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShards.NodeGatewayStartedShards;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShards.NodesGatewayStartedShards;
+import org.opensearch.index.shard.ShardId;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link AsyncShardFetch.Lister} that queues the started shard fetches of the primaries of an allocation round and, when
+ * {@link #flush() flushed}, sends a single {@link TransportNodesBatchListGatewayStartedShards} request to each node covering all queued
+ * shards for that node. Nodes that do not support the batched action are fetched from one shard at a time as before.
+ */
+class BatchedStartedShardsLister implements AsyncShardFetch.Lister<NodesGatewayStartedShards, NodeGatewayStartedShards> {
+
+    /**
+     * Lists the started shard state of several shards on a single node.
+     */
+    interface BatchLister {
+        void list(Map<ShardId, String> shards, DiscoveryNode node, ActionListener<NodesGatewayStartedShardsBatch> listener);
+    }
+
+    private final ClusterName clusterName;
+    private final BatchLister batchLister;
+    private final AsyncShardFetch.Lister<NodesGatewayStartedShards, NodeGatewayStartedShards> shardLister;
+
+    private List<PendingFetch> pendingFetches = new ArrayList<>();
+
+    BatchedStartedShardsLister(ClusterName clusterName, BatchLister batchLister,
+                               AsyncShardFetch.Lister<NodesGatewayStartedShards, NodeGatewayStartedShards> shardLister) {
+        this.clusterName = clusterName;
+        this.batchLister = batchLister;
+        this.shardLister = shardLister;
+    }
+
+    @Override
+    public void list(ShardId shardId, String customDataPath, DiscoveryNode[] nodes, ActionListener<NodesGatewayStartedShards> listener) {
+        final PendingFetch fetch = new PendingFetch(shardId, customDataPath, nodes, listener);
+        if (nodes.length == 0) {
+            fetch.complete();
+            return;
+        }
+        synchronized (this) {
+            pendingFetches.add(fetch);
+        }
+    }
+
+    /**
+     * @return the number of shard fetches queued since the last {@link #flush()}
+     */
+    synchronized int pendingFetches() {
+        return pendingFetches.size();
+    }
+
+    /**
+     * Sends the fetches queued since the last flush, grouped by node.
+     */
+    void flush() {
+        final List<PendingFetch> fetches;
+        synchronized (this) {
+            if (pendingFetches.isEmpty()) {
+                return;
+            }
+            fetches = pendingFetches;
+            pendingFetches = new ArrayList<>();
+        }
+
+        final Map<DiscoveryNode, List<PendingFetch>> fetchesByNode = new HashMap<>();
+        for (PendingFetch fetch : fetches) {
+            for (DiscoveryNode node : fetch.nodes) {
+                fetchesByNode.computeIfAbsent(node, n -> new ArrayList<>()).add(fetch);
+            }
+        }
+
+        for (Map.Entry<DiscoveryNode, List<PendingFetch>> entry : fetchesByNode.entrySet()) {
+            final DiscoveryNode node = entry.getKey();
+            final List<PendingFetch> nodeFetches = entry.getValue();
+            if (node.getVersion().before(Version.V_1_1_0)) {
+                for (PendingFetch fetch : nodeFetches) {
+                    shardLister.list(fetch.shardId, fetch.customDataPath, new DiscoveryNode[] { node },
+                        new ActionListener<NodesGatewayStartedShards>() {
+                            @Override
+                            public void onResponse(NodesGatewayStartedShards response) {
+                                if (response.failures().isEmpty() == false) {
+                                    fetch.onNodeFailure(response.failures().get(0));
+                                } else if (response.getNodes().isEmpty() == false) {
+                                    fetch.onNodeResponse(response.getNodes().get(0));
+                                } else {
+                                    fetch.onNodeFailure(new FailedNodeException(node.getId(), "no response from node", null));
+                                }
+                            }
+
+                            @Override
+                            public void onFailure(Exception e) {
+                                fetch.onNodeFailure(new FailedNodeException(node.getId(), "total failure in fetching", e));
+                            }
+                        });
+                }
+                continue;
+            }
+
+            final Map<ShardId, String> shards = new HashMap<>();
+            for (PendingFetch fetch : nodeFetches) {
+                shards.put(fetch.shardId, fetch.customDataPath);
+            }
+            batchLister.list(shards, node, new ActionListener<NodesGatewayStartedShardsBatch>() {
+                @Override
+                public void onResponse(NodesGatewayStartedShardsBatch response) {
+                    if (response.failures().isEmpty() == false) {
+                        for (PendingFetch fetch : nodeFetches) {
+                            fetch.onNodeFailure(response.failures().get(0));
+                        }
+                        return;
+                    }
+                    final NodeGatewayStartedShardsBatch nodeResponse = response.getNodes().isEmpty() ? null : response.getNodes().get(0);
+                    for (PendingFetch fetch : nodeFetches) {
+                        final NodeGatewayStartedShards shardState
+                            = nodeResponse == null ? null : nodeResponse.getShardStates().get(fetch.shardId);
+                        final Exception shardFailure = nodeResponse == null ? null : nodeResponse.getShardFailures().get(fetch.shardId);
+                        if (shardState != null) {
+                            fetch.onNodeResponse(shardState);
+                        } else if (shardFailure != null) {
+                            fetch.onNodeFailure(new FailedNodeException(node.getId(), "Failed node [" + node.getId() + "]", shardFailure));
+                        } else {
+                            fetch.onNodeFailure(new FailedNodeException(node.getId(), "no response for shard " + fetch.shardId, null));
+                        }
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    for (PendingFetch fetch : nodeFetches) {
+                        fetch.onNodeFailure(new FailedNodeException(node.getId(), "total failure in fetching", e));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * A fetch of a single shard from a set of nodes, completed once every node has responded or failed.
+     */
+    private class PendingFetch {
+
+        private final ShardId shardId;
+        private final String customDataPath;
+        private final DiscoveryNode[] nodes;
+        private final ActionListener<NodesGatewayStartedShards> listener;
+        private final List<NodeGatewayStartedShards> responses = new ArrayList<>();
+        private final List<FailedNodeException> failures = new ArrayList<>();
+        private final AtomicInteger remainingNodes;
+
+        PendingFetch(ShardId shardId, String customDataPath, DiscoveryNode[] nodes, ActionListener<NodesGatewayStartedShards> listener) {
+            this.shardId = shardId;
+            this.customDataPath = customDataPath;
+            this.nodes = nodes;
+            this.listener = listener;
+            this.remainingNodes = new AtomicInteger(nodes.length);
+        }
+
+        void onNodeResponse(NodeGatewayStartedShards response) {
+            synchronized (this) {
+                responses.add(response);
+            }
+            countDown();
+        }
+
+        void onNodeFailure(FailedNodeException failure) {
+            synchronized (this) {
+                failures.add(failure);
+            }
+            countDown();
+        }
+
+        private void countDown() {
+            final int remaining = remainingNodes.decrementAndGet();
+            assert remaining >= 0 : "received more responses than nodes for " + shardId;
+            if (remaining == 0) {
+                complete();
+            }
+        }
+
+        void complete() {
+            final NodesGatewayStartedShards response;
+            synchronized (this) {
+                response = new NodesGatewayStartedShards(clusterName, new ArrayList<>(responses), new ArrayList<>(failures));
+            }
+            listener.onResponse(response);
+        }
+    }
+}
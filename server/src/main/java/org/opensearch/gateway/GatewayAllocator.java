@@ -39,6 +39,7 @@ import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.support.nodes.BaseNodeResponse;
 import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
@@ -51,6 +52,9 @@ import org.opensearch.cluster.routing.allocation.RoutingAllocation;
 import org.opensearch.common.Priority;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.set.Sets;
 import org.opensearch.index.shard.ShardId;
@@ -67,9 +71,17 @@ public class GatewayAllocator implements ExistingShardsAllocator {
 
     public static final String ALLOCATOR_NAME = "gateway_allocator";
 
+    /**
+     * Whether the started shard state of the unassigned primaries of an allocation round is fetched with a single request per node
+     * rather than one request per shard and node.
+     */
+    public static final Setting<Boolean> BATCH_FETCH_STARTED_SHARDS_SETTING =
+        Setting.boolSetting("gateway.batch_fetch_started_shards", true, Property.NodeScope);
+
     private static final Logger logger = LogManager.getLogger(GatewayAllocator.class);
 
     private final RerouteService rerouteService;
+    private final BatchedStartedShardsLister batchedStartedLister;
 
     private final PrimaryShardAllocator primaryShardAllocator;
     private final ReplicaShardAllocator replicaShardAllocator;
@@ -81,11 +93,19 @@ public class GatewayAllocator implements ExistingShardsAllocator {
     private Set<String> lastSeenEphemeralIds = Collections.emptySet();
 
     @Inject
-    public GatewayAllocator(RerouteService rerouteService,
+    public GatewayAllocator(Settings settings, RerouteService rerouteService,
                             TransportNodesListGatewayStartedShards startedAction,
+                            TransportNodesBatchListGatewayStartedShards batchStartedAction,
                             TransportNodesListShardStoreMetadata storeAction) {
         this.rerouteService = rerouteService;
-        this.primaryShardAllocator = new InternalPrimaryShardAllocator(startedAction);
+        if (BATCH_FETCH_STARTED_SHARDS_SETTING.get(settings)) {
+            this.batchedStartedLister
+                = new BatchedStartedShardsLister(ClusterName.CLUSTER_NAME_SETTING.get(settings), batchStartedAction, startedAction);
+            this.primaryShardAllocator = new InternalPrimaryShardAllocator(batchedStartedLister);
+        } else {
+            this.batchedStartedLister = null;
+            this.primaryShardAllocator = new InternalPrimaryShardAllocator(startedAction);
+        }
         this.replicaShardAllocator = new InternalReplicaShardAllocator(storeAction);
     }
 
@@ -100,6 +120,7 @@ public class GatewayAllocator implements ExistingShardsAllocator {
     // for tests
     protected GatewayAllocator() {
         this.rerouteService = null;
+        this.batchedStartedLister = null;
         this.primaryShardAllocator = null;
         this.replicaShardAllocator = null;
     }
@@ -142,6 +163,7 @@ public class GatewayAllocator implements ExistingShardsAllocator {
     @Override
     public void afterPrimariesBeforeReplicas(RoutingAllocation allocation) {
         assert replicaShardAllocator != null;
+        flushStartedShardFetches();
         if (allocation.routingNodes().hasInactiveShards()) {
             // cancel existing recoveries if we have a better match
             replicaShardAllocator.processExistingRecoveries(allocation);
@@ -176,13 +198,23 @@ public class GatewayAllocator implements ExistingShardsAllocator {
         assert routingAllocation.debugDecision();
         if (unassignedShard.primary()) {
             assert primaryShardAllocator != null;
-            return primaryShardAllocator.makeAllocationDecision(unassignedShard, routingAllocation, logger);
+            final AllocateUnassignedDecision decision
+                = primaryShardAllocator.makeAllocationDecision(unassignedShard, routingAllocation, logger);
+            // explaining happens outside of an allocation round, so send any fetch it started straight away
+            flushStartedShardFetches();
+            return decision;
         } else {
             assert replicaShardAllocator != null;
             return replicaShardAllocator.makeAllocationDecision(unassignedShard, routingAllocation, logger);
         }
     }
 
+    private void flushStartedShardFetches() {
+        if (batchedStartedLister != null) {
+            batchedStartedLister.flush();
+        }
+    }
+
     /**
      * Clear the fetched data for the primary to ensure we do not cancel recoveries based on excessively stale data.
      */
@@ -239,9 +271,11 @@ public class GatewayAllocator implements ExistingShardsAllocator {
 
     class InternalPrimaryShardAllocator extends PrimaryShardAllocator {
 
-        private final TransportNodesListGatewayStartedShards startedAction;
+        private final AsyncShardFetch.Lister<TransportNodesListGatewayStartedShards.NodesGatewayStartedShards,
+            TransportNodesListGatewayStartedShards.NodeGatewayStartedShards> startedAction;
 
-        InternalPrimaryShardAllocator(TransportNodesListGatewayStartedShards startedAction) {
+        InternalPrimaryShardAllocator(AsyncShardFetch.Lister<TransportNodesListGatewayStartedShards.NodesGatewayStartedShards,
+            TransportNodesListGatewayStartedShards.NodeGatewayStartedShards> startedAction) {
             this.startedAction = startedAction;
         }
 
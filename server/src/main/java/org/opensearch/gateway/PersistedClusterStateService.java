@@ -546,6 +546,10 @@ public class PersistedClusterStateService {
         // next one.
         private int documentBufferUsed;
 
+        // Stats of the last successfully committed write, only exposed for tests.
+        @Nullable
+        private WriterStats lastWriterStats;
+
         private Writer(List<MetadataIndexWriter> metadataIndexWriters, String nodeId, BigArrays bigArrays,
                        LongSupplier relativeTimeMillisSupplier, Supplier<TimeValue> slowWriteLoggingThresholdSupplier) {
             this.metadataIndexWriters = metadataIndexWriters;
@@ -565,6 +569,14 @@ public class PersistedClusterStateService {
             return closed.get() == false;
         }
 
+        /**
+         * Returns the stats of the last committed full or incremental write, or {@code null} if nothing has been written yet.
+         */
+        @Nullable
+        WriterStats getLastWriterStats() {
+            return lastWriterStats;
+        }
+
         private void closeIfAnyIndexWriterHasTragedyOrIsClosed() {
             if (metadataIndexWriters.stream().map(writer -> writer.indexWriter)
                 .anyMatch(iw -> iw.getTragicException() != null || iw.isOpen() == false)) {
@@ -586,16 +598,17 @@ public class PersistedClusterStateService {
                 final WriterStats stats = overwriteMetadata(clusterState.metadata());
                 commit(currentTerm, clusterState.version());
                 fullStateWritten = true;
+                lastWriterStats = stats;
                 final long durationMillis = relativeTimeMillisSupplier.getAsLong() - startTimeMillis;
                 final TimeValue finalSlowWriteLoggingThreshold = slowWriteLoggingThresholdSupplier.get();
                 if (durationMillis >= finalSlowWriteLoggingThreshold.getMillis()) {
                     logger.warn("writing cluster state took [{}ms] which is above the warn threshold of [{}]; " +
-                            "wrote full state with [{}] indices",
-                        durationMillis, finalSlowWriteLoggingThreshold, stats.numIndicesUpdated);
+                            "wrote full state with [{}] indices in [{}] bytes per data path",
+                        durationMillis, finalSlowWriteLoggingThreshold, stats.numIndicesUpdated, stats.bytesWritten);
                 } else {
                     logger.debug("writing cluster state took [{}ms]; " +
-                            "wrote full state with [{}] indices",
-                        durationMillis, stats.numIndicesUpdated);
+                            "wrote full state with [{}] indices in [{}] bytes per data path",
+                        durationMillis, stats.numIndicesUpdated, stats.bytesWritten);
                 }
             } finally {
                 closeIfAnyIndexWriterHasTragedyOrIsClosed();
@@ -614,17 +627,21 @@ public class PersistedClusterStateService {
                 final long startTimeMillis = relativeTimeMillisSupplier.getAsLong();
                 final WriterStats stats = updateMetadata(previousClusterState.metadata(), clusterState.metadata());
                 commit(currentTerm, clusterState.version());
+                lastWriterStats = stats;
                 final long durationMillis = relativeTimeMillisSupplier.getAsLong() - startTimeMillis;
                 final TimeValue finalSlowWriteLoggingThreshold = slowWriteLoggingThresholdSupplier.get();
                 if (durationMillis >= finalSlowWriteLoggingThreshold.getMillis()) {
                     logger.warn("writing cluster state took [{}ms] which is above the warn threshold of [{}]; " +
-                            "wrote global metadata [{}] and metadata for [{}] indices and skipped [{}] unchanged indices",
+                            "wrote global metadata [{}] and metadata for [{}] indices and skipped [{}] unchanged indices " +
+                            "in [{}] bytes per data path",
                         durationMillis, finalSlowWriteLoggingThreshold, stats.globalMetaUpdated, stats.numIndicesUpdated,
-                        stats.numIndicesUnchanged);
+                        stats.numIndicesUnchanged, stats.bytesWritten);
                 } else {
                     logger.debug("writing cluster state took [{}ms]; " +
-                            "wrote global metadata [{}] and metadata for [{}] indices and skipped [{}] unchanged indices",
-                        durationMillis, stats.globalMetaUpdated, stats.numIndicesUpdated, stats.numIndicesUnchanged);
+                            "wrote global metadata [{}] and metadata for [{}] indices and skipped [{}] unchanged indices " +
+                            "in [{}] bytes per data path",
+                        durationMillis, stats.globalMetaUpdated, stats.numIndicesUpdated, stats.numIndicesUnchanged,
+                        stats.bytesWritten);
                 }
             } finally {
                 closeIfAnyIndexWriterHasTragedyOrIsClosed();
@@ -701,7 +718,7 @@ public class PersistedClusterStateService {
                     metadataIndexWriter.flush();
                 }
 
-                return new WriterStats(updateGlobalMeta, numIndicesUpdated, numIndicesUnchanged);
+                return new WriterStats(updateGlobalMeta, numIndicesUpdated, numIndicesUnchanged, documentBuffer.getTotalBytes());
             }
         }
 
@@ -742,7 +759,7 @@ public class PersistedClusterStateService {
                     metadataIndexWriter.flush();
                 }
 
-                return new WriterStats(true, metadata.indices().size(), 0);
+                return new WriterStats(true, metadata.indices().size(), 0, documentBuffer.getTotalBytes());
             }
         }
 
@@ -808,11 +825,14 @@ public class PersistedClusterStateService {
             final boolean globalMetaUpdated;
             final long numIndicesUpdated;
             final long numIndicesUnchanged;
+            // size of the serialized documents, which are written to each data path
+            final long bytesWritten;
 
-            WriterStats(boolean globalMetaUpdated, long numIndicesUpdated, long numIndicesUnchanged) {
+            WriterStats(boolean globalMetaUpdated, long numIndicesUpdated, long numIndicesUnchanged, long bytesWritten) {
                 this.globalMetaUpdated = globalMetaUpdated;
                 this.numIndicesUpdated = numIndicesUpdated;
                 this.numIndicesUnchanged = numIndicesUnchanged;
+                this.bytesWritten = bytesWritten;
             }
         }
 
@@ -856,6 +876,7 @@ public class PersistedClusterStateService {
         private final Releasable releasable;
         private byte[] buffer;
         private int maxUsed;
+        private long totalBytes;
 
         DocumentBuffer(int size, BigArrays bigArrays) {
             if (size <= PageCacheRecycler.PAGE_SIZE_IN_BYTES) {
@@ -888,6 +909,7 @@ public class PersistedClusterStateService {
                 public BytesRef toBytesRef() {
                     final BytesRef bytesRef = super.toBytesRef();
                     maxUsed = Math.max(maxUsed, bytesRef.length);
+                    totalBytes += bytesRef.length;
                     if (buffer != bytesRef.bytes) {
                         assert bytesRef.length > buffer.length;
                         logger.trace("growing document buffer from [{}] to [{}]", buffer.length, maxUsed);
@@ -903,6 +925,13 @@ public class PersistedClusterStateService {
             return maxUsed;
         }
 
+        /**
+         * @return the total number of bytes of all documents serialized through this buffer
+         */
+        long getTotalBytes() {
+            return totalBytes;
+        }
+
         @Override
         public void close() {
             Releasables.close(releasable);
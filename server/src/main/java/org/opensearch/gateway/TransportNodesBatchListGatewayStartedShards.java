@@ -0,0 +1,267 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionType;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.BaseNodeRequest;
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShards.NodeGatewayStartedShards;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Batched variant of {@link TransportNodesListGatewayStartedShards}: lists the started shard state of many shards on a node in a single
+ * request, so that the {@link GatewayAllocator} sends one request per node per allocation round instead of one request per shard and node
+ * after a full cluster restart.
+ */
+public class TransportNodesBatchListGatewayStartedShards extends
+    TransportNodesAction<TransportNodesBatchListGatewayStartedShards.Request,
+        TransportNodesBatchListGatewayStartedShards.NodesGatewayStartedShardsBatch,
+        TransportNodesBatchListGatewayStartedShards.NodeRequest,
+        TransportNodesBatchListGatewayStartedShards.NodeGatewayStartedShardsBatch>
+    implements BatchedStartedShardsLister.BatchLister {
+
+    public static final String ACTION_NAME = "internal:gateway/local/started_shards_batch";
+    public static final ActionType<NodesGatewayStartedShardsBatch> TYPE
+        = new ActionType<>(ACTION_NAME, NodesGatewayStartedShardsBatch::new);
+
+    private final TransportNodesListGatewayStartedShards startedAction;
+
+    @Inject
+    public TransportNodesBatchListGatewayStartedShards(ThreadPool threadPool, ClusterService clusterService,
+                                                       TransportService transportService, ActionFilters actionFilters,
+                                                       TransportNodesListGatewayStartedShards startedAction) {
+        super(ACTION_NAME, threadPool, clusterService, transportService, actionFilters,
+            Request::new, NodeRequest::new, ThreadPool.Names.FETCH_SHARD_STARTED, NodeGatewayStartedShardsBatch.class);
+        this.startedAction = startedAction;
+    }
+
+    @Override
+    public void list(Map<ShardId, String> shards, DiscoveryNode node, ActionListener<NodesGatewayStartedShardsBatch> listener) {
+        execute(new Request(shards, node), listener);
+    }
+
+    @Override
+    protected NodeRequest newNodeRequest(Request request) {
+        return new NodeRequest(request);
+    }
+
+    @Override
+    protected NodeGatewayStartedShardsBatch newNodeResponse(StreamInput in) throws IOException {
+        return new NodeGatewayStartedShardsBatch(in);
+    }
+
+    @Override
+    protected NodesGatewayStartedShardsBatch newResponse(Request request, List<NodeGatewayStartedShardsBatch> responses,
+                                                         List<FailedNodeException> failures) {
+        return new NodesGatewayStartedShardsBatch(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected NodeGatewayStartedShardsBatch nodeOperation(NodeRequest request) {
+        final Map<ShardId, String> shards = request.getShards();
+        final Map<ShardId, NodeGatewayStartedShards> shardStates = ConcurrentCollections.newConcurrentMap();
+        final Map<ShardId, Exception> shardFailures = ConcurrentCollections.newConcurrentMap();
+        final Queue<Map.Entry<ShardId, String>> pendingShards = new ConcurrentLinkedQueue<>(shards.entrySet());
+        final CountDownLatch listedShards = new CountDownLatch(shards.size());
+        final Runnable lister = () -> {
+            Map.Entry<ShardId, String> shard;
+            while ((shard = pendingShards.poll()) != null) {
+                try {
+                    shardStates.put(shard.getKey(), startedAction.nodeOperation(
+                        new TransportNodesListGatewayStartedShards.NodeRequest(shard.getKey(), shard.getValue())));
+                } catch (Exception e) {
+                    // a failure to load the state of one shard must not fail the fetch of the other shards in the batch
+                    shardFailures.put(shard.getKey(), e);
+                } finally {
+                    listedShards.countDown();
+                }
+            }
+        };
+        // the shards are listed by this thread and by as many other threads of the pool as are available, which pull them from the
+        // same queue. This thread only waits for the shards that another thread has already taken, so it never waits for a task that
+        // is still queued behind other batches on the same pool.
+        final int helpers = Math.min(shards.size(), threadPool.info(ThreadPool.Names.FETCH_SHARD_STARTED).getMax()) - 1;
+        for (int i = 0; i < helpers; i++) {
+            try {
+                threadPool.executor(ThreadPool.Names.FETCH_SHARD_STARTED).execute(lister);
+            } catch (OpenSearchRejectedExecutionException e) {
+                // the remaining shards are listed by this thread
+                break;
+            }
+        }
+        lister.run();
+        try {
+            listedShards.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while listing the started shards of " + shards.keySet(), e);
+        }
+        return new NodeGatewayStartedShardsBatch(clusterService.localNode(), new HashMap<>(shardStates), new HashMap<>(shardFailures));
+    }
+
+    public static class Request extends BaseNodesRequest<Request> {
+
+        private final Map<ShardId, String> shards;
+
+        public Request(StreamInput in) throws IOException {
+            super(in);
+            shards = in.readMap(ShardId::new, StreamInput::readString);
+        }
+
+        public Request(Map<ShardId, String> shards, DiscoveryNode... nodes) {
+            super(nodes);
+            this.shards = Objects.requireNonNull(shards);
+        }
+
+        /**
+         * Returns the shards to list, mapped to the custom data path that is used to look up information for each of them.
+         */
+        public Map<ShardId, String> getShards() {
+            return shards;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            out.writeMap(shards, (o, shardId) -> shardId.writeTo(o), StreamOutput::writeString);
+        }
+    }
+
+    public static class NodesGatewayStartedShardsBatch extends BaseNodesResponse<NodeGatewayStartedShardsBatch> {
+
+        public NodesGatewayStartedShardsBatch(StreamInput in) throws IOException {
+            super(in);
+        }
+
+        public NodesGatewayStartedShardsBatch(ClusterName clusterName, List<NodeGatewayStartedShardsBatch> nodes,
+                                              List<FailedNodeException> failures) {
+            super(clusterName, nodes, failures);
+        }
+
+        @Override
+        protected List<NodeGatewayStartedShardsBatch> readNodesFrom(StreamInput in) throws IOException {
+            return in.readList(NodeGatewayStartedShardsBatch::new);
+        }
+
+        @Override
+        protected void writeNodesTo(StreamOutput out, List<NodeGatewayStartedShardsBatch> nodes) throws IOException {
+            out.writeList(nodes);
+        }
+    }
+
+    public static class NodeRequest extends BaseNodeRequest {
+
+        private final Map<ShardId, String> shards;
+
+        public NodeRequest(StreamInput in) throws IOException {
+            super(in);
+            shards = in.readMap(ShardId::new, StreamInput::readString);
+        }
+
+        public NodeRequest(Request request) {
+            this.shards = Objects.requireNonNull(request.getShards());
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            out.writeMap(shards, (o, shardId) -> shardId.writeTo(o), StreamOutput::writeString);
+        }
+
+        public Map<ShardId, String> getShards() {
+            return shards;
+        }
+    }
+
+    public static class NodeGatewayStartedShardsBatch extends BaseNodeResponse {
+
+        private final Map<ShardId, NodeGatewayStartedShards> shardStates;
+        private final Map<ShardId, Exception> shardFailures;
+
+        public NodeGatewayStartedShardsBatch(StreamInput in) throws IOException {
+            super(in);
+            // the per-shard states are written without their node, which is the same for all of them
+            final int size = in.readVInt();
+            shardStates = new HashMap<>(size);
+            for (int i = 0; i < size; i++) {
+                final ShardId shardId = new ShardId(in);
+                final String allocationId = in.readOptionalString();
+                final boolean primary = in.readBoolean();
+                final Exception storeException = in.readBoolean() ? in.readException() : null;
+                shardStates.put(shardId, new NodeGatewayStartedShards(getNode(), allocationId, primary, storeException));
+            }
+            shardFailures = in.readMap(ShardId::new, StreamInput::readException);
+        }
+
+        public NodeGatewayStartedShardsBatch(DiscoveryNode node, Map<ShardId, NodeGatewayStartedShards> shardStates,
+                                             Map<ShardId, Exception> shardFailures) {
+            super(node);
+            this.shardStates = Objects.requireNonNull(shardStates);
+            this.shardFailures = Objects.requireNonNull(shardFailures);
+        }
+
+        /**
+         * Returns the started shard state of each shard that was listed successfully.
+         */
+        public Map<ShardId, NodeGatewayStartedShards> getShardStates() {
+            return shardStates;
+        }
+
+        /**
+         * Returns the failure for each shard whose state could not be listed.
+         */
+        public Map<ShardId, Exception> getShardFailures() {
+            return shardFailures;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            out.writeVInt(shardStates.size());
+            for (Map.Entry<ShardId, NodeGatewayStartedShards> entry : shardStates.entrySet()) {
+                entry.getKey().writeTo(out);
+                final NodeGatewayStartedShards shardState = entry.getValue();
+                out.writeOptionalString(shardState.allocationId());
+                out.writeBoolean(shardState.primary());
+                if (shardState.storeException() != null) {
+                    out.writeBoolean(true);
+                    out.writeException(shardState.storeException());
+                } else {
+                    out.writeBoolean(false);
+                }
+            }
+            out.writeMap(shardFailures, (o, shardId) -> shardId.writeTo(o), StreamOutput::writeException);
+        }
+    }
+}
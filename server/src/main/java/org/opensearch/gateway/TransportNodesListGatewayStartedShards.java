@@ -273,6 +273,11 @@ public class TransportNodesListGatewayStartedShards extends
             this.customDataPath = Objects.requireNonNull(request.getCustomDataPath());
         }
 
+        NodeRequest(ShardId shardId, String customDataPath) {
+            this.shardId = Objects.requireNonNull(shardId);
+            this.customDataPath = Objects.requireNonNull(customDataPath);
+        }
+
         @Override
         public void writeTo(StreamOutput out) throws IOException {
             super.writeTo(out);
@@ -63,6 +63,7 @@ import org.opensearch.index.cache.query.QueryCache;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.EngineFactory;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.merge.NodeMergeCoordinator;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexingOperationListener;
 import org.opensearch.index.shard.SearchOperationListener;
@@ -129,6 +130,11 @@ public final class IndexModule {
             Setting.listSetting("index.store.preload", Collections.emptyList(), Function.identity(),
                     Property.IndexScope, Property.NodeScope);
 
+    /** Which extensions the {@code hybridfs} store type memory-maps. Files with other extensions are read with positional reads. */
+    public static final Setting<List<String>> INDEX_STORE_HYBRID_MMAP_EXTENSIONS =
+            Setting.listSetting("index.store.hybrid.mmap.extensions", FsDirectoryFactory.DEFAULT_HYBRID_MMAP_EXTENSIONS,
+                    Function.identity(), Property.IndexScope, Property.NodeScope);
+
     public static final String SIMILARITY_SETTINGS_PREFIX = "index.similarity";
 
     // whether to use the query cache
@@ -426,7 +432,8 @@ public final class IndexModule {
                                         IndicesFieldDataCache indicesFieldDataCache,
                                         NamedWriteableRegistry namedWriteableRegistry,
                                         BooleanSupplier idFieldDataEnabled,
-                                        ValuesSourceRegistry valuesSourceRegistry) throws IOException {
+                                        ValuesSourceRegistry valuesSourceRegistry,
+                                        NodeMergeCoordinator nodeMergeCoordinator) throws IOException {
         final IndexEventListener eventListener = freeze();
         Function<IndexService, CheckedFunction<DirectoryReader, DirectoryReader, IOException>> readerWrapperFactory =
             indexReaderWrapper.get() == null ? (shard) -> null : indexReaderWrapper.get();
@@ -455,7 +462,7 @@ public final class IndexModule {
                 engineFactory, circuitBreakerService, bigArrays, threadPool, scriptService, clusterService, client, queryCache,
                 directoryFactory, eventListener, readerWrapperFactory, mapperRegistry, indicesFieldDataCache, searchOperationListeners,
                 indexOperationListeners, namedWriteableRegistry, idFieldDataEnabled, allowExpensiveQueries, expressionResolver,
-                valuesSourceRegistry, recoveryStateFactory);
+                valuesSourceRegistry, recoveryStateFactory, nodeMergeCoordinator);
             success = true;
             return indexService;
         } finally {
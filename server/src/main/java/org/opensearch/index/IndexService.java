@@ -74,6 +74,7 @@ import org.opensearch.index.engine.EngineFactory;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
 import org.opensearch.index.fielddata.IndexFieldDataService;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.merge.NodeMergeCoordinator;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.SearchIndexNameMatcher;
 import org.opensearch.index.seqno.RetentionLeaseSyncer;
@@ -155,12 +156,16 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
     private final String INDEX_TRANSLOG_RETENTION_CHECK_INTERVAL_SETTING = "index.translog.retention.check_interval";
 
     private final AsyncTrimTranslogTask trimTranslogTask;
+    private final AsyncReleaseIdleCachesTask releaseIdleCachesTask;
+    // the relative time at which the caches of the index were last released, only accessed by that task
+    private long lastCacheRelease = Long.MIN_VALUE;
     private final ThreadPool threadPool;
     private final BigArrays bigArrays;
     private final ScriptService scriptService;
     private final ClusterService clusterService;
     private final Client client;
     private final CircuitBreakerService circuitBreakerService;
+    private final NodeMergeCoordinator nodeMergeCoordinator;
     private final IndexNameExpressionResolver expressionResolver;
     private final Supplier<Sort> indexSortSupplier;
     private final ValuesSourceRegistry valuesSourceRegistry;
@@ -192,7 +197,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
             BooleanSupplier allowExpensiveQueries,
             IndexNameExpressionResolver expressionResolver,
             ValuesSourceRegistry valuesSourceRegistry,
-            IndexStorePlugin.RecoveryStateFactory recoveryStateFactory) {
+            IndexStorePlugin.RecoveryStateFactory recoveryStateFactory,
+            NodeMergeCoordinator nodeMergeCoordinator) {
         super(indexSettings);
         this.allowExpensiveQueries = allowExpensiveQueries;
         this.indexSettings = indexSettings;
@@ -200,6 +206,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         this.similarityService = similarityService;
         this.namedWriteableRegistry = namedWriteableRegistry;
         this.circuitBreakerService = circuitBreakerService;
+        this.nodeMergeCoordinator = nodeMergeCoordinator;
         this.expressionResolver = expressionResolver;
         this.valuesSourceRegistry =  valuesSourceRegistry;
         if (needsMapperService(indexSettings, indexCreationContext)) {
@@ -252,6 +259,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         this.trimTranslogTask = new AsyncTrimTranslogTask(this);
         this.globalCheckpointTask = new AsyncGlobalCheckpointTask(this);
         this.retentionLeaseSyncTask = new AsyncRetentionLeaseSyncTask(this);
+        this.releaseIdleCachesTask = new AsyncReleaseIdleCachesTask(this);
         updateFsyncTaskIfNecessary();
     }
 
@@ -352,7 +360,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                         fsyncTask,
                         trimTranslogTask,
                         globalCheckpointTask,
-                        retentionLeaseSyncTask);
+                        retentionLeaseSyncTask,
+                        releaseIdleCachesTask);
             }
         }
     }
@@ -493,7 +502,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                     indexingOperationListeners,
                     () -> globalCheckpointSyncer.accept(shardId),
                     retentionLeaseSyncer,
-                    circuitBreakerService);
+                    circuitBreakerService,
+                    nodeMergeCoordinator);
             eventListener.indexShardStateChanged(indexShard, null, indexShard.state(), "shard created");
             eventListener.afterIndexShardCreated(indexShard);
             shards = newMapBuilder(shards).put(shardId.id(), indexShard).immutableMap();
@@ -794,6 +804,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                 rescheduleRefreshTasks();
             }
             updateFsyncTaskIfNecessary();
+            releaseIdleCachesTask.updateIfNeeded();
         }
 
         metadataListeners.forEach(c -> c.accept(newIndexMetadata));
@@ -890,6 +901,32 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         }
     }
 
+    /**
+     * Releases the caches held for this index if none of its shards has been searched for {@link IndexSettings#getIdleReleaseCachesAfter()}
+     * and they were not already released since the last search.
+     */
+    void maybeReleaseIdleCaches() {
+        final long releaseAfterMillis = indexSettings.getIdleReleaseCachesAfter().millis();
+        if (releaseAfterMillis <= 0 || indexCache == null || shards.isEmpty()) {
+            return;
+        }
+        final long now = threadPool.relativeTimeInMillis();
+        boolean searchedSinceLastCacheRelease = false;
+        for (IndexShard shard : this.shards.values()) {
+            if (shard.isSearchedSince(now - releaseAfterMillis)) {
+                return;
+            }
+            searchedSinceLastCacheRelease |= shard.isSearchedSince(lastCacheRelease);
+        }
+        if (searchedSinceLastCacheRelease == false) {
+            return;
+        }
+        logger.debug("releasing caches, not searched for [{}]", indexSettings.getIdleReleaseCachesAfter());
+        lastCacheRelease = now;
+        indexCache.clear("idle");
+        indexFieldData.clear();
+    }
+
     private void maybeSyncGlobalCheckpoints() {
         sync(is -> is.maybeSyncGlobalCheckpoint("background"), "global checkpoint");
     }
@@ -1035,6 +1072,41 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         }
     }
 
+    /**
+     * Releases the caches of this index once it has not been searched for a while, see
+     * {@link IndexSettings#INDEX_IDLE_RELEASE_CACHES_AFTER}.
+     */
+    final class AsyncReleaseIdleCachesTask extends BaseAsyncTask {
+
+        AsyncReleaseIdleCachesTask(IndexService indexService) {
+            super(indexService, indexService.getIndexSettings().getIdleReleaseCachesAfter());
+        }
+
+        @Override
+        protected void runInternal() {
+            indexService.maybeReleaseIdleCaches();
+        }
+
+        @Override
+        protected String getThreadPool() {
+            return ThreadPool.Names.GENERIC;
+        }
+
+        void updateIfNeeded() {
+            final TimeValue newInterval = indexService.getIndexSettings().getIdleReleaseCachesAfter();
+            if (newInterval.equals(getInterval()) == false) {
+                setInterval(newInterval);
+                // the task is not scheduled at all while disabled, so setting the interval alone would not start it
+                rescheduleIfNecessary();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "release_idle_caches";
+        }
+    }
+
     // this setting is intentionally not registered, it is only used in tests
     public static final Setting<TimeValue> GLOBAL_CHECKPOINT_SYNC_INTERVAL_SETTING =
             Setting.timeSetting(
@@ -1114,6 +1186,10 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         return trimTranslogTask;
     }
 
+    AsyncReleaseIdleCachesTask getReleaseIdleCachesTask() { // for tests
+        return releaseIdleCachesTask;
+    }
+
     /**
      * Clears the caches for the given shard id if the shard is still allocated on this node
      */
@@ -87,6 +87,14 @@ public final class IndexSettings {
     public static final Setting<TimeValue> INDEX_SEARCH_IDLE_AFTER =
         Setting.timeSetting("index.search.idle.after", TimeValue.timeValueSeconds(30),
             TimeValue.timeValueMinutes(0), Property.IndexScope, Property.Dynamic);
+    /**
+     * How long none of the shards of an index on a node may be searched before the node releases the caches it holds for the index,
+     * i.e. field data (including global ordinals), bitset filters and cached queries. They are rebuilt by the next search that needs
+     * them. Defaults to {@code -1}, which never releases them.
+     */
+    public static final Setting<TimeValue> INDEX_IDLE_RELEASE_CACHES_AFTER =
+        Setting.timeSetting("index.idle.release_caches_after", TimeValue.MINUS_ONE, TimeValue.MINUS_ONE,
+            Property.IndexScope, Property.Dynamic);
     public static final Setting<Translog.Durability> INDEX_TRANSLOG_DURABILITY_SETTING =
         new Setting<>("index.translog.durability", Translog.Durability.REQUEST.name(),
             (value) -> Translog.Durability.valueOf(value.toUpperCase(Locale.ROOT)), Property.Dynamic, Property.IndexScope);
@@ -205,6 +213,14 @@ public final class IndexSettings {
     public static final Setting<TimeValue> INDEX_REFRESH_INTERVAL_SETTING =
         Setting.timeSetting("index.refresh_interval", DEFAULT_REFRESH_INTERVAL, new TimeValue(-1, TimeUnit.MILLISECONDS),
             Property.Dynamic, Property.IndexScope);
+    /**
+     * The longest a shard may go without a scheduled refresh while it is not searched, or while merges fall behind. Scheduled refreshes
+     * are skipped within this interval until the shard is searched again, which avoids producing tiny segments on shards that are
+     * indexed into but rarely searched. Defaults to {@code -1}, which refreshes on every {@code index.refresh_interval}.
+     */
+    public static final Setting<TimeValue> INDEX_REFRESH_MAX_INTERVAL_SETTING =
+        Setting.timeSetting("index.refresh.max_interval", TimeValue.MINUS_ONE, TimeValue.MINUS_ONE,
+            Property.Dynamic, Property.IndexScope);
     public static final Setting<ByteSizeValue> INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING =
         Setting.byteSizeSetting("index.translog.flush_threshold_size", new ByteSizeValue(512, ByteSizeUnit.MB),
             /*
@@ -417,6 +433,8 @@ public final class IndexSettings {
     private volatile int maxNgramDiff;
     private volatile int maxShingleDiff;
     private volatile TimeValue searchIdleAfter;
+    private volatile TimeValue idleReleaseCachesAfter;
+    private volatile TimeValue refreshMaxInterval;
     private volatile int maxAnalyzedOffset;
     private volatile int maxTermsCount;
     private volatile String defaultPipeline;
@@ -545,6 +563,8 @@ public final class IndexSettings {
         this.mergePolicyConfig = new MergePolicyConfig(logger, this);
         this.indexSortConfig = new IndexSortConfig(this);
         searchIdleAfter = scopedSettings.get(INDEX_SEARCH_IDLE_AFTER);
+        idleReleaseCachesAfter = scopedSettings.get(INDEX_IDLE_RELEASE_CACHES_AFTER);
+        refreshMaxInterval = scopedSettings.get(INDEX_REFRESH_MAX_INTERVAL_SETTING);
         defaultPipeline = scopedSettings.get(DEFAULT_PIPELINE);
         setTranslogRetentionAge(scopedSettings.get(INDEX_TRANSLOG_RETENTION_AGE_SETTING));
         setTranslogRetentionSize(scopedSettings.get(INDEX_TRANSLOG_RETENTION_SIZE_SETTING));
@@ -600,6 +620,8 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MAX_SLICES_PER_SCROLL, this::setMaxSlicesPerScroll);
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_FIELD_SETTING, this::setDefaultFields);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SEARCH_IDLE_AFTER, this::setSearchIdleAfter);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_IDLE_RELEASE_CACHES_AFTER, this::setIdleReleaseCachesAfter);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_MAX_INTERVAL_SETTING, this::setRefreshMaxInterval);
         scopedSettings.addSettingsUpdateConsumer(MAX_REGEX_LENGTH_SETTING, this::setMaxRegexLength);
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_PIPELINE, this::setDefaultPipeline);
         scopedSettings.addSettingsUpdateConsumer(FINAL_PIPELINE, this::setRequiredPipeline);
@@ -615,6 +637,10 @@ public final class IndexSettings {
 
     private void setSearchIdleAfter(TimeValue searchIdleAfter) { this.searchIdleAfter = searchIdleAfter; }
 
+    private void setIdleReleaseCachesAfter(TimeValue idleReleaseCachesAfter) { this.idleReleaseCachesAfter = idleReleaseCachesAfter; }
+
+    private void setRefreshMaxInterval(TimeValue refreshMaxInterval) { this.refreshMaxInterval = refreshMaxInterval; }
+
     private void setTranslogFlushThresholdSize(ByteSizeValue byteSizeValue) {
         this.flushThresholdSize = byteSizeValue;
     }
@@ -1055,6 +1081,18 @@ public final class IndexSettings {
      */
     public TimeValue getSearchIdleAfter() { return searchIdleAfter; }
 
+    /**
+     * Returns the time after which the caches of an index that is not searched are released, or a non-positive value if they are never
+     * released
+     */
+    public TimeValue getIdleReleaseCachesAfter() { return idleReleaseCachesAfter; }
+
+    /**
+     * Returns the longest time scheduled refreshes may be skipped for while a shard is not searched, or a negative value if they are
+     * never skipped for that reason
+     */
+    public TimeValue getRefreshMaxInterval() { return refreshMaxInterval; }
+
     public String getDefaultPipeline() {
         return defaultPipeline;
     }
@@ -35,8 +35,21 @@ package org.opensearch.index;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.IndexFieldDataService;
 import org.opensearch.index.mapper.MappedFieldType;
@@ -45,19 +58,34 @@ import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 public final class IndexWarmer {
 
     private static final Logger logger = LogManager.getLogger(IndexWarmer.class);
 
+    /**
+     * The fields, or field name patterns, whose doc values are read into the file-system cache when new segments are opened, for instance
+     * the ones that are sorted on. This helps avoid latency spikes on the first queries after a merge. Only makes sense with a store
+     * type that memory-maps doc values. Fields that are added to the setting are warmed on the existing segments by the next refresh
+     * that opens a new reader.
+     */
+    public static final Setting<List<String>> INDEX_WARMER_DOC_VALUES_FIELDS_SETTING =
+        Setting.listSetting("index.warmer.doc_values.fields", Collections.emptyList(), Function.identity(),
+            Property.IndexScope, Property.Dynamic);
+
     private final List<Listener> listeners;
 
     IndexWarmer(ThreadPool threadPool, IndexFieldDataService indexFieldDataService,
@@ -65,6 +93,7 @@ public final class IndexWarmer {
         ArrayList<Listener> list = new ArrayList<>();
         final Executor executor = threadPool.executor(ThreadPool.Names.WARMER);
         list.add(new FieldDataWarmer(executor, indexFieldDataService));
+        list.add(new DocValuesWarmer(executor));
 
         Collections.addAll(list, listeners);
         this.listeners = Collections.unmodifiableList(list);
@@ -174,4 +203,127 @@ public final class IndexWarmer {
         }
     }
 
+    private static class DocValuesWarmer implements IndexWarmer.Listener {
+
+        private final Executor executor;
+        // the fields that were warmed already per core cache key of the segments, so that a refresh only warms the new segments and the
+        // fields that were added to the setting, or to the mapping, since the existing segments were warmed
+        private final ConcurrentMap<IndexReader.CacheKey, Set<String>> warmedFields = ConcurrentCollections.newConcurrentMap();
+
+        DocValuesWarmer(Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public TerminationHandle warmReader(final IndexShard indexShard, final OpenSearchDirectoryReader reader) {
+            final List<String> patterns = indexShard.indexSettings().getValue(INDEX_WARMER_DOC_VALUES_FIELDS_SETTING);
+            if (patterns.isEmpty()) {
+                return TerminationHandle.NO_WAIT;
+            }
+            final Set<String> fields = new HashSet<>();
+            for (String pattern : patterns) {
+                fields.addAll(indexShard.mapperService().simpleMatchToFullName(pattern));
+            }
+            final Map<LeafReaderContext, Set<String>> fieldsToWarm = new HashMap<>();
+            for (LeafReaderContext ctx : reader.leaves()) {
+                final IndexReader.CacheHelper cacheHelper = ctx.reader().getCoreCacheHelper();
+                if (cacheHelper == null) {
+                    fieldsToWarm.put(ctx, fields);
+                    continue;
+                }
+                Set<String> warmed = warmedFields.get(cacheHelper.getKey());
+                if (warmed == null) {
+                    final Set<String> newWarmed = ConcurrentCollections.newConcurrentSet();
+                    warmed = warmedFields.putIfAbsent(cacheHelper.getKey(), newWarmed);
+                    if (warmed == null) {
+                        warmed = newWarmed;
+                        cacheHelper.addClosedListener(warmedFields::remove);
+                    }
+                }
+                final Set<String> newFields = new HashSet<>();
+                for (String field : fields) {
+                    if (warmed.add(field)) {
+                        newFields.add(field);
+                    }
+                }
+                if (newFields.isEmpty() == false) {
+                    fieldsToWarm.put(ctx, newFields);
+                }
+            }
+            final CountDownLatch latch = new CountDownLatch(fieldsToWarm.size());
+            for (final Map.Entry<LeafReaderContext, Set<String>> entry : fieldsToWarm.entrySet()) {
+                final LeafReaderContext ctx = entry.getKey();
+                final Set<String> leafFields = entry.getValue();
+                executor.execute(() -> {
+                    try {
+                        final long start = System.nanoTime();
+                        for (String field : leafFields) {
+                            warmDocValues(ctx.reader(), field);
+                        }
+                        if (indexShard.warmerService().logger().isTraceEnabled()) {
+                            indexShard.warmerService().logger().trace("warmed doc values of {} for [{}], took [{}]",
+                                leafFields, ctx.reader(), TimeValue.timeValueNanos(System.nanoTime() - start));
+                        }
+                    } catch (Exception e) {
+                        indexShard.warmerService().logger().warn(
+                            () -> new ParameterizedMessage("failed to warm-up doc values of {} for [{}]", leafFields, ctx.reader()), e);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            return () -> latch.await();
+        }
+
+        /**
+         * Reads all the doc values of the field in the segment, which pulls them into the file-system cache.
+         */
+        static long warmDocValues(LeafReader reader, String field) throws IOException {
+            final FieldInfo fieldInfo = reader.getFieldInfos().fieldInfo(field);
+            if (fieldInfo == null) {
+                return 0;
+            }
+            // the sum of the values makes sure the reads can't be optimized away
+            long sum = 0;
+            switch (fieldInfo.getDocValuesType()) {
+                case NUMERIC:
+                    final NumericDocValues numeric = reader.getNumericDocValues(field);
+                    while (numeric.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+                        sum += numeric.longValue();
+                    }
+                    break;
+                case BINARY:
+                    final BinaryDocValues binary = reader.getBinaryDocValues(field);
+                    while (binary.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+                        sum += binary.binaryValue().length;
+                    }
+                    break;
+                case SORTED:
+                    final SortedDocValues sorted = reader.getSortedDocValues(field);
+                    while (sorted.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+                        sum += sorted.ordValue();
+                    }
+                    break;
+                case SORTED_NUMERIC:
+                    final SortedNumericDocValues sortedNumeric = reader.getSortedNumericDocValues(field);
+                    while (sortedNumeric.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+                        for (int i = 0; i < sortedNumeric.docValueCount(); i++) {
+                            sum += sortedNumeric.nextValue();
+                        }
+                    }
+                    break;
+                case SORTED_SET:
+                    final SortedSetDocValues sortedSet = reader.getSortedSetDocValues(field);
+                    while (sortedSet.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+                        for (long ord = sortedSet.nextOrd(); ord != SortedSetDocValues.NO_MORE_ORDS; ord = sortedSet.nextOrd()) {
+                            sum += ord;
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+            return sum;
+        }
+    }
 }
@@ -34,10 +34,13 @@ package org.opensearch.index.codec;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.PostingsFormat;
 import org.apache.lucene.codecs.lucene87.Lucene87Codec;
 import org.apache.lucene.codecs.lucene87.Lucene87Codec.Mode;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.MapBuilder;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.index.mapper.MapperService;
 
 import java.util.Map;
@@ -57,16 +60,26 @@ public class CodecService {
     /** the raw unfiltered lucene default. useful for testing */
     public static final String LUCENE_DEFAULT_CODEC = "lucene_default";
 
+    /**
+     * Configures the codec to keep a bloom filter of the ids of each segment, which lets id lookups skip the terms dictionary of segments
+     * that do not contain the id. This costs about 10 bits of heap per document and is most useful for indices with user-supplied ids.
+     * This setting is <b>not</b> realtime updateable and only applies to segments written after it was set.
+     */
+    public static final Setting<Boolean> INDEX_CODEC_ID_BLOOM_FILTER_SETTING =
+        Setting.boolSetting("index.codec.id_bloom_filter", false, Property.IndexScope);
+
     public CodecService(@Nullable MapperService mapperService, Logger logger) {
         final MapBuilder<String, Codec> codecs = MapBuilder.<String, Codec>newMapBuilder();
         if (mapperService == null) {
             codecs.put(DEFAULT_CODEC, new Lucene87Codec());
             codecs.put(BEST_COMPRESSION_CODEC, new Lucene87Codec(Mode.BEST_COMPRESSION));
         } else {
+            final PostingsFormat idPostingsFormat = mapperService.getIndexSettings().getValue(INDEX_CODEC_ID_BLOOM_FILTER_SETTING)
+                ? new IdBloomFilterPostingsFormat() : null;
             codecs.put(DEFAULT_CODEC,
-                    new PerFieldMappingPostingFormatCodec(Mode.BEST_SPEED, mapperService, logger));
+                    new PerFieldMappingPostingFormatCodec(Mode.BEST_SPEED, mapperService, idPostingsFormat, logger));
             codecs.put(BEST_COMPRESSION_CODEC,
-                    new PerFieldMappingPostingFormatCodec(Mode.BEST_COMPRESSION, mapperService, logger));
+                    new PerFieldMappingPostingFormatCodec(Mode.BEST_COMPRESSION, mapperService, idPostingsFormat, logger));
         }
         codecs.put(LUCENE_DEFAULT_CODEC, Codec.getDefault());
         for (String codec : Codec.availableCodecs()) {
@@ -0,0 +1,300 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.FieldsConsumer;
+import org.apache.lucene.codecs.FieldsProducer;
+import org.apache.lucene.codecs.NormsProducer;
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.codecs.lucene84.Lucene84PostingsFormat;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.Fields;
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.hash.MurmurHash3;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link PostingsFormat} for the {@code _id} field that writes the postings with the default postings format and additionally keeps a
+ * bloom filter of the terms of each segment. {@link TermsEnum#seekExact(BytesRef)} consults the filter first, which lets the version
+ * lookups of the engine skip the terms dictionary of every segment that definitely does not contain the id. This mostly helps
+ * append-mostly indices with user-supplied ids where most lookups miss in all segments.
+ * <p>
+ * The filter is sized for one term per document ({@value #BITS_PER_TERM} bits each, for a false positive rate of about 1%), so it is only
+ * meant for fields with at most one term per document.
+ */
+public final class IdBloomFilterPostingsFormat extends PostingsFormat {
+
+    public static final String NAME = "OpenSearchIdBloomFilter";
+
+    static final String EXTENSION = "idbf";
+    static final String CODEC_NAME = "IdBloomFilter";
+    static final int VERSION_START = 0;
+    static final int VERSION_CURRENT = VERSION_START;
+
+    static final int BITS_PER_TERM = 10;
+    static final int NUM_HASHES = 7;
+
+    private final PostingsFormat delegate = new Lucene84PostingsFormat();
+
+    public IdBloomFilterPostingsFormat() {
+        super(NAME);
+    }
+
+    @Override
+    public FieldsConsumer fieldsConsumer(SegmentWriteState state) throws IOException {
+        return new BloomFilteredFieldsConsumer(delegate.fieldsConsumer(state), state);
+    }
+
+    @Override
+    public FieldsProducer fieldsProducer(SegmentReadState state) throws IOException {
+        final FieldsProducer delegateProducer = delegate.fieldsProducer(state);
+        boolean success = false;
+        try {
+            final FieldsProducer producer = new BloomFilteredFieldsProducer(delegateProducer, readFilters(state));
+            success = true;
+            return producer;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(delegateProducer);
+            }
+        }
+    }
+
+    private static Map<String, BloomFilter> readFilters(SegmentReadState state) throws IOException {
+        final String fileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, EXTENSION);
+        final Map<String, BloomFilter> filters = new HashMap<>();
+        try (ChecksumIndexInput in = state.directory.openChecksumInput(fileName, state.context)) {
+            Throwable priorException = null;
+            try {
+                CodecUtil.checkIndexHeader(in, CODEC_NAME, VERSION_START, VERSION_CURRENT, state.segmentInfo.getId(),
+                    state.segmentSuffix);
+                final int numFields = in.readVInt();
+                for (int i = 0; i < numFields; i++) {
+                    final FieldInfo fieldInfo = state.fieldInfos.fieldInfo(in.readVInt());
+                    final int numHashes = in.readVInt();
+                    final long[] bits = new long[in.readVInt()];
+                    for (int j = 0; j < bits.length; j++) {
+                        bits[j] = in.readLong();
+                    }
+                    filters.put(fieldInfo.name, new BloomFilter(bits, numHashes));
+                }
+            } catch (Throwable t) {
+                priorException = t;
+            } finally {
+                CodecUtil.checkFooter(in, priorException);
+            }
+        }
+        return filters;
+    }
+
+    /**
+     * A fixed size bloom filter over the bytes of the terms of a field, using double hashing on top of a 128 bit murmur3 hash.
+     */
+    static final class BloomFilter {
+
+        private final long[] bits;
+        private final long numBits;
+        private final int numHashes;
+
+        BloomFilter(long[] bits, int numHashes) {
+            this.bits = bits;
+            this.numBits = (long) bits.length * Long.SIZE;
+            this.numHashes = numHashes;
+        }
+
+        static BloomFilter create(int expectedTerms) {
+            final long numBits = Math.max(Long.SIZE, (long) expectedTerms * BITS_PER_TERM);
+            return new BloomFilter(new long[Math.toIntExact((numBits + Long.SIZE - 1) / Long.SIZE)], NUM_HASHES);
+        }
+
+        void add(BytesRef term, MurmurHash3.Hash128 hash) {
+            MurmurHash3.hash128(term.bytes, term.offset, term.length, 0, hash);
+            for (int i = 0; i < numHashes; i++) {
+                final long bit = Math.floorMod(hash.h1 + i * hash.h2, numBits);
+                bits[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+
+        boolean mightContain(BytesRef term, MurmurHash3.Hash128 hash) {
+            MurmurHash3.hash128(term.bytes, term.offset, term.length, 0, hash);
+            for (int i = 0; i < numHashes; i++) {
+                final long bit = Math.floorMod(hash.h1 + i * hash.h2, numBits);
+                if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long ramBytesUsed() {
+            return RamUsageEstimator.sizeOf(bits);
+        }
+    }
+
+    private static final class BloomFilteredFieldsConsumer extends FieldsConsumer {
+
+        private final FieldsConsumer delegate;
+        private final SegmentWriteState state;
+
+        BloomFilteredFieldsConsumer(FieldsConsumer delegate, SegmentWriteState state) {
+            this.delegate = delegate;
+            this.state = state;
+        }
+
+        @Override
+        public void write(Fields fields, NormsProducer norms) throws IOException {
+            delegate.write(fields, norms);
+
+            final List<FieldInfo> fieldInfos = new ArrayList<>();
+            final List<BloomFilter> filters = new ArrayList<>();
+            final MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
+            for (String field : fields) {
+                final Terms terms = fields.terms(field);
+                if (terms == null) {
+                    continue;
+                }
+                final BloomFilter filter = BloomFilter.create(state.segmentInfo.maxDoc());
+                final TermsEnum termsEnum = terms.iterator();
+                for (BytesRef term = termsEnum.next(); term != null; term = termsEnum.next()) {
+                    filter.add(term, hash);
+                }
+                fieldInfos.add(state.fieldInfos.fieldInfo(field));
+                filters.add(filter);
+            }
+
+            final String fileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, EXTENSION);
+            try (IndexOutput out = state.directory.createOutput(fileName, state.context)) {
+                CodecUtil.writeIndexHeader(out, CODEC_NAME, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+                out.writeVInt(filters.size());
+                for (int i = 0; i < filters.size(); i++) {
+                    final BloomFilter filter = filters.get(i);
+                    out.writeVInt(fieldInfos.get(i).number);
+                    out.writeVInt(filter.numHashes);
+                    out.writeVInt(filter.bits.length);
+                    for (long word : filter.bits) {
+                        out.writeLong(word);
+                    }
+                }
+                CodecUtil.writeFooter(out);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+    private static final class BloomFilteredFieldsProducer extends FieldsProducer {
+
+        private final FieldsProducer delegate;
+        private final Map<String, BloomFilter> filters;
+
+        BloomFilteredFieldsProducer(FieldsProducer delegate, Map<String, BloomFilter> filters) {
+            this.delegate = delegate;
+            this.filters = filters;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return delegate.iterator();
+        }
+
+        @Override
+        public Terms terms(String field) throws IOException {
+            final Terms terms = delegate.terms(field);
+            final BloomFilter filter = filters.get(field);
+            if (terms == null || filter == null) {
+                return terms;
+            }
+            return new BloomFilteredTerms(terms, filter);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public void checkIntegrity() throws IOException {
+            // the filters were verified against their checksum when they were loaded
+            delegate.checkIntegrity();
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            long ramBytesUsed = delegate.ramBytesUsed();
+            for (BloomFilter filter : filters.values()) {
+                ramBytesUsed += filter.ramBytesUsed();
+            }
+            return ramBytesUsed;
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "(filters=" + filters.size() + ",delegate=" + delegate + ")";
+        }
+    }
+
+    private static final class BloomFilteredTerms extends FilterLeafReader.FilterTerms {
+
+        private final BloomFilter filter;
+
+        BloomFilteredTerms(Terms in, BloomFilter filter) {
+            super(in);
+            this.filter = filter;
+        }
+
+        @Override
+        public TermsEnum iterator() throws IOException {
+            return new BloomFilteredTermsEnum(in.iterator(), filter);
+        }
+    }
+
+    private static final class BloomFilteredTermsEnum extends FilterLeafReader.FilterTermsEnum {
+
+        private final BloomFilter filter;
+        private final MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
+
+        BloomFilteredTermsEnum(TermsEnum in, BloomFilter filter) {
+            super(in);
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean seekExact(BytesRef text) throws IOException {
+            if (filter.mightContain(text, hash) == false) {
+                return false;
+            }
+            return in.seekExact(text);
+        }
+    }
+}
@@ -38,8 +38,10 @@ import org.apache.lucene.codecs.DocValuesFormat;
 import org.apache.lucene.codecs.PostingsFormat;
 import org.apache.lucene.codecs.lucene80.Lucene80DocValuesFormat;
 import org.apache.lucene.codecs.lucene87.Lucene87Codec;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.mapper.CompletionFieldMapper;
+import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 
@@ -55,6 +57,7 @@ public class PerFieldMappingPostingFormatCodec extends Lucene87Codec {
     private final Logger logger;
     private final MapperService mapperService;
     private final DocValuesFormat dvFormat = new Lucene80DocValuesFormat(Lucene80DocValuesFormat.Mode.BEST_COMPRESSION);
+    private final PostingsFormat idPostingsFormat;
 
     static {
         assert Codec.forName(Lucene.LATEST_CODEC).getClass().isAssignableFrom(PerFieldMappingPostingFormatCodec.class) :
@@ -62,13 +65,25 @@ public class PerFieldMappingPostingFormatCodec extends Lucene87Codec {
     }
 
     public PerFieldMappingPostingFormatCodec(Mode compressionMode, MapperService mapperService, Logger logger) {
+        this(compressionMode, mapperService, null, logger);
+    }
+
+    /**
+     * @param idPostingsFormat the postings format of the _id field, or null to use the same postings format as for other fields
+     */
+    public PerFieldMappingPostingFormatCodec(Mode compressionMode, MapperService mapperService, @Nullable PostingsFormat idPostingsFormat,
+                                             Logger logger) {
         super(compressionMode);
         this.mapperService = mapperService;
+        this.idPostingsFormat = idPostingsFormat;
         this.logger = logger;
     }
 
     @Override
     public PostingsFormat getPostingsFormatForField(String field) {
+        if (idPostingsFormat != null && IdFieldMapper.NAME.equals(field)) {
+            return idPostingsFormat;
+        }
         final MappedFieldType fieldType = mapperService.fieldType(field);
         if (fieldType == null) {
             logger.warn("no index mapper found for field: [{}] returning default postings format", field);
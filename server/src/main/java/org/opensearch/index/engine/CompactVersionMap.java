@@ -0,0 +1,234 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.ByteArray;
+import org.opensearch.common.util.BytesRefHash;
+import org.opensearch.common.util.IntArray;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.index.translog.Translog;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A map from uid to {@link VersionValue} for the {@link LiveVersionMap} that avoids the per-entry objects of a
+ * {@link java.util.concurrent.ConcurrentHashMap} (the entry, the {@link BytesRef} key and its array, the {@link VersionValue} and its
+ * {@link Translog.Location}). The uids are stored in the pages of open-addressing {@link BytesRefHash}es and the values are packed into
+ * parallel primitive arrays indexed by the uid's id, so that millions of entries only cost a handful of large arrays. Values are
+ * materialized again on lookup.
+ * <p>
+ * The map is split into stripes by the hash of the uid, each guarded by its own lock, which keeps contention low as indexing threads only
+ * ever hold the per-uid lock of the {@link LiveVersionMap} and therefore access arbitrary stripes concurrently.
+ * <p>
+ * Removed uids keep their slot until the map is dropped, which happens at the latest on the second refresh after the removal. The arrays
+ * are not recycled since lookups may still read a map that was just swapped out by a refresh.
+ */
+final class CompactVersionMap extends AbstractMap<BytesRef, VersionValue> {
+
+    /**
+     * Approximate number of bytes used per entry on top of the uid bytes: the id slot of the {@link BytesRefHash} (which is at most 60%
+     * full), its cached hash and the start offset of the uid, plus the packed value.
+     */
+    static final long BYTES_PER_ENTRY = (long) Math.ceil(Long.BYTES / 0.6) + Integer.BYTES + Long.BYTES
+        + Byte.BYTES + 6 * Long.BYTES + Integer.BYTES;
+
+    private static final int NUM_STRIPES = 16; // must be a power of two
+    private static final int MIN_STRIPE_CAPACITY = 16;
+
+    private static final byte REMOVED = 0;
+    private static final byte INDEX = 1;
+    private static final byte INDEX_WITH_LOCATION = 2;
+    private static final byte DELETE = 3;
+
+    private final Stripe[] stripes = new Stripe[NUM_STRIPES];
+    private final AtomicInteger size = new AtomicInteger();
+
+    CompactVersionMap(int expectedSize) {
+        final int stripeCapacity = Math.max(MIN_STRIPE_CAPACITY, expectedSize / NUM_STRIPES);
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(stripeCapacity);
+        }
+    }
+
+    private Stripe stripe(int hash) {
+        // the hash table of each stripe mixes the hash before using its low bits, so we pick the stripe with the high bits
+        return stripes[(hash >>> 28) & (NUM_STRIPES - 1)];
+    }
+
+    @Override
+    public VersionValue get(Object key) {
+        if (key instanceof BytesRef == false) {
+            return null;
+        }
+        final BytesRef uid = (BytesRef) key;
+        final int hash = uid.hashCode();
+        return stripe(hash).get(uid, hash);
+    }
+
+    @Override
+    public VersionValue put(BytesRef uid, VersionValue value) {
+        final int hash = uid.hashCode();
+        final VersionValue previous = stripe(hash).put(uid, hash, value);
+        if (previous == null) {
+            size.incrementAndGet();
+        }
+        return previous;
+    }
+
+    @Override
+    public VersionValue remove(Object key) {
+        if (key instanceof BytesRef == false) {
+            return null;
+        }
+        final BytesRef uid = (BytesRef) key;
+        final int hash = uid.hashCode();
+        final VersionValue previous = stripe(hash).remove(uid, hash);
+        if (previous != null) {
+            size.decrementAndGet();
+        }
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    /**
+     * Returns a point in time copy of the entries. This materializes every entry and is only meant for tests and assertions.
+     */
+    @Override
+    public Set<Entry<BytesRef, VersionValue>> entrySet() {
+        final Map<BytesRef, VersionValue> copy = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.copyTo(copy);
+        }
+        return copy.entrySet();
+    }
+
+    private static final class Stripe {
+
+        private final BigArrays bigArrays = BigArrays.NON_RECYCLING_INSTANCE;
+        private final BytesRefHash uids;
+        private ByteArray types;
+        private LongArray versions;
+        private LongArray seqNos;
+        private LongArray terms;
+        // the translog generation and location of index operations, or the timestamp of delete operations
+        private LongArray generationsOrTimes;
+        private LongArray locations;
+        private IntArray locationSizes;
+
+        Stripe(int capacity) {
+            uids = new BytesRefHash(capacity, bigArrays);
+            types = bigArrays.newByteArray(capacity);
+            versions = bigArrays.newLongArray(capacity);
+            seqNos = bigArrays.newLongArray(capacity);
+            terms = bigArrays.newLongArray(capacity);
+            generationsOrTimes = bigArrays.newLongArray(capacity);
+            locations = bigArrays.newLongArray(capacity);
+            locationSizes = bigArrays.newIntArray(capacity);
+        }
+
+        synchronized VersionValue get(BytesRef uid, int hash) {
+            final long id = uids.find(uid, hash);
+            return id < 0 ? null : read(id);
+        }
+
+        synchronized VersionValue put(BytesRef uid, int hash, VersionValue value) {
+            long id = uids.add(uid, hash);
+            final VersionValue previous;
+            if (id < 0) {
+                id = -1 - id;
+                previous = read(id);
+            } else {
+                ensureCapacity(id + 1);
+                previous = null;
+            }
+            write(id, value);
+            return previous;
+        }
+
+        synchronized VersionValue remove(BytesRef uid, int hash) {
+            final long id = uids.find(uid, hash);
+            if (id < 0) {
+                return null;
+            }
+            final VersionValue previous = read(id);
+            types.set(id, REMOVED);
+            return previous;
+        }
+
+        synchronized void copyTo(Map<BytesRef, VersionValue> copy) {
+            final BytesRef spare = new BytesRef();
+            for (long id = 0; id < uids.size(); id++) {
+                final VersionValue value = read(id);
+                if (value != null) {
+                    copy.put(BytesRef.deepCopyOf(uids.get(id, spare)), value);
+                }
+            }
+        }
+
+        private void ensureCapacity(long minSize) {
+            types = bigArrays.grow(types, minSize);
+            versions = bigArrays.grow(versions, minSize);
+            seqNos = bigArrays.grow(seqNos, minSize);
+            terms = bigArrays.grow(terms, minSize);
+            generationsOrTimes = bigArrays.grow(generationsOrTimes, minSize);
+            locations = bigArrays.grow(locations, minSize);
+            locationSizes = bigArrays.grow(locationSizes, minSize);
+        }
+
+        private VersionValue read(long id) {
+            switch (types.get(id)) {
+                case REMOVED:
+                    return null;
+                case INDEX:
+                    return new IndexVersionValue(null, versions.get(id), seqNos.get(id), terms.get(id));
+                case INDEX_WITH_LOCATION:
+                    final Translog.Location location
+                        = new Translog.Location(generationsOrTimes.get(id), locations.get(id), locationSizes.get(id));
+                    return new IndexVersionValue(location, versions.get(id), seqNos.get(id), terms.get(id));
+                case DELETE:
+                    return new DeleteVersionValue(versions.get(id), seqNos.get(id), terms.get(id), generationsOrTimes.get(id));
+                default:
+                    throw new IllegalStateException("unknown version value type [" + types.get(id) + "]");
+            }
+        }
+
+        private void write(long id, VersionValue value) {
+            versions.set(id, value.version);
+            seqNos.set(id, value.seqNo);
+            terms.set(id, value.term);
+            if (value.isDelete()) {
+                types.set(id, DELETE);
+                generationsOrTimes.set(id, ((DeleteVersionValue) value).time);
+            } else if (value.getLocation() != null) {
+                final Translog.Location location = value.getLocation();
+                types.set(id, INDEX_WITH_LOCATION);
+                generationsOrTimes.set(id, location.generation);
+                locations.set(id, location.translogLocation);
+                locationSizes.set(id, location.size);
+            } else {
+                types.set(id, INDEX);
+            }
+        }
+    }
+}
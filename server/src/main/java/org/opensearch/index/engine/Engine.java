@@ -316,6 +316,21 @@ public abstract class Engine implements Closeable {
      */
     public abstract boolean isThrottled();
 
+    /**
+     * Returns the number of times this engine looked up the current version of a document by its id in the index.
+     */
+    public long getIdLookupCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of milliseconds this engine spent on looking up the current version of documents by their id in the index.
+     * @see #getIdLookupCount()
+     */
+    public long getIdLookupTimeInMillis() {
+        return 0;
+    }
+
     /**
      * Trims translog for terms below <code>belowTerm</code> and seq# above <code>aboveSeqNo</code>
      * @see Translog#trimOperations(long, long)
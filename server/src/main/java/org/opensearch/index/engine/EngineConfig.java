@@ -48,6 +48,7 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.codec.CodecService;
 import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.merge.NodeMergeCoordinator;
 import org.opensearch.index.seqno.RetentionLeases;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.store.Store;
@@ -91,6 +92,8 @@ public final class EngineConfig {
     private final Sort indexSort;
     @Nullable
     private final CircuitBreakerService circuitBreakerService;
+    @Nullable
+    private final NodeMergeCoordinator nodeMergeCoordinator;
     private final LongSupplier globalCheckpointSupplier;
     private final Supplier<RetentionLeases> retentionLeasesSupplier;
 
@@ -138,6 +141,14 @@ public final class EngineConfig {
     public static final Setting<Boolean> INDEX_OPTIMIZE_AUTO_GENERATED_IDS = Setting.boolSetting("index.optimize_auto_generated_id", true,
         Property.IndexScope, Property.Dynamic);
 
+    /**
+     * Configures the live version map of an index to pack its entries into a few large arrays rather than holding several objects per
+     * entry, which reduces heap usage and GC pressure for update heavy indices at the expense of some CPU on every lookup.
+     * This setting is <b>not</b> realtime updateable.
+     */
+    public static final Setting<Boolean> INDEX_COMPACT_VERSION_MAP_SETTING =
+        Setting.boolSetting("index.engine.compact_version_map", false, Property.IndexScope);
+
     private final TranslogConfig translogConfig;
 
     /**
@@ -155,6 +166,27 @@ public final class EngineConfig {
                         Supplier<RetentionLeases> retentionLeasesSupplier,
                         LongSupplier primaryTermSupplier,
                         TombstoneDocSupplier tombstoneDocSupplier) {
+        this(shardId, threadPool, indexSettings, warmer, store, mergePolicy, analyzer, similarity, codecService, eventListener, queryCache,
+            queryCachingPolicy, translogConfig, flushMergesAfter, externalRefreshListener, internalRefreshListener, indexSort,
+            circuitBreakerService, null, globalCheckpointSupplier, retentionLeasesSupplier, primaryTermSupplier, tombstoneDocSupplier);
+    }
+
+    /**
+     * Creates a new {@link org.opensearch.index.engine.EngineConfig}
+     */
+    public EngineConfig(ShardId shardId, ThreadPool threadPool,
+                        IndexSettings indexSettings, Engine.Warmer warmer, Store store,
+                        MergePolicy mergePolicy, Analyzer analyzer,
+                        Similarity similarity, CodecService codecService, Engine.EventListener eventListener,
+                        QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
+                        TranslogConfig translogConfig, TimeValue flushMergesAfter,
+                        List<ReferenceManager.RefreshListener> externalRefreshListener,
+                        List<ReferenceManager.RefreshListener> internalRefreshListener, Sort indexSort,
+                        CircuitBreakerService circuitBreakerService, @Nullable NodeMergeCoordinator nodeMergeCoordinator,
+                        LongSupplier globalCheckpointSupplier,
+                        Supplier<RetentionLeases> retentionLeasesSupplier,
+                        LongSupplier primaryTermSupplier,
+                        TombstoneDocSupplier tombstoneDocSupplier) {
         this.shardId = shardId;
         this.indexSettings = indexSettings;
         this.threadPool = threadPool;
@@ -188,6 +220,7 @@ public final class EngineConfig {
         this.internalRefreshListener = internalRefreshListener;
         this.indexSort = indexSort;
         this.circuitBreakerService = circuitBreakerService;
+        this.nodeMergeCoordinator = nodeMergeCoordinator;
         this.globalCheckpointSupplier = globalCheckpointSupplier;
         this.retentionLeasesSupplier = Objects.requireNonNull(retentionLeasesSupplier);
         this.primaryTermSupplier = primaryTermSupplier;
@@ -359,6 +392,13 @@ public final class EngineConfig {
         return indexSettings.getValue(INDEX_OPTIMIZE_AUTO_GENERATED_IDS);
     }
 
+    /**
+     * returns true if the live version map of the engine should store its entries in a compact form
+     */
+    public boolean isCompactVersionMapEnabled() {
+        return indexSettings.getValue(INDEX_COMPACT_VERSION_MAP_SETTING);
+    }
+
     /**
      * Return the sort order of this index, or null if the index has no sort.
      */
@@ -374,6 +414,15 @@ public final class EngineConfig {
         return this.circuitBreakerService;
     }
 
+    /**
+     * Returns the coordinator that shares the merge budget of the node between shards, or {@code null} if merges are only limited per
+     * shard.
+     */
+    @Nullable
+    public NodeMergeCoordinator getNodeMergeCoordinator() {
+        return nodeMergeCoordinator;
+    }
+
     /**
      * Returns a supplier that supplies the latest primary term value of the associated shard.
      */
@@ -35,8 +35,10 @@ package org.opensearch.index.engine;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.ConcurrentMergeScheduler;
 import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.MergeRateLimiter;
 import org.apache.lucene.index.MergeScheduler;
 import org.apache.lucene.index.OneMergeHelper;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
@@ -48,12 +50,14 @@ import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.MergeSchedulerConfig;
 import org.opensearch.index.merge.MergeStats;
+import org.opensearch.index.merge.NodeMergeCoordinator;
 import org.opensearch.index.merge.OnGoingMerge;
 import org.opensearch.index.shard.ShardId;
 
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -74,13 +78,18 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
     private final CounterMetric currentMergesSizeInBytes = new CounterMetric();
     private final CounterMetric totalMergeStoppedTime = new CounterMetric();
     private final CounterMetric totalMergeThrottledTime = new CounterMetric();
+    private final CounterMetric totalNodeThrottledMerges = new CounterMetric();
 
     private final Set<OnGoingMerge> onGoingMerges = ConcurrentCollections.newConcurrentSet();
     private final Set<OnGoingMerge> readOnlyOnGoingMerges = Collections.unmodifiableSet(onGoingMerges);
     private final MergeSchedulerConfig config;
+    @Nullable
+    private final NodeMergeCoordinator nodeMergeCoordinator;
+    private final Map<MergePolicy.OneMerge, NodeMergeCoordinator.Merge> coordinatedMerges = ConcurrentCollections.newConcurrentMap();
 
-    OpenSearchConcurrentMergeScheduler(ShardId shardId, IndexSettings indexSettings) {
+    OpenSearchConcurrentMergeScheduler(ShardId shardId, IndexSettings indexSettings, @Nullable NodeMergeCoordinator nodeMergeCoordinator) {
         this.config = indexSettings.getMergeSchedulerConfig();
+        this.nodeMergeCoordinator = nodeMergeCoordinator;
         this.shardId = shardId;
         this.indexSettings = indexSettings.getSettings();
         this.logger = Loggers.getLogger(getClass(), shardId);
@@ -102,6 +111,7 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
 
         OnGoingMerge onGoingMerge = new OnGoingMerge(merge);
         onGoingMerges.add(onGoingMerge);
+        final NodeMergeCoordinator.Merge coordinatedMerge = coordinateMerge(merge);
 
         if (logger.isTraceEnabled()) {
             logger.trace("merge [{}] starting..., merging [{}] segments, [{}] docs, [{}] size, into [{}] estimated_size",
@@ -115,6 +125,10 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
             long tookMS = TimeValue.nsecToMSec(System.nanoTime() - timeNS);
 
             onGoingMerges.remove(onGoingMerge);
+            if (coordinatedMerge != null) {
+                coordinatedMerges.remove(merge);
+                nodeMergeCoordinator.onMergeFinished(coordinatedMerge);
+            }
             afterMerge(onGoingMerge);
 
             currentMerges.dec();
@@ -156,6 +170,28 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
         }
     }
 
+    private NodeMergeCoordinator.Merge coordinateMerge(MergePolicy.OneMerge merge) {
+        if (nodeMergeCoordinator == null) {
+            return null;
+        }
+        final MergeRateLimiter rateLimiter = OneMergeHelper.getRateLimiter(Thread.currentThread());
+        if (rateLimiter == null) {
+            return null;
+        }
+        final NodeMergeCoordinator.Merge coordinatedMerge = nodeMergeCoordinator.onMergeStarted(rateLimiter, merge.estimatedMergeBytes,
+            segmentCount(), totalNodeThrottledMerges);
+        coordinatedMerges.put(merge, coordinatedMerge);
+        return coordinatedMerge;
+    }
+
+    /**
+     * Returns the number of segments of the shard, which the node merge coordinator uses to prioritize the merges of shards with many
+     * segments.
+     */
+    protected int segmentCount() {
+        return 1;
+    }
+
     /**
      * A callback allowing for custom logic before an actual merge starts.
      */
@@ -173,6 +209,15 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
         return this;
     }
 
+    @Override
+    protected synchronized void updateMergeThreads() {
+        super.updateMergeThreads();
+        // the rates were just reset to the ones of this scheduler, apply the share of the node budget again
+        for (NodeMergeCoordinator.Merge coordinatedMerge : coordinatedMerges.values()) {
+            coordinatedMerge.onSchedulerRateUpdated();
+        }
+    }
+
     @Override
     protected boolean maybeStall(MergeSource mergeSource) {
         // Don't stall here, because we do our own index throttling (in InternalEngine.IndexThrottle) when merges can't keep up
@@ -193,7 +238,8 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
                 currentMerges.count(), currentMergesNumDocs.count(), currentMergesSizeInBytes.count(),
                 totalMergeStoppedTime.count(),
                 totalMergeThrottledTime.count(),
-                config.isAutoThrottle() ? getIORateLimitMBPerSec() : Double.POSITIVE_INFINITY);
+                config.isAutoThrottle() ? getIORateLimitMBPerSec() : Double.POSITIVE_INFINITY,
+                totalNodeThrottledMerges.count());
         return mergeStats;
     }
 
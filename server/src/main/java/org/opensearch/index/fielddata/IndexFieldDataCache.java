@@ -47,6 +47,13 @@ public interface IndexFieldDataCache {
     <FD extends LeafFieldData, IFD extends IndexFieldData.Global<FD>> IFD load(DirectoryReader indexReader, IFD indexFieldData)
         throws Exception;
 
+    /**
+     * Returns whether the global field data of the given reader is already cached, so that loading it doesn't need to build it.
+     */
+    default boolean containsGlobal(DirectoryReader indexReader) {
+        return false;
+    }
+
     /**
      * Clears all the field data stored cached in on this index.
      */
@@ -64,6 +71,16 @@ public interface IndexFieldDataCache {
          */
         default void onCache(ShardId shardId, String fieldName, Accountable ramUsage){}
 
+        /**
+         * Called after the global ordinals of a field were built for a reader, before {@link #onCache} is called for them
+         */
+        default void onGlobalOrdinalsBuilt(ShardId shardId, String fieldName, long tookInNanos, long sizeInBytes){}
+
+        /**
+         * Called after the global ordinals of a field are unloaded, after {@link #onRemoval} is called for them
+         */
+        default void onGlobalOrdinalsRemoval(ShardId shardId, String fieldName, long sizeInBytes){}
+
         /**
          * Called after the fielddata is unloaded
          */
@@ -67,4 +67,12 @@ public interface IndexOrdinalsFieldData extends IndexFieldData.Global<LeafOrdina
      * {@link #getOrdinalMap} will result in an {@link UnsupportedOperationException}.
      */
     boolean supportsGlobalOrdinalsMapping();
+
+    /**
+     * Whether the global ordinals for the given reader are available without building them, either because they are cached or because
+     * the segment ordinals are already global.
+     */
+    default boolean hasGlobalOrdinalsLoaded(DirectoryReader indexReader) {
+        return true;
+    }
 }
@@ -36,7 +36,9 @@ import com.carrotsearch.hppc.ObjectLongHashMap;
 import org.apache.lucene.util.Accountable;
 import org.opensearch.common.FieldMemoryStats;
 import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.metrics.MeanMetric;
 import org.opensearch.common.regex.Regex;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.CollectionUtils;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.index.shard.ShardId;
@@ -49,6 +51,8 @@ public class ShardFieldData implements IndexFieldDataCache.Listener {
     private final CounterMetric evictionsMetric = new CounterMetric();
     private final CounterMetric totalMetric = new CounterMetric();
     private final ConcurrentMap<String, CounterMetric> perFieldTotals = ConcurrentCollections.newConcurrentMap();
+    private final MeanMetric globalOrdinalsBuildMetric = new MeanMetric();
+    private final CounterMetric globalOrdinalsMemoryMetric = new CounterMetric();
 
     public FieldDataStats stats(String... fields) {
         ObjectLongHashMap<String> fieldTotals = null;
@@ -61,7 +65,19 @@ public class ShardFieldData implements IndexFieldDataCache.Listener {
             }
         }
         return new FieldDataStats(totalMetric.count(), evictionsMetric.count(), fieldTotals == null ? null :
-            new FieldMemoryStats(fieldTotals));
+            new FieldMemoryStats(fieldTotals), globalOrdinalsBuildMetric.count(),
+            TimeValue.nsecToMSec(globalOrdinalsBuildMetric.sum()), globalOrdinalsMemoryMetric.count());
+    }
+
+    @Override
+    public void onGlobalOrdinalsBuilt(ShardId shardId, String fieldName, long tookInNanos, long sizeInBytes) {
+        globalOrdinalsBuildMetric.inc(tookInNanos);
+        globalOrdinalsMemoryMetric.inc(sizeInBytes);
+    }
+
+    @Override
+    public void onGlobalOrdinalsRemoval(ShardId shardId, String fieldName, long sizeInBytes) {
+        globalOrdinalsMemoryMetric.dec(sizeInBytes);
     }
 
     @Override
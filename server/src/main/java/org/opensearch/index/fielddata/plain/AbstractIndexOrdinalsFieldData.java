@@ -159,6 +159,11 @@ public abstract class AbstractIndexOrdinalsFieldData implements IndexOrdinalsFie
         }
     }
 
+    @Override
+    public boolean hasGlobalOrdinalsLoaded(DirectoryReader indexReader) {
+        return indexReader.leaves().size() <= 1 || cache.containsGlobal(indexReader);
+    }
+
     @Override
     public IndexOrdinalsFieldData loadGlobalDirect(DirectoryReader indexReader) throws Exception {
         return GlobalOrdinalsBuilder.build(
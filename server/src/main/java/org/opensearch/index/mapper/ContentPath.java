@@ -44,6 +44,12 @@ public final class ContentPath {
 
     private String[] path = new String[10];
 
+    /**
+     * The path elements joined with delimiters, including the trailing one, or {@code null} if it has to be rebuilt. Document parsing
+     * resolves the full name of every field it sees, so this saves rebuilding the same prefix for every field of an object.
+     */
+    private String prefix;
+
     public ContentPath() {
         this(0);
     }
@@ -66,6 +72,7 @@ public final class ContentPath {
     }
 
     public void add(String name) {
+        prefix = null;
         path[index++] = name;
         if (index == path.length) { // expand if needed
             String[] newPath = new String[path.length + 10];
@@ -75,16 +82,22 @@ public final class ContentPath {
     }
 
     public void remove() {
+        prefix = null;
         path[index--] = null;
     }
 
     public String pathAsText(String name) {
-        sb.setLength(0);
-        for (int i = offset; i < index; i++) {
-            sb.append(path[i]).append(DELIMITER);
+        if (index <= offset) {
+            return name;
+        }
+        if (prefix == null) {
+            sb.setLength(0);
+            for (int i = offset; i < index; i++) {
+                sb.append(path[i]).append(DELIMITER);
+            }
+            prefix = sb.toString();
         }
-        sb.append(name);
-        return sb.toString();
+        return prefix.concat(name);
     }
 
     public int length() {
@@ -138,6 +138,8 @@ public class DocumentMapper implements ToXContentFragment {
 
     private final MappingLookup fieldMappers;
 
+    private final FieldPathTrie fieldPathTrie;
+
     private final MetadataFieldMapper[] deleteTombstoneMetadataFieldMappers;
     private final MetadataFieldMapper[] noopTombstoneMetadataFieldMappers;
 
@@ -151,6 +153,7 @@ public class DocumentMapper implements ToXContentFragment {
 
         final IndexAnalyzers indexAnalyzers = mapperService.getIndexAnalyzers();
         this.fieldMappers = MappingLookup.fromMapping(this.mapping, indexAnalyzers.getDefaultIndexAnalyzer());
+        this.fieldPathTrie = new FieldPathTrie(this.mapping);
 
         try {
             mappingSource = new CompressedXContent(this, XContentType.JSON, ToXContent.EMPTY_PARAMS);
@@ -224,6 +227,13 @@ public class DocumentMapper implements ToXContentFragment {
         return mappers().hasNested();
     }
 
+    /**
+     * Returns the trie that the document parser uses to resolve the fields of the documents.
+     */
+    FieldPathTrie fieldPathTrie() {
+        return fieldPathTrie;
+    }
+
     public MappingLookup mappers() {
         return this.fieldMappers;
     }
@@ -205,7 +205,7 @@ final class DocumentParser {
     }
 
     private static String[] splitAndValidatePath(String fullFieldPath) {
-        if (fullFieldPath.contains(".")) {
+        if (fullFieldPath.indexOf('.') >= 0) {
             String[] parts = fullFieldPath.split("\\.");
             for (String part : parts) {
                 if (Strings.hasText(part) == false) {
@@ -909,6 +909,11 @@ final class DocumentParser {
 
     // looks up a child mapper, but takes into account field names that expand to objects
     private static Mapper getMapper(final ParseContext context, ObjectMapper objectMapper, String fieldName, String[] subfields) {
+        final FieldPathTrie.Node node = context.docMapper().fieldPathTrie().node(objectMapper);
+        if (node != null) {
+            return node.resolve(fieldName, subfields);
+        }
+        // the object was added by a dynamic mapping update of this document
         String fieldPath = context.path().pathAsText(fieldName);
         // Check if mapper is a metadata mapper first
         Mapper mapper = context.docMapper().mapping().getMetadataMapper(fieldPath);
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.common.Nullable;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A trie of the mappers of a {@link Mapping}, keyed by the names that make up the path of each field, that {@link DocumentParser}
+ * uses to resolve the fields of the documents it parses. It is compiled once per {@link DocumentMapper}, so resolving a field is a
+ * lookup in a plain hash map of the object that holds it, instead of building the full path of the field to look for a metadata field
+ * with that name and then looking up the copy-on-write map of the children of the object mapper.
+ * <p>
+ * Only the object mappers of the mapping are part of the trie. The parser falls back to walking the object mappers for the objects
+ * that were created by dynamic mapping updates of the document that is being parsed.
+ */
+final class FieldPathTrie {
+
+    private final Map<ObjectMapper, Node> nodes = new IdentityHashMap<>();
+
+    FieldPathTrie(Mapping mapping) {
+        final Node root = compile(mapping.root);
+        // a metadata field takes precedence over a root field with the same name
+        for (MetadataFieldMapper metadataMapper : mapping.metadataMappers) {
+            root.mappers.put(metadataMapper.name(), metadataMapper);
+        }
+    }
+
+    private Node compile(ObjectMapper objectMapper) {
+        final Node node = new Node(objectMapper);
+        nodes.put(objectMapper, node);
+        for (Mapper mapper : objectMapper) {
+            node.mappers.put(mapper.simpleName(), mapper);
+            if (mapper instanceof ObjectMapper) {
+                node.objects.put(mapper.simpleName(), compile((ObjectMapper) mapper));
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Returns the node of the provided object mapper, or null if the object mapper is not part of the mapping this trie was compiled
+     * from.
+     */
+    @Nullable
+    Node node(ObjectMapper objectMapper) {
+        return nodes.get(objectMapper);
+    }
+
+    static final class Node {
+
+        private final ObjectMapper objectMapper;
+        /** the mappers of the direct children of the object, by simple name */
+        private final Map<String, Mapper> mappers = new HashMap<>();
+        /** the nodes of the objects that are direct children of the object, by simple name */
+        private final Map<String, Node> objects = new HashMap<>();
+
+        private Node(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        /**
+         * Returns the mapper of the field whose path, relative to this object, is made of the provided names, or null if the field is
+         * not mapped.
+         *
+         * @param fieldName the name of the field as it appears in the document, for error messages
+         * @throws MapperParsingException if one of the intermediate objects is a nested object
+         */
+        @Nullable
+        Mapper resolve(String fieldName, String[] subfields) {
+            Node node = this;
+            for (int i = 0; i < subfields.length - 1; ++i) {
+                node = node.objects.get(subfields[i]);
+                if (node == null) {
+                    return null;
+                }
+                if (node.objectMapper.nested().isNested()) {
+                    throw new MapperParsingException("Cannot add a value for field ["
+                        + fieldName + "] since one of the intermediate objects is mapped as a nested object: ["
+                        + node.objectMapper.name() + "]");
+                }
+            }
+            return node.mappers.get(subfields[subfields.length - 1]);
+        }
+    }
+}
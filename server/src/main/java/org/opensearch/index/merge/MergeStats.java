@@ -32,6 +32,7 @@
 
 package org.opensearch.index.merge;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -60,6 +61,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
 
     private long totalBytesPerSecAutoThrottle;
 
+    /** Total number of merges whose write rate was lowered to stay within the merge budget of the node. */
+    private long totalNodeThrottledMerges;
+
     public MergeStats() {
 
     }
@@ -76,11 +80,21 @@ public class MergeStats implements Writeable, ToXContentFragment {
         totalStoppedTimeInMillis = in.readVLong();
         totalThrottledTimeInMillis = in.readVLong();
         totalBytesPerSecAutoThrottle = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            totalNodeThrottledMerges = in.readVLong();
+        }
     }
 
     public void add(long totalMerges, long totalMergeTime, long totalNumDocs, long totalSizeInBytes,
                         long currentMerges, long currentNumDocs, long currentSizeInBytes,
                         long stoppedTimeMillis, long throttledTimeMillis, double mbPerSecAutoThrottle) {
+        add(totalMerges, totalMergeTime, totalNumDocs, totalSizeInBytes, currentMerges, currentNumDocs, currentSizeInBytes,
+            stoppedTimeMillis, throttledTimeMillis, mbPerSecAutoThrottle, 0);
+    }
+
+    public void add(long totalMerges, long totalMergeTime, long totalNumDocs, long totalSizeInBytes,
+                        long currentMerges, long currentNumDocs, long currentSizeInBytes,
+                        long stoppedTimeMillis, long throttledTimeMillis, double mbPerSecAutoThrottle, long nodeThrottledMerges) {
         this.total += totalMerges;
         this.totalTimeInMillis += totalMergeTime;
         this.totalNumDocs += totalNumDocs;
@@ -90,6 +104,7 @@ public class MergeStats implements Writeable, ToXContentFragment {
         this.currentSizeInBytes += currentSizeInBytes;
         this.totalStoppedTimeInMillis += stoppedTimeMillis;
         this.totalThrottledTimeInMillis += throttledTimeMillis;
+        this.totalNodeThrottledMerges += nodeThrottledMerges;
         long bytesPerSecAutoThrottle = (long) (mbPerSecAutoThrottle * 1024 * 1024);
         if (this.totalBytesPerSecAutoThrottle == Long.MAX_VALUE || bytesPerSecAutoThrottle == Long.MAX_VALUE) {
             this.totalBytesPerSecAutoThrottle = Long.MAX_VALUE;
@@ -119,6 +134,7 @@ public class MergeStats implements Writeable, ToXContentFragment {
         this.totalSizeInBytes += mergeStats.totalSizeInBytes;
         this.totalStoppedTimeInMillis += mergeStats.totalStoppedTimeInMillis;
         this.totalThrottledTimeInMillis += mergeStats.totalThrottledTimeInMillis;
+        this.totalNodeThrottledMerges += mergeStats.totalNodeThrottledMerges;
         if (this.totalBytesPerSecAutoThrottle == Long.MAX_VALUE || mergeStats.totalBytesPerSecAutoThrottle == Long.MAX_VALUE) {
             this.totalBytesPerSecAutoThrottle = Long.MAX_VALUE;
         } else {
@@ -191,6 +207,13 @@ public class MergeStats implements Writeable, ToXContentFragment {
         return totalBytesPerSecAutoThrottle;
     }
 
+    /**
+     * The total number of merges whose write rate was lowered to stay within the merge budget of the node.
+     */
+    public long getTotalNodeThrottledMerges() {
+        return totalNodeThrottledMerges;
+    }
+
     /**
      * The current number of merges executing.
      */
@@ -226,6 +249,7 @@ public class MergeStats implements Writeable, ToXContentFragment {
             builder.field(Fields.TOTAL_THROTTLE_BYTES_PER_SEC).value(new ByteSizeValue(totalBytesPerSecAutoThrottle).toString());
         }
         builder.field(Fields.TOTAL_THROTTLE_BYTES_PER_SEC_IN_BYTES, totalBytesPerSecAutoThrottle);
+        builder.field(Fields.TOTAL_NODE_THROTTLED, totalNodeThrottledMerges);
         builder.endObject();
         return builder;
     }
@@ -248,6 +272,7 @@ public class MergeStats implements Writeable, ToXContentFragment {
         static final String TOTAL_SIZE_IN_BYTES = "total_size_in_bytes";
         static final String TOTAL_THROTTLE_BYTES_PER_SEC_IN_BYTES = "total_auto_throttle_in_bytes";
         static final String TOTAL_THROTTLE_BYTES_PER_SEC = "total_auto_throttle";
+        static final String TOTAL_NODE_THROTTLED = "total_node_throttled";
     }
 
     @Override
@@ -263,5 +288,8 @@ public class MergeStats implements Writeable, ToXContentFragment {
         out.writeVLong(totalStoppedTimeInMillis);
         out.writeVLong(totalThrottledTimeInMillis);
         out.writeVLong(totalBytesPerSecAutoThrottle);
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeVLong(totalNodeThrottledMerges);
+        }
     }
 }
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.apache.lucene.index.MergeRateLimiter;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Shares a node-wide budget for the write rate of merges between the merges of all shards of a node. Each shard keeps scheduling its
+ * merges and limiting their write rate on its own (see {@code index.merge.scheduler.auto_throttle}), and this coordinator additionally
+ * splits {@link #MAX_BYTES_PER_SEC_SETTING} between the big merges that currently run on the node. Each merge writes at the lower of both
+ * rates.
+ * <p>
+ * Small merges are not limited by the budget so that they finish quickly and keep the number of segments low. The budget is split between
+ * the big merges in proportion to the number of segments of their shard, which gives the shards that fall behind on merging a larger share.
+ */
+public class NodeMergeCoordinator {
+
+    /**
+     * The maximum number of bytes per second that the big merges of all shards of the node may write in total. Defaults to {@code 0},
+     * which does not limit merges beyond the limits of their shard.
+     */
+    public static final Setting<ByteSizeValue> MAX_BYTES_PER_SEC_SETTING =
+        Setting.byteSizeSetting("indices.merge.max_bytes_per_sec", ByteSizeValue.ZERO, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * Merges smaller than this are not limited by the budget, this is the same threshold that Lucene uses for its own auto throttling.
+     */
+    static final long SMALL_MERGE_BYTES = new ByteSizeValue(50, ByteSizeUnit.MB).getBytes();
+
+    private final Set<Merge> runningMerges = new HashSet<>();
+    private double maxMBPerSec;
+
+    public NodeMergeCoordinator(Settings settings, ClusterSettings clusterSettings) {
+        setMaxBytesPerSec(MAX_BYTES_PER_SEC_SETTING.get(settings));
+        clusterSettings.addSettingsUpdateConsumer(MAX_BYTES_PER_SEC_SETTING, this::setMaxBytesPerSec);
+    }
+
+    private synchronized void setMaxBytesPerSec(ByteSizeValue maxBytesPerSec) {
+        maxMBPerSec = maxBytesPerSec.getBytes() <= 0 ? Double.POSITIVE_INFINITY : maxBytesPerSec.getBytes() / 1024d / 1024d;
+        rebalance();
+    }
+
+    /**
+     * Registers a merge that is about to start and returns the handle to pass to {@link #onMergeFinished(Merge)} once it is done.
+     *
+     * @param rateLimiter       the rate limiter of the merge thread
+     * @param estimatedBytes    the estimated size of the merged segment
+     * @param shardSegmentCount the number of segments of the shard the merge runs on
+     * @param throttledMerges   incremented if the budget lowers the write rate of this merge
+     */
+    public synchronized Merge onMergeStarted(MergeRateLimiter rateLimiter, long estimatedBytes, int shardSegmentCount,
+                                             CounterMetric throttledMerges) {
+        final Merge merge = new Merge(rateLimiter, estimatedBytes < SMALL_MERGE_BYTES, Math.max(1, shardSegmentCount), throttledMerges);
+        runningMerges.add(merge);
+        rebalance();
+        return merge;
+    }
+
+    public synchronized void onMergeFinished(Merge merge) {
+        if (runningMerges.remove(merge)) {
+            rebalance();
+        }
+    }
+
+    synchronized int numRunningMerges() {
+        return runningMerges.size();
+    }
+
+    private void rebalance() {
+        assert Thread.holdsLock(this);
+        long totalWeight = 0;
+        for (Merge merge : runningMerges) {
+            if (merge.small == false) {
+                totalWeight += merge.weight;
+            }
+        }
+        for (Merge merge : runningMerges) {
+            if (merge.small || maxMBPerSec == Double.POSITIVE_INFINITY) {
+                merge.setNodeMBPerSec(Double.POSITIVE_INFINITY);
+            } else {
+                merge.setNodeMBPerSec(maxMBPerSec * merge.weight / totalWeight);
+            }
+        }
+    }
+
+    /**
+     * A merge that runs on this node.
+     */
+    public static final class Merge {
+
+        private final MergeRateLimiter rateLimiter;
+        private final boolean small;
+        private final int weight;
+        private final CounterMetric throttledMerges;
+
+        // the rate that the merge scheduler of the shard applied last
+        private double schedulerMBPerSec;
+        private double nodeMBPerSec = Double.POSITIVE_INFINITY;
+        private boolean throttled;
+
+        private Merge(MergeRateLimiter rateLimiter, boolean small, int weight, CounterMetric throttledMerges) {
+            this.rateLimiter = rateLimiter;
+            this.small = small;
+            this.weight = weight;
+            this.throttledMerges = throttledMerges;
+            this.schedulerMBPerSec = rateLimiter.getMBPerSec();
+        }
+
+        /**
+         * Must be called whenever the merge scheduler of the shard updated the rate of the rate limiter, which would otherwise overwrite
+         * the share of the node budget.
+         */
+        public synchronized void onSchedulerRateUpdated() {
+            schedulerMBPerSec = rateLimiter.getMBPerSec();
+            apply();
+        }
+
+        private synchronized void setNodeMBPerSec(double nodeMBPerSec) {
+            this.nodeMBPerSec = nodeMBPerSec;
+            apply();
+        }
+
+        private void apply() {
+            if (nodeMBPerSec < schedulerMBPerSec && throttled == false) {
+                throttled = true;
+                throttledMerges.inc();
+            }
+            final double mbPerSec = Math.min(schedulerMBPerSec, nodeMBPerSec);
+            if (rateLimiter.getMBPerSec() != mbPerSec) {
+                rateLimiter.setMBPerSec(mbPerSec);
+            }
+        }
+    }
+}
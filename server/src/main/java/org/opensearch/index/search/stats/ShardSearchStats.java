@@ -113,6 +113,9 @@ public final class ShardSearchStats implements SearchOperationListener {
             } else {
                 statsHolder.queryMetric.inc(tookInNanos);
                 statsHolder.queryCurrent.dec();
+                if (searchContext.searcher() != null) {
+                    statsHolder.querySkippedLeaves.inc(searchContext.searcher().getSkippedLeaves());
+                }
                 assert statsHolder.queryCurrent.count() >= 0;
             }
         });
@@ -198,13 +201,15 @@ public final class ShardSearchStats implements SearchOperationListener {
         final CounterMetric fetchCurrent = new CounterMetric();
         final CounterMetric scrollCurrent = new CounterMetric();
         final CounterMetric suggestCurrent = new CounterMetric();
+        final CounterMetric querySkippedLeaves = new CounterMetric();
 
         SearchStats.Stats stats() {
             return new SearchStats.Stats(
                     queryMetric.count(), TimeUnit.NANOSECONDS.toMillis(queryMetric.sum()), queryCurrent.count(),
                     fetchMetric.count(), TimeUnit.NANOSECONDS.toMillis(fetchMetric.sum()), fetchCurrent.count(),
                     scrollMetric.count(), TimeUnit.MICROSECONDS.toMillis(scrollMetric.sum()), scrollCurrent.count(),
-                    suggestMetric.count(), TimeUnit.NANOSECONDS.toMillis(suggestMetric.sum()), suggestCurrent.count()
+                    suggestMetric.count(), TimeUnit.NANOSECONDS.toMillis(suggestMetric.sum()), suggestCurrent.count(),
+                    querySkippedLeaves.count()
             );
         }
     }
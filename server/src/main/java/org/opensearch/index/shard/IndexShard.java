@@ -128,6 +128,7 @@ import org.opensearch.index.mapper.RootObjectMapper;
 import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.mapper.Uid;
 import org.opensearch.index.merge.MergeStats;
+import org.opensearch.index.merge.NodeMergeCoordinator;
 import org.opensearch.index.recovery.RecoveryStats;
 import org.opensearch.index.refresh.RefreshStats;
 import org.opensearch.index.search.stats.SearchStats;
@@ -223,6 +224,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final Supplier<Sort> indexSortSupplier;
     // Package visible for testing
     final CircuitBreakerService circuitBreakerService;
+    @Nullable
+    private final NodeMergeCoordinator nodeMergeCoordinator;
 
     private final SearchOperationListener searchOperationListener;
 
@@ -286,6 +289,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final RefreshListeners refreshListeners;
 
     private final AtomicLong lastSearcherAccess = new AtomicLong();
+    private volatile long lastRefreshTime;
     private final AtomicReference<Translog.Location> pendingRefreshLocation = new AtomicReference<>();
     private final RefreshPendingLocationListener refreshPendingLocationListener;
     private volatile boolean useRetentionLeasesInPeerRecovery;
@@ -309,7 +313,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             final List<IndexingOperationListener> listeners,
             final Runnable globalCheckpointSyncer,
             final RetentionLeaseSyncer retentionLeaseSyncer,
-            final CircuitBreakerService circuitBreakerService) throws IOException {
+            final CircuitBreakerService circuitBreakerService,
+            final @Nullable NodeMergeCoordinator nodeMergeCoordinator) throws IOException {
         super(shardRouting.shardId(), indexSettings);
         assert shardRouting.initializing();
         this.shardRouting = shardRouting;
@@ -343,6 +348,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         state = IndexShardState.CREATED;
         this.path = path;
         this.circuitBreakerService = circuitBreakerService;
+        this.nodeMergeCoordinator = nodeMergeCoordinator;
         /* create engine config */
         logger.debug("state: [CREATED]");
 
@@ -386,6 +392,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         readerWrapper = indexReaderWrapper;
         refreshListeners = buildRefreshListeners();
         lastSearcherAccess.set(threadPool.relativeTimeInMillis());
+        lastRefreshTime = threadPool.relativeTimeInMillis();
         persistMetadata(path, indexSettings, shardRouting, null, logger);
         this.useRetentionLeasesInPeerRecovery = replicationTracker.hasAllPeerRecoveryRetentionLeases();
         this.refreshPendingLocationListener = new RefreshPendingLocationListener();
@@ -1030,14 +1037,20 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         Engine engine = getEngineOrNull();
         final boolean throttled;
         final long throttleTimeInMillis;
+        final long idLookupCount;
+        final long idLookupTimeInMillis;
         if (engine == null) {
             throttled = false;
             throttleTimeInMillis = 0;
+            idLookupCount = 0;
+            idLookupTimeInMillis = 0;
         } else {
             throttled = engine.isThrottled();
             throttleTimeInMillis = engine.getIndexThrottleTimeInMillis();
+            idLookupCount = engine.getIdLookupCount();
+            idLookupTimeInMillis = engine.getIdLookupTimeInMillis();
         }
-        return internalIndexingStats.stats(throttled, throttleTimeInMillis, types);
+        return internalIndexingStats.stats(throttled, throttleTimeInMillis, idLookupCount, idLookupTimeInMillis, types);
     }
 
     public SearchStats searchStats(String... groups) {
@@ -2804,7 +2817,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 IndexingMemoryController.SHARD_INACTIVE_TIME_SETTING.get(indexSettings.getSettings()),
                 Arrays.asList(refreshListeners, refreshPendingLocationListener),
                 Collections.singletonList(new RefreshMetricUpdater(refreshMetric)),
-                indexSort, circuitBreakerService, globalCheckpointSupplier, replicationTracker::getRetentionLeases,
+                indexSort, circuitBreakerService, nodeMergeCoordinator, globalCheckpointSupplier, replicationTracker::getRetentionLeases,
                 () -> getOperationPrimaryTerm(), tombstoneDocSupplier());
     }
 
@@ -3293,6 +3306,14 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 engine.maybePruneDeletes(); // try to prune the deletes in the engine if we accumulated some
                 setRefreshPending(engine);
                 return false;
+            } else if (listenerNeedsRefresh == false && canDeferScheduledRefresh()) {
+                // nobody looked at the changes since the last refresh (or merges fall behind), so we wait for more changes to
+                // accumulate rather than writing yet another tiny segment. like for search-idle shards, the next search on this shard
+                // registers a refresh listener for the pending location, which makes the next schedule refresh, and waits for it.
+                final Engine engine = getEngine();
+                engine.maybePruneDeletes(); // try to prune the deletes in the engine if we accumulated some
+                setRefreshPending(engine);
+                return false;
             } else {
                 if (logger.isTraceEnabled()) {
                     logger.trace("refresh with source [schedule]");
@@ -3305,6 +3326,22 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return false;
     }
 
+    /**
+     * Returns true if the scheduled refresh may be skipped since the shard was not searched since the last refresh, or since merges
+     * fall behind, and the last refresh is less than {@link IndexSettings#getRefreshMaxInterval()} ago.
+     */
+    private boolean canDeferScheduledRefresh() {
+        final long maxIntervalMillis = indexSettings.getRefreshMaxInterval().millis();
+        if (maxIntervalMillis <= 0) {
+            return false;
+        }
+        final long lastRefresh = lastRefreshTime;
+        if (threadPool.relativeTimeInMillis() - lastRefresh >= maxIntervalMillis) {
+            return false;
+        }
+        return lastSearcherAccess.get() < lastRefresh || getEngine().isThrottled();
+    }
+
     /**
      * Returns true if this shards is search idle
      */
@@ -3312,6 +3349,13 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return (threadPool.relativeTimeInMillis() - lastSearcherAccess.get()) >= indexSettings.getSearchIdleAfter().getMillis();
     }
 
+    /**
+     * Returns true if the searcher of this shard was accessed at or after the given relative timestamp in milliseconds.
+     */
+    public final boolean isSearchedSince(long relativeTimeInMillis) {
+        return lastSearcherAccess.get() >= relativeTimeInMillis;
+    }
+
     /**
      * Returns the last timestamp the searcher was accessed. This is a relative timestamp in milliseconds.
      */
@@ -3352,6 +3396,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
         @Override
         public void afterRefresh(boolean didRefresh) {
+            if (didRefresh) {
+                lastRefreshTime = threadPool.relativeTimeInMillis();
+            }
             if (didRefresh && lastWriteLocation != null) {
                 pendingRefreshLocation.updateAndGet(pendingLocation -> {
                     if (pendingLocation == null || pendingLocation.compareTo(lastWriteLocation) <= 0) {
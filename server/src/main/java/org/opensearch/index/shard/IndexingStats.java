@@ -32,6 +32,7 @@
 
 package org.opensearch.index.shard;
 
+import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -59,6 +60,8 @@ public class IndexingStats implements Writeable, ToXContentFragment {
         private long noopUpdateCount;
         private long throttleTimeInMillis;
         private boolean isThrottled;
+        private long idLookupCount;
+        private long idLookupTimeInMillis;
 
         Stats() {}
 
@@ -73,10 +76,21 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             noopUpdateCount = in.readVLong();
             isThrottled = in.readBoolean();
             throttleTimeInMillis = in.readLong();
+            if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+                idLookupCount = in.readVLong();
+                idLookupTimeInMillis = in.readVLong();
+            }
         }
 
         public Stats(long indexCount, long indexTimeInMillis, long indexCurrent, long indexFailedCount, long deleteCount,
                         long deleteTimeInMillis, long deleteCurrent, long noopUpdateCount, boolean isThrottled, long throttleTimeInMillis) {
+            this(indexCount, indexTimeInMillis, indexCurrent, indexFailedCount, deleteCount, deleteTimeInMillis, deleteCurrent,
+                noopUpdateCount, isThrottled, throttleTimeInMillis, 0, 0);
+        }
+
+        public Stats(long indexCount, long indexTimeInMillis, long indexCurrent, long indexFailedCount, long deleteCount,
+                        long deleteTimeInMillis, long deleteCurrent, long noopUpdateCount, boolean isThrottled, long throttleTimeInMillis,
+                        long idLookupCount, long idLookupTimeInMillis) {
             this.indexCount = indexCount;
             this.indexTimeInMillis = indexTimeInMillis;
             this.indexCurrent = indexCurrent;
@@ -87,6 +101,8 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             this.noopUpdateCount = noopUpdateCount;
             this.isThrottled = isThrottled;
             this.throttleTimeInMillis = throttleTimeInMillis;
+            this.idLookupCount = idLookupCount;
+            this.idLookupTimeInMillis = idLookupTimeInMillis;
         }
 
         public void add(Stats stats) {
@@ -104,6 +120,8 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             if (isThrottled != stats.isThrottled) {
                 isThrottled = true; //When combining if one is throttled set result to throttled.
             }
+            idLookupCount += stats.idLookupCount;
+            idLookupTimeInMillis += stats.idLookupTimeInMillis;
         }
 
         /**
@@ -161,6 +179,20 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             return noopUpdateCount;
         }
 
+        /**
+         * Returns the number of times the index was searched for the current version of a document by its id
+         */
+        public long getIdLookupCount() {
+            return idLookupCount;
+        }
+
+        /**
+         * The total amount of time spent on looking up the current version of documents by their id in the index.
+         */
+        public TimeValue getIdLookupTime() {
+            return new TimeValue(idLookupTimeInMillis);
+        }
+
         @Override
         public void writeTo(StreamOutput out) throws IOException {
             out.writeVLong(indexCount);
@@ -173,7 +205,10 @@ public class IndexingStats implements Writeable, ToXContentFragment {
             out.writeVLong(noopUpdateCount);
             out.writeBoolean(isThrottled);
             out.writeLong(throttleTimeInMillis);
-
+            if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+                out.writeVLong(idLookupCount);
+                out.writeVLong(idLookupTimeInMillis);
+            }
         }
 
         @Override
@@ -191,6 +226,9 @@ public class IndexingStats implements Writeable, ToXContentFragment {
 
             builder.field(Fields.IS_THROTTLED, isThrottled);
             builder.humanReadableField(Fields.THROTTLED_TIME_IN_MILLIS, Fields.THROTTLED_TIME, getThrottleTime());
+
+            builder.field(Fields.ID_LOOKUP_TOTAL, idLookupCount);
+            builder.humanReadableField(Fields.ID_LOOKUP_TIME_IN_MILLIS, Fields.ID_LOOKUP_TIME, getIdLookupTime());
             return builder;
         }
     }
@@ -289,6 +327,9 @@ public class IndexingStats implements Writeable, ToXContentFragment {
         static final String IS_THROTTLED = "is_throttled";
         static final String THROTTLED_TIME_IN_MILLIS = "throttle_time_in_millis";
         static final String THROTTLED_TIME = "throttle_time";
+        static final String ID_LOOKUP_TOTAL = "id_lookup_total";
+        static final String ID_LOOKUP_TIME = "id_lookup_time";
+        static final String ID_LOOKUP_TIME_IN_MILLIS = "id_lookup_time_in_millis";
     }
 
     @Override
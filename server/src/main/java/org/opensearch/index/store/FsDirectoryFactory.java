@@ -55,7 +55,10 @@ import org.opensearch.plugins.IndexStorePlugin;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 public class FsDirectoryFactory implements IndexStorePlugin.DirectoryFactory {
@@ -71,6 +74,30 @@ public class FsDirectoryFactory implements IndexStorePlugin.DirectoryFactory {
         } // can we set on both - node and index level, some nodes might be running on NFS so they might need simple rather than native
     }, Property.IndexScope, Property.NodeScope);
 
+    /**
+     * The extensions that {@code hybridfs} memory-maps by default, see {@link IndexModule#INDEX_STORE_HYBRID_MMAP_EXTENSIONS}.
+     */
+    public static final List<String> DEFAULT_HYBRID_MMAP_EXTENSIONS = Collections.unmodifiableList(Arrays.asList(
+        // Norms, doc values and term dictionaries are typically performance-sensitive and hot in the page
+        // cache, so we use mmap, which provides better performance.
+        "nvd", "dvd", "tim",
+        // We want to open the terms index and KD-tree index off-heap to save memory, but this only performs
+        // well if using mmap.
+        "tip",
+        // dim files only apply up to lucene 8.x indices. It can be removed once we are in lucene 10
+        "dim", "kdd", "kdi",
+        // Compound files are tricky because they store all the information for the segment. Benchmarks
+        // suggested that not mapping them hurts performance.
+        "cfs",
+        // MMapDirectory has special logic to read long[] arrays in little-endian order that helps speed
+        // up the decoding of postings. The same logic applies to positions (.pos) of offsets (.pay) but we
+        // are not mmaping them as queries that leverage positions are more costly and the decoding of postings
+        // tends to be less a bottleneck.
+        "doc"
+        // Other files are either less performance-sensitive (e.g. stored field index, norms metadata)
+        // or are large and have a random access pattern and mmap leads to page cache trashing
+        // (e.g. stored fields and term vectors).
+    ));
 
     @Override
     public Directory newDirectory(IndexSettings indexSettings, ShardPath path) throws IOException {
@@ -97,7 +124,9 @@ public class FsDirectoryFactory implements IndexStorePlugin.DirectoryFactory {
                 final FSDirectory primaryDirectory = FSDirectory.open(location, lockFactory);
                 if (primaryDirectory instanceof MMapDirectory) {
                     MMapDirectory mMapDirectory = (MMapDirectory) primaryDirectory;
-                    return new HybridDirectory(lockFactory, setPreload(mMapDirectory, lockFactory, preLoadExtensions));
+                    final Set<String> mmapExtensions = new HashSet<>(
+                        indexSettings.getValue(IndexModule.INDEX_STORE_HYBRID_MMAP_EXTENSIONS));
+                    return new HybridDirectory(lockFactory, setPreload(mMapDirectory, lockFactory, preLoadExtensions), mmapExtensions);
                 } else {
                     return primaryDirectory;
                 }
@@ -135,10 +164,12 @@ public class FsDirectoryFactory implements IndexStorePlugin.DirectoryFactory {
 
     static final class HybridDirectory extends NIOFSDirectory {
         private final MMapDirectory delegate;
+        private final Set<String> mmapExtensions;
 
-        HybridDirectory(LockFactory lockFactory, MMapDirectory delegate) throws IOException {
+        HybridDirectory(LockFactory lockFactory, MMapDirectory delegate, Set<String> mmapExtensions) throws IOException {
             super(delegate.getDirectory(), lockFactory);
             this.delegate = delegate;
+            this.mmapExtensions = mmapExtensions;
         }
 
         @Override
@@ -163,35 +194,7 @@ public class FsDirectoryFactory implements IndexStorePlugin.DirectoryFactory {
         }
 
         boolean useDelegate(String name) {
-            String extension = FileSwitchDirectory.getExtension(name);
-            switch(extension) {
-                // Norms, doc values and term dictionaries are typically performance-sensitive and hot in the page
-                // cache, so we use mmap, which provides better performance.
-                case "nvd":
-                case "dvd":
-                case "tim":
-                // We want to open the terms index and KD-tree index off-heap to save memory, but this only performs
-                // well if using mmap.
-                case "tip":
-                // dim files only apply up to lucene 8.x indices. It can be removed once we are in lucene 10
-                case "dim":
-                case "kdd":
-                case "kdi":
-                // Compound files are tricky because they store all the information for the segment. Benchmarks
-                // suggested that not mapping them hurts performance.
-                case "cfs":
-                // MMapDirectory has special logic to read long[] arrays in little-endian order that helps speed
-                // up the decoding of postings. The same logic applies to positions (.pos) of offsets (.pay) but we
-                // are not mmaping them as queries that leverage positions are more costly and the decoding of postings
-                // tends to be less a bottleneck.
-                case "doc":
-                    return true;
-                // Other files are either less performance-sensitive (e.g. stored field index, norms metadata)
-                // or are large and have a random access pattern and mmap leads to page cache trashing
-                // (e.g. stored fields and term vectors).
-                default:
-                    return false;
-            }
+            return mmapExtensions.contains(FileSwitchDirectory.getExtension(name));
         }
 
         MMapDirectory getDelegate() {
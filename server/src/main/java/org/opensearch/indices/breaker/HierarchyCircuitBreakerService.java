@@ -121,6 +121,16 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
     public static final Setting<CircuitBreaker.Type> IN_FLIGHT_REQUESTS_CIRCUIT_BREAKER_TYPE_SETTING =
         new Setting<>("network.breaker.inflight_requests.type", "memory", CircuitBreaker.Type::parseValue, Property.NodeScope);
 
+    /**
+     * Limits the direct memory of big arrays, see {@link org.opensearch.common.util.BigArrays#MEMORY_TYPE_SETTING}. The percentage is
+     * relative to the heap, like the limits of the other breakers, and the default leaves room for the direct memory of the network layer
+     * since the maximum direct memory defaults to half of the heap.
+     */
+    public static final Setting<ByteSizeValue> NATIVE_CIRCUIT_BREAKER_LIMIT_SETTING =
+        Setting.memorySizeSetting("indices.breaker.native.limit", "25%", Property.Dynamic, Property.NodeScope);
+    public static final Setting<Double> NATIVE_CIRCUIT_BREAKER_OVERHEAD_SETTING =
+        Setting.doubleSetting("indices.breaker.native.overhead", 1.0d, 0.0d, Property.Dynamic, Property.NodeScope);
+
     private final boolean trackRealMemoryUsage;
     private volatile BreakerSettings parentSettings;
 
@@ -164,6 +174,16 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
                 ACCOUNTING_CIRCUIT_BREAKER_TYPE_SETTING.get(settings),
                 CircuitBreaker.Durability.PERMANENT
         )));
+        // direct memory is not part of the heap that the parent breaker limits
+        childCircuitBreakers.put(CircuitBreaker.NATIVE, new ChildMemoryCircuitBreaker(
+            new BreakerSettings(CircuitBreaker.NATIVE,
+                NATIVE_CIRCUIT_BREAKER_LIMIT_SETTING.get(settings).getBytes(),
+                NATIVE_CIRCUIT_BREAKER_OVERHEAD_SETTING.get(settings),
+                CircuitBreaker.Type.MEMORY,
+                CircuitBreaker.Durability.TRANSIENT),
+            LogManager.getLogger(CHILD_LOGGER_PREFIX + CircuitBreaker.NATIVE),
+            null,
+            CircuitBreaker.NATIVE));
         for (BreakerSettings breakerSettings : customBreakers) {
             if (childCircuitBreakers.containsKey(breakerSettings.getName())) {
                 throw new IllegalArgumentException("More than one circuit breaker with the name ["
@@ -194,6 +214,9 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
         clusterSettings.addSettingsUpdateConsumer(ACCOUNTING_CIRCUIT_BREAKER_LIMIT_SETTING,
             ACCOUNTING_CIRCUIT_BREAKER_OVERHEAD_SETTING,
             (limit, overhead) -> updateCircuitBreakerSettings(CircuitBreaker.ACCOUNTING, limit, overhead));
+        clusterSettings.addSettingsUpdateConsumer(NATIVE_CIRCUIT_BREAKER_LIMIT_SETTING,
+            NATIVE_CIRCUIT_BREAKER_OVERHEAD_SETTING,
+            (limit, overhead) -> updateCircuitBreakerSettings(CircuitBreaker.NATIVE, limit, overhead));
         clusterSettings.addAffixUpdateConsumer(CIRCUIT_BREAKER_LIMIT_SETTING,
             CIRCUIT_BREAKER_OVERHEAD_SETTING,
             (name, updatedValues) -> updateCircuitBreakerSettings(name, updatedValues.v1(), updatedValues.v2()),
@@ -282,6 +305,9 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
         long permanentUsage = 0;
 
         for (CircuitBreaker breaker : this.breakers.values()) {
+            if (CircuitBreaker.NATIVE.equals(breaker.getName())) {
+                continue;
+            }
             long breakerUsed = (long)(breaker.getUsed() * breaker.getOverhead());
             if (breaker.getDurability() == CircuitBreaker.Durability.TRANSIENT) {
                 transientUsage += breakerUsed;
@@ -345,7 +371,7 @@ public class HierarchyCircuitBreakerService extends CircuitBreakerService {
                 message.append("]");
             }
             message.append(", usages [");
-            message.append(this.breakers.entrySet().stream().map(e -> {
+            message.append(this.breakers.entrySet().stream().filter(e -> CircuitBreaker.NATIVE.equals(e.getKey()) == false).map(e -> {
                     final CircuitBreaker breaker = e.getValue();
                     final long breakerUsed = (long)(breaker.getUsed() * breaker.getOverhead());
                     return e.getKey() + "=" + breakerUsed + "/" + new ByteSizeValue(breakerUsed);
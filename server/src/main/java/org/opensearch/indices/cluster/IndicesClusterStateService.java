@@ -258,7 +258,7 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
 
         createIndices(state);
 
-        createOrUpdateShards(state);
+        createOrUpdateShards(event);
     }
 
     /**
@@ -563,7 +563,8 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
         }
     }
 
-    private void createOrUpdateShards(final ClusterState state) {
+    private void createOrUpdateShards(final ClusterChangedEvent event) {
+        final ClusterState state = event.state();
         RoutingNode localRoutingNode = state.getRoutingNodes().node(state.nodes().getLocalNodeId());
         if (localRoutingNode == null) {
             return;
@@ -571,6 +572,10 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
 
         DiscoveryNodes nodes = state.nodes();
         RoutingTable routingTable = state.routingTable();
+        // only the shards whose routing table or index metadata changed since the previous cluster state need to be updated. a new
+        // master sends the full cluster state, so all shards are updated then, which also resends the shard started messages the
+        // previous master may have lost
+        final Set<ShardId> changedShardRoutings = event.nodesDelta().masterNodeChanged() ? null : event.changedShardRoutingSet();
 
         for (final ShardRouting shardRouting : localRoutingNode) {
             ShardId shardId = shardRouting.shardId();
@@ -581,13 +586,21 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
                 if (shard == null) {
                     assert shardRouting.initializing() : shardRouting + " should have been removed by failMissingShards";
                     createShard(nodes, routingTable, shardRouting, state);
-                } else {
+                } else if (changedShardRoutings == null || changedShardRoutings.contains(shardId)
+                    || shardRouting.initializing() // a recovery may have completed since, which needs to be reported to the master
+                    || indexMetadataChanged(event.previousState(), state, shardId.getIndex())) {
                     updateShard(nodes, shardRouting, shard, routingTable, state);
                 }
             }
         }
     }
 
+    private static boolean indexMetadataChanged(ClusterState previousState, ClusterState state, Index index) {
+        final IndexMetadata previousIndexMetadata = previousState.metadata().index(index);
+        return previousIndexMetadata == null
+            || ClusterChangedEvent.indexMetadataChanged(previousIndexMetadata, state.metadata().index(index));
+    }
+
     private void createShard(DiscoveryNodes nodes, RoutingTable routingTable, ShardRouting shardRouting, ClusterState state) {
         assert shardRouting.initializing() : "only allow shard creation for initializing shard but was " + shardRouting;
 
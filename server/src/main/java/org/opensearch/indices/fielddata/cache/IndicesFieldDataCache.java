@@ -109,6 +109,10 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
                     key.shardId, indexCache.fieldName,
                     notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED, value.ramBytesUsed()
                 );
+                if (value instanceof LeafFieldData == false) {
+                    // the global ordinals of a reader rather than the field data of a segment
+                    listener.onGlobalOrdinalsRemoval(key.shardId, indexCache.fieldName, value.ramBytesUsed());
+                }
             } catch (Exception e) {
                 // load anyway since listeners should not throw exceptions
                 logger.error("Failed to call listener on field data cache unloading", e);
@@ -184,9 +188,12 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
             final Accountable accountable = cache.computeIfAbsent(key, k -> {
                 OpenSearchDirectoryReader.addReaderCloseListener(indexReader, IndexFieldCache.this);
                 Collections.addAll(k.listeners, this.listeners);
+                final long startTimeNS = System.nanoTime();
                 final Accountable ifd = (Accountable) indexFieldData.loadGlobalDirect(indexReader);
+                final long tookInNanos = System.nanoTime() - startTimeNS;
                 for (Listener listener : k.listeners) {
                     try {
+                        listener.onGlobalOrdinalsBuilt(shardId, fieldName, tookInNanos, ifd.ramBytesUsed());
                         listener.onCache(shardId, fieldName, ifd);
                     } catch (Exception e) {
                         // load anyway since listeners should not throw exceptions
@@ -198,6 +205,12 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
             return (IFD) accountable;
         }
 
+        @Override
+        public boolean containsGlobal(DirectoryReader indexReader) {
+            final IndexReader.CacheHelper cacheHelper = indexReader.getReaderCacheHelper();
+            return cacheHelper != null && cache.get(new Key(this, cacheHelper.getKey(), null)) != null;
+        }
+
         @Override
         public void onClose(CacheKey key) throws IOException {
             cache.invalidate(new Key(this, key, null));
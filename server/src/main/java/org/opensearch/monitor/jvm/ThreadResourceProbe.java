@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.monitor.jvm;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+
+/**
+ * Reads the resources that single threads of the JVM used so far, which lets callers attribute the CPU time and the heap allocations of a
+ * thread to the work it executed in between two reads.
+ */
+public final class ThreadResourceProbe {
+
+    private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    private static final boolean cpuTimeEnabled;
+    private static final Method getThreadAllocatedBytes;
+
+    static {
+        boolean enabled;
+        try {
+            enabled = threadMXBean.isThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+        } catch (Exception t) {
+            enabled = false;
+        }
+        cpuTimeEnabled = enabled;
+        getThreadAllocatedBytes = getAllocatedBytesMethod();
+    }
+
+    private ThreadResourceProbe() {
+    }
+
+    /**
+     * Returns the CPU time (in nanoseconds) that the given thread used so far, or -1 if not supported or if the thread is not alive.
+     */
+    public static long getThreadCpuTimeNanos(long threadId) {
+        if (cpuTimeEnabled == false) {
+            return -1;
+        }
+        try {
+            return threadMXBean.getThreadCpuTime(threadId);
+        } catch (Exception t) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the number of bytes that the given thread allocated on the heap so far, or -1 if not supported or if the thread is not alive.
+     */
+    public static long getThreadAllocatedBytes(long threadId) {
+        if (getThreadAllocatedBytes == null) {
+            return -1;
+        }
+        try {
+            return (long) getThreadAllocatedBytes.invoke(threadMXBean, threadId);
+        } catch (Exception t) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the getThreadAllocatedBytes method of the ThreadMXBean,
+     * or null if the method is not found or unavailable.
+     */
+    private static Method getAllocatedBytesMethod() {
+        try {
+            final Class<?> clazz = Class.forName("com.sun.management.ThreadMXBean");
+            if ((boolean) clazz.getMethod("isThreadAllocatedMemorySupported").invoke(threadMXBean) == false
+                || (boolean) clazz.getMethod("isThreadAllocatedMemoryEnabled").invoke(threadMXBean) == false) {
+                return null;
+            }
+            return clazz.getMethod("getThreadAllocatedBytes", long.class);
+        } catch (Exception t) {
+            // not available
+            return null;
+        }
+    }
+}
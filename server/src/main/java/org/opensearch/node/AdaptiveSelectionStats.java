@@ -32,6 +32,7 @@
 
 package org.opensearch.node;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -51,28 +52,50 @@ import java.util.stream.Collectors;
 /**
  * Class representing statistics about adaptive replica selection. This includes
  * EWMA of queue size, service time, and response time, as well as outgoing
- * searches to each node and the "rank" based on the ARS formula.
+ * searches to each node and the "rank" based on the ARS formula. It also
+ * counts the shard queries that were hedged to another copy of the shard.
  */
 public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
 
     private final Map<String, Long> clientOutgoingConnections;
     private final Map<String, ResponseCollectorService.ComputedNodeStats> nodeComputedStats;
+    private final long hedgedRequests;
+    private final long hedgedRequestWins;
 
     public AdaptiveSelectionStats(Map<String, Long> clientConnections,
                                   Map<String, ResponseCollectorService.ComputedNodeStats> nodeComputedStats) {
+        this(clientConnections, nodeComputedStats, 0, 0);
+    }
+
+    public AdaptiveSelectionStats(Map<String, Long> clientConnections,
+                                  Map<String, ResponseCollectorService.ComputedNodeStats> nodeComputedStats,
+                                  long hedgedRequests, long hedgedRequestWins) {
         this.clientOutgoingConnections = clientConnections;
         this.nodeComputedStats = nodeComputedStats;
+        this.hedgedRequests = hedgedRequests;
+        this.hedgedRequestWins = hedgedRequestWins;
     }
 
     public AdaptiveSelectionStats(StreamInput in) throws IOException {
         this.clientOutgoingConnections = in.readMap(StreamInput::readString, StreamInput::readLong);
         this.nodeComputedStats = in.readMap(StreamInput::readString, ResponseCollectorService.ComputedNodeStats::new);
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            this.hedgedRequests = in.readVLong();
+            this.hedgedRequestWins = in.readVLong();
+        } else {
+            this.hedgedRequests = 0;
+            this.hedgedRequestWins = 0;
+        }
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeMap(this.clientOutgoingConnections, StreamOutput::writeString, StreamOutput::writeLong);
         out.writeMap(this.nodeComputedStats, StreamOutput::writeString, (stream, stats) -> stats.writeTo(stream));
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeVLong(hedgedRequests);
+            out.writeVLong(hedgedRequestWins);
+        }
     }
 
     @Override
@@ -98,6 +121,10 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
             }
             builder.endObject();
         }
+        builder.startObject("hedged_requests");
+        builder.field("total", hedgedRequests);
+        builder.field("won", hedgedRequestWins);
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -116,6 +143,20 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
         return nodeComputedStats;
     }
 
+    /**
+     * Returns the number of shard queries that were duplicated to another copy of the shard because they took longer than expected
+     */
+    public long getHedgedRequests() {
+        return hedgedRequests;
+    }
+
+    /**
+     * Returns the number of hedged shard queries for which the duplicate returned before the original request
+     */
+    public long getHedgedRequestWins() {
+        return hedgedRequestWins;
+    }
+
     /**
      * Returns a map of node id to the ranking of the nodes based on the adaptive replica formula
      */
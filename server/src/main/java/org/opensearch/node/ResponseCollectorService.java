@@ -40,25 +40,45 @@ import org.opensearch.common.ExponentiallyWeightedMovingAverage;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.Index;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Collects statistics about queue size, response time, and service time of
  * tasks executed on each node, making the EWMA of the values available to the
- * coordinating node.
+ * coordinating node. It also keeps the latencies of the recent shard queries
+ * of each index of the local cluster, which are used to decide when to hedge a
+ * shard query, and the number of hedged shard queries that are running.
  */
 public final class ResponseCollectorService implements ClusterStateListener {
 
     private static final double ALPHA = 0.3;
 
+    /**
+     * The number of recent shard query latencies that are kept per index.
+     */
+    static final int QUERY_LATENCY_SAMPLES = 128;
+
+    /**
+     * The minimum number of shard query latencies that must have been recorded for an index before its percentiles are available.
+     */
+    static final int MIN_QUERY_LATENCY_SAMPLES = 16;
+
     private final ConcurrentMap<String, NodeStatistics> nodeIdToStats = ConcurrentCollections.newConcurrentMap();
+    private final ConcurrentMap<String, QueryLatencies> indexToQueryLatencies = ConcurrentCollections.newConcurrentMap();
+    private final AtomicLong hedgedRequestsInFlight = new AtomicLong();
+    private final CounterMetric hedgedRequests = new CounterMetric();
+    private final CounterMetric hedgedRequestWins = new CounterMetric();
 
     public ResponseCollectorService(ClusterService clusterService) {
         clusterService.addListener(this);
@@ -71,6 +91,9 @@ public final class ResponseCollectorService implements ClusterStateListener {
                 removeNode(removedNode.getId());
             }
         }
+        for (Index deletedIndex : event.indicesDeleted()) {
+            indexToQueryLatencies.remove(deletedIndex.getName());
+        }
     }
 
     void removeNode(String nodeId) {
@@ -103,7 +126,65 @@ public final class ResponseCollectorService implements ClusterStateListener {
     }
 
     public AdaptiveSelectionStats getAdaptiveStats(Map<String, Long> clientSearchConnections) {
-        return new AdaptiveSelectionStats(clientSearchConnections, getAllNodeStatistics());
+        return new AdaptiveSelectionStats(clientSearchConnections, getAllNodeStatistics(), hedgedRequests.count(),
+            hedgedRequestWins.count());
+    }
+
+    /**
+     * Records the time it took, from the point of view of the coordinating node, to execute a query on a shard of the given index. Only
+     * indices of the local cluster must be recorded: the latencies of an index are dropped when it is deleted from the cluster state.
+     */
+    public void addQueryLatency(String index, long latencyNanos) {
+        indexToQueryLatencies.computeIfAbsent(index, i -> new QueryLatencies()).add(latencyNanos);
+    }
+
+    /**
+     * Returns the given percentile of the latencies of the recent shard queries of the given index in nanoseconds, or {@code -1} if not
+     * enough queries have been recorded for the index yet.
+     */
+    public long getQueryLatencyPercentile(String index, double percentile) {
+        final QueryLatencies latencies = indexToQueryLatencies.get(index);
+        return latencies == null ? -1 : latencies.percentile(percentile);
+    }
+
+    /**
+     * Called before a shard query is duplicated to another copy of the shard because it took longer than expected. Returns {@code false}
+     * if {@code maxInFlight} hedged shard queries are already running, in which case the query must not be duplicated. Otherwise
+     * {@link #onHedgedRequestDone()} must be called once the duplicate completes.
+     */
+    public boolean tryStartHedgedRequest(long maxInFlight) {
+        while (true) {
+            final long inFlight = hedgedRequestsInFlight.get();
+            if (inFlight >= maxInFlight) {
+                return false;
+            }
+            if (hedgedRequestsInFlight.compareAndSet(inFlight, inFlight + 1)) {
+                hedgedRequests.inc();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Called when a shard query started with {@link #tryStartHedgedRequest(long)} completed.
+     */
+    public void onHedgedRequestDone() {
+        final long inFlight = hedgedRequestsInFlight.decrementAndGet();
+        assert inFlight >= 0 : "more hedged requests completed than started";
+    }
+
+    /**
+     * The number of hedged shard queries that are running.
+     */
+    long getHedgedRequestsInFlight() {
+        return hedgedRequestsInFlight.get();
+    }
+
+    /**
+     * Called when the duplicate of a hedged shard query returned before the original request.
+     */
+    public void onHedgedRequestWon() {
+        hedgedRequestWins.inc();
     }
 
     /**
@@ -235,4 +316,29 @@ public final class ResponseCollectorService implements ClusterStateListener {
             this.serviceTime = serviceTimeEWMA;
         }
     }
+
+    /**
+     * A fixed size ring of the most recent shard query latencies of an index.
+     */
+    private static class QueryLatencies {
+        private final long[] latencies = new long[QUERY_LATENCY_SAMPLES];
+        private long count;
+
+        synchronized void add(long latencyNanos) {
+            latencies[(int) (count++ % latencies.length)] = latencyNanos;
+        }
+
+        long percentile(double percentile) {
+            final long[] sorted;
+            synchronized (this) {
+                if (count < MIN_QUERY_LATENCY_SAMPLES) {
+                    return -1;
+                }
+                sorted = Arrays.copyOf(latencies, (int) Math.min(count, latencies.length));
+            }
+            Arrays.sort(sorted);
+            final int rank = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(rank, sorted.length - 1))];
+        }
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.admin.cluster;
+
+import org.opensearch.action.admin.cluster.insights.TopQueriesAction;
+import org.opensearch.action.admin.cluster.insights.TopQueriesRequest;
+import org.opensearch.action.admin.cluster.insights.TopQueriesResponse;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.Strings;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.rest.action.RestActions;
+import org.opensearch.rest.action.RestBuilderListener;
+import org.opensearch.search.insights.QueryGroup;
+
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.GET;
+
+public class RestTopQueriesAction extends BaseRestHandler {
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(asList(
+            new Route(GET, "/_insights/top_queries"),
+            new Route(GET, "/_insights/{nodeId}/top_queries")));
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        String[] nodesIds = Strings.splitStringByCommaToArray(request.param("nodeId"));
+        TopQueriesRequest topQueriesRequest = new TopQueriesRequest(nodesIds);
+        topQueriesRequest.timeout(request.param("timeout"));
+        topQueriesRequest.metric(QueryGroup.Metric.fromString(request.param("type", QueryGroup.Metric.LATENCY.getName())));
+        topQueriesRequest.size(request.paramAsInt("size", topQueriesRequest.size()));
+
+        return channel -> client.execute(TopQueriesAction.INSTANCE, topQueriesRequest,
+            new RestBuilderListener<TopQueriesResponse>(channel) {
+
+            @Override
+            public RestResponse buildResponse(TopQueriesResponse response, XContentBuilder builder) throws Exception {
+                builder.startObject();
+                RestActions.buildNodesHeader(builder, channel.request(), response);
+                builder.field("cluster_name", response.getClusterName().value());
+                response.toXContent(builder, channel.request());
+                builder.endObject();
+
+                return new BytesRestResponse(RestStatus.OK, builder);
+            }
+        });
+    }
+
+    @Override
+    public String getName() {
+        return "top_queries_action";
+    }
+
+    @Override
+    public boolean canTripCircuitBreaker() {
+        return false;
+    }
+}
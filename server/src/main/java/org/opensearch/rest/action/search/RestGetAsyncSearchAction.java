@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.opensearch.action.search.async.GetAsyncSearchAction;
+import org.opensearch.action.search.async.GetAsyncSearchRequest;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestStatusToXContentListener;
+
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.opensearch.rest.RestRequest.Method.GET;
+
+public class RestGetAsyncSearchAction extends BaseRestHandler {
+
+    @Override
+    public String getName() {
+        return "get_async_search_action";
+    }
+
+    @Override
+    public List<Route> routes() {
+        return singletonList(new Route(GET, "/_async_search/{id}"));
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
+        GetAsyncSearchRequest getRequest = new GetAsyncSearchRequest(request.param("id"));
+        getRequest.setWaitForCompletionTimeout(
+            request.paramAsTime("wait_for_completion_timeout", getRequest.getWaitForCompletionTimeout()));
+        getRequest.setKeepAlive(request.paramAsTime("keep_alive", null));
+        return channel -> client.execute(GetAsyncSearchAction.INSTANCE, getRequest, new RestStatusToXContentListener<>(channel));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.async.AsyncSearchService;
+import org.opensearch.action.search.async.SubmitAsyncSearchAction;
+import org.opensearch.action.search.async.SubmitAsyncSearchRequest;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestStatusToXContentListener;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.POST;
+import static org.opensearch.rest.action.search.RestSearchAction.parseSearchRequest;
+
+public class RestSubmitAsyncSearchAction extends BaseRestHandler {
+
+    @Override
+    public String getName() {
+        return "submit_async_search_action";
+    }
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(asList(
+            new Route(POST, "/_async_search"),
+            new Route(POST, "/{index}/_async_search")));
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.setBatchedReduceSize(AsyncSearchService.DEFAULT_BATCHED_REDUCE_SIZE);
+        IntConsumer setSize = size -> searchRequest.source().size(size);
+        request.withContentOrSourceParamParserOrNull(parser ->
+            parseSearchRequest(searchRequest, request, parser, client.getNamedWriteableRegistry(), setSize));
+
+        SubmitAsyncSearchRequest submitRequest = new SubmitAsyncSearchRequest(searchRequest);
+        submitRequest.setWaitForCompletionTimeout(
+            request.paramAsTime("wait_for_completion_timeout", submitRequest.getWaitForCompletionTimeout()));
+        submitRequest.setKeepAlive(request.paramAsTime("keep_alive", null));
+        submitRequest.setKeepOnCompletion(request.paramAsBoolean("keep_on_completion", submitRequest.isKeepOnCompletion()));
+        return channel -> client.execute(SubmitAsyncSearchAction.INSTANCE, submitRequest, new RestStatusToXContentListener<>(channel));
+    }
+}
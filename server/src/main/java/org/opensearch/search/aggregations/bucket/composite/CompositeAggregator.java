@@ -49,6 +49,7 @@ import org.apache.lucene.search.LeafFieldComparator;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.SortedNumericSelector;
@@ -80,6 +81,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
 
@@ -103,6 +105,12 @@ final class CompositeAggregator extends BucketsAggregator {
 
     private boolean earlyTerminated;
 
+    private int segmentsSkipped;
+    private long docsSkipped;
+    private int segmentsCollectedFromAfterQuery;
+    private int segmentsCollectedFromIndexSort;
+    private int segmentsCollectedFromSortedDocs;
+
     CompositeAggregator(String name, AggregatorFactories factories, SearchContext context, Aggregator parent,
                         Map<String, Object> metadata,
                         int size, CompositeValuesSourceConfig[] sourceConfigs, CompositeKey rawAfterKey) throws IOException {
@@ -189,6 +197,16 @@ final class CompositeAggregator extends BucketsAggregator {
             false, metadata());
     }
 
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        add.accept("segments_skipped", segmentsSkipped);
+        add.accept("docs_skipped", docsSkipped);
+        add.accept("segments_collected_from_sorted_docs", segmentsCollectedFromSortedDocs);
+        add.accept("segments_collected_from_index_sort", segmentsCollectedFromIndexSort);
+        add.accept("segments_collected_from_after_query", segmentsCollectedFromAfterQuery);
+    }
+
     private void finishLeaf() {
         if (currentLeaf != null) {
             DocIdSet docIdSet = docIdSetBuilder.build();
@@ -370,16 +388,24 @@ final class CompositeAggregator extends BucketsAggregator {
             // include all docs that belong to the partial bucket
             fieldDoc.doc = -1;
         }
+        processLeafFromQuery(ctx, new SearchAfterSortedDocQuery(applySortFieldRounding(indexSortPrefix), fieldDoc),
+            indexSortPrefix.getSort().length);
+    }
+
+    /**
+     * Collects the documents of the leaf that match both the query and the provided <code>filter</code>.
+     */
+    private void processLeafFromQuery(LeafReaderContext ctx, Query filter, int indexSortPrefixLen) throws IOException {
         BooleanQuery newQuery = new BooleanQuery.Builder()
             .add(context.query(), BooleanClause.Occur.MUST)
-            .add(new SearchAfterSortedDocQuery(applySortFieldRounding(indexSortPrefix), fieldDoc), BooleanClause.Occur.FILTER)
+            .add(filter, BooleanClause.Occur.FILTER)
             .build();
         Weight weight = context.searcher().createWeight(context.searcher().rewrite(newQuery), ScoreMode.COMPLETE_NO_SCORES, 1f);
         Scorer scorer = weight.scorer(ctx);
         if (scorer != null) {
             DocIdSetIterator docIt = scorer.iterator();
             final LeafBucketCollector inner = queue.getLeafCollector(ctx,
-                getFirstPassCollector(docIdSetBuilder, indexSortPrefix.getSort().length));
+                getFirstPassCollector(docIdSetBuilder, indexSortPrefixLen));
             inner.setScorer(scorer);
             final Bits liveDocs = ctx.reader().getLiveDocs();
             while (docIt.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
@@ -390,10 +416,52 @@ final class CompositeAggregator extends BucketsAggregator {
         }
     }
 
+    /**
+     * Returns true if none of the documents in the leaf can produce a competitive bucket, either because
+     * the values of the leading source are all before the after key or all after the last bucket of the
+     * queue when it is full.
+     */
+    private boolean canSkipLeaf(LeafReaderContext ctx) throws IOException {
+        if (sourceConfigs[0].hasScript()) {
+            return false;
+        }
+        return sources[0].canSkipLeaf(ctx, queue.getLowerValueLeadSource(), queue.getUpperValueLeadSource());
+    }
+
+    /**
+     * Returns a filter on the leading source that excludes the documents before the after key if it
+     * is expected to skip at least half of the documents in the leaf, null otherwise.
+     */
+    private Query createAfterQueryOrNull(LeafReaderContext ctx) throws IOException {
+        if (rawAfterKey == null || sourceConfigs[0].hasScript()) {
+            return null;
+        }
+        final Query afterQuery = sources[0].createAfterQueryOrNull();
+        if (afterQuery == null) {
+            return null;
+        }
+        Weight weight = context.searcher().createWeight(context.searcher().rewrite(afterQuery), ScoreMode.COMPLETE_NO_SCORES, 1f);
+        ScorerSupplier scorerSupplier = weight.scorerSupplier(ctx);
+        if (scorerSupplier == null || scorerSupplier.cost() * 2 > ctx.reader().maxDoc()) {
+            // running the query again is not worth it if the filter doesn't skip most of the documents
+            return null;
+        }
+        return afterQuery;
+    }
+
     @Override
     protected LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
         finishLeaf();
 
+        if (canSkipLeaf(ctx)) {
+            // The leading source cannot produce a competitive bucket in this segment so we can
+            // skip it entirely, see {@link MultiCollector} for more details on how we handle early
+            // termination in aggregations.
+            segmentsSkipped++;
+            docsSkipped += ctx.reader().numDocs();
+            throw new CollectionTerminatedException();
+        }
+
         boolean fillDocIdSet = deferredCollectors != NO_OP_COLLECTOR;
 
         Sort indexSortPrefix = buildIndexSortPrefix(ctx);
@@ -405,6 +473,7 @@ final class CompositeAggregator extends BucketsAggregator {
             // Visit documents sorted by the leading source of the composite definition and terminates
             // when the leading source value is guaranteed to be greater than the lowest composite bucket
             // in the queue.
+            segmentsCollectedFromSortedDocs++;
             DocIdSet docIdSet = sortedDocsProducer.processLeaf(context.query(), queue, ctx, fillDocIdSet);
             if (fillDocIdSet) {
                 entries.add(new Entry(ctx, docIdSet));
@@ -423,8 +492,17 @@ final class CompositeAggregator extends BucketsAggregator {
                 // We have an after key and index sort is applicable so we jump directly to the doc
                 // that is after the index sort prefix using the rawAfterKey and we start collecting
                 // document from there.
+                segmentsCollectedFromIndexSort++;
                 processLeafFromQuery(ctx, indexSortPrefix);
                 throw new CollectionTerminatedException();
+            }
+            final Query afterQuery = sortPrefixLen == 0 ? createAfterQueryOrNull(ctx) : null;
+            if (afterQuery != null) {
+                // We have an after key and the points of the leading source can filter most of the documents
+                // that were collected in the previous pages so we only collect the documents after the rawAfterKey.
+                segmentsCollectedFromAfterQuery++;
+                processLeafFromQuery(ctx, afterQuery, sortPrefixLen);
+                throw new CollectionTerminatedException();
             } else {
                 final LeafBucketCollector inner = queue.getLeafCollector(ctx, getFirstPassCollector(docIdSetBuilder, sortPrefixLen));
                 return new LeafBucketCollector() {
@@ -193,6 +193,11 @@ class GlobalOrdinalValuesSource extends SingleDimensionValuesSource<BytesRef> {
         };
     }
 
+    @Override
+    boolean canSkipLeaf(LeafReaderContext context, Comparable lowerBucket, Comparable upperBucket) throws IOException {
+        return canSkipLeafFromTerms(context, lowerBucket, upperBucket);
+    }
+
     @Override
     SortedDocsProducer createSortedDocsProducerOrNull(IndexReader reader, Query query) {
         if (checkIfSortedDocsIsApplicable(reader, fieldType) == false ||
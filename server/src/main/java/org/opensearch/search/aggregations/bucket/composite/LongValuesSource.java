@@ -36,12 +36,14 @@ import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.IndexOrDocValuesQuery;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.PointRangeQuery;
 import org.apache.lucene.search.Query;
 import org.opensearch.common.CheckedFunction;
@@ -259,29 +261,87 @@ class LongValuesSource extends SingleDimensionValuesSource<Long> {
             upperPoint = null;
         }
 
-        if (fieldType instanceof NumberFieldMapper.NumberFieldType) {
-            NumberFieldMapper.NumberFieldType ft = (NumberFieldMapper.NumberFieldType) fieldType;
-            final ToLongFunction<byte[]> toBucketFunction;
+        final ToLongFunction<byte[]> toBucketFunction = createBucketFunctionOrNull();
+        if (toBucketFunction == null) {
+            return null;
+        }
+        return new PointsSortedDocsProducer(fieldType.name(), toBucketFunction, lowerPoint, upperPoint);
+    }
 
-            switch (ft.typeName()) {
+    /**
+     * Returns a function that decodes a point of the field and rounds it to its bucket
+     * or null if the points of the field cannot be decoded.
+     */
+    private ToLongFunction<byte[]> createBucketFunctionOrNull() {
+        if (fieldType instanceof NumberFieldMapper.NumberFieldType) {
+            switch (fieldType.typeName()) {
                 case "long":
-                    toBucketFunction = (value) -> rounding.applyAsLong(LongPoint.decodeDimension(value, 0));
-                    break;
+                    return (value) -> rounding.applyAsLong(LongPoint.decodeDimension(value, 0));
 
                 case "int":
                 case "short":
                 case "byte":
-                    toBucketFunction = (value) -> rounding.applyAsLong(IntPoint.decodeDimension(value, 0));
-                    break;
+                    return (value) -> rounding.applyAsLong(IntPoint.decodeDimension(value, 0));
 
                 default:
                     return null;
             }
-            return new PointsSortedDocsProducer(fieldType.name(), toBucketFunction, lowerPoint, upperPoint);
         } else if (fieldType instanceof DateFieldMapper.DateFieldType) {
             ToLongFunction<byte[]> decode = ((DateFieldMapper.DateFieldType) fieldType).resolution()::parsePointAsMillis;
-            ToLongFunction<byte[]> toBucketFunction = value -> rounding.applyAsLong(decode.applyAsLong(value));
-            return new PointsSortedDocsProducer(fieldType.name(), toBucketFunction, lowerPoint, upperPoint);
+            return value -> rounding.applyAsLong(decode.applyAsLong(value));
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    boolean canSkipLeaf(LeafReaderContext context, Comparable lowerBucket, Comparable upperBucket) throws IOException {
+        if (checkIfSkippingIsApplicable(lowerBucket) == false) {
+            return false;
+        }
+        final ToLongFunction<byte[]> toBucketFunction = createBucketFunctionOrNull();
+        if (toBucketFunction == null) {
+            return false;
+        }
+        final PointValues pointValues = context.reader().getPointValues(fieldType.name());
+        if (pointValues == null) {
+            // no document has a value in this segment
+            return true;
+        }
+        // the rounding is monotonic (including date roundings in a time zone) so the buckets of the
+        // minimum and maximum points of the segment are the bounds of all the buckets of the segment
+        long minBucket = toBucketFunction.applyAsLong(pointValues.getMinPackedValue());
+        long maxBucket = toBucketFunction.applyAsLong(pointValues.getMaxPackedValue());
+        return isOutsideOfBounds(minBucket, maxBucket, lowerBucket, upperBucket);
+    }
+
+    @Override
+    Query createAfterQueryOrNull() {
+        if (afterValue == null || reverseMul == -1 || checkIfSkippingIsApplicable(afterValue) == false) {
+            return null;
+        }
+        // values are always rounded down so a value that is smaller than the after value
+        // cannot produce a bucket that is greater than or equal to the after value
+        final long lowerValue = afterValue;
+        if (fieldType instanceof NumberFieldMapper.NumberFieldType) {
+            switch (fieldType.typeName()) {
+                case "long":
+                    return LongPoint.newRangeQuery(fieldType.name(), lowerValue, Long.MAX_VALUE);
+
+                case "int":
+                case "short":
+                case "byte":
+                    if (lowerValue > Integer.MAX_VALUE) {
+                        return new MatchNoDocsQuery();
+                    }
+                    return IntPoint.newRangeQuery(fieldType.name(), (int) Math.max(lowerValue, Integer.MIN_VALUE), Integer.MAX_VALUE);
+
+                default:
+                    return null;
+            }
+        } else if (fieldType instanceof DateFieldMapper.DateFieldType
+                && ((DateFieldMapper.DateFieldType) fieldType).resolution() == DateFieldMapper.Resolution.MILLISECONDS) {
+            return LongPoint.newRangeQuery(fieldType.name(), lowerValue, Long.MAX_VALUE);
         } else {
             return null;
         }
@@ -34,11 +34,14 @@ package org.opensearch.search.aggregations.bucket.composite;
 
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Terms;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.StringFieldType;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.sort.SortOrder;
@@ -159,6 +162,70 @@ abstract class SingleDimensionValuesSource<T extends Comparable<T>> implements R
      */
     abstract SortedDocsProducer createSortedDocsProducerOrNull(IndexReader reader, Query query);
 
+    /**
+     * Returns true if none of the documents in <code>context</code> can produce a bucket for this source that
+     * sorts between <code>lowerBucket</code> (inclusive) and <code>upperBucket</code> (inclusive), in which case
+     * the whole segment can be skipped. A null bound is ignored.
+     */
+    boolean canSkipLeaf(LeafReaderContext context, @Nullable Comparable lowerBucket,
+                        @Nullable Comparable upperBucket) throws IOException {
+        return false;
+    }
+
+    /**
+     * Returns a {@link Query} that filters out documents that can only produce buckets before the after
+     * value of this source or null if this source cannot filter documents this way.
+     */
+    Query createAfterQueryOrNull() {
+        return null;
+    }
+
+    /**
+     * Returns true if the values indexed for the field can be used to skip documents of this source.
+     */
+    protected boolean checkIfSkippingIsApplicable(@Nullable Comparable lowerBucket) {
+        // documents without value go in the missing bucket, which sorts first in ascending order and
+        // last in descending order. It is only guaranteed to be non-competitive when it sorts before
+        // the after key so we cannot skip anything in the other cases.
+        return fieldType != null
+            && fieldType.isSearchable()
+            && (missingBucket == false || (reverseMul == 1 && lowerBucket != null));
+    }
+
+    /**
+     * Returns true if all buckets between <code>minBucket</code> and <code>maxBucket</code> sort
+     * before <code>lowerBucket</code> or after <code>upperBucket</code>.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    protected boolean isOutsideOfBounds(Comparable minBucket, Comparable maxBucket,
+                                        @Nullable Comparable lowerBucket, @Nullable Comparable upperBucket) {
+        final Comparable first = reverseMul == 1 ? minBucket : maxBucket;
+        final Comparable last = reverseMul == 1 ? maxBucket : minBucket;
+        return (lowerBucket != null && reverseMul * last.compareTo(lowerBucket) < 0)
+            || (upperBucket != null && reverseMul * first.compareTo(upperBucket) > 0);
+    }
+
+    /**
+     * Implementation of {@link #canSkipLeaf} for sources that read the terms of a string field.
+     */
+    protected boolean canSkipLeafFromTerms(LeafReaderContext context, @Nullable Comparable lowerBucket,
+                                           @Nullable Comparable upperBucket) throws IOException {
+        if (checkIfSkippingIsApplicable(lowerBucket) == false || fieldType instanceof StringFieldType == false) {
+            return false;
+        }
+        final Terms terms = context.reader().terms(fieldType.name());
+        if (terms == null) {
+            // no document has a value in this segment
+            return true;
+        }
+        final BytesRef min = terms.getMin();
+        final BytesRef max = terms.getMax();
+        if (min == null || max == null) {
+            return true;
+        }
+        return isOutsideOfBounds(min, max, lowerBucket, upperBucket);
+    }
+
     /**
      * Returns true if a {@link SortedDocsProducer} should be used to optimize the execution.
      */
@@ -57,6 +57,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import static org.opensearch.search.aggregations.InternalOrder.isKeyAsc;
 import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
@@ -270,8 +271,12 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         }
     }
 
-    private List<B> reduceMergeSort(List<InternalAggregation> aggregations,
-                                    BucketOrder thisReduceOrder, ReduceContext reduceContext) {
+    /**
+     * Merges the buckets of the provided aggregations, which are sorted by key, and passes the reduced buckets to the sink as they are
+     * created so that only the buckets of the current key are buffered. Stops after {@code maxBuckets} reduced buckets.
+     */
+    private void reduceMergeSort(List<InternalAggregation> aggregations, BucketOrder thisReduceOrder, ReduceContext reduceContext,
+                                 int maxBuckets, Consumer<B> sink) {
         assert isKeyOrder(thisReduceOrder);
         final Comparator<MultiBucketsAggregation.Bucket> cmp = thisReduceOrder.comparator();
         final PriorityQueue<IteratorAndCurrent<B>> pq = new PriorityQueue<IteratorAndCurrent<B>>(aggregations.size()) {
@@ -288,7 +293,7 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 pq.add(new IteratorAndCurrent(terms.getBuckets().iterator()));
             }
         }
-        List<B> reducedBuckets = new ArrayList<>();
+        int numReducedBuckets = 0;
         // list of buckets coming from different shards that have the same key
         List<B> currentBuckets = new ArrayList<>();
         B lastBucket = null;
@@ -297,9 +302,11 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             assert lastBucket == null || cmp.compare(top.current(), lastBucket) >= 0;
             if (lastBucket != null && cmp.compare(top.current(), lastBucket) != 0) {
                 // the key changes, reduce what we already buffered and reset the buffer for current buckets
-                final B reduced = reduceBucket(currentBuckets, reduceContext);
-                reducedBuckets.add(reduced);
+                sink.accept(reduceBucket(currentBuckets, reduceContext));
                 currentBuckets.clear();
+                if (++numReducedBuckets >= maxBuckets) {
+                    break;
+                }
             }
             lastBucket = top.current();
             currentBuckets.add(top.current());
@@ -313,13 +320,11 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         }
 
         if (currentBuckets.isEmpty() == false) {
-            final B reduced = reduceBucket(currentBuckets, reduceContext);
-            reducedBuckets.add(reduced);
+            sink.accept(reduceBucket(currentBuckets, reduceContext));
         }
-        return reducedBuckets;
     }
 
-    private List<B> reduceLegacy(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
+    private void reduceLegacy(List<InternalAggregation> aggregations, ReduceContext reduceContext, Consumer<B> sink) {
         Map<Object, List<B>> bucketMap = new HashMap<>();
         for (InternalAggregation aggregation : aggregations) {
             @SuppressWarnings("unchecked")
@@ -335,12 +340,17 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 }
             }
         }
-        List<B> reducedBuckets =  new ArrayList<>();
         for (List<B> sameTermBuckets : bucketMap.values()) {
-            final B b = reduceBucket(sameTermBuckets, reduceContext);
-            reducedBuckets.add(b);
+            sink.accept(reduceBucket(sameTermBuckets, reduceContext));
+        }
+    }
+
+    private static void addDocCountError(Bucket<?> bucket, long sumDocCountError) {
+        if (sumDocCountError == -1) {
+            bucket.docCountError = -1;
+        } else {
+            bucket.docCountError += sumDocCountError;
         }
-        return reducedBuckets;
     }
 
     public InternalAggregation reduce(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
@@ -384,7 +394,6 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             }
         }
 
-        final List<B> reducedBuckets;
         /**
          * Buckets returned by a partial reduce or a shard response are sorted by key since {@link LegacyESVersion#V_7_10_0}.
          * That allows to perform a merge sort when reducing multiple aggregations together.
@@ -392,28 +401,30 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
          * the provided aggregations use a different {@link InternalTerms#reduceOrder}.
          */
         BucketOrder thisReduceOrder = getReduceOrder(aggregations);
-        if (isKeyOrder(thisReduceOrder)) {
+        final boolean mergeSort = isKeyOrder(thisReduceOrder);
+        if (mergeSort) {
             // extract the primary sort in case this is a compound order.
             thisReduceOrder = InternalOrder.key(isKeyAsc(thisReduceOrder) ? true : false);
-            reducedBuckets = reduceMergeSort(aggregations, thisReduceOrder, reduceContext);
-        } else {
-            reducedBuckets = reduceLegacy(aggregations, reduceContext);
         }
+        final BucketOrder mergeOrder = thisReduceOrder;
+        final long bucketsDocCountError = sumDocCountError;
         final B[] list;
         if (reduceContext.isFinalReduce()) {
-            final int size = Math.min(requiredSize, reducedBuckets.size());
+            int maxReducedBuckets = 0;
+            for (InternalAggregation aggregation : aggregations) {
+                maxReducedBuckets += ((InternalTerms<?, ?>) aggregation).getBuckets().size();
+            }
+            final int size = Math.min(requiredSize, maxReducedBuckets);
             // final comparator
             final BucketPriorityQueue<B> ordered = new BucketPriorityQueue<>(size, order.comparator());
-            for (B bucket : reducedBuckets) {
-                if (sumDocCountError == -1) {
-                    bucket.docCountError = -1;
-                } else {
-                    bucket.docCountError += sumDocCountError;
-                }
+            // reduced buckets go straight to the queue so that only the top buckets are retained
+            final long[] removedDocCount = new long[1];
+            final Consumer<B> sink = bucket -> {
+                addDocCountError(bucket, bucketsDocCountError);
                 if (bucket.docCount >= minDocCount) {
                     B removed = ordered.insertWithOverflow(bucket);
                     if (removed != null) {
-                        otherDocCount += removed.getDocCount();
+                        removedDocCount[0] += removed.getDocCount();
                         reduceContext.consumeBucketsAndMaybeBreak(-countInnerBucket(removed));
                     } else {
                         reduceContext.consumeBucketsAndMaybeBreak(1);
@@ -421,25 +432,34 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 } else {
                     reduceContext.consumeBucketsAndMaybeBreak(-countInnerBucket(bucket));
                 }
+            };
+            if (mergeSort) {
+                reduceMergeSort(aggregations, mergeOrder, reduceContext, Integer.MAX_VALUE, sink);
+            } else {
+                reduceLegacy(aggregations, reduceContext, sink);
             }
+            otherDocCount += removedDocCount[0];
             list = createBucketsArray(ordered.size());
             for (int i = ordered.size() - 1; i >= 0; i--) {
                 list[i] = ordered.pop();
             }
         } else {
-            // we can prune the list on partial reduce if the aggregation is ordered by key
-            // and not filtered (minDocCount == 0)
-            int size = isKeyOrder(order) && minDocCount == 0 ? Math.min(requiredSize, reducedBuckets.size()) : reducedBuckets.size();
-            list = createBucketsArray(size);
-            for (int i = 0; i < size; i++) {
+            final List<B> reducedBuckets = new ArrayList<>();
+            final Consumer<B> sink = bucket -> {
                 reduceContext.consumeBucketsAndMaybeBreak(1);
-                list[i] = reducedBuckets.get(i);
-                if (sumDocCountError == -1) {
-                    list[i].docCountError = -1;
-                } else {
-                    list[i].docCountError += sumDocCountError;
-                }
+                addDocCountError(bucket, bucketsDocCountError);
+                reducedBuckets.add(bucket);
+            };
+            if (mergeSort) {
+                // we can stop merging on partial reduce if the aggregation is ordered by key
+                // and not filtered (minDocCount == 0), the merge emits the buckets in that order
+                final int maxBuckets = isKeyOrder(order) && minDocCount == 0 ? requiredSize : Integer.MAX_VALUE;
+                reduceMergeSort(aggregations, mergeOrder, reduceContext, maxBuckets, sink);
+            } else {
+                reduceLegacy(aggregations, reduceContext, sink);
             }
+            list = createBucketsArray(reducedBuckets.size());
+            reducedBuckets.toArray(list);
         }
         long docCountError;
         if (sumDocCountError == -1) {
@@ -32,6 +32,7 @@
 package org.opensearch.search.aggregations.bucket.terms;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefBuilder;
@@ -114,13 +115,22 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
                 ctx,
                 sub,
                 this::addRequestCircuitBreakerBytes,
-                (s, doc, owningBucketOrd, bytes) -> {
-                    long bucketOrdinal = bucketOrds.add(owningBucketOrd, bytes);
-                    if (bucketOrdinal < 0) { // already seen
-                        bucketOrdinal = -1 - bucketOrdinal;
-                        collectExistingBucket(s, doc, bucketOrdinal);
-                    } else {
-                        collectBucket(s, doc, bucketOrdinal);
+                new CollectConsumer() {
+                    @Override
+                    public long accept(LeafBucketCollector sub, int doc, long owningBucketOrd, BytesRef bytes) throws IOException {
+                        long bucketOrdinal = bucketOrds.add(owningBucketOrd, bytes);
+                        if (bucketOrdinal < 0) { // already seen
+                            bucketOrdinal = -1 - bucketOrdinal;
+                            collectExistingBucket(sub, doc, bucketOrdinal);
+                        } else {
+                            collectBucket(sub, doc, bucketOrdinal);
+                        }
+                        return bucketOrdinal;
+                    }
+
+                    @Override
+                    public void acceptExisting(LeafBucketCollector sub, int doc, long bucketOrd) throws IOException {
+                        collectExistingBucket(sub, doc, bucketOrd);
                     }
                 }
             )
@@ -141,6 +151,7 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         super.collectDebugInfo(add);
         add.accept("total_buckets", bucketOrds.size());
+        add.accept("collection_strategy", collectorSource.describe());
         add.accept("result_strategy", resultStrategy.describe());
     }
 
@@ -155,6 +166,13 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
     public interface CollectorSource extends Releasable {
         boolean needsScores();
 
+        /**
+         * A short description of how values are fetched, for the profiler.
+         */
+        default String describe() {
+            return "values";
+        }
+
         LeafBucketCollector getLeafCollector(
             IncludeExclude.StringFilter includeExclude,
             LeafReaderContext ctx,
@@ -163,9 +181,19 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
             CollectConsumer consumer
         ) throws IOException;
     }
-    @FunctionalInterface
+    /**
+     * Collects documents into the buckets of their values.
+     */
     public interface CollectConsumer {
-        void accept(LeafBucketCollector sub, int doc, long owningBucketOrd, BytesRef bytes) throws IOException;
+        /**
+         * Collect the document into the bucket of the value, creating the bucket if needed, and return the bucket's ordinal.
+         */
+        long accept(LeafBucketCollector sub, int doc, long owningBucketOrd, BytesRef bytes) throws IOException;
+
+        /**
+         * Collect the document into a bucket whose ordinal was returned by {@link #accept}.
+         */
+        void acceptExisting(LeafBucketCollector sub, int doc, long bucketOrd) throws IOException;
     }
 
     /**
@@ -224,6 +252,78 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
         public void close() {}
     }
 
+    /**
+     * Fetch values from the segment ordinals of a {@link ValuesSource.Bytes.WithOrdinals}. The term of a segment ordinal is only
+     * looked up and hashed the first time a document of the segment has it, the bucket ordinal is remembered for the following
+     * documents. This is much cheaper than hashing the values of every document when the segments have few unique terms and unlike
+     * global ordinals doesn't need any work up-front. The terms of the different segments are merged by the hashing.
+     * <p>
+     * Memory usage is linear with the number of unique terms of the largest segment, so this should only be used for low cardinality
+     * fields. The bucket ordinals are only remembered when collecting for the first owning bucket.
+     */
+    public static class SegmentOrdinalsCollectorSource implements CollectorSource {
+        private final ValuesSource.Bytes.WithOrdinals valuesSource;
+
+        public SegmentOrdinalsCollectorSource(ValuesSource.Bytes.WithOrdinals valuesSource) {
+            this.valuesSource = valuesSource;
+        }
+
+        @Override
+        public boolean needsScores() {
+            return valuesSource.needsScores();
+        }
+
+        @Override
+        public String describe() {
+            return "segment_ordinals";
+        }
+
+        @Override
+        public LeafBucketCollector getLeafCollector(
+            IncludeExclude.StringFilter includeExclude,
+            LeafReaderContext ctx,
+            LeafBucketCollector sub,
+            LongConsumer addRequestCircuitBreakerBytes,
+            CollectConsumer consumer
+        ) throws IOException {
+            final SortedSetDocValues ords = valuesSource.ordinalsValues(ctx);
+            // the bucket ordinal of each segment ordinal plus one, 0 if the term wasn't seen yet and -1 if include/exclude rejects it
+            addRequestCircuitBreakerBytes.accept(ords.getValueCount() * Long.BYTES);
+            final long[] segmentToBucketOrds = new long[Math.toIntExact(ords.getValueCount())];
+            return new LeafBucketCollectorBase(sub, ords) {
+                @Override
+                public void collect(int doc, long owningBucketOrd) throws IOException {
+                    if (false == ords.advanceExact(doc)) {
+                        return;
+                    }
+                    for (long ord = ords.nextOrd(); ord != SortedSetDocValues.NO_MORE_ORDS; ord = ords.nextOrd()) {
+                        if (owningBucketOrd != 0) {
+                            BytesRef bytes = ords.lookupOrd(ord);
+                            if (includeExclude == null || includeExclude.accept(bytes)) {
+                                consumer.accept(sub, doc, owningBucketOrd, bytes);
+                            }
+                            continue;
+                        }
+                        final long bucketOrd = segmentToBucketOrds[(int) ord];
+                        if (bucketOrd > 0) {
+                            consumer.acceptExisting(sub, doc, bucketOrd - 1);
+                        } else if (bucketOrd == 0) {
+                            BytesRef bytes = ords.lookupOrd(ord);
+                            if (includeExclude != null && false == includeExclude.accept(bytes)) {
+                                segmentToBucketOrds[(int) ord] = -1;
+                            } else {
+                                segmentToBucketOrds[(int) ord] = consumer.accept(sub, doc, owningBucketOrd, bytes) + 1;
+                            }
+                        }
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void close() {}
+    }
+
     /**
      * Strategy for building results.
      */
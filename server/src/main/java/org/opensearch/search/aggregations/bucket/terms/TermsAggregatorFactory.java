@@ -32,6 +32,8 @@
 
 package org.opensearch.search.aggregations.bucket.terms;
 
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.IndexSearcher;
 import org.opensearch.common.ParseField;
 import org.opensearch.index.query.QueryShardContext;
@@ -63,7 +65,12 @@ import java.util.Map;
 import java.util.function.Function;
 
 public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
-    static Boolean REMAP_GLOBAL_ORDS, COLLECT_SEGMENT_ORDS;
+    static Boolean REMAP_GLOBAL_ORDS, COLLECT_SEGMENT_ORDS, MAP_SEGMENT_ORDS;
+
+    /**
+     * The maximum number of unique terms of a segment to hash the terms of the segment ordinals, see {@link #useSegmentOrds}.
+     */
+    private static final long MAX_SEGMENT_ORDS = 1 << 16;
 
     static void registerAggregators(ValuesSourceRegistry.Builder builder) {
         builder.register(TermsAggregationBuilder.REGISTRY_KEY,
@@ -105,7 +112,16 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                     execution = ExecutionMode.MAP;
                 }
                 if (execution == null) {
-                    execution = ExecutionMode.GLOBAL_ORDINALS;
+                    final IndexReader reader = context.searcher().getIndexReader();
+                    final ValuesSource.Bytes.WithOrdinals ordinalsValuesSource = (ValuesSource.Bytes.WithOrdinals) valuesSource;
+                    if (cardinality == CardinalityUpperBound.ONE
+                        && ordinalsValuesSource.hasGlobalOrdinalsLoaded(reader) == false
+                        && useSegmentOrds(ordinalsValuesSource, reader)) {
+                        // hashing the few unique terms of each segment is cheaper than building the global ordinals for this request
+                        execution = ExecutionMode.MAP;
+                    } else {
+                        execution = ExecutionMode.GLOBAL_ORDINALS;
+                    }
                 }
                 final long maxOrd = execution == ExecutionMode.GLOBAL_ORDINALS ? getMaxOrd(valuesSource, context.searcher()) : -1;
                 if (subAggCollectMode == null) {
@@ -311,6 +327,27 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
         }
     }
 
+    /**
+     * Whether a terms aggregation that collects from a single bucket should hash the terms of the segment ordinals rather than the
+     * values of each document, see {@link MapStringTermsAggregator.SegmentOrdinalsCollectorSource}. This is the case when the segments
+     * have few unique terms compared to their number of documents.
+     */
+    static boolean useSegmentOrds(ValuesSource.Bytes.WithOrdinals valuesSource, IndexReader reader) throws IOException {
+        if (MAP_SEGMENT_ORDS != null) {
+            // we use the static MAP_SEGMENT_ORDS to allow tests to force specific optimizations
+            return MAP_SEGMENT_ORDS.booleanValue();
+        }
+        long totalValueCount = 0;
+        for (LeafReaderContext ctx : reader.leaves()) {
+            final long valueCount = valuesSource.ordinalsValues(ctx).getValueCount();
+            if (valueCount > MAX_SEGMENT_ORDS) {
+                return false;
+            }
+            totalValueCount += valueCount;
+        }
+        return totalValueCount <= reader.maxDoc() / 2;
+    }
+
     public enum ExecutionMode {
 
         MAP(new ParseField("map")) {
@@ -330,10 +367,20 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
                               CardinalityUpperBound cardinality,
                               Map<String, Object> metadata) throws IOException {
                 final IncludeExclude.StringFilter filter = includeExclude == null ? null : includeExclude.convertToStringFilter(format);
+                final MapStringTermsAggregator.CollectorSource collectorSource;
+                if (cardinality == CardinalityUpperBound.ONE
+                    && valuesSource instanceof ValuesSource.Bytes.WithOrdinals
+                    && useSegmentOrds((ValuesSource.Bytes.WithOrdinals) valuesSource, context.searcher().getIndexReader())) {
+                    collectorSource = new MapStringTermsAggregator.SegmentOrdinalsCollectorSource(
+                        (ValuesSource.Bytes.WithOrdinals) valuesSource
+                    );
+                } else {
+                    collectorSource = new MapStringTermsAggregator.ValuesSourceCollectorSource(valuesSource);
+                }
                 return new MapStringTermsAggregator(
                     name,
                     factories,
-                    new MapStringTermsAggregator.ValuesSourceCollectorSource(valuesSource),
+                    collectorSource,
                     a -> a.new StandardTermsResults(valuesSource),
                     order,
                     format,
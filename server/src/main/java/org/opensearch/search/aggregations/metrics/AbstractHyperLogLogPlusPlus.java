@@ -147,10 +147,9 @@ public abstract class AbstractHyperLogLogPlusPlus extends AbstractCardinalityAlg
             return counts;
         } else {
             HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(precision, bigArrays, 1);
-            final int registers = 1 << precision;
-            for (int i = 0; i < registers; ++i) {
-                counts.addRunLen(0, i, in.readByte());
-            }
+            final byte[] runLens = new byte[1 << precision];
+            in.readBytes(runLens, 0, runLens.length);
+            counts.addRunLens(0, runLens, 0);
             return counts;
         }
     }
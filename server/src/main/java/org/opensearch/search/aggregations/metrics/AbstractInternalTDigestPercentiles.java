@@ -39,6 +39,7 @@ import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.InternalAggregation;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -116,14 +117,13 @@ abstract class AbstractInternalTDigestPercentiles extends InternalNumericMetrics
 
     @Override
     public AbstractInternalTDigestPercentiles reduce(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
-        TDigestState merged = null;
+        final List<TDigestState> states = new ArrayList<>(aggregations.size());
         for (InternalAggregation aggregation : aggregations) {
-            final AbstractInternalTDigestPercentiles percentiles = (AbstractInternalTDigestPercentiles) aggregation;
-            if (merged == null) {
-                merged = new TDigestState(percentiles.state.compression());
-            }
-            merged.add(percentiles.state);
+            states.add(((AbstractInternalTDigestPercentiles) aggregation).state);
         }
+        // merge all the shard digests at once, which the merging implementation does in a single pass over sorted centroids
+        final TDigestState merged = TDigestState.createUsingParamsFrom(states.get(0));
+        merged.add(states);
         return createReduced(getName(), keys, merged, keyed, getMetadata());
     }
 
@@ -60,10 +60,11 @@ abstract class AbstractTDigestPercentilesAggregator extends NumericMetricsAggreg
     protected final DocValueFormat formatter;
     protected ObjectArray<TDigestState> states;
     protected final double compression;
+    protected final TDigestState.Implementation implementation;
     protected final boolean keyed;
 
     AbstractTDigestPercentilesAggregator(String name, ValuesSource valuesSource, SearchContext context, Aggregator parent,
-            double[] keys, double compression, boolean keyed, DocValueFormat formatter,
+            double[] keys, double compression, TDigestState.Implementation implementation, boolean keyed, DocValueFormat formatter,
             Map<String, Object> metadata) throws IOException {
         super(name, context, parent, metadata);
         this.valuesSource = valuesSource;
@@ -72,6 +73,7 @@ abstract class AbstractTDigestPercentilesAggregator extends NumericMetricsAggreg
         this.states = context.bigArrays().newObjectArray(1);
         this.keys = keys;
         this.compression = compression;
+        this.implementation = implementation;
     }
 
     @Override
@@ -105,7 +107,7 @@ abstract class AbstractTDigestPercentilesAggregator extends NumericMetricsAggreg
         states = bigArrays.grow(states, bucket + 1);
         TDigestState state = states.get(bucket);
         if (state == null) {
-            state = new TDigestState(compression);
+            state = new TDigestState(compression, implementation);
             states.set(bucket, state);
         }
         return state;
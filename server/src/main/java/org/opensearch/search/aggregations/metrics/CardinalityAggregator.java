@@ -51,6 +51,7 @@ import org.opensearch.common.util.ObjectArray;
 import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.support.ValuesSource;
@@ -68,6 +69,7 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
 
     private final int precision;
     private final ValuesSource valuesSource;
+    private final boolean singleBucket;
 
     // Expensive to initialize, so we only initialize it when we have an actual value source
     @Nullable
@@ -87,11 +89,13 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
             int precision,
             SearchContext context,
             Aggregator parent,
+            CardinalityUpperBound cardinality,
             Map<String, Object> metadata) throws IOException {
         super(name, context, parent, metadata);
         // TODO: Stop using nulls here
         this.valuesSource = valuesSourceConfig.hasValues() ? valuesSourceConfig.getValuesSource() : null;
         this.precision = precision;
+        this.singleBucket = cardinality.map(estimate -> estimate <= 1);
         this.counts = valuesSource == null ? null : new HyperLogLogPlusPlus(precision, context.bigArrays(), 1);
     }
 
@@ -125,8 +129,10 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
 
             final long ordinalsMemoryUsage = OrdinalsCollector.memoryOverhead(maxOrd);
             final long countsMemoryUsage = HyperLogLogPlusPlus.memoryUsage(precision);
-            // only use ordinals if they don't increase memory usage by more than 25%
-            if (ordinalsMemoryUsage < countsMemoryUsage / 4) {
+            // only use ordinals if they don't increase memory usage by more than 25%, or, when there is a single bucket, if the bitset
+            // of the ordinals is not larger than a bitset of the documents of the segment. A single bucket hashes the visited ordinals
+            // directly in postCollect so the bitset is the only memory that is allocated per ordinal.
+            if (ordinalsMemoryUsage < countsMemoryUsage / 4 || (singleBucket && maxOrd <= ctx.reader().maxDoc())) {
                 ordinalsCollectorsUsed++;
                 return new OrdinalsCollector(counts, ordinalValues, context.bigArrays());
             }
@@ -254,6 +260,12 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
 
     }
 
+    /**
+     * Collects the ordinals of the values of each bucket into a bitset and hashes every visited ordinal once in {@link #postCollect()}.
+     * Until the number of collected values is worth scanning the bitsets, values are hashed directly so that queries that match few
+     * documents do not pay for bitsets over all the ordinals of the segment. Since counts ignore duplicates, values that were hashed
+     * directly may be visited again by the bitsets.
+     */
     private static class OrdinalsCollector extends Collector {
 
         private static final long SHALLOW_FIXEDBITSET_SIZE = RamUsageEstimator.shallowSizeOfInstance(FixedBitSet.class);
@@ -269,6 +281,11 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
         private final SortedSetDocValues values;
         private final int maxOrd;
         private final HyperLogLogPlusPlus counts;
+        private final MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
+        // the number of values to hash directly before switching to bitsets, about the number of words of a bitset
+        private final long directHashingThreshold;
+        private long hashedValues;
+        // null while values are hashed directly
         private ObjectArray<BitArray> visitedOrds;
 
         OrdinalsCollector(HyperLogLogPlusPlus counts, SortedSetDocValues values,
@@ -280,11 +297,18 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
             this.bigArrays = bigArrays;
             this.counts = counts;
             this.values = values;
-            visitedOrds = bigArrays.newObjectArray(1);
+            this.directHashingThreshold = maxOrd >>> 6;
         }
 
         @Override
         public void collect(int doc, long bucketOrd) throws IOException {
+            if (visitedOrds == null) {
+                if (hashedValues < directHashingThreshold) {
+                    collectHashes(doc, bucketOrd);
+                    return;
+                }
+                visitedOrds = bigArrays.newObjectArray(bucketOrd + 1);
+            }
             visitedOrds = bigArrays.grow(visitedOrds, bucketOrd + 1);
             BitArray bits = visitedOrds.get(bucketOrd);
             if (bits == null) {
@@ -298,8 +322,41 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
             }
         }
 
+        private void collectHashes(int doc, long bucketOrd) throws IOException {
+            if (values.advanceExact(doc)) {
+                for (long ord = values.nextOrd(); ord != SortedSetDocValues.NO_MORE_ORDS; ord = values.nextOrd()) {
+                    final BytesRef value = values.lookupOrd(ord);
+                    MurmurHash3.hash128(value.bytes, value.offset, value.length, 0, hash);
+                    counts.collect(bucketOrd, hash.h1);
+                    hashedValues++;
+                }
+            }
+        }
+
         @Override
         public void postCollect() throws IOException {
+            if (visitedOrds == null) {
+                return;
+            }
+            long singleBucket = -1;
+            int numBuckets = 0;
+            for (long bucket = visitedOrds.size() - 1; bucket >= 0; --bucket) {
+                if (visitedOrds.get(bucket) != null) {
+                    singleBucket = bucket;
+                    numBuckets++;
+                }
+            }
+            if (numBuckets == 1) {
+                // every ordinal is hashed at most once so there is no need to cache the hashes
+                final BitArray bits = visitedOrds.get(singleBucket);
+                for (long ord = bits.nextSetBit(0); ord < Long.MAX_VALUE;
+                     ord = ord + 1 < maxOrd ? bits.nextSetBit(ord + 1) : Long.MAX_VALUE) {
+                    final BytesRef value = values.lookupOrd(ord);
+                    MurmurHash3.hash128(value.bytes, value.offset, value.length, 0, hash);
+                    counts.collect(singleBucket, hash.h1);
+                }
+                return;
+            }
             try (BitArray allVisitedOrds = new BitArray(maxOrd, bigArrays)) {
                 for (long bucket = visitedOrds.size() - 1; bucket >= 0; --bucket) {
                     final BitArray bits = visitedOrds.get(bucket);
@@ -309,7 +366,6 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
                 }
 
                 try (LongArray hashes = bigArrays.newLongArray(maxOrd, false)) {
-                    final MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
                     for (long ord = allVisitedOrds.nextSetBit(0); ord < Long.MAX_VALUE;
                          ord = ord + 1 < maxOrd ? allVisitedOrds.nextSetBit(ord + 1) : Long.MAX_VALUE) {
                         final BytesRef value = values.lookupOrd(ord);
@@ -332,6 +388,9 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
 
         @Override
         public void close() {
+            if (visitedOrds == null) {
+                return;
+            }
             for (int i = 0; i < visitedOrds.size(); i++) {
                 Releasables.close(visitedOrds.get(i));
             }
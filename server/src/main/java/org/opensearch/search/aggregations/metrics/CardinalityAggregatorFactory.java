@@ -68,7 +68,7 @@ class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
     protected Aggregator createUnmapped(SearchContext searchContext,
                                             Aggregator parent,
                                             Map<String, Object> metadata) throws IOException {
-        return new CardinalityAggregator(name, config, precision(), searchContext, parent, metadata);
+        return new CardinalityAggregator(name, config, precision(), searchContext, parent, CardinalityUpperBound.NONE, metadata);
     }
 
     @Override
@@ -80,7 +80,7 @@ class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
     ) throws IOException {
         return queryShardContext.getValuesSourceRegistry()
             .getAggregator(CardinalityAggregationBuilder.REGISTRY_KEY, config)
-            .build(name, config, precision(), searchContext, parent, metadata);
+            .build(name, config, precision(), searchContext, parent, cardinality, metadata);
     }
 
     private int precision() {
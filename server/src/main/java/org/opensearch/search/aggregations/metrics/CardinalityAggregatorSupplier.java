@@ -33,6 +33,7 @@
 package org.opensearch.search.aggregations.metrics;
 
 import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
 
@@ -45,5 +46,6 @@ public interface CardinalityAggregatorSupplier {
                      int precision,
                      SearchContext context,
                      Aggregator parent,
+                     CardinalityUpperBound cardinality,
                      Map<String, Object> metadata) throws IOException;
 }
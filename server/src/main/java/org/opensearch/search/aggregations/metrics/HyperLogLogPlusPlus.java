@@ -164,6 +164,17 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
         hll.addRunLen(0, register, runLen);
     }
 
+    /**
+     * Merge the <code>1 &lt;&lt; precision</code> registers that start at <code>offset</code> into the given bucket.
+     */
+    void addRunLens(long bucketOrd, byte[] runLens, int offset) {
+        hll.ensureCapacity(bucketOrd + 1);
+        if (algorithm.get(bucketOrd) == LINEAR_COUNTING) {
+            upgradeToHll(bucketOrd);
+        }
+        hll.merge(bucketOrd, runLens, offset);
+    }
+
     void upgradeToHll(long bucketOrd) {
         hll.ensureCapacity(bucketOrd + 1);
         final AbstractLinearCounting.HashesIterator hashes = lc.values(bucketOrd);
@@ -194,6 +205,11 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
         hll.ensureCapacity(thisBucket + 1);
         if (other.getAlgorithm(otherBucket) == LINEAR_COUNTING) {
             merge(thisBucket, other.getLinearCounting(otherBucket));
+        } else if (other instanceof HyperLogLogPlusPlus) {
+            // merge the registers directly rather than one by one through an iterator
+            final BytesRef otherRunLens = new BytesRef();
+            ((HyperLogLogPlusPlus) other).hll.getRunLens(otherBucket, otherRunLens);
+            addRunLens(thisBucket, otherRunLens.bytes, otherRunLens.offset);
         } else {
             merge(thisBucket, other.getHyperLogLog(otherBucket));
         }
@@ -228,6 +244,9 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
         private final HyperLogLogIterator iterator;
         // array for holding the runlens.
         private ByteArray runLens;
+        // the merged registers of a bucket, before they are written back
+        private byte[] mergeSpare;
+        private final BytesRef readSpare = new BytesRef();
 
 
         HyperLogLog(BigArrays bigArrays, long initialBucketCount, int precision) {
@@ -247,6 +266,31 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
             runLens.set(bucketIndex, (byte) Math.max(encoded, runLens.get(bucketIndex)));
         }
 
+        /**
+         * Point the given ref at the registers of the bucket. They are copied only if they span several pages.
+         */
+        void getRunLens(long bucketOrd, BytesRef ref) {
+            runLens.get(bucketOrd << p, m, ref);
+        }
+
+        /**
+         * Take the max of each register of the bucket and of the matching register in <code>other</code>. The registers are read and
+         * written a page at a time, and the max is computed over plain arrays in a loop that the JIT can vectorize.
+         */
+        void merge(long bucketOrd, byte[] other, int otherOffset) {
+            if (mergeSpare == null) {
+                mergeSpare = new byte[m];
+            }
+            final byte[] merged = mergeSpare;
+            getRunLens(bucketOrd, readSpare);
+            final byte[] current = readSpare.bytes;
+            final int currentOffset = readSpare.offset;
+            for (int i = 0; i < m; ++i) {
+                merged[i] = (byte) Math.max(current[currentOffset + i], other[otherOffset + i]);
+            }
+            runLens.set(bucketOrd << p, merged, 0, m);
+        }
+
         @Override
         protected RunLenIterator getRunLens(long bucketOrd) {
             iterator.reset(bucketOrd);
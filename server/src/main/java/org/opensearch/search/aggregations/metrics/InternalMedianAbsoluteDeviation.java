@@ -39,6 +39,7 @@ import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.InternalAggregation;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -51,7 +52,7 @@ public class InternalMedianAbsoluteDeviation extends InternalNumericMetricsAggre
             return Double.NaN;
         } else {
             final double approximateMedian = valuesSketch.quantile(0.5);
-            final TDigestState approximatedDeviationsSketch = new TDigestState(valuesSketch.compression());
+            final TDigestState approximatedDeviationsSketch = TDigestState.createUsingParamsFrom(valuesSketch);
             valuesSketch.centroids().forEach(centroid -> {
                 final double deviation = Math.abs(approximateMedian - centroid.mean());
                 approximatedDeviationsSketch.add(deviation, centroid.count());
@@ -88,11 +89,12 @@ public class InternalMedianAbsoluteDeviation extends InternalNumericMetricsAggre
 
     @Override
     public InternalAggregation reduce(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
-        final TDigestState valueMerged = new TDigestState(valuesSketch.compression());
+        final List<TDigestState> valuesSketches = new ArrayList<>(aggregations.size());
         for (InternalAggregation aggregation : aggregations) {
-            final InternalMedianAbsoluteDeviation madAggregation = (InternalMedianAbsoluteDeviation) aggregation;
-            valueMerged.add(madAggregation.valuesSketch);
+            valuesSketches.add(((InternalMedianAbsoluteDeviation) aggregation).valuesSketch);
         }
+        final TDigestState valueMerged = TDigestState.createUsingParamsFrom(valuesSketch);
+        valueMerged.add(valuesSketches);
 
         return new InternalMedianAbsoluteDeviation(name, metadata, format, valueMerged);
     }
@@ -32,6 +32,7 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -109,7 +110,9 @@ public abstract class PercentilesConfig implements ToXContent, Writeable {
 
     public static class TDigest extends PercentilesConfig {
         static final double DEFAULT_COMPRESSION = 100.0;
+        static final TDigestState.Implementation DEFAULT_IMPLEMENTATION = TDigestState.Implementation.AVL_TREE;
         private double compression;
+        private TDigestState.Implementation implementation = DEFAULT_IMPLEMENTATION;
 
         public TDigest() {
             this(DEFAULT_COMPRESSION);
@@ -120,8 +123,16 @@ public abstract class PercentilesConfig implements ToXContent, Writeable {
             setCompression(compression);
         }
 
+        public TDigest(double compression, TDigestState.Implementation implementation) {
+            this(compression);
+            setImplementation(implementation);
+        }
+
         TDigest(StreamInput in) throws IOException {
             this(in.readDouble());
+            if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+                implementation = in.readEnum(TDigestState.Implementation.class);
+            }
         }
 
         public void setCompression(double compression) {
@@ -136,31 +147,49 @@ public abstract class PercentilesConfig implements ToXContent, Writeable {
             return compression;
         }
 
+        /**
+         * Set the t-digest implementation, {@link TDigestState.Implementation#MERGING} is faster to collect and to reduce.
+         */
+        public void setImplementation(TDigestState.Implementation implementation) {
+            this.implementation = Objects.requireNonNull(implementation, "[implementation] must not be null");
+        }
+
+        public TDigestState.Implementation getImplementation() {
+            return implementation;
+        }
+
         @Override
         public Aggregator createPercentilesAggregator(String name, ValuesSource valuesSource, SearchContext context, Aggregator parent,
                                                       double[] values, boolean keyed, DocValueFormat formatter,
                                                       Map<String, Object> metadata) throws IOException {
-            return new TDigestPercentilesAggregator(name, valuesSource, context, parent, values, compression, keyed, formatter, metadata);
+            return new TDigestPercentilesAggregator(name, valuesSource, context, parent, values, compression, implementation, keyed,
+                formatter, metadata);
         }
 
         @Override
         Aggregator createPercentileRanksAggregator(String name, ValuesSource valuesSource, SearchContext context, Aggregator parent,
                                                    double[] values, boolean keyed, DocValueFormat formatter,
                                                    Map<String, Object> metadata) throws IOException {
-            return new TDigestPercentileRanksAggregator(name, valuesSource, context, parent, values, compression, keyed,
-                formatter, metadata);
+            return new TDigestPercentileRanksAggregator(name, valuesSource, context, parent, values, compression, implementation,
+                keyed, formatter, metadata);
         }
 
         @Override
         public void writeTo(StreamOutput out) throws IOException {
             super.writeTo(out);
             out.writeDouble(compression);
+            if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+                out.writeEnum(implementation);
+            }
         }
 
         @Override
         public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
             builder.startObject(getMethod().toString());
             builder.field(PercentilesMethod.COMPRESSION_FIELD.getPreferredName(), compression);
+            if (implementation != DEFAULT_IMPLEMENTATION) {
+                builder.field(PercentilesMethod.IMPLEMENTATION_FIELD.getPreferredName(), implementation.toString());
+            }
             builder.endObject();
             return builder;
         }
@@ -172,12 +201,12 @@ public abstract class PercentilesConfig implements ToXContent, Writeable {
             if (super.equals(obj) == false) return false;
 
             TDigest other = (TDigest) obj;
-            return compression == other.getCompression();
+            return compression == other.getCompression() && implementation == other.getImplementation();
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(super.hashCode(), compression);
+            return Objects.hash(super.hashCode(), compression, implementation);
         }
     }
 
@@ -48,10 +48,11 @@ class TDigestPercentileRanksAggregator extends AbstractTDigestPercentilesAggrega
                                          Aggregator parent,
                                         double[] percents,
                                         double compression,
+                                        TDigestState.Implementation implementation,
                                         boolean keyed,
                                         DocValueFormat formatter,
                                         Map<String, Object> metadata) throws IOException {
-        super(name, valuesSource, context, parent, percents, compression, keyed, formatter, metadata);
+        super(name, valuesSource, context, parent, percents, compression, implementation, keyed, formatter, metadata);
     }
 
     @Override
@@ -66,7 +67,7 @@ class TDigestPercentileRanksAggregator extends AbstractTDigestPercentilesAggrega
 
     @Override
     public InternalAggregation buildEmptyAggregation() {
-        return new InternalTDigestPercentileRanks(name, keys, new TDigestState(compression), keyed, formatter, metadata());
+        return new InternalTDigestPercentileRanks(name, keys, new TDigestState(compression, implementation), keyed, formatter, metadata());
     }
 
     @Override
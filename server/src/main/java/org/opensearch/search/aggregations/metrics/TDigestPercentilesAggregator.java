@@ -48,10 +48,11 @@ class TDigestPercentilesAggregator extends AbstractTDigestPercentilesAggregator
                                     Aggregator parent,
                                     double[] percents,
                                     double compression,
+                                    TDigestState.Implementation implementation,
                                     boolean keyed,
                                     DocValueFormat formatter,
                                     Map<String, Object> metadata) throws IOException {
-        super(name, valuesSource, context, parent, percents, compression, keyed, formatter, metadata);
+        super(name, valuesSource, context, parent, percents, compression, implementation, keyed, formatter, metadata);
     }
 
     @Override
@@ -76,6 +77,6 @@ class TDigestPercentilesAggregator extends AbstractTDigestPercentilesAggregator
 
     @Override
     public InternalAggregation buildEmptyAggregation() {
-        return new InternalTDigestPercentiles(name, keys, new TDigestState(compression), keyed, formatter, metadata());
+        return new InternalTDigestPercentiles(name, keys, new TDigestState(compression, implementation), keyed, formatter, metadata());
     }
 }
@@ -33,22 +33,77 @@ package org.opensearch.search.aggregations.metrics;
 
 import com.tdunning.math.stats.AVLTreeDigest;
 import com.tdunning.math.stats.Centroid;
+import com.tdunning.math.stats.MergingDigest;
+import com.tdunning.math.stats.TDigest;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
 
 /**
- * Extension of {@link com.tdunning.math.stats.TDigest} with custom serialization.
+ * A {@link TDigest} with custom serialization that delegates to one of the {@link Implementation}s of the t-digest library.
  */
-public class TDigestState extends AVLTreeDigest {
+public class TDigestState extends TDigest {
+
+    /**
+     * The t-digest implementations that a {@link TDigestState} can use.
+     */
+    public enum Implementation {
+        /**
+         * Keeps the centroids in an AVL tree that every value is inserted into. This is the original implementation.
+         */
+        AVL_TREE,
+        /**
+         * Buffers values in arrays and merges them into sorted centroids in bulk, which makes adding values and merging digests much
+         * faster, especially when merging the digests of many shards or buckets.
+         */
+        MERGING;
+
+        public static Implementation fromString(String name) {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
 
     private final double compression;
+    private final Implementation implementation;
+    private final TDigest digest;
 
     public TDigestState(double compression) {
-        super(compression);
+        this(compression, Implementation.AVL_TREE);
+    }
+
+    public TDigestState(double compression, Implementation implementation) {
         this.compression = compression;
+        this.implementation = implementation;
+        switch (implementation) {
+            case AVL_TREE:
+                digest = new AVLTreeDigest(compression);
+                break;
+            case MERGING:
+                digest = new MergingDigest(compression);
+                break;
+            default:
+                throw new IllegalArgumentException("unknown t-digest implementation [" + implementation + "]");
+        }
+    }
+
+    /**
+     * Create an empty digest with the same compression and implementation as the given one.
+     */
+    public static TDigestState createUsingParamsFrom(TDigestState state) {
+        return new TDigestState(state.compression, state.implementation);
     }
 
     @Override
@@ -56,8 +111,127 @@ public class TDigestState extends AVLTreeDigest {
         return compression;
     }
 
+    public Implementation implementation() {
+        return implementation;
+    }
+
+    @Override
+    public void add(double x) {
+        digest.add(x);
+    }
+
+    @Override
+    public void add(double x, int w) {
+        digest.add(x, w);
+    }
+
+    @Override
+    public void add(TDigest other) {
+        digest.add(unwrap(other));
+    }
+
+    /**
+     * Add all the given digests. The merging implementation sorts the centroids of all the digests once and merges them in a single
+     * pass, rather than adding the centroids of each digest one by one.
+     */
+    @Override
+    public void add(List<? extends TDigest> others) {
+        if (implementation == Implementation.MERGING) {
+            final List<TDigest> digests = new ArrayList<>(others.size());
+            for (TDigest other : others) {
+                digests.add(unwrap(other));
+            }
+            digest.add(digests);
+        } else {
+            // the AVL tree digest only shuffles the centroids it inserts when digests are added one by one, inserting them in sorted
+            // order would make the results less accurate
+            for (TDigest other : others) {
+                add(other);
+            }
+        }
+    }
+
+    private static TDigest unwrap(TDigest digest) {
+        // the merging implementation only merges the centroids of other merging digests in bulk
+        return digest instanceof TDigestState ? ((TDigestState) digest).digest : digest;
+    }
+
+    @Override
+    public void compress() {
+        digest.compress();
+    }
+
+    @Override
+    public long size() {
+        return digest.size();
+    }
+
+    @Override
+    public double quantile(double q) {
+        return digest.quantile(q);
+    }
+
+    @Override
+    public double cdf(double x) {
+        return digest.cdf(x);
+    }
+
+    @Override
+    public int centroidCount() {
+        return digest.centroidCount();
+    }
+
+    @Override
+    public Collection<Centroid> centroids() {
+        return digest.centroids();
+    }
+
+    @Override
+    public double getMin() {
+        return digest.getMin();
+    }
+
+    @Override
+    public double getMax() {
+        return digest.getMax();
+    }
+
+    @Override
+    public int byteSize() {
+        return digest.byteSize();
+    }
+
+    @Override
+    public int smallByteSize() {
+        return digest.smallByteSize();
+    }
+
+    @Override
+    public void asBytes(ByteBuffer buf) {
+        digest.asBytes(buf);
+    }
+
+    @Override
+    public void asSmallBytes(ByteBuffer buf) {
+        digest.asSmallBytes(buf);
+    }
+
+    @Override
+    public TDigest recordAllData() {
+        digest.recordAllData();
+        return this;
+    }
+
+    @Override
+    public boolean isRecording() {
+        return digest.isRecording();
+    }
+
     public static void write(TDigestState state, StreamOutput out) throws IOException {
         out.writeDouble(state.compression);
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeEnum(state.implementation);
+        }
         out.writeVInt(state.centroidCount());
         for (Centroid centroid : state.centroids()) {
             out.writeDouble(centroid.mean());
@@ -67,7 +241,11 @@ public class TDigestState extends AVLTreeDigest {
 
     public static TDigestState read(StreamInput in) throws IOException {
         double compression = in.readDouble();
-        TDigestState state = new TDigestState(compression);
+        Implementation implementation = Implementation.AVL_TREE;
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            implementation = in.readEnum(Implementation.class);
+        }
+        TDigestState state = new TDigestState(compression, implementation);
         int n = in.readVInt();
         for (int i = 0; i < n; i++) {
             state.add(in.readDouble(), in.readVInt());
@@ -81,7 +259,7 @@ public class TDigestState extends AVLTreeDigest {
             return false;
         }
         TDigestState that = (TDigestState) obj;
-        if (compression != that.compression) {
+        if (compression != that.compression || implementation != that.implementation) {
             return false;
         }
         Iterator<? extends Centroid> thisCentroids = centroids().iterator();
@@ -103,6 +281,7 @@ public class TDigestState extends AVLTreeDigest {
     public int hashCode() {
         int h = getClass().hashCode();
         h = 31 * h + Double.hashCode(compression);
+        h = 31 * h + implementation.hashCode();
         for (Centroid centroid : centroids()) {
             h = 31 * h + Double.hashCode(centroid.mean());
             h = 31 * h + centroid.count();
@@ -195,6 +195,14 @@ public abstract class ValuesSource {
             public abstract LongUnaryOperator globalOrdinalsMapping(LeafReaderContext context)
                     throws IOException;
 
+            /**
+             * Whether the global ordinals for the given reader are available without building them. If this method returns false,
+             * then calling {@link #globalOrdinalsValues}, {@link #globalOrdinalsMapping} or {@link #globalMaxOrd} will build them.
+             */
+            public boolean hasGlobalOrdinalsLoaded(IndexReader indexReader) {
+                return true;
+            }
+
             public long globalMaxOrd(IndexSearcher indexSearcher) throws IOException {
                 IndexReader indexReader = indexSearcher.getIndexReader();
                 if (indexReader.leaves().isEmpty()) {
@@ -238,6 +246,12 @@ public abstract class ValuesSource {
                     return indexFieldData.supportsGlobalOrdinalsMapping();
                 }
 
+                @Override
+                public boolean hasGlobalOrdinalsLoaded(IndexReader indexReader) {
+                    return indexReader instanceof DirectoryReader == false
+                        || indexFieldData.hasGlobalOrdinalsLoaded((DirectoryReader) indexReader);
+                }
+
                 @Override
                 public LongUnaryOperator globalOrdinalsMapping(LeafReaderContext context) throws IOException {
                     final IndexOrdinalsFieldData global = indexFieldData.loadGlobal((DirectoryReader)context.parent.reader());
@@ -0,0 +1,292 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.monitor.MonitorService;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Protects a node from a few expensive searches that saturate it. The service periodically checks whether the node is in duress, that
+ * is whether its CPU or heap usage stayed above a threshold for several successive checks, and if so cancels the search shard tasks that
+ * used the most CPU time so far or that allocate bytes on the heap at the highest rate, so that the other searches keep being served.
+ * <p>
+ * The JVM only reports the bytes that a thread allocated since it started, not the bytes that are still live on the heap, and a search
+ * that streams through many documents allocates far more than it retains. The allocations of a task are thus compared as a rate, the
+ * bytes it allocated since the previous check divided by the time elapsed since then, which reflects the pressure the task puts on the
+ * garbage collector right now rather than over its whole life.
+ */
+public class SearchBackpressureService extends AbstractLifecycleComponent {
+
+    private static final Logger logger = LogManager.getLogger(SearchBackpressureService.class);
+
+    public static final Setting<Boolean> ENABLED_SETTING =
+        Setting.boolSetting("search.backpressure.enabled", false, Property.Dynamic, Property.NodeScope);
+    public static final Setting<TimeValue> INTERVAL_SETTING =
+        Setting.timeSetting("search.backpressure.interval", TimeValue.timeValueSeconds(1), TimeValue.timeValueMillis(100),
+            Property.NodeScope);
+    /**
+     * The number of successive checks that must find the CPU or heap usage above its threshold for the node to be in duress.
+     */
+    public static final Setting<Integer> NUM_SUCCESSIVE_BREACHES_SETTING =
+        Setting.intSetting("search.backpressure.node_duress.num_successive_breaches", 3, 1, Property.Dynamic, Property.NodeScope);
+    /**
+     * The CPU usage of the process, as a percentage, above which the node may be in duress.
+     */
+    public static final Setting<Double> CPU_THRESHOLD_SETTING =
+        Setting.doubleSetting("search.backpressure.node_duress.cpu_threshold", 90.0, 0.0, 100.0, Property.Dynamic, Property.NodeScope);
+    /**
+     * The heap usage, as a percentage, above which the node may be in duress.
+     */
+    public static final Setting<Double> HEAP_THRESHOLD_SETTING =
+        Setting.doubleSetting("search.backpressure.node_duress.heap_threshold", 70.0, 0.0, 100.0, Property.Dynamic, Property.NodeScope);
+    /**
+     * The CPU time above which a search shard task may be cancelled while the node is in duress.
+     */
+    public static final Setting<TimeValue> TASK_CPU_TIME_THRESHOLD_SETTING =
+        Setting.timeSetting("search.backpressure.search_shard_task.cpu_time_threshold", TimeValue.timeValueSeconds(15),
+            TimeValue.timeValueMillis(1), Property.Dynamic, Property.NodeScope);
+    /**
+     * The number of bytes allocated on the heap per second, measured between two successive checks, above which a search shard task may
+     * be cancelled while the node is in duress. It can be set as a percentage of the heap. 0 disables the threshold, tasks are then only
+     * cancelled for their CPU time.
+     */
+    public static final Setting<ByteSizeValue> TASK_ALLOCATION_RATE_THRESHOLD_SETTING =
+        Setting.memorySizeSetting("search.backpressure.search_shard_task.allocation_rate_threshold", "5%",
+            Property.Dynamic, Property.NodeScope);
+    /**
+     * The maximum number of search shard tasks that a single check cancels.
+     */
+    public static final Setting<Integer> MAX_CANCELLATIONS_SETTING =
+        Setting.intSetting("search.backpressure.search_shard_task.max_cancellations", 10, 1, Property.Dynamic, Property.NodeScope);
+
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final DoubleSupplier cpuPercent;
+    private final DoubleSupplier heapPercent;
+    private final LongSupplier nanoTime;
+    private final TimeValue interval;
+
+    private volatile boolean enabled;
+    private volatile int numSuccessiveBreaches;
+    private volatile double cpuThreshold;
+    private volatile double heapThreshold;
+    private volatile long taskCpuTimeThresholdNanos;
+    private volatile long taskAllocationRateThreshold;
+    private volatile int maxCancellations;
+    private volatile Scheduler.Cancellable scheduledCheck;
+
+    // accessed only by the (single) scheduled check
+    private int cpuBreaches;
+    private int heapBreaches;
+    private boolean sampled;
+    private long lastCheckNanos;
+    // the bytes allocated by each running search shard task at the last check
+    private Map<Long, Long> lastAllocatedBytes = new HashMap<>();
+
+    private final CounterMetric nodeDuressCount = new CounterMetric();
+    private final CounterMetric cancellationCount = new CounterMetric();
+    private final CounterMetric cpuTimeCancellationCount = new CounterMetric();
+    private final CounterMetric allocationRateCancellationCount = new CounterMetric();
+    private final CounterMetric cancellationLimitReachedCount = new CounterMetric();
+
+    public SearchBackpressureService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, TaskManager taskManager,
+                                     MonitorService monitorService) {
+        this(settings, clusterSettings, threadPool, taskManager,
+            () -> monitorService.processService().stats().getCpu().getPercent(),
+            () -> monitorService.jvmService().stats().getMem().getHeapUsedPercent(), System::nanoTime);
+    }
+
+    SearchBackpressureService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, TaskManager taskManager,
+                              DoubleSupplier cpuPercent, DoubleSupplier heapPercent, LongSupplier nanoTime) {
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.cpuPercent = cpuPercent;
+        this.heapPercent = heapPercent;
+        this.nanoTime = nanoTime;
+        this.interval = INTERVAL_SETTING.get(settings);
+        this.enabled = ENABLED_SETTING.get(settings);
+        this.numSuccessiveBreaches = NUM_SUCCESSIVE_BREACHES_SETTING.get(settings);
+        this.cpuThreshold = CPU_THRESHOLD_SETTING.get(settings);
+        this.heapThreshold = HEAP_THRESHOLD_SETTING.get(settings);
+        setTaskCpuTimeThreshold(TASK_CPU_TIME_THRESHOLD_SETTING.get(settings));
+        setTaskAllocationRateThreshold(TASK_ALLOCATION_RATE_THRESHOLD_SETTING.get(settings));
+        this.maxCancellations = MAX_CANCELLATIONS_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(ENABLED_SETTING, this::setEnabled);
+        clusterSettings.addSettingsUpdateConsumer(NUM_SUCCESSIVE_BREACHES_SETTING, this::setNumSuccessiveBreaches);
+        clusterSettings.addSettingsUpdateConsumer(CPU_THRESHOLD_SETTING, this::setCpuThreshold);
+        clusterSettings.addSettingsUpdateConsumer(HEAP_THRESHOLD_SETTING, this::setHeapThreshold);
+        clusterSettings.addSettingsUpdateConsumer(TASK_CPU_TIME_THRESHOLD_SETTING, this::setTaskCpuTimeThreshold);
+        clusterSettings.addSettingsUpdateConsumer(TASK_ALLOCATION_RATE_THRESHOLD_SETTING, this::setTaskAllocationRateThreshold);
+        clusterSettings.addSettingsUpdateConsumer(MAX_CANCELLATIONS_SETTING, this::setMaxCancellations);
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private void setNumSuccessiveBreaches(int numSuccessiveBreaches) {
+        this.numSuccessiveBreaches = numSuccessiveBreaches;
+    }
+
+    private void setCpuThreshold(double cpuThreshold) {
+        this.cpuThreshold = cpuThreshold;
+    }
+
+    private void setHeapThreshold(double heapThreshold) {
+        this.heapThreshold = heapThreshold;
+    }
+
+    private void setTaskCpuTimeThreshold(TimeValue taskCpuTimeThreshold) {
+        this.taskCpuTimeThresholdNanos = taskCpuTimeThreshold.nanos();
+    }
+
+    private void setTaskAllocationRateThreshold(ByteSizeValue taskAllocationRateThreshold) {
+        this.taskAllocationRateThreshold = taskAllocationRateThreshold.getBytes();
+    }
+
+    private void setMaxCancellations(int maxCancellations) {
+        this.maxCancellations = maxCancellations;
+    }
+
+    @Override
+    protected void doStart() {
+        scheduledCheck = threadPool.scheduleWithFixedDelay(this::check, interval, ThreadPool.Names.GENERIC);
+    }
+
+    @Override
+    protected void doStop() {
+        if (scheduledCheck != null) {
+            scheduledCheck.cancel();
+        }
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    void check() {
+        if (enabled == false) {
+            cpuBreaches = 0;
+            heapBreaches = 0;
+            sampled = false;
+            lastAllocatedBytes = new HashMap<>();
+            return;
+        }
+        // the allocations of the tasks are sampled on every check so that their rate is known once the node is in duress
+        final long now = nanoTime.getAsLong();
+        final long elapsedNanos = sampled ? now - lastCheckNanos : 0;
+        final long cpuTimeThresholdNanos = this.taskCpuTimeThresholdNanos;
+        final long allocationRateThreshold = this.taskAllocationRateThreshold;
+        final Map<Long, Long> allocatedBytes = new HashMap<>();
+        final List<TaskUsage> usages = new ArrayList<>();
+        for (CancellableTask task : taskManager.getCancellableTasks().values()) {
+            if (task instanceof SearchShardTask && task.isCancelled() == false) {
+                final TaskUsage usage = new TaskUsage((SearchShardTask) task, lastAllocatedBytes.getOrDefault(task.getId(), 0L),
+                    elapsedNanos, cpuTimeThresholdNanos, allocationRateThreshold);
+                allocatedBytes.put(task.getId(), usage.allocatedBytes);
+                usages.add(usage);
+            }
+        }
+        sampled = true;
+        lastAllocatedBytes = allocatedBytes;
+        lastCheckNanos = now;
+
+        cpuBreaches = cpuPercent.getAsDouble() >= cpuThreshold ? cpuBreaches + 1 : 0;
+        heapBreaches = heapPercent.getAsDouble() >= heapThreshold ? heapBreaches + 1 : 0;
+        if (cpuBreaches < numSuccessiveBreaches && heapBreaches < numSuccessiveBreaches) {
+            return;
+        }
+        nodeDuressCount.inc();
+
+        final List<TaskUsage> candidates = new ArrayList<>();
+        for (TaskUsage usage : usages) {
+            if (usage.score >= 1) {
+                candidates.add(usage);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+        // cancel the tasks that exceed their thresholds by the most first
+        candidates.sort(Comparator.comparingDouble((TaskUsage usage) -> usage.score).reversed());
+        final int maxCancellations = this.maxCancellations;
+        if (candidates.size() > maxCancellations) {
+            cancellationLimitReachedCount.inc();
+        }
+        for (TaskUsage usage : candidates.subList(0, Math.min(maxCancellations, candidates.size()))) {
+            final String reason = "search backpressure: the node is in duress and the task used ["
+                + TimeValue.timeValueNanos(usage.cpuTimeNanos) + "] of CPU time and allocated ["
+                + new ByteSizeValue(usage.allocationRate) + "] per second on the heap";
+            logger.debug("cancelling task [{}]: {}", usage.task.getId(), reason);
+            taskManager.cancel(usage.task, reason, () -> {});
+            cancellationCount.inc();
+            if (usage.cpuTimeNanos >= cpuTimeThresholdNanos) {
+                cpuTimeCancellationCount.inc();
+            }
+            if (allocationRateThreshold > 0 && usage.allocationRate >= allocationRateThreshold) {
+                allocationRateCancellationCount.inc();
+            }
+        }
+    }
+
+    public SearchBackpressureStats stats() {
+        return new SearchBackpressureStats(enabled, nodeDuressCount.count(), cancellationCount.count(), cpuTimeCancellationCount.count(),
+            allocationRateCancellationCount.count(), cancellationLimitReachedCount.count());
+    }
+
+    /**
+     * The resources that a search shard task used, read once so that sorting the tasks sees consistent values.
+     */
+    private static final class TaskUsage {
+
+        private final SearchShardTask task;
+        private final long cpuTimeNanos;
+        private final long allocatedBytes;
+        // the bytes allocated per second since the previous check, 0 on the first check
+        private final long allocationRate;
+        // how far the task exceeds the most exceeded of its thresholds, tasks below 1 are within both thresholds
+        private final double score;
+
+        private TaskUsage(SearchShardTask task, long lastAllocatedBytes, long elapsedNanos, long cpuTimeThresholdNanos,
+                          long allocationRateThreshold) {
+            this.task = task;
+            this.cpuTimeNanos = task.getCpuTimeNanos();
+            this.allocatedBytes = task.getAllocatedBytes();
+            this.allocationRate = elapsedNanos <= 0 ? 0
+                : (long) ((allocatedBytes - lastAllocatedBytes) * ((double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos));
+            final double cpuTimeScore = (double) cpuTimeNanos / cpuTimeThresholdNanos;
+            // a threshold of 0 disables the cancellation of tasks for their allocation rate
+            this.score = allocationRateThreshold <= 0 ? cpuTimeScore
+                : Math.max(cpuTimeScore, (double) allocationRate / allocationRateThreshold);
+        }
+    }
+}
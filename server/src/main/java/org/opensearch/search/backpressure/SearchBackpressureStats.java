@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Statistics of the {@link SearchBackpressureService} of a node.
+ */
+public class SearchBackpressureStats implements Writeable, ToXContentFragment {
+
+    private final boolean enabled;
+    private final long nodeDuressCount;
+    private final long cancellationCount;
+    private final long cpuTimeCancellationCount;
+    private final long allocationRateCancellationCount;
+    private final long cancellationLimitReachedCount;
+
+    public SearchBackpressureStats(boolean enabled, long nodeDuressCount, long cancellationCount, long cpuTimeCancellationCount,
+                                   long allocationRateCancellationCount, long cancellationLimitReachedCount) {
+        this.enabled = enabled;
+        this.nodeDuressCount = nodeDuressCount;
+        this.cancellationCount = cancellationCount;
+        this.cpuTimeCancellationCount = cpuTimeCancellationCount;
+        this.allocationRateCancellationCount = allocationRateCancellationCount;
+        this.cancellationLimitReachedCount = cancellationLimitReachedCount;
+    }
+
+    public SearchBackpressureStats(StreamInput in) throws IOException {
+        enabled = in.readBoolean();
+        nodeDuressCount = in.readVLong();
+        cancellationCount = in.readVLong();
+        cpuTimeCancellationCount = in.readVLong();
+        allocationRateCancellationCount = in.readVLong();
+        cancellationLimitReachedCount = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBoolean(enabled);
+        out.writeVLong(nodeDuressCount);
+        out.writeVLong(cancellationCount);
+        out.writeVLong(cpuTimeCancellationCount);
+        out.writeVLong(allocationRateCancellationCount);
+        out.writeVLong(cancellationLimitReachedCount);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The number of checks that found the node in duress.
+     */
+    public long getNodeDuressCount() {
+        return nodeDuressCount;
+    }
+
+    /**
+     * The number of search shard tasks that were cancelled.
+     */
+    public long getCancellationCount() {
+        return cancellationCount;
+    }
+
+    /**
+     * The number of cancelled search shard tasks whose CPU time was above the threshold.
+     */
+    public long getCpuTimeCancellationCount() {
+        return cpuTimeCancellationCount;
+    }
+
+    /**
+     * The number of cancelled search shard tasks whose heap allocations were above the threshold.
+     */
+    public long getAllocationRateCancellationCount() {
+        return allocationRateCancellationCount;
+    }
+
+    /**
+     * The number of checks that found more tasks to cancel than they were allowed to.
+     */
+    public long getCancellationLimitReachedCount() {
+        return cancellationLimitReachedCount;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("search_backpressure");
+        builder.field("enabled", enabled);
+        builder.field("node_duress_count", nodeDuressCount);
+        builder.startObject("search_shard_task");
+        builder.field("cancellation_count", cancellationCount);
+        builder.field("cpu_time_cancellation_count", cpuTimeCancellationCount);
+        builder.field("allocation_rate_cancellation_count", allocationRateCancellationCount);
+        builder.field("cancellation_limit_reached_count", cancellationLimitReachedCount);
+        builder.endObject();
+        return builder.endObject();
+    }
+}
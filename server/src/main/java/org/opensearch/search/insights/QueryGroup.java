@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.insights;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * The search requests of a time window that have the same {@link QueryShape}, and the resources they used. Only the shape of the requests
+ * is kept, not their source, so that the values that users search for are neither kept in memory nor exported.
+ */
+public final class QueryGroup implements Writeable, ToXContentObject {
+
+    /**
+     * The resources by which query groups can be ranked.
+     */
+    public enum Metric {
+        /** the time it took to execute the requests on the coordinating node */
+        LATENCY,
+        /** the CPU time that the query phase of the requests used on the shards */
+        CPU,
+        /** the number of bytes that the query phase of the requests allocated on the heap of the shards */
+        MEMORY;
+
+        public static Metric fromString(String name) {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        }
+
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * Orders groups from the one that used the most of this resource in total to the one that used the least.
+         */
+        public Comparator<QueryGroup> comparator() {
+            switch (this) {
+                case LATENCY:
+                    return Comparator.comparingLong(QueryGroup::getTotalLatencyNanos).reversed();
+                case CPU:
+                    return Comparator.comparingLong(QueryGroup::getTotalCpuTimeNanos).reversed();
+                case MEMORY:
+                    return Comparator.comparingLong(QueryGroup::getTotalAllocatedBytes).reversed();
+                default:
+                    throw new AssertionError("unknown metric [" + this + "]");
+            }
+        }
+    }
+
+    private final String id;
+    private final String shape;
+    private final String[] indices;
+    private long count;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+    private long totalCpuTimeNanos;
+    private long maxCpuTimeNanos;
+    private long totalAllocatedBytes;
+    private long maxAllocatedBytes;
+
+    QueryGroup(QueryShape shape, String[] indices) {
+        this.id = shape.id();
+        this.shape = shape.shape();
+        this.indices = indices;
+    }
+
+    private QueryGroup(QueryGroup other) {
+        this.id = other.id;
+        this.shape = other.shape;
+        this.indices = other.indices;
+        merge(other);
+    }
+
+    public QueryGroup(StreamInput in) throws IOException {
+        id = in.readString();
+        shape = in.readString();
+        indices = in.readStringArray();
+        count = in.readVLong();
+        totalLatencyNanos = in.readVLong();
+        maxLatencyNanos = in.readVLong();
+        totalCpuTimeNanos = in.readVLong();
+        maxCpuTimeNanos = in.readVLong();
+        totalAllocatedBytes = in.readVLong();
+        maxAllocatedBytes = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(id);
+        out.writeString(shape);
+        out.writeStringArray(indices);
+        out.writeVLong(count);
+        out.writeVLong(totalLatencyNanos);
+        out.writeVLong(maxLatencyNanos);
+        out.writeVLong(totalCpuTimeNanos);
+        out.writeVLong(maxCpuTimeNanos);
+        out.writeVLong(totalAllocatedBytes);
+        out.writeVLong(maxAllocatedBytes);
+    }
+
+    void add(long latencyNanos, long cpuTimeNanos, long allocatedBytes) {
+        count++;
+        totalLatencyNanos += latencyNanos;
+        maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+        totalCpuTimeNanos += cpuTimeNanos;
+        maxCpuTimeNanos = Math.max(maxCpuTimeNanos, cpuTimeNanos);
+        totalAllocatedBytes += allocatedBytes;
+        maxAllocatedBytes = Math.max(maxAllocatedBytes, allocatedBytes);
+    }
+
+    /**
+     * Adds the requests of the given group, which must have the same shape, to this group.
+     */
+    public void merge(QueryGroup other) {
+        assert id.equals(other.id) : "cannot merge query groups with different shapes";
+        count += other.count;
+        totalLatencyNanos += other.totalLatencyNanos;
+        maxLatencyNanos = Math.max(maxLatencyNanos, other.maxLatencyNanos);
+        totalCpuTimeNanos += other.totalCpuTimeNanos;
+        maxCpuTimeNanos = Math.max(maxCpuTimeNanos, other.maxCpuTimeNanos);
+        totalAllocatedBytes += other.totalAllocatedBytes;
+        maxAllocatedBytes = Math.max(maxAllocatedBytes, other.maxAllocatedBytes);
+    }
+
+    public QueryGroup copy() {
+        return new QueryGroup(this);
+    }
+
+    /**
+     * A hash of the shape of the requests, which is the same on all nodes.
+     */
+    public String getId() {
+        return id;
+    }
+
+    public String getShape() {
+        return shape;
+    }
+
+    /**
+     * The indices that the first request of the group searched.
+     */
+    public String[] getIndices() {
+        return indices;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalLatencyNanos() {
+        return totalLatencyNanos;
+    }
+
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+    public long getTotalCpuTimeNanos() {
+        return totalCpuTimeNanos;
+    }
+
+    public long getMaxCpuTimeNanos() {
+        return maxCpuTimeNanos;
+    }
+
+    public long getTotalAllocatedBytes() {
+        return totalAllocatedBytes;
+    }
+
+    public long getMaxAllocatedBytes() {
+        return maxAllocatedBytes;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("id", id);
+        builder.field("shape", shape);
+        builder.array("indices", indices);
+        builder.field("count", count);
+        builder.startObject("latency");
+        builder.humanReadableField("total_in_millis", "total", TimeValue.timeValueNanos(totalLatencyNanos));
+        builder.humanReadableField("max_in_millis", "max", TimeValue.timeValueNanos(maxLatencyNanos));
+        builder.endObject();
+        builder.startObject("cpu");
+        builder.humanReadableField("total_in_millis", "total", TimeValue.timeValueNanos(totalCpuTimeNanos));
+        builder.humanReadableField("max_in_millis", "max", TimeValue.timeValueNanos(maxCpuTimeNanos));
+        builder.endObject();
+        builder.startObject("memory");
+        builder.humanReadableField("total_allocated_in_bytes", "total_allocated", new ByteSizeValue(totalAllocatedBytes));
+        builder.humanReadableField("max_allocated_in_bytes", "max_allocated", new ByteSizeValue(maxAllocatedBytes));
+        builder.endObject();
+        return builder.endObject();
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.insights;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchTask;
+import org.opensearch.client.Client;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.node.Node;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+
+/**
+ * Collects the search requests that the node coordinates into {@link QueryGroup}s by {@link QueryShape}, within fixed time windows, so
+ * that the shapes of queries that use the most resources can be listed without searching the slow logs of every node. The groups of a
+ * window can optionally be exported to a local index when the window ends.
+ *
+ * Every request is recorded into the group of its shape, so that a shape that is cheap but very frequent ranks by the resources that all
+ * its executions add up to. Computing the shape of a request serializes and normalizes its source, so the shapes are cached by source:
+ * the requests that are sent again with the same source, like the panels of a dashboard that is refreshed periodically, only pay for the
+ * lookup of the source in the cache.
+ */
+public class QueryInsightsService extends AbstractLifecycleComponent {
+
+    private static final Logger logger = LogManager.getLogger(QueryInsightsService.class);
+
+    public static final Setting<Boolean> TOP_QUERIES_ENABLED_SETTING =
+        Setting.boolSetting("search.insights.top_queries.enabled", false, Property.Dynamic, Property.NodeScope);
+    /**
+     * The duration of the windows. Windows are aligned on the epoch so that the windows of all nodes match.
+     */
+    public static final Setting<TimeValue> TOP_QUERIES_WINDOW_SIZE_SETTING =
+        Setting.timeSetting("search.insights.top_queries.window_size", TimeValue.timeValueMinutes(5), TimeValue.timeValueMinutes(1),
+            TimeValue.timeValueHours(24), Property.Dynamic, Property.NodeScope);
+    /**
+     * The number of groups per metric that are returned by default and that are exported at the end of a window.
+     */
+    public static final Setting<Integer> TOP_QUERIES_SIZE_SETTING =
+        Setting.intSetting("search.insights.top_queries.top_n_size", 10, 1, 100, Property.Dynamic, Property.NodeScope);
+    /**
+     * Whether the top groups of each window are indexed into a {@value #EXPORT_INDEX_PREFIX} index of the day the window started.
+     */
+    public static final Setting<Boolean> TOP_QUERIES_EXPORT_ENABLED_SETTING =
+        Setting.boolSetting("search.insights.top_queries.export.enabled", false, Property.Dynamic, Property.NodeScope);
+
+    public static final String EXPORT_INDEX_PREFIX = "top_queries-";
+    private static final DateFormatter EXPORT_INDEX_DATE_FORMATTER = DateFormatter.forPattern("uuuu.MM.dd");
+
+    /**
+     * The maximum number of groups of a window, requests of other shapes are not recorded once it is reached.
+     */
+    static final int MAX_GROUPS = 1000;
+    /**
+     * The maximum number of sources whose shape is cached.
+     */
+    static final int MAX_CACHED_SHAPES = 1000;
+
+    private static final TimeValue ROLLOVER_CHECK_INTERVAL = TimeValue.timeValueSeconds(10);
+    private static final SearchSourceBuilder EMPTY_SOURCE = new SearchSourceBuilder();
+
+    private final ThreadPool threadPool;
+    private final Client client;
+    private final LongSupplier currentTimeMillis;
+    private final String nodeName;
+
+    private volatile boolean enabled;
+    private volatile long windowSizeMillis;
+    private volatile int topQueriesSize;
+    private volatile boolean exportEnabled;
+    private volatile Scheduler.Cancellable scheduledRollover;
+
+    private long windowStartMillis;
+    private Map<String, QueryGroup> groups = new HashMap<>();
+    private long droppedRequests;
+    private final Cache<SearchSourceBuilder, QueryShape> shapes =
+        CacheBuilder.<SearchSourceBuilder, QueryShape>builder().setMaximumWeight(MAX_CACHED_SHAPES).build();
+
+    public QueryInsightsService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, Client client) {
+        this(settings, clusterSettings, threadPool, client, threadPool::absoluteTimeInMillis);
+    }
+
+    QueryInsightsService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, Client client,
+                         LongSupplier currentTimeMillis) {
+        this.threadPool = threadPool;
+        this.client = client;
+        this.currentTimeMillis = currentTimeMillis;
+        this.nodeName = Node.NODE_NAME_SETTING.get(settings);
+        this.enabled = TOP_QUERIES_ENABLED_SETTING.get(settings);
+        this.windowSizeMillis = TOP_QUERIES_WINDOW_SIZE_SETTING.get(settings).millis();
+        this.topQueriesSize = TOP_QUERIES_SIZE_SETTING.get(settings);
+        this.exportEnabled = TOP_QUERIES_EXPORT_ENABLED_SETTING.get(settings);
+        this.windowStartMillis = windowStart(currentTimeMillis.getAsLong());
+        clusterSettings.addSettingsUpdateConsumer(TOP_QUERIES_ENABLED_SETTING, this::setEnabled);
+        clusterSettings.addSettingsUpdateConsumer(TOP_QUERIES_WINDOW_SIZE_SETTING, this::setWindowSize);
+        clusterSettings.addSettingsUpdateConsumer(TOP_QUERIES_SIZE_SETTING, this::setTopQueriesSize);
+        clusterSettings.addSettingsUpdateConsumer(TOP_QUERIES_EXPORT_ENABLED_SETTING, this::setExportEnabled);
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private synchronized void setWindowSize(TimeValue windowSize) {
+        this.windowSizeMillis = windowSize.millis();
+        // start over rather than mixing windows of different sizes
+        this.windowStartMillis = windowStart(currentTimeMillis.getAsLong());
+        this.groups = new HashMap<>();
+        this.droppedRequests = 0;
+    }
+
+    private void setTopQueriesSize(int topQueriesSize) {
+        this.topQueriesSize = topQueriesSize;
+    }
+
+    private void setExportEnabled(boolean exportEnabled) {
+        this.exportEnabled = exportEnabled;
+    }
+
+    public int getTopQueriesSize() {
+        return topQueriesSize;
+    }
+
+    @Override
+    protected void doStart() {
+        scheduledRollover = threadPool.scheduleWithFixedDelay(this::maybeRollover, ROLLOVER_CHECK_INTERVAL, ThreadPool.Names.GENERIC);
+    }
+
+    @Override
+    protected void doStop() {
+        if (scheduledRollover != null) {
+            scheduledRollover.cancel();
+        }
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    /**
+     * Wraps the listener of a search request so that the request is recorded once it completes successfully.
+     */
+    public ActionListener<SearchResponse> wrap(SearchTask task, SearchRequest request, ActionListener<SearchResponse> listener) {
+        if (enabled == false) {
+            return listener;
+        }
+        final long startNanos = System.nanoTime();
+        return new ActionListener<SearchResponse>() {
+            @Override
+            public void onResponse(SearchResponse response) {
+                try {
+                    record(request, System.nanoTime() - startNanos, task.getShardCpuTimeNanos(), task.getShardAllocatedBytes());
+                } catch (Exception e) {
+                    logger.debug("failed to record the search request in the top queries", e);
+                }
+                listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                listener.onFailure(e);
+            }
+        };
+    }
+
+    void record(SearchRequest request, long latencyNanos, long cpuTimeNanos, long allocatedBytes) throws ExecutionException {
+        final SearchSourceBuilder source = request.source() == null ? EMPTY_SOURCE : request.source();
+        // computing the shape serializes the request, do it outside of the lock
+        final QueryShape shape = shapes.computeIfAbsent(source, QueryShape::of);
+        synchronized (this) {
+            maybeRollover(currentTimeMillis.getAsLong());
+            QueryGroup group = groups.get(shape.id());
+            if (group == null) {
+                if (groups.size() >= MAX_GROUPS) {
+                    droppedRequests++;
+                    return;
+                }
+                group = new QueryGroup(shape, request.indices());
+                groups.put(shape.id(), group);
+            }
+            group.add(latencyNanos, cpuTimeNanos, allocatedBytes);
+        }
+    }
+
+    /**
+     * Returns copies of the groups of the current window that used the most of the given resource, from the one that used the most.
+     */
+    public synchronized List<QueryGroup> getTopQueries(QueryGroup.Metric metric, int size) {
+        maybeRollover(currentTimeMillis.getAsLong());
+        return topQueries(groups, metric, size);
+    }
+
+    public synchronized long getWindowStartMillis() {
+        return windowStartMillis;
+    }
+
+    /**
+     * The number of requests of the current window that were not recorded because the window had too many groups already.
+     */
+    public synchronized long getDroppedRequests() {
+        return droppedRequests;
+    }
+
+    private static List<QueryGroup> topQueries(Map<String, QueryGroup> groups, QueryGroup.Metric metric, int size) {
+        final List<QueryGroup> topQueries = new ArrayList<>(groups.size());
+        for (QueryGroup group : groups.values()) {
+            topQueries.add(group.copy());
+        }
+        topQueries.sort(metric.comparator());
+        return topQueries.subList(0, Math.min(size, topQueries.size()));
+    }
+
+    void maybeRollover() {
+        synchronized (this) {
+            maybeRollover(currentTimeMillis.getAsLong());
+        }
+    }
+
+    private void maybeRollover(long nowMillis) {
+        assert Thread.holdsLock(this);
+        if (nowMillis < windowStartMillis + windowSizeMillis) {
+            return;
+        }
+        if (exportEnabled && groups.isEmpty() == false) {
+            export(windowStartMillis, groups);
+        }
+        windowStartMillis = windowStart(nowMillis);
+        groups = new HashMap<>();
+        droppedRequests = 0;
+    }
+
+    private long windowStart(long timeMillis) {
+        return timeMillis - timeMillis % windowSizeMillis;
+    }
+
+    private void export(long windowStartMillis, Map<String, QueryGroup> groups) {
+        // the top groups of any metric, once each
+        final Map<String, QueryGroup> exported = new LinkedHashMap<>();
+        for (QueryGroup.Metric metric : QueryGroup.Metric.values()) {
+            for (QueryGroup group : topQueries(groups, metric, topQueriesSize)) {
+                exported.putIfAbsent(group.getId(), group);
+            }
+        }
+        final String index = EXPORT_INDEX_PREFIX
+            + EXPORT_INDEX_DATE_FORMATTER.format(Instant.ofEpochMilli(windowStartMillis).atZone(ZoneOffset.UTC));
+        final BulkRequest bulkRequest = new BulkRequest();
+        try {
+            for (QueryGroup group : exported.values()) {
+                final XContentBuilder builder = XContentFactory.jsonBuilder();
+                builder.startObject();
+                builder.field("window_start", windowStartMillis);
+                builder.field("window_size_in_millis", windowSizeMillis);
+                builder.field("node_name", nodeName);
+                builder.field("query_group");
+                group.toXContent(builder, XContentBuilder.EMPTY_PARAMS);
+                builder.endObject();
+                bulkRequest.add(new IndexRequest(index).source(builder));
+            }
+        } catch (IOException e) {
+            logger.warn("failed to build the export of the top queries", e);
+            return;
+        }
+        // the export must not run with the headers of the search request that happened to end the window
+        final ThreadContext threadContext = threadPool.getThreadContext();
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            client.bulk(bulkRequest, ActionListener.wrap(
+                response -> {
+                    if (response.hasFailures()) {
+                        logger.warn("failed to export the top queries to [{}]: {}", index, response.buildFailureMessage());
+                    }
+                },
+                e -> logger.warn(() -> new ParameterizedMessage("failed to export the top queries to [{}]", index), e)));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.insights;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.Strings;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The shape of a search request: its source with every value replaced by a placeholder while the structure, the query types and the
+ * field names are kept. Requests that only differ by the values they search for, for instance the same dashboard panel refreshed with a
+ * different time range, have the same shape.
+ */
+final class QueryShape {
+
+    static final String PLACEHOLDER = "?";
+
+    private final String id;
+    private final String shape;
+
+    private QueryShape(String id, String shape) {
+        this.id = id;
+        this.shape = shape;
+    }
+
+    static QueryShape of(SearchSourceBuilder source) {
+        if (source == null) {
+            source = new SearchSourceBuilder();
+        }
+        try {
+            final BytesReference bytes = XContentHelper.toXContent(source, XContentType.JSON, false);
+            final Map<String, Object> map = XContentHelper.convertToMap(bytes, false, XContentType.JSON).v2();
+            final XContentBuilder builder = XContentFactory.jsonBuilder().map(normalizeMap(map));
+            final String shape = Strings.toString(builder);
+            final BytesRef shapeBytes = new BytesRef(shape);
+            final MurmurHash3.Hash128 hash =
+                MurmurHash3.hash128(shapeBytes.bytes, shapeBytes.offset, shapeBytes.length, 0, new MurmurHash3.Hash128());
+            return new QueryShape(String.format(Locale.ROOT, "%016x%016x", hash.h1, hash.h2), shape);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, Object> normalizeMap(Map<String, Object> map) {
+        // sorted so that the order of the keys in the request does not matter
+        final Map<String, Object> normalized = new TreeMap<>();
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            normalized.put(entry.getKey(), normalize(entry.getValue()));
+        }
+        return normalized;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object normalize(Object value) {
+        if (value instanceof Map) {
+            return normalizeMap((Map<String, Object>) value);
+        } else if (value instanceof List) {
+            final List<Object> normalized = new ArrayList<>();
+            boolean allPlaceholders = true;
+            for (Object element : (List<Object>) value) {
+                final Object normalizedElement = normalize(element);
+                allPlaceholders &= PLACEHOLDER.equals(normalizedElement);
+                normalized.add(normalizedElement);
+            }
+            // lists of values, like the terms of a terms query, have the same shape whatever their length
+            return allPlaceholders ? PLACEHOLDER : normalized;
+        } else {
+            return PLACEHOLDER;
+        }
+    }
+
+    /**
+     * A hash of the shape, which identifies the shape on all nodes.
+     */
+    String id() {
+        return id;
+    }
+
+    String shape() {
+        return shape;
+    }
+}
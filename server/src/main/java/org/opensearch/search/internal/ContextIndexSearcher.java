@@ -80,6 +80,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -94,6 +95,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     private AggregatedDfs aggregatedDfs;
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
+    private final LongAdder skippedLeaves = new LongAdder();
 
     public ContextIndexSearcher(IndexReader reader, Similarity similarity,
                                 QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
@@ -145,6 +147,14 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         return this.cancellable.isEnabled();
     }
 
+    /**
+     * Returns the number of leaves that were skipped by the searches of this searcher because the points of the leaf are outside of the
+     * ranges required by the query.
+     */
+    public long getSkippedLeaves() {
+        return skippedLeaves.sum();
+    }
+
     public void setAggregatedDfs(AggregatedDfs aggregatedDfs) {
         this.aggregatedDfs = aggregatedDfs;
     }
@@ -189,9 +199,10 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     public void search(List<LeafReaderContext> leaves, Weight weight, CollectorManager manager,
             QuerySearchResult result, DocValueFormat[] formats, TotalHits totalHits) throws IOException {
         final List<Collector> collectors = new ArrayList<>(leaves.size());
+        final PointRangeLeafPruner pruner = PointRangeLeafPruner.create(weight.getQuery());
         for (LeafReaderContext ctx : leaves) {
             final Collector collector = manager.newCollector();
-            searchLeaf(ctx, weight, collector);
+            searchLeaf(ctx, weight, pruner, collector);
             collectors.add(collector);
         }
         TopFieldDocs mergedTopDocs = (TopFieldDocs) manager.reduce(collectors);
@@ -208,18 +219,31 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
 
     @Override
     protected void search(List<LeafReaderContext> leaves, Weight weight, Collector collector) throws IOException {
+        final PointRangeLeafPruner pruner = PointRangeLeafPruner.create(weight.getQuery());
         for (LeafReaderContext ctx : leaves) { // search each subreader
-            searchLeaf(ctx, weight, collector);
+            searchLeaf(ctx, weight, pruner, collector);
+        }
+    }
+
+    private boolean canMatch(PointRangeLeafPruner pruner, LeafReaderContext ctx, Weight weight) throws IOException {
+        if (pruner.canMatch(ctx)) {
+            return true;
+        }
+        skippedLeaves.increment();
+        if (weight instanceof ProfileWeight) {
+            ((ProfileWeight) weight).skippedLeaf();
         }
+        return false;
     }
 
     /**
      * Lower-level search API.
      *
      * {@link LeafCollector#collect(int)} is called for every matching document in
-     * the provided <code>ctx</code>.
+     * the provided <code>ctx</code>. Leaves that the <code>pruner</code> rules out are handled like leaves that the weight has no
+     * scorer for: the collector is still asked for a leaf collector, but no document is collected.
      */
-    private void searchLeaf(LeafReaderContext ctx, Weight weight, Collector collector) throws IOException {
+    private void searchLeaf(LeafReaderContext ctx, Weight weight, PointRangeLeafPruner pruner, Collector collector) throws IOException {
         cancellable.checkCancelled();
         weight = wrapWeight(weight);
         final LeafCollector leafCollector;
@@ -230,6 +254,9 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
             // continue with the following leaf
             return;
         }
+        if (canMatch(pruner, ctx, weight) == false) {
+            return;
+        }
         Bits liveDocs = ctx.reader().getLiveDocs();
         BitSet liveDocsBitSet = getSparseBitSetOrNull(liveDocs);
         if (liveDocsBitSet == null) {
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.FutureArrays;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tells whether a leaf can match the required point ranges of a query by comparing them to the minimum and maximum values of the points
+ * of the leaf, which every segment keeps in memory. This lets the searcher skip leaves, for instance the ones outside of the time range
+ * of a query on a time-based index, before scorers are created for them.
+ */
+final class PointRangeLeafPruner {
+
+    private static final PointRangeLeafPruner MATCH_ALL = new PointRangeLeafPruner(new ArrayList<>());
+
+    private final List<PointRangeQuery> ranges;
+
+    private PointRangeLeafPruner(List<PointRangeQuery> ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Creates a pruner for the point ranges that every document matching the provided rewritten query must be in.
+     */
+    static PointRangeLeafPruner create(Query query) {
+        final List<PointRangeQuery> ranges = new ArrayList<>();
+        collectRequiredRanges(query, ranges);
+        return ranges.isEmpty() ? MATCH_ALL : new PointRangeLeafPruner(ranges);
+    }
+
+    private static void collectRequiredRanges(Query query, List<PointRangeQuery> ranges) {
+        if (query instanceof PointRangeQuery) {
+            ranges.add((PointRangeQuery) query);
+        } else if (query instanceof IndexOrDocValuesQuery) {
+            collectRequiredRanges(((IndexOrDocValuesQuery) query).getIndexQuery(), ranges);
+        } else if (query instanceof ConstantScoreQuery) {
+            collectRequiredRanges(((ConstantScoreQuery) query).getQuery(), ranges);
+        } else if (query instanceof BoostQuery) {
+            collectRequiredRanges(((BoostQuery) query).getQuery(), ranges);
+        } else if (query instanceof BooleanQuery) {
+            for (BooleanClause clause : ((BooleanQuery) query).clauses()) {
+                if (clause.isRequired()) {
+                    collectRequiredRanges(clause.getQuery(), ranges);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns {@code false} if the provided leaf has no document that can match the query.
+     */
+    boolean canMatch(LeafReaderContext ctx) throws IOException {
+        for (PointRangeQuery range : ranges) {
+            final PointValues values = ctx.reader().getPointValues(range.getField());
+            if (values == null || values.getDocCount() == 0) {
+                return false;
+            }
+            final int numDims = range.getNumDims();
+            final int bytesPerDim = range.getLowerPoint().length / numDims;
+            if (values.getNumIndexDimensions() != numDims || values.getBytesPerDimension() != bytesPerDim) {
+                // let the query report the mismatch
+                continue;
+            }
+            final byte[] minPackedValue = values.getMinPackedValue();
+            final byte[] maxPackedValue = values.getMaxPackedValue();
+            for (int dim = 0; dim < numDims; dim++) {
+                final int from = dim * bytesPerDim;
+                final int to = from + bytesPerDim;
+                if (FutureArrays.compareUnsigned(range.getLowerPoint(), from, to, maxPackedValue, from, to) > 0
+                    || FutureArrays.compareUnsigned(range.getUpperPoint(), from, to, minPackedValue, from, to) < 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -34,6 +34,7 @@ package org.opensearch.search.profile.query;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.FilterCollector;
 import org.apache.lucene.search.FilterLeafCollector;
 import org.apache.lucene.search.LeafCollector;
@@ -97,6 +98,12 @@ final class ProfileCollector extends FilterCollector {
                     time += Math.max(1, System.nanoTime() - start);
                 }
             }
+
+            @Override
+            public DocIdSetIterator competitiveIterator() throws IOException {
+                // let the wrapped collector skip non-competitive documents when it is profiled
+                return in.competitiveIterator();
+            }
         };
     }
 
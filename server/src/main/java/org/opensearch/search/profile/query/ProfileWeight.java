@@ -61,6 +61,13 @@ public final class ProfileWeight extends Weight {
         this.profile = profile;
     }
 
+    /**
+     * Records that a leaf was skipped without building a scorer for it.
+     */
+    public void skippedLeaf() {
+        profile.skippedLeaf();
+    }
+
     @Override
     public Scorer scorer(LeafReaderContext context) throws IOException {
         ScorerSupplier supplier = scorerSupplier(context);
@@ -34,6 +34,11 @@ package org.opensearch.search.profile.query;
 
 import org.opensearch.search.profile.AbstractProfileBreakdown;
 
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+
 /**
  * A record of timings for the various operations that may happen during query execution.
  * A node's time may be composed of several internal attributes (rewriting, weighting,
@@ -41,8 +46,22 @@ import org.opensearch.search.profile.AbstractProfileBreakdown;
  */
 public final class QueryProfileBreakdown extends AbstractProfileBreakdown<QueryTimingType> {
 
+    private long skippedLeaves;
+
     /** Sole constructor. */
     public QueryProfileBreakdown() {
         super(QueryTimingType.class);
     }
+
+    /**
+     * Records that a leaf was skipped because it can't match the query.
+     */
+    public void skippedLeaf() {
+        skippedLeaves++;
+    }
+
+    @Override
+    protected Map<String, Object> toDebugMap() {
+        return skippedLeaves == 0 ? emptyMap() : singletonMap("skipped_leaves", skippedLeaves);
+    }
 }
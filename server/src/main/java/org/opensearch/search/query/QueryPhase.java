@@ -270,6 +270,8 @@ public class QueryPhase {
                     sortAndFormatsForRewrittenNumericSort = searchContext.sort(); // stash SortAndFormats to restore it later
                     searchContext.sort(new SortAndFormats(new Sort(newSortFields), newFormats));
                     leafSorter = createLeafSorter(oldSortFields[0]);
+                } else {
+                    enhanceSortOnNumeric(searchContext, searcher.getIndexReader(), query, collectors.isEmpty());
                 }
             }
 
@@ -505,6 +507,50 @@ public class QueryPhase {
         return rewrittenQuery;
     }
 
+    /**
+     * Allows the comparator of a leading numeric or date sort to skip non-competitive documents using the points of the field, once the
+     * queue of top hits is full and the total hits threshold is reached. This covers some of the requests that can't be rewritten by
+     * {@link #tryRewriteLongSort}, like the ones with {@code search_after} or a scroll. The comparator can only skip documents when the
+     * top hits collector is collected alone, so requests with aggregations, a post filter, {@code terminate_after}, {@code min_score}
+     * or tracked scores, and requests that count all the hits one by one, don't enable it. Neither do sorts whose missing value doesn't
+     * sort last, since the documents without a value aren't in the points of the field and would be skipped although they are
+     * competitive.
+     */
+    private static void enhanceSortOnNumeric(SearchContext searchContext, IndexReader reader, Query query,
+                                             boolean isTopDocsCollectorAlone) throws IOException {
+        if ((searchContext.from() + searchContext.size()) <= 0) return;
+        if (searchContext.collapse() != null) return;
+        // MultiCollector and the filtering collectors don't expose the competitive iterator of the top hits collector
+        if (isTopDocsCollectorAlone == false) return;
+        if (searchContext.trackScores()) return; // the max score collector is combined with the top hits collector
+        // the total hits threshold is never reached if the hits must be counted by the collector
+        int trackTotalHitsUpTo = searchContext.scrollContext() != null && searchContext.scrollContext().totalHits != null ?
+            SearchContext.TRACK_TOTAL_HITS_DISABLED : searchContext.trackTotalHitsUpTo();
+        if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_ACCURATE && shortcutTotalHitCount(reader, query) == -1) return;
+        if (canEarlyTerminate(reader, searchContext.sort())) {
+            // disable this optimization if index sorting matches the query sort since it's already optimized by index searcher
+            return;
+        }
+        SortField sortField = searchContext.sort().sort.getSort()[0];
+        if (SortField.Type.LONG.equals(IndexSortConfig.getSortFieldType(sortField)) == false) return;
+
+        // check if this is a field of type Long or Date, that is indexed and has doc values
+        String fieldName = sortField.getField();
+        if (fieldName == null) return; // happens when _score or _doc is the 1st sort field
+        if (searchContext.mapperService() == null) return; // mapperService can be null in tests
+        final MappedFieldType fieldType = searchContext.mapperService().fieldType(fieldName);
+        if (fieldType == null) return; // for unmapped fields, default behaviour depending on "unmapped_type" flag
+        if ((fieldType.typeName().equals("long") == false) && (fieldType instanceof DateFieldType == false)) return;
+        if (fieldType.isSearchable() == false) return;
+        if (fieldType.hasDocValues() == false) return;
+        // the documents without a value are skipped, so they must sort after all the other documents
+        final Object missingValue = sortField.getMissingValue();
+        final long lastValue = sortField.getReverse() ? Long.MIN_VALUE : Long.MAX_VALUE;
+        if (missingValue == null || ((Number) missingValue).longValue() != lastValue) return;
+        // the points and the doc values of the field hold the same values
+        sortField.setCanUsePoints();
+    }
+
     /**
      * Creates a sorter of {@link LeafReaderContext} that orders leaves depending on the minimum
      * value and the sort order of the provided <code>sortField</code>.
@@ -41,6 +41,7 @@ import java.io.IOException;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.DelayableWriteable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -82,6 +83,8 @@ public final class QuerySearchResult extends SearchPhaseResult {
     private boolean hasProfileResults;
     private long serviceTimeEWMA = -1;
     private int nodeQueueSize = -1;
+    private long cpuTimeNanos;
+    private long allocatedBytes;
 
     private final boolean isNull;
 
@@ -320,6 +323,26 @@ public final class QuerySearchResult extends SearchPhaseResult {
         return this;
     }
 
+    /**
+     * Returns the CPU time in nanoseconds that the shard task used until the query phase completed.
+     */
+    public long cpuTimeNanos() {
+        return cpuTimeNanos;
+    }
+
+    /**
+     * Returns the number of bytes that the shard task allocated on the heap until the query phase completed.
+     */
+    public long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public QuerySearchResult resourceUsage(long cpuTimeNanos, long allocatedBytes) {
+        this.cpuTimeNanos = cpuTimeNanos;
+        this.allocatedBytes = allocatedBytes;
+        return this;
+    }
+
     /**
      * Returns <code>true</code> if this result has any suggest score docs
      */
@@ -371,6 +394,10 @@ public final class QuerySearchResult extends SearchPhaseResult {
             setShardSearchRequest(in.readOptionalWriteable(ShardSearchRequest::new));
             setRescoreDocIds(new RescoreDocIds(in));
         }
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            cpuTimeNanos = in.readVLong();
+            allocatedBytes = in.readVLong();
+        }
     }
 
     @Override
@@ -446,6 +473,10 @@ public final class QuerySearchResult extends SearchPhaseResult {
             out.writeOptionalWriteable(getShardSearchRequest());
             getRescoreDocIds().writeTo(out);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeVLong(cpuTimeNanos);
+            out.writeVLong(allocatedBytes);
+        }
     }
 
     public TotalHits getTotalHits() {
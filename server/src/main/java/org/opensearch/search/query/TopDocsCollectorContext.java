@@ -85,6 +85,7 @@ import java.util.function.Supplier;
 
 import static org.opensearch.search.profile.query.CollectorResult.REASON_SEARCH_COUNT;
 import static org.opensearch.search.profile.query.CollectorResult.REASON_SEARCH_TOP_HITS;
+import static org.opensearch.search.profile.query.CollectorResult.REASON_SEARCH_TOP_HITS_SKIP_NON_COMPETITIVE;
 
 /**
  * A {@link QueryCollectorContext} that creates top docs collector
@@ -231,6 +232,14 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
             }
         }
 
+        private static String profilerName(@Nullable SortAndFormats sortAndFormats) {
+            // the leading numeric sort may skip non-competitive documents using the points of the field, see QueryPhase
+            if (sortAndFormats != null && sortAndFormats.sort.getSort()[0].getCanUsePoints()) {
+                return REASON_SEARCH_TOP_HITS_SKIP_NON_COMPETITIVE;
+            }
+            return REASON_SEARCH_TOP_HITS;
+        }
+
         protected final @Nullable SortAndFormats sortAndFormats;
         private final Collector collector;
         private final Supplier<TotalHits> totalHitsSupplier;
@@ -256,7 +265,7 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
                                               boolean trackMaxScore,
                                               int trackTotalHitsUpTo,
                                               boolean hasFilterCollector) throws IOException {
-            super(REASON_SEARCH_TOP_HITS, numHits);
+            super(profilerName(sortAndFormats), numHits);
             this.sortAndFormats = sortAndFormats;
 
             final TopDocsCollector<?> topDocsCollector;
@@ -50,6 +50,7 @@ import org.opensearch.node.AdaptiveSelectionStats;
 import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.script.ScriptCacheStats;
 import org.opensearch.script.ScriptStats;
+import org.opensearch.search.backpressure.SearchBackpressureStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.VersionUtils;
 import org.opensearch.threadpool.ThreadPoolStats;
@@ -317,6 +318,8 @@ public class NodeStatsTests extends OpenSearchTestCase {
                 } else {
                     assertEquals(adaptiveStats.getOutgoingConnections(), deserializedAdaptiveStats.getOutgoingConnections());
                     assertEquals(adaptiveStats.getRanks(), deserializedAdaptiveStats.getRanks());
+                    assertEquals(adaptiveStats.getHedgedRequests(), deserializedAdaptiveStats.getHedgedRequests());
+                    assertEquals(adaptiveStats.getHedgedRequestWins(), deserializedAdaptiveStats.getHedgedRequestWins());
                     adaptiveStats.getComputedStats().forEach((k, v) -> {
                         ResponseCollectorService.ComputedNodeStats aStats = adaptiveStats.getComputedStats().get(k);
                         ResponseCollectorService.ComputedNodeStats bStats = deserializedAdaptiveStats.getComputedStats().get(k);
@@ -326,6 +329,21 @@ public class NodeStatsTests extends OpenSearchTestCase {
                         assertEquals(aStats.responseTime, bStats.responseTime, 0.01);
                     });
                 }
+                SearchBackpressureStats backpressureStats = nodeStats.getSearchBackpressureStats();
+                SearchBackpressureStats deserializedBackpressureStats = deserializedNodeStats.getSearchBackpressureStats();
+                if (backpressureStats == null) {
+                    assertNull(deserializedBackpressureStats);
+                } else {
+                    assertEquals(backpressureStats.isEnabled(), deserializedBackpressureStats.isEnabled());
+                    assertEquals(backpressureStats.getNodeDuressCount(), deserializedBackpressureStats.getNodeDuressCount());
+                    assertEquals(backpressureStats.getCancellationCount(), deserializedBackpressureStats.getCancellationCount());
+                    assertEquals(backpressureStats.getCpuTimeCancellationCount(),
+                        deserializedBackpressureStats.getCpuTimeCancellationCount());
+                    assertEquals(backpressureStats.getAllocationRateCancellationCount(),
+                        deserializedBackpressureStats.getAllocationRateCancellationCount());
+                    assertEquals(backpressureStats.getCancellationLimitReachedCount(),
+                        deserializedBackpressureStats.getCancellationLimitReachedCount());
+                }
                 ScriptCacheStats scriptCacheStats = nodeStats.getScriptCacheStats();
                 ScriptCacheStats deserializedScriptCacheStats = deserializedNodeStats.getScriptCacheStats();
                 if (scriptCacheStats == null) {
@@ -526,13 +544,17 @@ public class NodeStatsTests extends OpenSearchTestCase {
                     nodeStats.put(nodeId, stats);
                 }
             }
-            adaptiveSelectionStats = new AdaptiveSelectionStats(nodeConnections, nodeStats);
+            adaptiveSelectionStats = new AdaptiveSelectionStats(nodeConnections, nodeStats, randomNonNegativeLong(),
+                randomNonNegativeLong());
         }
         ScriptCacheStats scriptCacheStats = scriptStats != null ? scriptStats.toScriptCacheStats() : null;
+        SearchBackpressureStats searchBackpressureStats = frequently() ? new SearchBackpressureStats(randomBoolean(),
+            randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+            randomNonNegativeLong()) : null;
         //TODO NodeIndicesStats are not tested here, way too complicated to create, also they need to be migrated to Writeable yet
         return new NodeStats(node, randomNonNegativeLong(), null, osStats, processStats, jvmStats, threadPoolStats,
                 fsInfo, transportStats, httpStats, allCircuitBreakerStats, scriptStats, discoveryStats,
-                ingestStats, adaptiveSelectionStats, scriptCacheStats, null);
+                ingestStats, adaptiveSelectionStats, scriptCacheStats, null, searchBackpressureStats);
     }
 
     private IngestStats.Stats getPipelineStats(List<IngestStats.PipelineStat> pipelineStats, String id) {
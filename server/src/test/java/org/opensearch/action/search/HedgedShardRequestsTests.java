@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.node.ResponseCollectorService;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class HedgedShardRequestsTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private ResponseCollectorService collector;
+    private final Map<String, Long> pendingRequests = new HashMap<>();
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName());
+        ClusterService clusterService = new ClusterService(Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), threadPool);
+        collector = new ResponseCollectorService(clusterService);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+        terminate(threadPool);
+    }
+
+    private HedgedShardRequests newHedgedShardRequests(double budgetPercent) {
+        return new HedgedShardRequests(threadPool, collector, () -> pendingRequests, 95, TimeValue.timeValueMillis(5), budgetPercent);
+    }
+
+    public void testHedgeDelay() {
+        HedgedShardRequests hedgedShardRequests = newHedgedShardRequests(100);
+        SearchShardTarget shard = new SearchShardTarget("node_1", new ShardId("index", "_na_", 0), null, OriginalIndices.NONE);
+        assertNull(hedgedShardRequests.hedgeDelay(shard));
+        for (int i = 0; i < 20; i++) {
+            collector.addQueryLatency("index", TimeValue.timeValueMillis(i < 18 ? 1 : 20).nanos());
+        }
+        assertThat(hedgedShardRequests.hedgeDelay(shard), equalTo(TimeValue.timeValueMillis(20)));
+
+        // the latencies of remote shards are not known
+        SearchShardTarget remoteShard = new SearchShardTarget("node_1", new ShardId("index", "_na_", 0), "remote", OriginalIndices.NONE);
+        assertNull(hedgedShardRequests.hedgeDelay(remoteShard));
+    }
+
+    public void testBudget() {
+        pendingRequests.put("node_1", 15L);
+        pendingRequests.put("node_2", 5L);
+        HedgedShardRequests hedgedShardRequests = newHedgedShardRequests(10);
+        assertTrue(hedgedShardRequests.tryStartHedgedRequest("node_1", "node_2"));
+        assertTrue(hedgedShardRequests.tryStartHedgedRequest("node_1", "node_2"));
+        // 10% of the 20 shard requests in flight
+        assertFalse(hedgedShardRequests.tryStartHedgedRequest("node_1", "node_2"));
+        hedgedShardRequests.onHedgedRequestDone();
+        assertTrue(hedgedShardRequests.tryStartHedgedRequest("node_1", "node_2"));
+
+        assertFalse(newHedgedShardRequests(0).tryStartHedgedRequest("node_1", "node_2"));
+    }
+
+    public void testDoNotHedgeToMoreLoadedNode() {
+        pendingRequests.put("node_1", 10L);
+        HedgedShardRequests hedgedShardRequests = newHedgedShardRequests(100);
+        collector.addNodeStatistics("node_1", 1, TimeValue.timeValueMillis(10).nanos(), TimeValue.timeValueMillis(5).nanos());
+        collector.addNodeStatistics("node_2", 20, TimeValue.timeValueMillis(10).nanos(), TimeValue.timeValueMillis(5).nanos());
+        // node_2 has a longer search queue
+        assertFalse(hedgedShardRequests.tryStartHedgedRequest("node_1", "node_2"));
+
+        collector.addNodeStatistics("node_3", 1, TimeValue.timeValueMillis(10).nanos(), TimeValue.timeValueMillis(5).nanos());
+        assertTrue(hedgedShardRequests.tryStartHedgedRequest("node_1", "node_3"));
+
+        // without statistics the copies cannot be compared
+        assertTrue(hedgedShardRequests.tryStartHedgedRequest("node_1", "node_4"));
+    }
+}
@@ -40,17 +40,25 @@ import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.cluster.routing.RecoverySource;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.UnassignedInfo;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Strings;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.Index;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.node.AdaptiveSelectionStats;
+import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.Transport;
 import org.opensearch.transport.TransportException;
 import org.opensearch.transport.TransportRequest;
@@ -75,6 +83,7 @@ import static org.opensearch.common.util.concurrent.ConcurrentCollections.newCon
 import static org.opensearch.common.util.concurrent.ConcurrentCollections.newConcurrentSet;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class SearchAsyncActionTests extends OpenSearchTestCase {
 
@@ -593,6 +602,124 @@ public class SearchAsyncActionTests extends OpenSearchTestCase {
         assertThat(numFailReplicas.get(), greaterThanOrEqualTo(1));
     }
 
+    public void testHedgeSlowShardRequests() throws InterruptedException {
+        SearchRequest request = new SearchRequest();
+        request.allowPartialSearchResults(true);
+        int numShards = randomIntBetween(1, 10);
+        // the slow requests must not hold back the other requests to their node
+        request.setMaxConcurrentShardRequests(randomIntBetween(numShards, 100));
+        CountDownLatch latch = new CountDownLatch(1);
+        ActionListener<SearchResponse> responseListener = ActionListener.wrap(
+            searchResponse -> latch.countDown(),
+            (e) -> { throw new AssertionError("unexpected", e);});
+        DiscoveryNode primaryNode = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode replicaNode = new DiscoveryNode("node_2", buildNewFakeTransportAddress(), Version.CURRENT);
+
+        GroupShardsIterator<SearchShardIterator> shardsIter = getShardsIter("idx",
+            new OriginalIndices(new String[]{"idx"}, SearchRequest.DEFAULT_INDICES_OPTIONS),
+            numShards, true, primaryNode, replicaNode);
+        // the first copy of each shard doesn't respond until the search is done
+        Map<ShardId, String> slowNodes = new HashMap<>();
+        for (SearchShardIterator shardIt : shardsIter) {
+            slowNodes.put(shardIt.shardId(), shardIt.getTargetNodeIds().get(0));
+        }
+        Map<ShardId, SearchActionListener<TestSearchPhaseResult>> slowRequests = newConcurrentMap();
+        AtomicInteger numFreedContext = new AtomicInteger();
+        SearchTransportService transportService = new SearchTransportService(null, null) {
+            @Override
+            public void sendFreeContext(Transport.Connection connection, ShardSearchContextId contextId, OriginalIndices originalIndices) {
+                assertEquals(slowNodes.get(new ShardId(new Index("idx", "_na_"), (int) contextId.getId())),
+                    connection.getNode().getId());
+                numFreedContext.incrementAndGet();
+            }
+        };
+        Map<String, Transport.Connection> lookup = new HashMap<>();
+        lookup.put(primaryNode.getId(), new MockConnection(primaryNode));
+        lookup.put(replicaNode.getId(), new MockConnection(replicaNode));
+        Map<String, AliasFilter> aliasFilters = Collections.singletonMap("_na_", new AliasFilter(null, Strings.EMPTY_ARRAY));
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        ExecutorService executor = Executors.newFixedThreadPool(randomIntBetween(1, Runtime.getRuntime().availableProcessors()));
+        try {
+            ClusterService clusterService = new ClusterService(Settings.EMPTY,
+                new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), threadPool);
+            ResponseCollectorService collector = new ResponseCollectorService(clusterService);
+            for (int i = 0; i < 20; i++) {
+                collector.addQueryLatency("idx", TimeValue.timeValueMillis(10).nanos());
+            }
+            // every shard request is in flight on the slow node when the requests are hedged
+            Map<String, Long> pendingRequests = Collections.singletonMap(primaryNode.getId(), (long) numShards);
+            HedgedShardRequests hedgedShardRequests = new HedgedShardRequests(threadPool, collector, () -> pendingRequests, 95,
+                TimeValue.ZERO, 100);
+            AbstractSearchAsyncAction<TestSearchPhaseResult> asyncAction =
+                new AbstractSearchAsyncAction<TestSearchPhaseResult>(
+                    "test",
+                    logger,
+                    transportService,
+                    (cluster, node) -> {
+                        assert cluster == null : "cluster was not null: " + cluster;
+                        return lookup.get(node); },
+                    aliasFilters,
+                    Collections.emptyMap(),
+                    Collections.emptyMap(),
+                    executor,
+                    request,
+                    responseListener,
+                    shardsIter,
+                    new TransportSearchAction.SearchTimeProvider(0, 0, () -> 0),
+                    ClusterState.EMPTY_STATE,
+                    null,
+                    new ArraySearchPhaseResults<>(shardsIter.size()),
+                    request.getMaxConcurrentShardRequests(),
+                    SearchResponse.Clusters.EMPTY,
+                    hedgedShardRequests) {
+
+                    @Override
+                    protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard,
+                                                       SearchActionListener<TestSearchPhaseResult> listener) {
+                        if (shard.getNodeId().equals(slowNodes.get(shard.getShardId()))) {
+                            assertNull(slowRequests.put(shard.getShardId(), listener));
+                        } else {
+                            Transport.Connection connection = getConnection(null, shard.getNodeId());
+                            listener.onResponse(new TestSearchPhaseResult(
+                                new ShardSearchContextId(UUIDs.randomBase64UUID(), shard.getShardId().id()), connection.getNode()));
+                        }
+                    }
+
+                    @Override
+                    protected SearchPhase getNextPhase(SearchPhaseResults<TestSearchPhaseResult> results, SearchPhaseContext context) {
+                        return new SearchPhase("test") {
+                            @Override
+                            public void run() {
+                                for (int i = 0; i < results.getNumShards(); i++) {
+                                    TestSearchPhaseResult result = results.getAtomicArray().get(i);
+                                    assertNotEquals(slowNodes.get(result.getSearchShardTarget().getShardId()), result.node.getId());
+                                }
+                                responseListener.onResponse(new TestSearchResponse());
+                            }
+                        };
+                    }
+                };
+            asyncAction.start();
+            latch.await();
+            // a slow request may not even be sent if the hedged request already returned
+            assertThat(slowRequests.size(), lessThanOrEqualTo(numShards));
+            AdaptiveSelectionStats stats = collector.getAdaptiveStats(Collections.emptyMap());
+            assertEquals(numShards, stats.getHedgedRequests());
+            assertEquals(numShards, stats.getHedgedRequestWins());
+
+            // the responses of the slow copies are ignored and their search contexts released
+            for (SearchActionListener<TestSearchPhaseResult> listener : slowRequests.values()) {
+                SearchShardTarget shard = listener.getSearchShardTarget();
+                listener.onResponse(new TestSearchPhaseResult(new ShardSearchContextId(UUIDs.randomBase64UUID(), shard.getShardId().id()),
+                    lookup.get(shard.getNodeId()).getNode()));
+            }
+            assertEquals(slowRequests.size(), numFreedContext.get());
+        } finally {
+            executor.shutdown();
+            terminate(threadPool);
+        }
+    }
+
     static GroupShardsIterator<SearchShardIterator> getShardsIter(String index, OriginalIndices originalIndices, int numShards,
                                                      boolean doReplicas, DiscoveryNode primaryNode, DiscoveryNode replicaNode) {
         ArrayList<SearchShardIterator> list = new ArrayList<>();
@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.FieldComparator;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.SortedSetSortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Supplier;
+
+public class SingleSortTopDocsMergerTests extends OpenSearchTestCase {
+
+    public void testLong() {
+        assertSameAsLucene(new SortField("field", SortField.Type.LONG, randomBoolean()),
+            () -> randomFrom(randomLong(), (long) randomIntBetween(-5, 5), Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    public void testInt() {
+        assertSameAsLucene(new SortedNumericSortField("field", SortField.Type.INT, randomBoolean()),
+            () -> randomFrom(randomInt(), randomIntBetween(-5, 5), Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    public void testDouble() {
+        assertSameAsLucene(new SortField("field", SortField.Type.DOUBLE, randomBoolean()),
+            () -> randomFrom(randomDouble(), (double) randomIntBetween(-5, 5), -0d, 0d, Double.NaN, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY));
+    }
+
+    public void testFloat() {
+        assertSameAsLucene(new SortField("field", SortField.Type.FLOAT, randomBoolean()),
+            () -> randomFrom(randomFloat(), (float) randomIntBetween(-5, 5), -0f, 0f, Float.NaN, Float.MAX_VALUE));
+    }
+
+    public void testString() {
+        SortField sortField = randomBoolean()
+            ? new SortField("field", SortField.Type.STRING, randomBoolean())
+            : new SortedSetSortField("field", randomBoolean());
+        if (randomBoolean()) {
+            sortField.setMissingValue(randomFrom(SortField.STRING_FIRST, SortField.STRING_LAST));
+        }
+        assertSameAsLucene(sortField, () -> {
+            if (rarely()) {
+                return null;
+            }
+            // share long prefixes to exercise the comparison of the full terms
+            String prefix = randomFrom("", "abcdefgh", "abcdefghij", "\u00ff\u00ff\u00ff\u00ff");
+            BytesRef term = new BytesRef(prefix + randomAlphaOfLengthBetween(0, 3));
+            if (randomBoolean()) {
+                // a term that is not at the start of its byte array
+                byte[] bytes = new byte[term.length + 2];
+                System.arraycopy(term.bytes, term.offset, bytes, 1, term.length);
+                term = new BytesRef(bytes, 1, term.length);
+            }
+            return term;
+        });
+    }
+
+    public void testUnsupportedSort() {
+        TopFieldDocs[] shardTopDocs = new TopFieldDocs[] {
+            new TopFieldDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0], new SortField[0])
+        };
+        assertNull(SingleSortTopDocsMerger.mergeOrNull(new Sort(SortField.FIELD_SCORE), 0, 10, shardTopDocs));
+        assertNull(SingleSortTopDocsMerger.mergeOrNull(new Sort(SortField.FIELD_DOC), 0, 10, shardTopDocs));
+        assertNull(SingleSortTopDocsMerger.mergeOrNull(
+            new Sort(new SortField("a", SortField.Type.LONG), new SortField("b", SortField.Type.LONG)), 0, 10, shardTopDocs));
+
+        // unexpected sort values fall back to the default merge
+        ScoreDoc[] scoreDocs = new ScoreDoc[] { new FieldDoc(0, Float.NaN, new Object[] { "not a long" }) };
+        shardTopDocs[0] = new TopFieldDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), scoreDocs, new SortField[0]);
+        assertNull(SingleSortTopDocsMerger.mergeOrNull(new Sort(new SortField("a", SortField.Type.LONG)), 0, 10, shardTopDocs));
+    }
+
+    public void testPrefix() {
+        for (int i = 0; i < 1000; i++) {
+            BytesRef first = new BytesRef(randomRealisticUnicodeOfCodepointLengthBetween(0, 12));
+            BytesRef second = new BytesRef(randomRealisticUnicodeOfCodepointLengthBetween(0, 12));
+            long firstPrefix = SingleSortTopDocsMerger.prefix(first);
+            long secondPrefix = SingleSortTopDocsMerger.prefix(second);
+            if (firstPrefix != secondPrefix) {
+                assertEquals(Integer.signum(first.compareTo(second)), Long.signum(Long.compare(firstPrefix, secondPrefix)));
+            }
+        }
+    }
+
+    private void assertSameAsLucene(SortField sortField, Supplier<Object> values) {
+        final Sort sort = new Sort(sortField);
+        final Comparator<Object> comparator = comparator(sortField);
+        final int numShards = randomIntBetween(1, 40);
+        final TopFieldDocs[] shardTopDocs = new TopFieldDocs[numShards];
+        for (int shard = 0; shard < numShards; shard++) {
+            FieldDoc[] docs = new FieldDoc[randomIntBetween(0, 50)];
+            for (int i = 0; i < docs.length; i++) {
+                docs[i] = new FieldDoc(randomIntBetween(0, 1000), Float.NaN, new Object[] { values.get() });
+            }
+            Arrays.sort(docs, (a, b) -> comparator.compare(a.fields[0], b.fields[0]));
+            for (FieldDoc doc : docs) {
+                doc.shardIndex = shard;
+            }
+            TotalHits totalHits = new TotalHits(docs.length + randomIntBetween(0, 10),
+                randomFrom(TotalHits.Relation.values()));
+            shardTopDocs[shard] = new TopFieldDocs(totalHits, docs, sort.getSort());
+        }
+        final int from = randomIntBetween(0, 100);
+        final int size = randomIntBetween(0, 200);
+        TopFieldDocs expected = TopDocs.merge(sort, from, size, shardTopDocs, false);
+        TopFieldDocs actual = SingleSortTopDocsMerger.mergeOrNull(sort, from, size, shardTopDocs);
+        assertNotNull(actual);
+        assertEquals(expected.totalHits, actual.totalHits);
+        assertArrayEquals(expected.fields, actual.fields);
+        assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+        for (int i = 0; i < expected.scoreDocs.length; i++) {
+            assertSame("hit [" + i + "]", expected.scoreDocs[i], actual.scoreDocs[i]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparator<Object> comparator(SortField sortField) {
+        return (a, b) -> {
+            int cmp = ((FieldComparator<Object>) sortField.getComparator(1, 0)).compareValues(a, b);
+            return sortField.getReverse() ? -cmp : cmp;
+        };
+    }
+}
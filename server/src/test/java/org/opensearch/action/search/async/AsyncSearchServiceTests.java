@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.async;
+
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.test.OpenSearchSingleNodeTestCase;
+
+import static org.opensearch.action.support.WriteRequest.RefreshPolicy.IMMEDIATE;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class AsyncSearchServiceTests extends OpenSearchSingleNodeTestCase {
+
+    private SearchRequest newSearchRequest() {
+        createIndex("index", Settings.builder().put("index.number_of_shards", 3).build());
+        for (int i = 0; i < 10; i++) {
+            client().prepareIndex("index", "_doc", Integer.toString(i)).setSource("field", i % 2 == 0 ? "even" : "odd").get();
+        }
+        client().admin().indices().prepareRefresh("index").get();
+        SearchRequest searchRequest = new SearchRequest("index").source(new SearchSourceBuilder()
+            .aggregation(AggregationBuilders.terms("terms").field("field.keyword")));
+        searchRequest.setBatchedReduceSize(2);
+        return searchRequest;
+    }
+
+    public void testSubmitGetAndDelete() {
+        SubmitAsyncSearchRequest submitRequest = new SubmitAsyncSearchRequest(newSearchRequest())
+            .setWaitForCompletionTimeout(TimeValue.timeValueSeconds(30))
+            .setKeepOnCompletion(true);
+        AsyncSearchResponse response = client().execute(SubmitAsyncSearchAction.INSTANCE, submitRequest).actionGet();
+        assertThat(response.getId(), notNullValue());
+        assertFalse(response.isRunning());
+        assertThat(response.getFailure(), nullValue());
+        Terms terms = response.getSearchResponse().getAggregations().get("terms");
+        assertThat(terms.getBucketByKey("even").getDocCount(), equalTo(5L));
+        assertThat(terms.getBucketByKey("odd").getDocCount(), equalTo(5L));
+
+        AsyncSearchResponse getResponse = client().execute(GetAsyncSearchAction.INSTANCE,
+            new GetAsyncSearchRequest(response.getId())).actionGet();
+        assertThat(getResponse.getId(), equalTo(response.getId()));
+        assertFalse(getResponse.isRunning());
+        assertThat(getResponse.getSearchResponse().getHits().getTotalHits().value, equalTo(10L));
+
+        assertTrue(client().execute(DeleteAsyncSearchAction.INSTANCE, new DeleteAsyncSearchRequest(response.getId()))
+            .actionGet().isAcknowledged());
+        expectThrows(ResourceNotFoundException.class, () -> client().execute(GetAsyncSearchAction.INSTANCE,
+            new GetAsyncSearchRequest(response.getId())).actionGet());
+        assertThat(getInstanceFromNode(AsyncSearchService.class).numContexts(), equalTo(0));
+    }
+
+    public void testCompletedSearchIsNotKeptByDefault() {
+        SubmitAsyncSearchRequest submitRequest = new SubmitAsyncSearchRequest(newSearchRequest())
+            .setWaitForCompletionTimeout(TimeValue.timeValueSeconds(30));
+        AsyncSearchResponse response = client().execute(SubmitAsyncSearchAction.INSTANCE, submitRequest).actionGet();
+        assertThat(response.getId(), nullValue());
+        assertFalse(response.isRunning());
+        assertThat(response.getSearchResponse().getHits().getTotalHits().value, equalTo(10L));
+        assertThat(getInstanceFromNode(AsyncSearchService.class).numContexts(), equalTo(0));
+    }
+
+    public void testKeepAliveLimit() {
+        SubmitAsyncSearchRequest submitRequest = new SubmitAsyncSearchRequest(newSearchRequest())
+            .setKeepAlive(TimeValue.timeValueDays(2));
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> client().execute(SubmitAsyncSearchAction.INSTANCE, submitRequest).actionGet());
+        assertThat(e.getMessage(), containsString(AsyncSearchService.MAX_KEEPALIVE_SETTING.getKey()));
+    }
+
+    public void testMaxContexts() {
+        client().admin().cluster().prepareUpdateSettings()
+            .setTransientSettings(Settings.builder().put(AsyncSearchService.MAX_CONTEXTS_SETTING.getKey(), 1)).get();
+        try {
+            SearchRequest searchRequest = newSearchRequest();
+            AsyncSearchResponse response = client().execute(SubmitAsyncSearchAction.INSTANCE, new SubmitAsyncSearchRequest(searchRequest)
+                .setWaitForCompletionTimeout(TimeValue.timeValueSeconds(30)).setKeepOnCompletion(true)).actionGet();
+            OpenSearchRejectedExecutionException e = expectThrows(OpenSearchRejectedExecutionException.class,
+                () -> client().execute(SubmitAsyncSearchAction.INSTANCE, new SubmitAsyncSearchRequest(searchRequest)).actionGet());
+            assertThat(e.getMessage(), containsString(AsyncSearchService.MAX_CONTEXTS_SETTING.getKey()));
+
+            // deleting a search makes room for a new one
+            client().execute(DeleteAsyncSearchAction.INSTANCE, new DeleteAsyncSearchRequest(response.getId())).actionGet();
+            client().execute(SubmitAsyncSearchAction.INSTANCE, new SubmitAsyncSearchRequest(searchRequest)
+                .setWaitForCompletionTimeout(TimeValue.timeValueSeconds(30))).actionGet();
+            assertThat(getInstanceFromNode(AsyncSearchService.class).numContexts(), equalTo(0));
+        } finally {
+            client().admin().cluster().prepareUpdateSettings()
+                .setTransientSettings(Settings.builder().putNull(AsyncSearchService.MAX_CONTEXTS_SETTING.getKey())).get();
+        }
+    }
+
+    public void testOnlySubmittingUserCanAccessSearch() {
+        SearchRequest searchRequest = newSearchRequest();
+        ThreadContext threadContext = client().threadPool().getThreadContext();
+        final String id;
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putTransient(AsyncSearchService.USER_TRANSIENT, "alice||");
+            id = client().execute(SubmitAsyncSearchAction.INSTANCE, new SubmitAsyncSearchRequest(searchRequest)
+                .setWaitForCompletionTimeout(TimeValue.timeValueSeconds(30)).setKeepOnCompletion(true)).actionGet().getId();
+        }
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putTransient(AsyncSearchService.USER_TRANSIENT, "bob||");
+            expectThrows(ResourceNotFoundException.class,
+                () -> client().execute(GetAsyncSearchAction.INSTANCE, new GetAsyncSearchRequest(id)).actionGet());
+            expectThrows(ResourceNotFoundException.class,
+                () -> client().execute(DeleteAsyncSearchAction.INSTANCE, new DeleteAsyncSearchRequest(id)).actionGet());
+        }
+        expectThrows(ResourceNotFoundException.class,
+            () -> client().execute(GetAsyncSearchAction.INSTANCE, new GetAsyncSearchRequest(id)).actionGet());
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putTransient(AsyncSearchService.USER_TRANSIENT, "alice||");
+            assertFalse(client().execute(GetAsyncSearchAction.INSTANCE, new GetAsyncSearchRequest(id)).actionGet().isRunning());
+            client().execute(DeleteAsyncSearchAction.INSTANCE, new DeleteAsyncSearchRequest(id)).actionGet();
+        }
+        assertThat(getInstanceFromNode(AsyncSearchService.class).numContexts(), equalTo(0));
+    }
+
+    public void testIdCannotBeGuessed() {
+        AsyncSearchResponse response = client().execute(SubmitAsyncSearchAction.INSTANCE, new SubmitAsyncSearchRequest(newSearchRequest())
+            .setWaitForCompletionTimeout(TimeValue.timeValueSeconds(30)).setKeepOnCompletion(true)).actionGet();
+        String nodeId = getInstanceFromNode(ClusterService.class).localNode().getId();
+        assertThat(AsyncSearchId.decode(response.getId()).getNodeId(), equalTo(nodeId));
+        // an id with the same node, but another secret, does not match any search
+        expectThrows(ResourceNotFoundException.class, () -> client().execute(GetAsyncSearchAction.INSTANCE,
+            new GetAsyncSearchRequest(AsyncSearchId.encode(nodeId, randomNonNegativeLong()))).actionGet());
+        client().execute(DeleteAsyncSearchAction.INSTANCE, new DeleteAsyncSearchRequest(response.getId())).actionGet();
+    }
+
+    public void testInvalidId() {
+        expectThrows(Exception.class, () -> client().execute(GetAsyncSearchAction.INSTANCE,
+            new GetAsyncSearchRequest("not-an-id")).actionGet());
+    }
+}
@@ -42,6 +42,8 @@ import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
 import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
 import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.settings.Settings;
@@ -241,6 +243,46 @@ public class ClusterChangedEventTests extends OpenSearchTestCase {
         assertTrue("index routing table should not be the same object", event.indexRoutingTableChanged(initialIndices.get(0).getName()));
     }
 
+    /**
+     * Test the set of shards whose routing changed
+     */
+    public void testChangedShardRoutingSet() {
+        final ClusterState originalState = createState(3, randomBoolean(), initialIndices);
+
+        ClusterChangedEvent event = new ClusterChangedEvent("_na_", ClusterState.builder(originalState).build(), originalState);
+        assertThat(event.changedShardRoutingSet(), equalTo(Collections.emptySet()));
+
+        // a new instance of the routing table of a single shard
+        final Index changedIndex = initialIndices.get(0);
+        final IndexShardRoutingTable shardRoutingTable = originalState.routingTable().index(changedIndex).shard(0);
+        ClusterState newState = ClusterState.builder(originalState)
+            .routingTable(RoutingTable.builder(originalState.routingTable())
+                .add(IndexRoutingTable.builder(changedIndex).addIndexShard(new IndexShardRoutingTable.Builder(shardRoutingTable).build()))
+                .build())
+            .build();
+        event = new ClusterChangedEvent("_na_", newState, originalState);
+        assertThat(event.changedShardRoutingSet(), equalTo(Collections.singleton(shardRoutingTable.shardId())));
+
+        // an unchanged index routing table in a new routing table
+        newState = ClusterState.builder(originalState)
+            .routingTable(RoutingTable.builder(originalState.routingTable()).build())
+            .build();
+        event = new ClusterChangedEvent("_na_", newState, originalState);
+        assertTrue(event.routingTableChanged());
+        assertThat(event.changedShardRoutingSet(), equalTo(Collections.emptySet()));
+
+        // the shards of removed indices are reported
+        newState = ClusterState.builder(originalState)
+            .routingTable(RoutingTable.builder(originalState.routingTable()).remove(changedIndex.getName()).build())
+            .build();
+        event = new ClusterChangedEvent("_na_", newState, originalState);
+        assertThat(event.changedShardRoutingSet(), equalTo(Collections.singleton(shardRoutingTable.shardId())));
+
+        // the shards of added indices are reported
+        event = new ClusterChangedEvent("_na_", originalState, newState);
+        assertThat(event.changedShardRoutingSet(), equalTo(Collections.singleton(shardRoutingTable.shardId())));
+    }
+
     /**
      * Test custom metadata change checks
      */
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.DiskUsageReporter.DiskUsageReportRequest;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.monitor.fs.FsInfo;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class DiskUsageReporterTests extends OpenSearchTestCase {
+
+    private static final DiscoveryNode LOCAL_NODE
+        = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT);
+
+    public void testBuildReport() {
+        final FsInfo.Path[] paths = new FsInfo.Path[] {
+            new FsInfo.Path("/least", "/dev/sda", 100, 90, 10),
+            new FsInfo.Path("/most", "/dev/sdb", 100, 90, 80),
+            new FsInfo.Path("/middle", "/dev/sdc", 100, 90, 50),
+        };
+        final long timestamp = randomNonNegativeLong();
+        final DiskUsageReportRequest report = DiskUsageReporter.buildReport(LOCAL_NODE, new FsInfo(timestamp, null, paths));
+        assertThat(report.getTimestamp(), equalTo(timestamp));
+        assertThat(report.getLeastAvailableUsage(), equalTo(new DiskUsage("node_1", LOCAL_NODE.getName(), "/least", 100, 10)));
+        assertThat(report.getMostAvailableUsage(), equalTo(new DiskUsage("node_1", LOCAL_NODE.getName(), "/most", 100, 80)));
+
+        assertThat(DiskUsageReporter.buildReport(LOCAL_NODE, null), nullValue());
+        assertThat(DiskUsageReporter.buildReport(LOCAL_NODE, new FsInfo(0, null, new FsInfo.Path[0])), nullValue());
+        assertThat(DiskUsageReporter.buildReport(LOCAL_NODE,
+            new FsInfo(0, null, new FsInfo.Path[] { new FsInfo.Path("/unknown", null, -1, -1, -1) })), nullValue());
+    }
+
+    public void testShouldReport() {
+        final DiskUsageReportRequest report = report("/a", 1000, 500, "/b", 1000, 700);
+        assertTrue(DiskUsageReporter.shouldReport(null, report, randomDoubleBetween(0.0, 100.0, true)));
+        assertFalse(DiskUsageReporter.shouldReport(report, report, randomDoubleBetween(0.0, 100.0, true)));
+
+        // a change below the threshold is not reported, one at or above it is
+        assertFalse(DiskUsageReporter.shouldReport(report, report("/a", 1000, 491, "/b", 1000, 700), 1.0));
+        assertTrue(DiskUsageReporter.shouldReport(report, report("/a", 1000, 490, "/b", 1000, 700), 1.0));
+        assertTrue(DiskUsageReporter.shouldReport(report, report("/a", 1000, 500, "/b", 1000, 715), 1.0));
+        assertTrue(DiskUsageReporter.shouldReport(report, report("/a", 1000, 499, "/b", 1000, 700), 0.0));
+
+        // a different path or size is always reported
+        assertTrue(DiskUsageReporter.shouldReport(report, report("/c", 1000, 500, "/b", 1000, 700), 100.0));
+        assertTrue(DiskUsageReporter.shouldReport(report, report("/a", 1000, 500, "/b", 2000, 700), 100.0));
+    }
+
+    public void testSerialization() throws IOException {
+        final DiskUsageReportRequest report = report("/a", randomNonNegativeLong(), randomNonNegativeLong(),
+            "/b", randomNonNegativeLong(), randomNonNegativeLong());
+        final DiskUsageReportRequest copy
+            = copyWriteable(report, new NamedWriteableRegistry(emptyList()), DiskUsageReportRequest::new);
+        assertThat(copy.getLeastAvailableUsage(), equalTo(report.getLeastAvailableUsage()));
+        assertThat(copy.getMostAvailableUsage(), equalTo(report.getMostAvailableUsage()));
+        assertThat(copy.getTimestamp(), equalTo(report.getTimestamp()));
+    }
+
+    private static DiskUsageReportRequest report(String leastPath, long leastTotal, long leastFree,
+                                                 String mostPath, long mostTotal, long mostFree) {
+        return new DiskUsageReportRequest(
+            new DiskUsage(LOCAL_NODE.getId(), LOCAL_NODE.getName(), leastPath, leastTotal, leastFree),
+            new DiskUsage(LOCAL_NODE.getId(), LOCAL_NODE.getName(), mostPath, mostTotal, mostFree), randomNonNegativeLong());
+    }
+}
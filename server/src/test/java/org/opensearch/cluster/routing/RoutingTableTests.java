@@ -34,6 +34,7 @@ package org.opensearch.cluster.routing;
 
 import org.opensearch.Version;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.Diff;
 import org.opensearch.cluster.OpenSearchAllocationTestCase;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.Metadata;
@@ -42,12 +43,15 @@ import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.node.DiscoveryNodes.Builder;
 import org.opensearch.cluster.routing.allocation.AllocationService;
 import org.opensearch.cluster.routing.allocation.decider.ThrottlingAllocationDecider;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.Index;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.shard.ShardId;
 import org.junit.Before;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -130,6 +134,55 @@ public class RoutingTableTests extends OpenSearchAllocationTestCase {
                 .numberOfShards(this.numberOfShards);
     }
 
+    public void testIndexRoutingTableDiffOnlyContainsChangedShards() throws IOException {
+        final IndexRoutingTable before = clusterState.routingTable().index(TEST_INDEX_1);
+        initPrimaries();
+        final IndexRoutingTable initialized = clusterState.routingTable().index(TEST_INDEX_1);
+
+        // only the first shard moves to initializing
+        final IndexRoutingTable.Builder afterBuilder = IndexRoutingTable.builder(before.getIndex());
+        for (IndexShardRoutingTable indexShardRoutingTable : before) {
+            afterBuilder.addIndexShard(indexShardRoutingTable);
+        }
+        afterBuilder.addIndexShard(initialized.shard(0));
+        final IndexRoutingTable after = afterBuilder.build();
+
+        final Diff<IndexRoutingTable> diff = after.diff(before);
+        final IndexRoutingTable applied = serializeAndApply(diff, before, Version.CURRENT);
+        assertThat(applied, equalTo(after));
+        for (int shard = 1; shard < numberOfShards; shard++) {
+            assertSame("unchanged shard routing should be reused", before.shard(shard), applied.shard(shard));
+        }
+        assertSame("empty diff should return the same instance", before, serializeAndApply(before.diff(before), before, Version.CURRENT));
+
+        // older nodes receive the complete index routing table
+        assertThat(serializeAndApply(diff, before, Version.V_1_0_0), equalTo(after));
+        assertSame(before, serializeAndApply(before.diff(before), before, Version.V_1_0_0));
+
+        // a recreated index with the same name replaces the whole routing table
+        final Index recreatedIndex = new Index(TEST_INDEX_1, "_recreated_");
+        final IndexRoutingTable recreated = IndexRoutingTable.builder(recreatedIndex)
+            .initializeAsNew(IndexMetadata.builder(TEST_INDEX_1)
+                .settings(Settings.builder().put(DEFAULT_SETTINGS).put(IndexMetadata.SETTING_INDEX_UUID, recreatedIndex.getUUID()))
+                .numberOfShards(numberOfShards)
+                .numberOfReplicas(numberOfReplicas)
+                .build())
+            .build();
+        assertThat(serializeAndApply(recreated.diff(before), before, Version.CURRENT), equalTo(recreated));
+    }
+
+    private static IndexRoutingTable serializeAndApply(Diff<IndexRoutingTable> diff, IndexRoutingTable part,
+                                                       Version version) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            diff.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(version);
+                return IndexRoutingTable.readDiffFrom(in).apply(part);
+            }
+        }
+    }
+
     public void testAllShards() {
         assertThat(this.emptyRoutingTable.allShards().size(), is(0));
         assertThat(this.clusterState.routingTable().allShards().size(), is(this.totalNumberOfShards));
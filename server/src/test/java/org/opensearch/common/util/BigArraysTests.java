@@ -37,6 +37,7 @@ import org.opensearch.common.util.MockBigArrays;
 import org.opensearch.common.util.MockPageCacheRecycler;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.breaker.CircuitBreakingException;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeUnit;
@@ -397,6 +398,93 @@ public class BigArraysTests extends OpenSearchTestCase {
         }
     }
 
+    public void testDirectMemoryType() {
+        HierarchyCircuitBreakerService hcbs = new HierarchyCircuitBreakerService(
+            Settings.builder().put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false).build(),
+            Collections.emptyList(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        PageCacheRecycler recycler = randomBoolean() ? null : new PageCacheRecycler(Settings.EMPTY);
+        BigArrays bigArrays = new BigArrays(recycler, hcbs, CircuitBreaker.REQUEST, BigArrays.MemoryType.DIRECT).withCircuitBreaking();
+
+        final int len = randomIntBetween(PageCacheRecycler.INT_PAGE_SIZE + 1, 100000);
+        LongArray longs = bigArrays.newLongArray(len, randomBoolean());
+        IntArray ints = bigArrays.newIntArray(len, randomBoolean());
+        DoubleArray doubles = bigArrays.newDoubleArray(len, randomBoolean());
+        assertTrue(longs instanceof DirectLongArray);
+        assertTrue(ints instanceof DirectIntArray);
+        assertTrue(doubles instanceof DirectDoubleArray);
+        final long[] longRef = new long[len];
+        final int[] intRef = new int[len];
+        final double[] doubleRef = new double[len];
+        for (int i = 0; i < len; ++i) {
+            longRef[i] = randomLong();
+            longs.set(i, longRef[i]);
+            intRef[i] = randomInt();
+            ints.set(i, intRef[i]);
+            doubleRef[i] = randomDouble();
+            doubles.set(i, doubleRef[i]);
+        }
+        for (int i = 0; i < 1000; ++i) {
+            final int index = randomInt(len - 1);
+            final long longInc = randomLong();
+            longRef[index] += longInc;
+            assertEquals(longRef[index], longs.increment(index, longInc));
+            final int intInc = randomInt();
+            intRef[index] += intInc;
+            assertEquals(intRef[index], ints.increment(index, intInc));
+            final double doubleInc = randomDouble();
+            doubleRef[index] += doubleInc;
+            assertEquals(doubleRef[index], doubles.increment(index, doubleInc), 0d);
+        }
+        final int fromIndex = randomIntBetween(0, len - 1);
+        final int toIndex = randomIntBetween(fromIndex, len);
+        Arrays.fill(longRef, fromIndex, toIndex, 42L);
+        longs.fill(fromIndex, toIndex, 42L);
+
+        final int newLen = randomIntBetween(len, len * 2);
+        longs = bigArrays.resize(longs, newLen);
+        ints = bigArrays.resize(ints, newLen);
+        doubles = bigArrays.resize(doubles, newLen);
+        for (int i = 0; i < len; ++i) {
+            assertEquals(longRef[i], longs.get(i));
+            assertEquals(intRef[i], ints.get(i));
+            assertEquals(doubleRef[i], doubles.get(i), 0d);
+        }
+
+        // direct memory is accounted on the native breaker only
+        final long expected = longs.ramBytesUsed() + ints.ramBytesUsed() + doubles.ramBytesUsed();
+        assertEquals(expected, hcbs.getBreaker(CircuitBreaker.NATIVE).getUsed());
+        assertEquals(0, hcbs.getBreaker(CircuitBreaker.REQUEST).getUsed());
+        assertEquals(0, hcbs.stats().getStats(CircuitBreaker.PARENT).getEstimated());
+
+        Releasables.close(longs, ints, doubles);
+        assertEquals(0, hcbs.getBreaker(CircuitBreaker.NATIVE).getUsed());
+    }
+
+    public void testDirectMemoryTypeBreaks() {
+        final long maxSize = randomLongBetween(PageCacheRecycler.PAGE_SIZE_IN_BYTES, 1 << 20);
+        HierarchyCircuitBreakerService hcbs = new HierarchyCircuitBreakerService(
+            Settings.builder()
+                .put(HierarchyCircuitBreakerService.NATIVE_CIRCUIT_BREAKER_LIMIT_SETTING.getKey(), maxSize, ByteSizeUnit.BYTES)
+                .put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false)
+                .build(),
+            Collections.emptyList(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        BigArrays bigArrays = new BigArrays(null, hcbs, CircuitBreaker.REQUEST, BigArrays.MemoryType.DIRECT).withCircuitBreaking();
+        LongArray array = bigArrays.newLongArray(PageCacheRecycler.LONG_PAGE_SIZE + 1);
+        while (true) {
+            try {
+                array = bigArrays.resize(array, array.size() * 2);
+            } catch (CircuitBreakingException e) {
+                assertEquals(maxSize, e.getByteLimit());
+                break;
+            }
+        }
+        assertEquals(array.ramBytesUsed(), hcbs.getBreaker(CircuitBreaker.NATIVE).getUsed());
+        array.close();
+        assertEquals(0, hcbs.getBreaker(CircuitBreaker.NATIVE).getUsed());
+    }
+
     public void testEstimatedBytesSameAsActualBytes() throws Exception {
         final int maxSize = 1 << scaledRandomIntBetween(15, 22);
         final long size = randomIntBetween((1 << 14) + 1, maxSize);
@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.opensearch.OpenSearchException;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.util.set.Sets;
+import org.opensearch.gateway.TransportNodesBatchListGatewayStartedShards.NodeGatewayStartedShardsBatch;
+import org.opensearch.gateway.TransportNodesBatchListGatewayStartedShards.NodesGatewayStartedShardsBatch;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShards.NodeGatewayStartedShards;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShards.NodesGatewayStartedShards;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+
+public class BatchedStartedShardsListerTests extends OpenSearchTestCase {
+
+    private static final ClusterName CLUSTER_NAME = new ClusterName("test");
+
+    private final DiscoveryNode node1 = new DiscoveryNode("node1", buildNewFakeTransportAddress(), emptyMap(), emptySet(),
+        Version.CURRENT);
+    private final DiscoveryNode node2 = new DiscoveryNode("node2", buildNewFakeTransportAddress(), emptyMap(), emptySet(),
+        Version.CURRENT);
+    private final DiscoveryNode oldNode = new DiscoveryNode("old_node", buildNewFakeTransportAddress(), emptyMap(), emptySet(),
+        Version.V_1_0_0);
+
+    private final ShardId shard0 = new ShardId("test", "_na_", 0);
+    private final ShardId shard1 = new ShardId("test", "_na_", 1);
+
+    public void testSendsOneRequestPerNodeOnFlush() {
+        final List<Map<ShardId, String>> batchRequests = new ArrayList<>();
+        final List<ShardId> shardRequests = new ArrayList<>();
+        final BatchedStartedShardsLister lister = new BatchedStartedShardsLister(CLUSTER_NAME,
+            (shards, node, listener) -> {
+                batchRequests.add(shards);
+                final Map<ShardId, NodeGatewayStartedShards> shardStates = new HashMap<>();
+                for (ShardId shardId : shards.keySet()) {
+                    shardStates.put(shardId, new NodeGatewayStartedShards(node, allocationId(node, shardId), true));
+                }
+                listener.onResponse(new NodesGatewayStartedShardsBatch(CLUSTER_NAME,
+                    singletonList(new NodeGatewayStartedShardsBatch(node, shardStates, emptyMap())), emptyList()));
+            },
+            (shardId, customDataPath, nodes, listener) -> {
+                shardRequests.add(shardId);
+                assertThat(nodes.length, equalTo(1));
+                listener.onResponse(new NodesGatewayStartedShards(CLUSTER_NAME,
+                    singletonList(new NodeGatewayStartedShards(nodes[0], allocationId(nodes[0], shardId), false)), emptyList()));
+            });
+
+        final DiscoveryNode[] nodes = new DiscoveryNode[] { node1, node2, oldNode };
+        final AtomicReference<NodesGatewayStartedShards> shard0Response = new AtomicReference<>();
+        final AtomicReference<NodesGatewayStartedShards> shard1Response = new AtomicReference<>();
+        lister.list(shard0, "", nodes, ActionListener.wrap(shard0Response::set, e -> fail()));
+        lister.list(shard1, "", nodes, ActionListener.wrap(shard1Response::set, e -> fail()));
+
+        // nothing is sent until the allocation round flushes
+        assertThat(lister.pendingFetches(), equalTo(2));
+        assertThat(batchRequests, hasSize(0));
+        assertThat(shardRequests, hasSize(0));
+
+        lister.flush();
+        assertThat(lister.pendingFetches(), equalTo(0));
+        assertThat(batchRequests, hasSize(2));
+        for (Map<ShardId, String> batchRequest : batchRequests) {
+            assertThat(batchRequest.keySet(), equalTo(Sets.newHashSet(shard0, shard1)));
+        }
+        // the old node does not support the batched action
+        assertThat(shardRequests, hasSize(2));
+
+        assertResponse(shard0, shard0Response.get());
+        assertResponse(shard1, shard1Response.get());
+
+        // flushing again with nothing queued does nothing
+        lister.flush();
+        assertThat(batchRequests, hasSize(2));
+    }
+
+    public void testFailures() {
+        final BatchedStartedShardsLister lister = new BatchedStartedShardsLister(CLUSTER_NAME,
+            (shards, node, listener) -> {
+                if (node.equals(node2)) {
+                    listener.onFailure(new OpenSearchException("node failure"));
+                } else {
+                    listener.onResponse(new NodesGatewayStartedShardsBatch(CLUSTER_NAME, singletonList(new NodeGatewayStartedShardsBatch(
+                        node, singletonMap(shard0, new NodeGatewayStartedShards(node, "alloc", true)),
+                        singletonMap(shard1, new OpenSearchException("shard failure")))), emptyList()));
+                }
+            },
+            (shardId, customDataPath, nodes, listener) -> fail("unexpected per-shard request"));
+
+        final DiscoveryNode[] nodes = new DiscoveryNode[] { node1, node2 };
+        final AtomicReference<NodesGatewayStartedShards> shard0Response = new AtomicReference<>();
+        final AtomicReference<NodesGatewayStartedShards> shard1Response = new AtomicReference<>();
+        lister.list(shard0, "", nodes, ActionListener.wrap(shard0Response::set, e -> fail()));
+        lister.list(shard1, "", nodes, ActionListener.wrap(shard1Response::set, e -> fail()));
+        lister.flush();
+
+        assertThat(shard0Response.get().getNodes(), hasSize(1));
+        assertThat(shard0Response.get().getNodes().get(0).getNode(), equalTo(node1));
+        assertThat(shard0Response.get().failures(), hasSize(1));
+        assertThat(shard0Response.get().failures().get(0).nodeId(), equalTo(node2.getId()));
+
+        // a shard-level failure only fails that shard on that node
+        assertThat(shard1Response.get().getNodes(), hasSize(0));
+        assertThat(shard1Response.get().failures(), hasSize(2));
+        for (FailedNodeException failure : shard1Response.get().failures()) {
+            final String expectedMessage = failure.nodeId().equals(node1.getId()) ? "shard failure" : "node failure";
+            assertThat(failure.getCause().getMessage(), equalTo(expectedMessage));
+        }
+    }
+
+    public void testCompletesImmediatelyWithoutNodes() {
+        final BatchedStartedShardsLister lister = new BatchedStartedShardsLister(CLUSTER_NAME,
+            (shards, node, listener) -> fail("unexpected batch request"),
+            (shardId, customDataPath, nodes, listener) -> fail("unexpected per-shard request"));
+        final AtomicReference<NodesGatewayStartedShards> response = new AtomicReference<>();
+        lister.list(shard0, "", new DiscoveryNode[0], ActionListener.wrap(response::set, e -> fail()));
+        assertThat(lister.pendingFetches(), equalTo(0));
+        assertThat(response.get().getNodes(), hasSize(0));
+        assertThat(response.get().failures(), hasSize(0));
+        assertThat(response.get().getClusterName(), equalTo(CLUSTER_NAME));
+        assertThat(response.get().getNodesMap().get(node1.getId()), nullValue());
+    }
+
+    private static void assertResponse(ShardId shardId, NodesGatewayStartedShards response) {
+        assertThat(response.failures(), hasSize(0));
+        assertThat(response.getNodes(), hasSize(3));
+        for (NodeGatewayStartedShards nodeResponse : response.getNodes()) {
+            assertThat(nodeResponse.allocationId(), equalTo(allocationId(nodeResponse.getNode(), shardId)));
+        }
+    }
+
+    private static String allocationId(DiscoveryNode node, ShardId shardId) {
+        return node.getId() + "_" + shardId.id();
+    }
+}
@@ -84,6 +84,7 @@ import java.util.stream.Stream;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.nullValue;
 
@@ -785,6 +786,45 @@ public class PersistedClusterStateServiceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testReportsBytesWrittenPerCommit() throws IOException {
+        try (NodeEnvironment nodeEnvironment = newNodeEnvironment(createDataPaths())) {
+            final PersistedClusterStateService persistedClusterStateService = newPersistedClusterStateService(nodeEnvironment);
+            final ClusterState clusterState = loadPersistedClusterState(persistedClusterStateService);
+
+            try (Writer writer = persistedClusterStateService.createWriter()) {
+                assertThat(writer.getLastWriterStats(), nullValue());
+
+                writer.writeFullStateAndCommit(0L, clusterState);
+                final long fullStateBytes = writer.getLastWriterStats().bytesWritten;
+                assertThat(fullStateBytes, greaterThan(0L));
+
+                // the same documents are written to every data path but only counted once
+                try (NodeEnvironment singlePathEnvironment = newNodeEnvironment(new Path[]{createTempDir()});
+                     Writer singlePathWriter = newPersistedClusterStateService(singlePathEnvironment).createWriter()) {
+                    singlePathWriter.writeFullStateAndCommit(0L, clusterState);
+                    assertThat(singlePathWriter.getLastWriterStats().bytesWritten, equalTo(fullStateBytes));
+                }
+
+                writer.writeIncrementalStateAndCommit(0L, clusterState, clusterState);
+                assertThat(writer.getLastWriterStats().numIndicesUpdated, equalTo(0L));
+                assertThat(writer.getLastWriterStats().bytesWritten, equalTo(0L));
+
+                final ClusterState newClusterState = ClusterState.builder(clusterState)
+                    .metadata(Metadata.builder(clusterState.metadata())
+                        .put(IndexMetadata.builder("test")
+                            .settings(Settings.builder()
+                                .put(IndexMetadata.INDEX_NUMBER_OF_SHARDS_SETTING.getKey(), 1)
+                                .put(IndexMetadata.INDEX_NUMBER_OF_REPLICAS_SETTING.getKey(), 0)
+                                .put(IndexMetadata.SETTING_INDEX_VERSION_CREATED.getKey(), Version.CURRENT)
+                                .put(IndexMetadata.SETTING_INDEX_UUID, "test-uuid"))))
+                    .incrementVersion().build();
+                writer.writeIncrementalStateAndCommit(0L, clusterState, newClusterState);
+                assertThat(writer.getLastWriterStats().numIndicesUpdated, equalTo(1L));
+                assertThat(writer.getLastWriterStats().bytesWritten, greaterThan(0L));
+            }
+        }
+    }
+
     @TestLogging(value = "org.opensearch.gateway:WARN", reason = "to ensure that we log gateway events on WARN level")
     public void testSlowLogging() throws IOException, IllegalAccessException {
         final long slowWriteLoggingThresholdMillis;
@@ -818,7 +858,7 @@ public class PersistedClusterStateServiceTests extends OpenSearchTestCase {
                     PersistedClusterStateService.class.getCanonicalName(),
                     Level.WARN,
                     "writing cluster state took [*] which is above the warn threshold of [*]; " +
-                        "wrote full state with [0] indices"));
+                        "wrote full state with [0] indices in [*] bytes per data path"));
 
                 writeDurationMillis.set(randomLongBetween(slowWriteLoggingThresholdMillis, slowWriteLoggingThresholdMillis * 2));
                 assertExpectedLogs(1L, null, clusterState, writer, new MockLogAppender.SeenEventExpectation(
@@ -826,7 +866,7 @@ public class PersistedClusterStateServiceTests extends OpenSearchTestCase {
                     PersistedClusterStateService.class.getCanonicalName(),
                     Level.WARN,
                     "writing cluster state took [*] which is above the warn threshold of [*]; " +
-                        "wrote full state with [0] indices"));
+                        "wrote full state with [0] indices in [*] bytes per data path"));
 
                 writeDurationMillis.set(randomLongBetween(1, slowWriteLoggingThresholdMillis - 1));
                 assertExpectedLogs(1L, null, clusterState, writer, new MockLogAppender.UnseenEventExpectation(
@@ -843,7 +883,7 @@ public class PersistedClusterStateServiceTests extends OpenSearchTestCase {
                     PersistedClusterStateService.class.getCanonicalName(),
                     Level.WARN,
                     "writing cluster state took [*] which is above the warn threshold of [*]; " +
-                        "wrote full state with [0] indices"));
+                        "wrote full state with [0] indices in [*] bytes per data path"));
 
                 final ClusterState newClusterState = ClusterState.builder(clusterState)
                     .metadata(Metadata.builder(clusterState.metadata())
@@ -861,7 +901,8 @@ public class PersistedClusterStateServiceTests extends OpenSearchTestCase {
                     PersistedClusterStateService.class.getCanonicalName(),
                     Level.WARN,
                     "writing cluster state took [*] which is above the warn threshold of [*]; " +
-                        "wrote global metadata [false] and metadata for [1] indices and skipped [0] unchanged indices"));
+                        "wrote global metadata [false] and metadata for [1] indices and skipped [0] unchanged indices " +
+                        "in [*] bytes per data path"));
 
                 writeDurationMillis.set(randomLongBetween(0, writeDurationMillis.get() - 1));
                 assertExpectedLogs(1L, clusterState, newClusterState, writer, new MockLogAppender.UnseenEventExpectation(
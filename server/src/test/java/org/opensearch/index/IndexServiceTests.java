@@ -34,7 +34,9 @@ package org.opensearch.index;
 
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.TopDocs;
+import org.opensearch.action.admin.indices.stats.CommonStats;
 import org.opensearch.action.support.ActiveShardCount;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.Strings;
 import org.opensearch.common.compress.CompressedXContent;
@@ -46,11 +48,14 @@ import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardTestCase;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.plugins.Plugin;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 import org.opensearch.test.InternalSettingsPlugin;
 import org.opensearch.threadpool.ThreadPool;
@@ -65,6 +70,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import static org.opensearch.index.shard.IndexShardTestCase.getEngine;
 import static org.opensearch.test.InternalSettingsPlugin.TRANSLOG_RETENTION_CHECK_INTERVAL_SETTING;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 /** Unit test(s) for IndexService */
@@ -75,6 +81,12 @@ public class IndexServiceTests extends OpenSearchSingleNodeTestCase {
         return Collections.singleton(InternalSettingsPlugin.class);
     }
 
+    @Override
+    protected Settings nodeSettings() {
+        // cache the queries on the small segments of these tests too
+        return Settings.builder().put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true).build();
+    }
+
     public static CompressedXContent filter(QueryBuilder filterBuilder) throws IOException {
         XContentBuilder builder = XContentFactory.jsonBuilder();
         filterBuilder.toXContent(builder, ToXContent.EMPTY_PARAMS);
@@ -280,6 +292,66 @@ public class IndexServiceTests extends OpenSearchSingleNodeTestCase {
         assertNull(indexService.getFsyncTask());
     }
 
+    public void testReleaseIdleCachesTaskIsUpdated() throws Exception {
+        IndexService indexService = createIndex("test", Settings.EMPTY);
+        IndexService.AsyncReleaseIdleCachesTask releaseTask = indexService.getReleaseIdleCachesTask();
+        assertEquals(-1, releaseTask.getInterval().millis());
+        assertFalse(releaseTask.isScheduled());
+
+        client().admin().indices().prepareUpdateSettings("test")
+            .setSettings(Settings.builder().put(IndexSettings.INDEX_IDLE_RELEASE_CACHES_AFTER.getKey(), "1h")).get();
+        assertSame(releaseTask, indexService.getReleaseIdleCachesTask());
+        assertEquals(TimeValue.timeValueHours(1), releaseTask.getInterval());
+        assertTrue(releaseTask.isScheduled());
+
+        client().admin().indices().prepareUpdateSettings("test")
+            .setSettings(Settings.builder().put(IndexSettings.INDEX_IDLE_RELEASE_CACHES_AFTER.getKey(), -1)).get();
+        assertEquals(-1, releaseTask.getInterval().millis());
+        assertFalse(releaseTask.isScheduled());
+
+        indexService.close("simon says", false);
+        assertTrue(releaseTask.isClosed());
+    }
+
+    public void testReleaseIdleCaches() throws Exception {
+        Settings settings = Settings.builder()
+            .put(IndexModule.INDEX_QUERY_CACHE_EVERYTHING_SETTING.getKey(), true)
+            .put(IndexSettings.INDEX_IDLE_RELEASE_CACHES_AFTER.getKey(), "1h")
+            .build();
+        IndexService indexService = createIndex("test", settings, "test", "text", "type=text,fielddata=true", "nested", "type=nested");
+        client().prepareIndex("test", "test", "0")
+            .setSource("{\"text\": \"foo\", \"nested\": {\"text\": \"bar\"}}", XContentType.JSON)
+            .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE).get();
+        // loads the field data of the text field and caches the filter, the bitset of the nested parents is loaded on refresh
+        client().prepareSearch("test").setQuery(QueryBuilders.constantScoreQuery(QueryBuilders.termQuery("text", "foo")))
+            .addSort("text", SortOrder.ASC).get();
+        CommonStats stats = cacheStats();
+        assertThat(stats.getFieldData().getMemorySizeInBytes(), greaterThan(0L));
+        assertThat(stats.getQueryCache().getCacheSize(), greaterThan(0L));
+        assertThat(stats.getSegments().getBitsetMemoryInBytes(), greaterThan(0L));
+
+        // the index was just searched
+        indexService.maybeReleaseIdleCaches();
+        assertEquals(stats.getFieldData().getMemorySizeInBytes(), cacheStats().getFieldData().getMemorySizeInBytes());
+        assertEquals(stats.getQueryCache().getCacheSize(), cacheStats().getQueryCache().getCacheSize());
+        assertEquals(stats.getSegments().getBitsetMemoryInBytes(), cacheStats().getSegments().getBitsetMemoryInBytes());
+
+        client().admin().indices().prepareUpdateSettings("test")
+            .setSettings(Settings.builder().put(IndexSettings.INDEX_IDLE_RELEASE_CACHES_AFTER.getKey(), "100ms")).get();
+        assertBusy(() -> {
+            indexService.maybeReleaseIdleCaches();
+            CommonStats released = cacheStats();
+            assertEquals(0L, released.getFieldData().getMemorySizeInBytes());
+            assertEquals(0L, released.getQueryCache().getCacheSize());
+            assertEquals(0L, released.getSegments().getBitsetMemoryInBytes());
+        });
+    }
+
+    private CommonStats cacheStats() {
+        return client().admin().indices().prepareStats("test").clear().setFieldData(true).setQueryCache(true).setSegments(true).get()
+            .getTotal();
+    }
+
     public void testRefreshActuallyWorks() throws Exception {
         IndexService indexService = createIndex("test", Settings.EMPTY);
         ensureGreen("test");
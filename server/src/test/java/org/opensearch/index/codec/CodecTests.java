@@ -61,6 +61,7 @@ import java.io.IOException;
 import java.util.Collections;
 
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 
 @SuppressCodecs("*") // we test against default codec so never get a random one here!
 public class CodecTests extends OpenSearchTestCase {
@@ -84,6 +85,16 @@ public class CodecTests extends OpenSearchTestCase {
         assertStoredFieldsFormatCompressionEquals(Lucene87StoredFieldsFormat.Mode.BEST_COMPRESSION, codec);
     }
 
+    public void testIdBloomFilter() throws Exception {
+        PerFieldMappingPostingFormatCodec codec = (PerFieldMappingPostingFormatCodec) createCodecService().codec("default");
+        assertThat(codec.getPostingsFormatForField("_id"), not(instanceOf(IdBloomFilterPostingsFormat.class)));
+
+        codec = (PerFieldMappingPostingFormatCodec) createCodecService(
+            Settings.builder().put(CodecService.INDEX_CODEC_ID_BLOOM_FILTER_SETTING.getKey(), true).build()).codec("default");
+        assertThat(codec.getPostingsFormatForField("_id"), instanceOf(IdBloomFilterPostingsFormat.class));
+        assertThat(codec.getPostingsFormatForField("_source"), not(instanceOf(IdBloomFilterPostingsFormat.class)));
+    }
+
     private void assertDVCompressionEquals(Lucene80DocValuesFormat.Mode expected, Codec actual) throws Exception {
         Directory dir = newDirectory();
         IndexWriterConfig iwc = newIndexWriterConfig(null);
@@ -122,10 +133,15 @@ public class CodecTests extends OpenSearchTestCase {
     }
 
     private CodecService createCodecService() throws IOException {
+        return createCodecService(Settings.EMPTY);
+    }
+
+    private CodecService createCodecService(Settings indexSettings) throws IOException {
         Settings nodeSettings = Settings.builder()
                 .put(Environment.PATH_HOME_SETTING.getKey(), createTempDir())
                 .build();
-        IndexSettings settings = IndexSettingsModule.newIndexSettings("_na", nodeSettings);
+        IndexSettings settings = IndexSettingsModule.newIndexSettings("_na",
+                Settings.builder().put(nodeSettings).put(indexSettings).build());
         SimilarityService similarityService = new SimilarityService(settings, null, Collections.emptyMap());
         IndexAnalyzers indexAnalyzers = createTestAnalysis(settings, nodeSettings).indexAnalyzers;
         MapperRegistry mapperRegistry = new MapperRegistry(Collections.emptyMap(), Collections.emptyMap(), MapperPlugin.NOOP_FIELD_FILTER);
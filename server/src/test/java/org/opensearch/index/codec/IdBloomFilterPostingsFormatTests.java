@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.LuceneTestCase.SuppressCodecs;
+import org.apache.lucene.util.TestUtil;
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+@SuppressCodecs("*") // we pick the postings format ourselves
+public class IdBloomFilterPostingsFormatTests extends OpenSearchTestCase {
+
+    public void testSeekExact() throws Exception {
+        final Set<String> ids = new HashSet<>();
+        try (Directory dir = newDirectory()) {
+            final IndexWriterConfig iwc = newIndexWriterConfig(null);
+            iwc.setCodec(TestUtil.alwaysPostingsFormat(new IdBloomFilterPostingsFormat()));
+            try (IndexWriter writer = new IndexWriter(dir, iwc)) {
+                final int numDocs = randomIntBetween(1, 1000);
+                for (int i = 0; i < numDocs; i++) {
+                    final String id = randomAlphaOfLength(10) + i;
+                    ids.add(id);
+                    final Document doc = new Document();
+                    doc.add(new StringField("_id", id, Field.Store.NO));
+                    writer.addDocument(doc);
+                    if (rarely()) {
+                        writer.flush();
+                    }
+                }
+                if (randomBoolean()) {
+                    writer.forceMerge(1);
+                }
+                writer.deleteDocuments(new Term("_id", "missing"));
+            }
+
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                for (String id : ids) {
+                    int found = 0;
+                    for (LeafReaderContext leaf : reader.leaves()) {
+                        final TermsEnum termsEnum = leaf.reader().terms("_id").iterator();
+                        if (termsEnum.seekExact(new BytesRef(id))) {
+                            final PostingsEnum postings = termsEnum.postings(null, PostingsEnum.NONE);
+                            assertThat(postings.nextDoc(), lessThan(PostingsEnum.NO_MORE_DOCS));
+                            found++;
+                        }
+                    }
+                    assertThat(found, equalTo(1));
+                }
+                for (int i = 0; i < 100; i++) {
+                    final BytesRef missing = new BytesRef(randomAlphaOfLength(9) + "_" + i);
+                    for (LeafReaderContext leaf : reader.leaves()) {
+                        assertFalse(leaf.reader().terms("_id").iterator().seekExact(missing));
+                    }
+                }
+                // iterating the terms still goes to the underlying postings
+                final Set<String> iterated = new HashSet<>();
+                for (LeafReaderContext leaf : reader.leaves()) {
+                    final Terms terms = leaf.reader().terms("_id");
+                    final TermsEnum termsEnum = terms.iterator();
+                    for (BytesRef term = termsEnum.next(); term != null; term = termsEnum.next()) {
+                        iterated.add(term.utf8ToString());
+                    }
+                }
+                assertThat(iterated, equalTo(ids));
+            }
+        }
+    }
+
+    public void testFalsePositiveRate() {
+        final int numTerms = 10000;
+        final IdBloomFilterPostingsFormat.BloomFilter filter = IdBloomFilterPostingsFormat.BloomFilter.create(numTerms);
+        final MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
+        for (int i = 0; i < numTerms; i++) {
+            filter.add(new BytesRef("id" + i), hash);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < numTerms; i++) {
+            assertTrue(filter.mightContain(new BytesRef("id" + i), hash));
+            if (filter.mightContain(new BytesRef("other" + i), hash)) {
+                falsePositives++;
+            }
+        }
+        // about 1% is expected with 10 bits per term
+        assertThat(falsePositives, lessThan(numTerms / 50));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class CompactVersionMapTests extends OpenSearchTestCase {
+
+    public void testRandomOperations() {
+        final CompactVersionMap map = new CompactVersionMap(randomIntBetween(0, 100));
+        final Map<BytesRef, VersionValue> expected = new HashMap<>();
+        final List<BytesRef> uids = new ArrayList<>();
+        final int numUids = randomIntBetween(1, 2000);
+        for (int i = 0; i < numUids; i++) {
+            uids.add(new BytesRef(randomAlphaOfLength(between(1, 20)) + i));
+        }
+
+        final int numOps = randomIntBetween(1, 10000);
+        for (int i = 0; i < numOps; i++) {
+            // use a copy of the uid so that the map can not rely on the identity of the key
+            final BytesRef uid = BytesRef.deepCopyOf(randomFrom(uids));
+            if (rarely()) {
+                assertThat(map.remove(uid), equalTo(expected.remove(uid)));
+            } else {
+                final VersionValue value = randomVersionValue();
+                assertThat(map.put(uid, value), equalTo(expected.put(uid, value)));
+            }
+            assertThat(map.size(), equalTo(expected.size()));
+        }
+
+        for (BytesRef uid : uids) {
+            assertThat(map.get(uid), equalTo(expected.get(uid)));
+        }
+        assertThat(map.entrySet(), equalTo(expected.entrySet()));
+        assertThat(map.isEmpty(), equalTo(expected.isEmpty()));
+    }
+
+    public void testMissingKeys() {
+        final CompactVersionMap map = new CompactVersionMap(0);
+        assertNull(map.get(new BytesRef("missing")));
+        assertNull(map.get("not a uid"));
+        assertNull(map.remove(new BytesRef("missing")));
+        assertTrue(map.isEmpty());
+
+        final VersionValue value = randomVersionValue();
+        map.put(new BytesRef("uid"), value);
+        assertThat(map.remove(new BytesRef("uid")), equalTo(value));
+        assertNull(map.remove(new BytesRef("uid")));
+        assertNull(map.get(new BytesRef("uid")));
+        assertTrue(map.isEmpty());
+    }
+
+    private static VersionValue randomVersionValue() {
+        final long version = randomNonNegativeLong();
+        final long seqNo = randomNonNegativeLong();
+        final long term = randomNonNegativeLong();
+        switch (randomInt(2)) {
+            case 0:
+                return new IndexVersionValue(null, version, seqNo, term);
+            case 1:
+                return new IndexVersionValue(new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomInt()),
+                    version, seqNo, term);
+            default:
+                return new DeleteVersionValue(version, seqNo, term, randomNonNegativeLong());
+        }
+    }
+}
@@ -1566,6 +1566,17 @@ public class InternalEngineTests extends EngineTestCase {
     /*
      * we are testing an edge case here where we have a fully deleted segment that is retained but has all it's IDs pruned away.
      */
+    public void testIdLookupStats() throws IOException {
+        assertEquals(0, engine.getIdLookupCount());
+        final ParsedDocument doc = testParsedDocument("1", null, testDocument(), B_1, null);
+        engine.index(indexForDoc(doc));
+        // the version map is pruned by the refresh, so the next update of the document has to look it up in the index
+        engine.refresh("test");
+        engine.index(indexForDoc(doc));
+        assertThat(engine.getIdLookupCount(), greaterThan(0L));
+        assertEquals(engine.getNumIndexVersionsLookups(), engine.getIdLookupCount());
+    }
+
     public void testLookupVersionWithPrunedAwayIds() throws IOException {
         try (Directory dir = newDirectory()) {
             IndexWriterConfig indexWriterConfig = new IndexWriterConfig(Lucene.STANDARD_ANALYZER);
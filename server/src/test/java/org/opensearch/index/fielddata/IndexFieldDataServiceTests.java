@@ -75,6 +75,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -267,6 +268,49 @@ public class IndexFieldDataServiceTests extends OpenSearchSingleNodeTestCase {
         ifdService.clear();
     }
 
+    public void testGlobalOrdinalsBuildStats() throws Exception {
+        final IndexService indexService = createIndex("test");
+        final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        // copy the ifdService since we can set the listener only once.
+        final IndexFieldDataService ifdService = new IndexFieldDataService(indexService.getIndexSettings(),
+            indicesService.getIndicesFieldDataCache(), indicesService.getCircuitBreakerService(), indexService.mapperService());
+        final ShardFieldData shardFieldData = new ShardFieldData();
+        ifdService.setListener(shardFieldData);
+
+        final BuilderContext ctx = new BuilderContext(indexService.getIndexSettings().getSettings(), new ContentPath(1));
+        final MappedFieldType mapper1
+            = new TextFieldMapper.Builder("s", createDefaultIndexAnalyzers()).fielddata(true).build(ctx).fieldType();
+        final IndexWriter writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(new KeywordAnalyzer()));
+        // global ordinals are only built for readers with more than one segment
+        for (int i = 0; i < 2; i++) {
+            Document doc = new Document();
+            doc.add(new StringField("s", "thisisastring" + i, Store.NO));
+            writer.addDocument(doc);
+            writer.commit();
+        }
+        final DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("test", "_na_", 1));
+        assertEquals(0, shardFieldData.stats().getGlobalOrdinalsBuildCount());
+
+        final IndexFieldData.Global<?> ifd = (IndexFieldData.Global<?>) ifdService.getForField(mapper1, "test", () -> {
+            throw new UnsupportedOperationException();
+        });
+        assertEquals(0, shardFieldData.stats().getGlobalOrdinalsMemorySize().getBytes());
+        final Accountable globalOrdinals = (Accountable) ifd.loadGlobal(reader);
+        assertEquals(1, shardFieldData.stats().getGlobalOrdinalsBuildCount());
+        assertThat(globalOrdinals.ramBytesUsed(), greaterThan(0L));
+        assertEquals(globalOrdinals.ramBytesUsed(), shardFieldData.stats().getGlobalOrdinalsMemorySize().getBytes());
+        // the global ordinals are cached for the reader
+        ifd.loadGlobal(reader);
+        assertEquals(1, shardFieldData.stats().getGlobalOrdinalsBuildCount());
+        assertEquals(globalOrdinals.ramBytesUsed(), shardFieldData.stats().getGlobalOrdinalsMemorySize().getBytes());
+
+        reader.close();
+        writer.close();
+        ifdService.clear();
+        assertEquals(1, shardFieldData.stats().getGlobalOrdinalsBuildCount());
+        assertEquals(0, shardFieldData.stats().getGlobalOrdinalsMemorySize().getBytes());
+    }
+
     public void testSetCacheListenerTwice() {
         final IndexService indexService = createIndex("test");
         final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ContentPathTests extends OpenSearchTestCase {
+
+    public void testPathAsText() {
+        final ContentPath path = new ContentPath();
+        final String name = randomAlphaOfLength(5);
+        assertThat(path.pathAsText(name), sameInstance(name));
+
+        path.add("foo");
+        assertThat(path.pathAsText("bar"), equalTo("foo.bar"));
+        assertThat(path.pathAsText("baz"), equalTo("foo.baz"));
+        path.add("bar");
+        assertThat(path.pathAsText("baz"), equalTo("foo.bar.baz"));
+        assertThat(path.pathAsText(""), equalTo("foo.bar."));
+        path.remove();
+        assertThat(path.pathAsText("baz"), equalTo("foo.baz"));
+        path.remove();
+        assertThat(path.pathAsText("baz"), equalTo("baz"));
+        assertThat(path.length(), equalTo(0));
+    }
+
+    public void testPathAsTextWithOffset() {
+        final ContentPath path = new ContentPath(1);
+        path.add("type");
+        assertThat(path.pathAsText("foo"), equalTo("foo"));
+        path.add("foo");
+        assertThat(path.pathAsText("bar"), equalTo("foo.bar"));
+        path.remove();
+        assertThat(path.pathAsText("bar"), equalTo("bar"));
+    }
+
+    public void testManyElements() {
+        final ContentPath path = new ContentPath();
+        final StringBuilder expected = new StringBuilder();
+        final int numElements = randomIntBetween(1, 30);
+        for (int i = 0; i < numElements; i++) {
+            path.add("f" + i);
+            expected.append("f").append(i).append('.');
+            assertThat(path.pathAsText("leaf"), equalTo(expected + "leaf"));
+        }
+        assertThat(path.length(), equalTo(numElements));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class FieldPathTrieTests extends MapperServiceTestCase {
+
+    public void testResolve() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(mapping(b -> {
+            b.startObject("foo").field("type", "keyword").endObject();
+            b.startObject("obj");
+            {
+                b.startObject("properties");
+                {
+                    b.startObject("bar").field("type", "long").endObject();
+                    b.startObject("inner").startObject("properties");
+                    b.startObject("baz").field("type", "boolean").endObject();
+                    b.endObject().endObject();
+                }
+                b.endObject();
+            }
+            b.endObject();
+        }));
+        FieldPathTrie trie = mapper.fieldPathTrie();
+        FieldPathTrie.Node root = trie.node(mapper.root());
+        assertNotNull(root);
+
+        assertThat(root.resolve("foo", new String[] { "foo" }), sameInstance(mapper.mappers().getMapper("foo")));
+        assertThat(root.resolve("obj", new String[] { "obj" }), sameInstance(mapper.objectMappers().get("obj")));
+        assertThat(root.resolve("obj.bar", new String[] { "obj", "bar" }), sameInstance(mapper.mappers().getMapper("obj.bar")));
+        assertThat(root.resolve("obj.inner.baz", new String[] { "obj", "inner", "baz" }),
+            sameInstance(mapper.mappers().getMapper("obj.inner.baz")));
+        assertNull(root.resolve("missing", new String[] { "missing" }));
+        assertNull(root.resolve("foo.bar", new String[] { "foo", "bar" }));
+
+        FieldPathTrie.Node obj = trie.node(mapper.objectMappers().get("obj"));
+        assertNotNull(obj);
+        assertThat(obj.resolve("inner.baz", new String[] { "inner", "baz" }), sameInstance(mapper.mappers().getMapper("obj.inner.baz")));
+        assertNull(obj.resolve("foo", new String[] { "foo" }));
+
+        // object mappers that are not part of the mapping, like the ones created by dynamic updates, are not in the trie
+        assertNull(trie.node(new ObjectMapper.Builder<>("dynamic").build(new Mapper.BuilderContext(getIndexSettings(),
+            new ContentPath()))));
+    }
+
+    public void testMetadataFieldsAreOnlyResolvedAtTheRoot() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(mapping(b -> {
+            b.startObject("obj").startObject("properties");
+            b.startObject("_id").field("type", "keyword").endObject();
+            b.endObject().endObject();
+        }));
+        FieldPathTrie trie = mapper.fieldPathTrie();
+        Mapper id = trie.node(mapper.root()).resolve(IdFieldMapper.NAME, new String[] { IdFieldMapper.NAME });
+        assertThat(id, instanceOf(IdFieldMapper.class));
+        Mapper objId = trie.node(mapper.objectMappers().get("obj")).resolve(IdFieldMapper.NAME, new String[] { IdFieldMapper.NAME });
+        assertThat(objId, instanceOf(KeywordFieldMapper.class));
+        assertThat(objId.name(), equalTo("obj._id"));
+    }
+
+    public void testNestedIntermediateObject() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(mapping(b -> {
+            b.startObject("field").field("type", "nested").startObject("properties");
+            b.startObject("bar").field("type", "integer").endObject();
+            b.endObject().endObject();
+        }));
+        FieldPathTrie.Node root = mapper.fieldPathTrie().node(mapper.root());
+        MapperParsingException e = expectThrows(MapperParsingException.class,
+            () -> root.resolve("field.bar", new String[] { "field", "bar" }));
+        assertEquals(
+            "Cannot add a value for field [field.bar] since one of the intermediate objects is mapped as a nested object: [field]",
+            e.getMessage());
+        // the nested object itself can be resolved
+        assertThat(root.resolve("field", new String[] { "field" }), sameInstance(mapper.objectMappers().get("field")));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.MergeRateLimiter;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+
+public class NodeMergeCoordinatorTests extends OpenSearchTestCase {
+
+    private static final long BIG_MERGE = new ByteSizeValue(1, ByteSizeUnit.GB).getBytes();
+    private static final long SMALL_MERGE = new ByteSizeValue(1, ByteSizeUnit.MB).getBytes();
+
+    public void testUnlimitedByDefault() {
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final NodeMergeCoordinator coordinator = new NodeMergeCoordinator(Settings.EMPTY, clusterSettings);
+        final CounterMetric throttled = new CounterMetric();
+        final MergeRateLimiter rateLimiter = newRateLimiter();
+        final NodeMergeCoordinator.Merge merge = coordinator.onMergeStarted(rateLimiter, BIG_MERGE, 100, throttled);
+        assertThat(rateLimiter.getMBPerSec(), equalTo(Double.POSITIVE_INFINITY));
+        coordinator.onMergeFinished(merge);
+        assertThat(coordinator.numRunningMerges(), equalTo(0));
+        assertThat(throttled.count(), equalTo(0L));
+    }
+
+    public void testSharesBudgetBetweenBigMerges() {
+        final Settings settings = Settings.builder().put(NodeMergeCoordinator.MAX_BYTES_PER_SEC_SETTING.getKey(), "30mb").build();
+        final ClusterSettings clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final NodeMergeCoordinator coordinator = new NodeMergeCoordinator(settings, clusterSettings);
+        final CounterMetric throttled = new CounterMetric();
+
+        final MergeRateLimiter small = newRateLimiter();
+        final NodeMergeCoordinator.Merge smallMerge = coordinator.onMergeStarted(small, SMALL_MERGE, 100, throttled);
+        final MergeRateLimiter fewSegments = newRateLimiter();
+        final NodeMergeCoordinator.Merge fewSegmentsMerge = coordinator.onMergeStarted(fewSegments, BIG_MERGE, 10, throttled);
+        assertThat(fewSegments.getMBPerSec(), closeTo(30, 0.001));
+        final MergeRateLimiter manySegments = newRateLimiter();
+        final NodeMergeCoordinator.Merge manySegmentsMerge = coordinator.onMergeStarted(manySegments, BIG_MERGE, 20, throttled);
+
+        // small merges are exempt, big merges share the budget in proportion to the number of segments of their shard
+        assertThat(small.getMBPerSec(), equalTo(Double.POSITIVE_INFINITY));
+        assertThat(fewSegments.getMBPerSec(), closeTo(10, 0.001));
+        assertThat(manySegments.getMBPerSec(), closeTo(20, 0.001));
+        assertThat(throttled.count(), equalTo(2L));
+
+        // the lower rate of the shard wins
+        manySegments.setMBPerSec(5);
+        manySegmentsMerge.onSchedulerRateUpdated();
+        assertThat(manySegments.getMBPerSec(), closeTo(5, 0.001));
+        manySegments.setMBPerSec(Double.POSITIVE_INFINITY);
+        manySegmentsMerge.onSchedulerRateUpdated();
+        assertThat(manySegments.getMBPerSec(), closeTo(20, 0.001));
+
+        coordinator.onMergeFinished(manySegmentsMerge);
+        assertThat(fewSegments.getMBPerSec(), closeTo(30, 0.001));
+
+        // removing the budget restores the rate of the shard
+        clusterSettings.applySettings(Settings.EMPTY);
+        assertThat(fewSegments.getMBPerSec(), equalTo(Double.POSITIVE_INFINITY));
+
+        coordinator.onMergeFinished(fewSegmentsMerge);
+        coordinator.onMergeFinished(smallMerge);
+        assertThat(coordinator.numRunningMerges(), equalTo(0));
+        assertThat(throttled.count(), equalTo(2L));
+    }
+
+    private static MergeRateLimiter newRateLimiter() {
+        return new MergeRateLimiter(new MergePolicy.OneMergeProgress());
+    }
+}
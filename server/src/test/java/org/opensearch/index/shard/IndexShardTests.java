@@ -3466,6 +3466,59 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(primary);
     }
 
+    public void testScheduledRefreshDeferredUntilSearched() throws Exception {
+        Settings settings = Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexSettings.INDEX_REFRESH_MAX_INTERVAL_SETTING.getKey(), TimeValue.timeValueHours(1))
+            .build();
+        IndexMetadata metadata = IndexMetadata.builder("test")
+            .putMapping("_doc", "{ \"properties\": { \"foo\":  { \"type\": \"text\"}}}")
+            .settings(settings)
+            .primaryTerm(0, 1).build();
+        IndexShard primary = newShard(new ShardId(metadata.getIndex(), 0), true, "n1", metadata, null);
+        recoverShardFromStore(primary);
+        // make sure the refresh happens after the last searcher access
+        final long lastSearchAccess = primary.getLastSearcherAccess();
+        assertBusy(() -> assertThat(primary.getThreadPool().relativeTimeInMillis(), greaterThan(lastSearchAccess)));
+        primary.refresh("test");
+        final long refreshTime = primary.getThreadPool().relativeTimeInMillis();
+
+        indexDoc(primary, "_doc", "0", "{\"foo\" : \"bar\"}");
+        assertTrue(primary.getEngine().refreshNeeded());
+        assertFalse(primary.scheduledRefresh());
+        assertTrue(primary.getEngine().refreshNeeded());
+        assertTrue(primary.hasRefreshPending());
+
+        // the first search waits for the next schedule to refresh, and sees the document
+        assertBusy(() -> assertThat(primary.getThreadPool().relativeTimeInMillis(), greaterThan(refreshTime)));
+        final CountDownLatch latch = new CountDownLatch(1);
+        primary.awaitShardSearchActive(refreshed -> {
+            assertTrue(refreshed);
+            try (Engine.Searcher searcher = primary.acquireSearcher("test")) {
+                assertEquals(1, searcher.getIndexReader().numDocs());
+            } finally {
+                latch.countDown();
+            }
+        });
+        assertEquals(1, latch.getCount());
+        assertTrue(primary.scheduledRefresh());
+        latch.await();
+        assertFalse(primary.getEngine().refreshNeeded());
+        assertFalse(primary.hasRefreshPending());
+
+        // scheduled refreshes are not deferred once the setting is removed
+        indexDoc(primary, "_doc", "1", "{\"foo\" : \"bar\"}");
+        IndexScopedSettings scopedSettings = primary.indexSettings().getScopedSettings();
+        scopedSettings.applySettings(Settings.builder().put(settings)
+            .put(IndexSettings.INDEX_REFRESH_MAX_INTERVAL_SETTING.getKey(), TimeValue.MINUS_ONE).build());
+        assertTrue(primary.scheduledRefresh());
+        try (Engine.Searcher searcher = primary.acquireSearcher("test")) {
+            assertEquals(2, searcher.getIndexReader().numDocs());
+        }
+        closeShards(primary);
+    }
+
     public void testRefreshIsNeededWithRefreshListeners() throws IOException, InterruptedException {
         Settings settings = Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
             .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)
@@ -350,6 +350,7 @@ public abstract class AbstractIndicesClusterStateServiceTestCase extends OpenSea
         private volatile Set<String> inSyncAllocationIds;
         private volatile IndexShardRoutingTable routingTable;
         private volatile long term;
+        private volatile int shardStateUpdates;
 
         public MockIndexShard(ShardRouting shardRouting, long term) {
             this.shardRouting = shardRouting;
@@ -392,6 +393,7 @@ public abstract class AbstractIndicesClusterStateServiceTestCase extends OpenSea
                     shardRouting.active());
             }
             this.shardRouting = shardRouting;
+            shardStateUpdates++;
             if (shardRouting.primary()) {
                 term = newPrimaryTerm;
                 this.inSyncAllocationIds = inSyncAllocationIds;
@@ -413,6 +415,10 @@ public abstract class AbstractIndicesClusterStateServiceTestCase extends OpenSea
             return term;
         }
 
+        public int shardStateUpdates() {
+            return shardStateUpdates;
+        }
+
         public void updateTerm(long newTerm) {
             assertThat("term can only be incremented: " + shardRouting, newTerm, greaterThanOrEqualTo(term));
             if (shardRouting.primary() && shardRouting.active()) {
@@ -302,6 +302,50 @@ public class IndicesClusterStateServiceRandomUpdatesTests extends AbstractIndice
         assertNull(indicesCSSvc.indicesService.getShardOrNull(shardId));
     }
 
+    public void testOnlyUpdatesShardsWhoseRoutingOrMetadataChanged() {
+        disableRandomFailures();
+        String index = "index_" + randomAlphaOfLength(8).toLowerCase(Locale.ROOT);
+        ClusterState state = ClusterStateCreationUtils.state(index, randomBoolean(),
+            ShardRoutingState.STARTED, ShardRoutingState.INITIALIZING);
+        ClusterState previousState = ClusterState.builder(state)
+            .metadata(Metadata.builder(state.metadata()).remove(index))
+            .routingTable(RoutingTable.builder().build())
+            .build();
+
+        final ShardRouting shardRouting = state.routingTable().index(index).shard(0).replicaShards().get(0);
+        final ShardId shardId = shardRouting.shardId();
+        DiscoveryNode node = state.nodes().get(shardRouting.currentNodeId());
+        IndicesClusterStateService indicesCSSvc = createIndicesClusterStateService(node, RecordingIndicesService::new);
+        indicesCSSvc.start();
+        indicesCSSvc.applyClusterState(new ClusterChangedEvent("cluster state change that adds the index",
+            adaptClusterStateToLocalNode(state, node), adaptClusterStateToLocalNode(previousState, node)));
+        previousState = state;
+
+        // the replica is started, its shard routing table changed
+        state = cluster.applyStartedShards(state, state.routingTable().index(index).shard(0).replicaShards());
+        indicesCSSvc.applyClusterState(new ClusterChangedEvent("replica started",
+            adaptClusterStateToLocalNode(state, node), adaptClusterStateToLocalNode(previousState, node)));
+        final MockIndexShard shard = ((RecordingIndicesService) indicesCSSvc.indicesService).getShardOrNull(shardId);
+        assertTrue(shard.routingEntry().started());
+        final int shardStateUpdates = shard.shardStateUpdates();
+        previousState = state;
+
+        // neither the routing table nor the index metadata changed
+        state = ClusterState.builder(state).incrementVersion().build();
+        indicesCSSvc.applyClusterState(new ClusterChangedEvent("unrelated change",
+            adaptClusterStateToLocalNode(state, node), adaptClusterStateToLocalNode(previousState, node)));
+        assertEquals(shardStateUpdates, shard.shardStateUpdates());
+        previousState = state;
+
+        // the index metadata changed
+        state = ClusterState.builder(state).incrementVersion()
+            .metadata(Metadata.builder(state.metadata()).put(IndexMetadata.builder(state.metadata().index(index))))
+            .build();
+        indicesCSSvc.applyClusterState(new ClusterChangedEvent("index metadata change",
+            adaptClusterStateToLocalNode(state, node), adaptClusterStateToLocalNode(previousState, node)));
+        assertEquals(shardStateUpdates + 1, shard.shardStateUpdates());
+    }
+
     public ClusterState randomInitialClusterState(Map<DiscoveryNode, IndicesClusterStateService> clusterStateServiceMap,
                                                   Supplier<MockIndicesService> indicesServiceSupplier) {
         List<DiscoveryNode> allNodes = new ArrayList<>();
@@ -32,9 +32,12 @@
 
 package org.opensearch.node;
 
+import org.opensearch.Version;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
@@ -47,6 +50,7 @@ import org.opensearch.threadpool.ThreadPool;
 import org.junit.After;
 import org.junit.Before;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 
@@ -150,4 +154,48 @@ public class ResponseCollectorServiceTests extends OpenSearchTestCase {
         assertTrue(nodeStats.containsKey("node1"));
         assertFalse(nodeStats.containsKey("node2"));
     }
+
+    public void testQueryLatencyPercentile() {
+        assertThat(collector.getQueryLatencyPercentile("index", 95), equalTo(-1L));
+        for (int i = 1; i < ResponseCollectorService.MIN_QUERY_LATENCY_SAMPLES; i++) {
+            collector.addQueryLatency("index", i);
+        }
+        assertThat(collector.getQueryLatencyPercentile("index", 95), equalTo(-1L));
+
+        // only the most recent latencies are used
+        for (int i = 0; i < ResponseCollectorService.QUERY_LATENCY_SAMPLES; i++) {
+            collector.addQueryLatency("index", 100 + ResponseCollectorService.QUERY_LATENCY_SAMPLES - 1 - i);
+        }
+        final int samples = ResponseCollectorService.QUERY_LATENCY_SAMPLES;
+        assertThat(collector.getQueryLatencyPercentile("index", 50), equalTo(100L + samples / 2 - 1));
+        assertThat(collector.getQueryLatencyPercentile("index", 100), equalTo(100L + samples - 1));
+        assertThat(collector.getQueryLatencyPercentile("other", 50), equalTo(-1L));
+
+        ClusterState previousState = ClusterState.builder(new ClusterName("cluster"))
+            .metadata(Metadata.builder().put(IndexMetadata.builder("index")
+                .settings(settings(Version.CURRENT)).numberOfShards(1).numberOfReplicas(0)))
+            .build();
+        ClusterState newState = ClusterState.builder(previousState).metadata(Metadata.builder(previousState.metadata()).remove("index"))
+            .build();
+        collector.clusterChanged(new ClusterChangedEvent("test", newState, previousState));
+        assertThat(collector.getQueryLatencyPercentile("index", 50), equalTo(-1L));
+    }
+
+    public void testHedgedRequests() {
+        assertTrue(collector.tryStartHedgedRequest(2));
+        assertTrue(collector.tryStartHedgedRequest(2));
+        // the budget is exhausted until a hedged request completes
+        assertFalse(collector.tryStartHedgedRequest(2));
+        assertFalse(collector.tryStartHedgedRequest(0));
+        collector.onHedgedRequestDone();
+        assertThat(collector.getHedgedRequestsInFlight(), equalTo(1L));
+        assertTrue(collector.tryStartHedgedRequest(2));
+        collector.onHedgedRequestWon();
+        collector.onHedgedRequestDone();
+        collector.onHedgedRequestDone();
+        assertThat(collector.getHedgedRequestsInFlight(), equalTo(0L));
+        AdaptiveSelectionStats stats = collector.getAdaptiveStats(Collections.emptyMap());
+        assertThat(stats.getHedgedRequests(), equalTo(3L));
+        assertThat(stats.getHedgedRequestWins(), equalTo(1L));
+    }
 }
@@ -45,7 +45,9 @@ import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.RandomIndexWriter;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
@@ -2251,6 +2253,95 @@ public class CompositeAggregatorTests  extends AggregatorTestCase {
         }
     }
 
+    public void testSkipSegmentsWithAfterKey() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                Document document = new Document();
+                for (int segment = 0; segment < 3; segment++) {
+                    for (int i = 0; i < 10; i++) {
+                        document.clear();
+                        long day = asLong("2020-01-0" + (segment + 1) + "T05:00:00") + TimeUnit.HOURS.toMillis(i);
+                        addToDocument(segment * 10 + i, document, createDocument("long", (long) segment * 10 + i, "date", day));
+                        indexWriter.addDocument(document);
+                    }
+                    indexWriter.commit();
+                }
+                // a last segment with documents that have no value
+                for (int i = 0; i < 5; i++) {
+                    document.clear();
+                    addToDocument(30 + i, document, createDocument("keyword", "a"));
+                    indexWriter.addDocument(document);
+                }
+                indexWriter.commit();
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                assertThat(indexReader.leaves().size(), equalTo(4));
+                // We do not use LuceneTestCase.newSearcher because we need a DirectoryReader
+                IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+
+                // the first segment is before the after key, the third one is after the last bucket of the full queue
+                // and the last one has no value
+                CompositeAggregationBuilder builder = new CompositeAggregationBuilder("name",
+                    Collections.singletonList(new TermsValuesSourceBuilder("long").field("long")))
+                    .aggregateAfter(createAfterKey("long", 14L))
+                    .size(3);
+                CompositeAggregator aggregator = createAggregator(new MatchAllDocsQuery(), builder, indexSearcher,
+                    createIndexSettings(null), FIELD_TYPES);
+                aggregator.preCollection();
+                indexSearcher.search(new MatchAllDocsQuery(), aggregator);
+                aggregator.postCollection();
+                InternalComposite result = (InternalComposite) aggregator.buildTopLevel();
+                assertEquals(3, result.getBuckets().size());
+                assertEquals("{long=15}", result.getBuckets().get(0).getKeyAsString());
+                assertEquals("{long=17}", result.afterKey().toString());
+                Map<String, Object> debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                assertThat(debug.get("segments_skipped"), equalTo(3));
+                assertThat(debug.get("docs_skipped"), equalTo(25L));
+
+                // daily buckets in a time zone where each segment contains a single day
+                builder = new CompositeAggregationBuilder("name",
+                    Collections.singletonList(new DateHistogramValuesSourceBuilder("date").field("date")
+                        .calendarInterval(DateHistogramInterval.days(1))
+                        .timeZone(ZoneId.of("-05:00"))))
+                    .aggregateAfter(createAfterKey("date", asLong("2020-01-02T05:00:00")))
+                    .size(1);
+                aggregator = createAggregator(new MatchAllDocsQuery(), builder, indexSearcher, createIndexSettings(null), FIELD_TYPES);
+                aggregator.preCollection();
+                indexSearcher.search(new MatchAllDocsQuery(), aggregator);
+                aggregator.postCollection();
+                result = (InternalComposite) aggregator.buildTopLevel();
+                assertEquals(1, result.getBuckets().size());
+                assertEquals("{date=" + asLong("2020-01-03T05:00:00") + "}", result.afterKey().toString());
+                assertEquals(10L, result.getBuckets().get(0).getDocCount());
+                debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                assertThat(debug.get("segments_skipped"), equalTo(2));
+                assertThat(debug.get("docs_skipped"), equalTo(15L));
+
+                // the missing bucket sorts last in descending order so it is competitive and no segment can be skipped
+                builder = new CompositeAggregationBuilder("name",
+                    Collections.singletonList(new TermsValuesSourceBuilder("long").field("long").missingBucket(true).order(SortOrder.DESC)))
+                    .aggregateAfter(createAfterKey("long", 14L))
+                    .size(20);
+                aggregator = createAggregator(new MatchAllDocsQuery(), builder, indexSearcher, createIndexSettings(null), FIELD_TYPES);
+                aggregator.preCollection();
+                indexSearcher.search(new MatchAllDocsQuery(), aggregator);
+                aggregator.postCollection();
+                result = (InternalComposite) aggregator.buildTopLevel();
+                assertEquals(15, result.getBuckets().size());
+                assertEquals("{long=13}", result.getBuckets().get(0).getKeyAsString());
+                assertEquals("{long=0}", result.getBuckets().get(13).getKeyAsString());
+                assertEquals("{long=null}", result.getBuckets().get(14).getKeyAsString());
+                assertEquals(5L, result.getBuckets().get(14).getDocCount());
+                debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                assertThat(debug.get("segments_skipped"), equalTo(0));
+                assertThat(debug.get("docs_skipped"), equalTo(0L));
+            }
+        }
+    }
+
     private void testSearchCase(List<Query> queries,
                                 List<Map<String, List<Object>>> dataset,
                                 Supplier<CompositeAggregationBuilder> create,
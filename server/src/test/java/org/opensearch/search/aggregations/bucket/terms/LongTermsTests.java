@@ -34,6 +34,7 @@ package org.opensearch.search.aggregations.bucket.terms;
 
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.ParsedMultiBucketAggregation;
 
@@ -73,6 +74,25 @@ public class LongTermsTests extends InternalTermsTestCase {
                 metadata, format, shardSize, showTermDocCountError, otherDocCount, buckets, docCountError);
     }
 
+    public void testPartialReduceByKeyStopsAtRequiredSize() {
+        BucketOrder order = BucketOrder.key(true);
+        List<InternalAggregation> aggregations = new ArrayList<>();
+        for (long[] terms : new long[][] { { 1, 3, 5 }, { 2, 3, 4 } }) {
+            List<LongTerms.Bucket> buckets = new ArrayList<>();
+            for (long term : terms) {
+                buckets.add(new LongTerms.Bucket(term, 1, InternalAggregations.EMPTY, false, 0, DocValueFormat.RAW));
+            }
+            aggregations.add(new LongTerms("terms", order, order, 3, 0, null, DocValueFormat.RAW, 5, false, 0, buckets, 0));
+        }
+        LongTerms reduced = (LongTerms) aggregations.get(0).reduce(aggregations, emptyReduceContextBuilder().forPartialReduction());
+        List<LongTerms.Bucket> buckets = reduced.getBuckets();
+        assertEquals(3, buckets.size());
+        assertEquals(1L, buckets.get(0).getKey());
+        assertEquals(2L, buckets.get(1).getKey());
+        assertEquals(3L, buckets.get(2).getKey());
+        assertEquals(2L, buckets.get(2).getDocCount());
+    }
+
     @Override
     protected Class<? extends ParsedMultiBucketAggregation> implementationClass() {
         return ParsedLongTerms.class;
@@ -36,6 +36,7 @@ import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.InetAddressPoint;
 import org.apache.lucene.document.LatLonDocValuesField;
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
@@ -43,11 +44,17 @@ import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
@@ -107,6 +114,7 @@ import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
 import org.opensearch.search.aggregations.support.ValueType;
 import org.opensearch.search.aggregations.support.ValuesSourceType;
+import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.ScoreSortBuilder;
 import org.opensearch.test.geo.RandomGeoGenerator;
@@ -175,11 +183,13 @@ public class TermsAggregatorTests extends AggregatorTestCase {
             if (randomizeAggregatorImpl) {
                 TermsAggregatorFactory.COLLECT_SEGMENT_ORDS = randomBoolean();
                 TermsAggregatorFactory.REMAP_GLOBAL_ORDS = randomBoolean();
+                TermsAggregatorFactory.MAP_SEGMENT_ORDS = randomBoolean();
             }
             return super.createAggregator(aggregationBuilder, indexSearcher, fieldTypes);
         } finally {
             TermsAggregatorFactory.COLLECT_SEGMENT_ORDS = null;
             TermsAggregatorFactory.REMAP_GLOBAL_ORDS = null;
+            TermsAggregatorFactory.MAP_SEGMENT_ORDS = null;
         }
     }
 
@@ -252,6 +262,91 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         directory.close();
     }
 
+    public void testUsesSegmentOrdinalsWithoutGlobalOrdinals() throws Exception {
+        randomizeAggregatorImpl = false;
+
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int i = 0; i < 20; i++) {
+                    Document document = new Document();
+                    document.add(new SortedSetDocValuesField("string", new BytesRef(i % 2 == 0 ? "even" : "odd")));
+                    if (i % 5 == 0) {
+                        document.add(new SortedSetDocValuesField("string", new BytesRef("five")));
+                    }
+                    indexWriter.addDocument(document);
+                    if (i % 10 == 9) {
+                        indexWriter.commit();
+                    }
+                }
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                assertThat(indexReader.leaves().size(), equalTo(2));
+                // We do not use LuceneTestCase.newSearcher because we need a DirectoryReader
+                IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").userValueTypeHint(ValueType.STRING)
+                    .field("string");
+                MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+
+                // the global ordinals are not cached in this test so they would have to be built
+                TermsAggregator aggregator = createAggregator(aggregationBuilder, indexSearcher, fieldType);
+                assertThat(aggregator, instanceOf(MapStringTermsAggregator.class));
+                Map<String, Object> debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                assertThat(debug.get("collection_strategy"), equalTo("segment_ordinals"));
+
+                aggregator.preCollection();
+                indexSearcher.search(new MatchAllDocsQuery(), aggregator);
+                aggregator.postCollection();
+                Terms result = reduce(aggregator);
+                assertEquals(3, result.getBuckets().size());
+                assertEquals(10L, result.getBucketByKey("even").getDocCount());
+                assertEquals(10L, result.getBucketByKey("odd").getDocCount());
+                assertEquals(4L, result.getBucketByKey("five").getDocCount());
+            }
+        }
+    }
+
+    public void testSkipsSegmentsOutsideOfRequiredRange() throws Exception {
+        randomizeAggregatorImpl = false;
+
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                // one segment per range of ten timestamps
+                for (int i = 0; i < 30; i++) {
+                    Document document = new Document();
+                    document.add(new LongPoint("timestamp", i));
+                    document.add(new SortedSetDocValuesField("string", new BytesRef(i % 2 == 0 ? "even" : "odd")));
+                    indexWriter.addDocument(document);
+                    if (i % 10 == 9) {
+                        indexWriter.commit();
+                    }
+                }
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                assertThat(indexReader.leaves().size(), equalTo(3));
+                ContextIndexSearcher indexSearcher = new ContextIndexSearcher(indexReader, IndexSearcher.getDefaultSimilarity(),
+                    null, IndexSearcher.getDefaultQueryCachingPolicy(), false);
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").userValueTypeHint(ValueType.STRING)
+                    .field("string");
+                MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+                Query query = new BooleanQuery.Builder()
+                    .add(new MatchAllDocsQuery(), Occur.MUST)
+                    .add(LongPoint.newRangeQuery("timestamp", 12, 17), Occur.FILTER)
+                    .build();
+
+                TermsAggregator aggregator = createAggregator(aggregationBuilder, indexSearcher, fieldType);
+                aggregator.preCollection();
+                indexSearcher.search(query, aggregator);
+                aggregator.postCollection();
+                assertThat(indexSearcher.getSkippedLeaves(), equalTo(2L));
+                Terms result = reduce(aggregator);
+                assertEquals(2, result.getBuckets().size());
+                assertEquals(3L, result.getBucketByKey("even").getDocCount());
+                assertEquals(3L, result.getBucketByKey("odd").getDocCount());
+            }
+        }
+    }
+
     public void testSimple() throws Exception {
         try (Directory directory = newDirectory()) {
             try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
@@ -36,12 +36,15 @@ import org.apache.lucene.document.BinaryDocValuesField;
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.index.RandomIndexWriter;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.geo.GeoPoint;
+import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.index.mapper.RangeFieldMapper;
@@ -186,6 +189,29 @@ public class CardinalityAggregatorTests extends AggregatorTestCase {
         }, null);
     }
 
+    public void testKeywordOrdinals() throws IOException {
+        final int numDocs = 10000;
+        final int distinct = 5000;
+        final CheckedConsumer<RandomIndexWriter, IOException> buildIndex = iw -> {
+            for (int i = 0; i < numDocs; i++) {
+                iw.addDocument(Arrays.asList(
+                    new SortedSetDocValuesField("keyword", new BytesRef("value" + (i % distinct))),
+                    new IntPoint("number", i)));
+            }
+        };
+        final MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("keyword");
+        final CardinalityAggregationBuilder aggregationBuilder =
+            new CardinalityAggregationBuilder("_name").field("keyword").precisionThreshold(40000);
+        // few matching documents, the values are hashed directly
+        testAggregation(aggregationBuilder, IntPoint.newRangeQuery("number", 0, 9), buildIndex,
+            card -> assertEquals(10, card.getValue(), 0), fieldType);
+        // many matching documents, the ordinals are collected in bitsets
+        testAggregation(aggregationBuilder, IntPoint.newRangeQuery("number", 0, 2999), buildIndex,
+            card -> assertEquals(3000, card.getValue(), 30), fieldType);
+        testAggregation(aggregationBuilder, new MatchAllDocsQuery(), buildIndex,
+            card -> assertEquals(distinct, card.getValue(), 50), fieldType);
+    }
+
     private void testAggregation(Query query, CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
                           Consumer<InternalCardinality> verify) throws IOException {
         MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType("number", NumberFieldMapper.NumberType.LONG);
@@ -37,10 +37,13 @@ import com.carrotsearch.hppc.IntHashSet;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.breaker.CircuitBreakingException;
 import org.opensearch.common.breaker.NoopCircuitBreaker;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.io.IOException;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.opensearch.search.aggregations.metrics.AbstractHyperLogLog.MAX_PRECISION;
@@ -123,6 +126,32 @@ public class HyperLogLogPlusPlusTests extends OpenSearchTestCase {
         }
     }
 
+    public void testMergeSerialized() throws IOException {
+        final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final HyperLogLogPlusPlus merged = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 1);
+        final HyperLogLogPlusPlus mergedSerialized = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 1);
+        final int numShards = randomIntBetween(1, 10);
+        for (int shard = 0; shard < numShards; ++shard) {
+            final long bucketOrd = randomInt(5);
+            final HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 1);
+            final int numValues = randomIntBetween(1, 100000);
+            for (int i = 0; i < numValues; ++i) {
+                counts.collect(bucketOrd, BitMixer.mix64(randomInt(1000000)));
+            }
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                counts.writeTo(bucketOrd, out);
+                try (StreamInput in = out.bytes().streamInput()) {
+                    final AbstractHyperLogLogPlusPlus read = AbstractHyperLogLogPlusPlus.readFrom(in, BigArrays.NON_RECYCLING_INSTANCE);
+                    assertTrue(read.equals(0, counts, bucketOrd));
+                    mergedSerialized.merge(0, read, 0);
+                }
+            }
+            merged.merge(0, counts, bucketOrd);
+        }
+        assertTrue(merged.equals(0, mergedSerialized, 0));
+        assertEquals(merged.cardinality(0), mergedSerialized.cardinality(0));
+    }
+
     public void testFakeHashes() {
         // hashes with lots of leading zeros trigger different paths in the code that we try to go through here
         final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
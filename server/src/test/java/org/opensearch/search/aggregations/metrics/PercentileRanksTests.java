@@ -52,6 +52,9 @@ public class PercentileRanksTests extends BaseAggregationTestCase<PercentileRank
             factory.numberOfSignificantValueDigits(randomIntBetween(0, 5));
         } else if (randomBoolean()) {
             factory.compression(randomIntBetween(1, 50000));
+        } else if (randomBoolean()) {
+            factory.percentilesConfig(
+                new PercentilesConfig.TDigest(randomIntBetween(1, 50000), randomFrom(TDigestState.Implementation.values())));
         }
         String field = randomNumericField();
         randomFieldOrScript(factory, field);
@@ -61,6 +61,9 @@ public class PercentilesTests extends BaseAggregationTestCase<PercentilesAggrega
             factory.numberOfSignificantValueDigits(randomIntBetween(0, 5));
         } else if (randomBoolean()) {
             factory.compression(randomIntBetween(1, 50000));
+        } else if (randomBoolean()) {
+            factory.percentilesConfig(
+                new PercentilesConfig.TDigest(randomIntBetween(1, 50000), randomFrom(TDigestState.Implementation.values())));
         }
         String field = randomNumericField();
         randomFieldOrScript(factory, field);
@@ -32,9 +32,19 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 public class TDigestStateTests extends OpenSearchTestCase {
 
@@ -63,4 +73,90 @@ public class TDigestStateTests extends OpenSearchTestCase {
             prev = v;
         }
     }
+
+    public void testMergingImplementation() {
+        final TDigestState avlTree = new TDigestState(100, TDigestState.Implementation.AVL_TREE);
+        final TDigestState merging = new TDigestState(100, TDigestState.Implementation.MERGING);
+        final int numValues = randomIntBetween(1000, 100000);
+        for (int i = 0; i < numValues; ++i) {
+            final double value = randomDouble();
+            avlTree.add(value);
+            merging.add(value);
+        }
+        assertEquals(numValues, merging.size());
+        for (double q : new double[] { 0.01, 0.1, 0.5, 0.9, 0.99 }) {
+            assertEquals(avlTree.quantile(q), merging.quantile(q), 0.02);
+        }
+    }
+
+    public void testAddAll() {
+        final TDigestState.Implementation implementation = randomFrom(TDigestState.Implementation.values());
+        final List<TDigestState> states = new ArrayList<>();
+        final TDigestState expected = new TDigestState(100, implementation);
+        long totalCount = 0;
+        for (int i = 0; i < randomIntBetween(1, 50); ++i) {
+            final TDigestState state = new TDigestState(100, implementation);
+            final int numValues = randomIntBetween(0, 1000);
+            for (int j = 0; j < numValues; ++j) {
+                state.add(randomDouble());
+            }
+            totalCount += numValues;
+            states.add(state);
+            expected.add(state);
+        }
+        final TDigestState merged = TDigestState.createUsingParamsFrom(states.get(0));
+        merged.add(states);
+        assertEquals(implementation, merged.implementation());
+        assertEquals(totalCount, merged.size());
+        if (totalCount > 0) {
+            assertEquals(expected.quantile(0.5), merged.quantile(0.5), 0.05);
+        }
+    }
+
+    public void testAvlTreeReduceAddsDigestsOneByOne() {
+        final List<TDigestState> states = new ArrayList<>();
+        for (int i = 0; i < randomIntBetween(1, 20); ++i) {
+            final TDigestState state = new TDigestState(100, TDigestState.Implementation.AVL_TREE);
+            for (int j = 0; j < 1000; ++j) {
+                state.add(j);
+            }
+            states.add(state);
+        }
+        final TDigestState merged = spy(TDigestState.createUsingParamsFrom(states.get(0)));
+        merged.add(states);
+        // the same as the reduce did before digests were merged in bulk, which shuffles the centroids of each digest
+        for (TDigestState state : states) {
+            verify(merged).add(same(state));
+        }
+        assertEquals(1000L * states.size(), merged.size());
+        assertEquals(499.5, merged.quantile(0.5), 10);
+    }
+
+    public void testSerialization() throws IOException {
+        final TDigestState state = new TDigestState(randomIntBetween(10, 500), randomFrom(TDigestState.Implementation.values()));
+        for (int i = 0; i < randomIntBetween(0, 1000); ++i) {
+            state.add(randomDouble());
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            TDigestState.write(state, out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                final TDigestState read = TDigestState.read(in);
+                assertEquals(state.implementation(), read.implementation());
+                assertEquals(state.size(), read.size());
+            }
+        }
+
+        // older nodes only know the AVL tree implementation
+        final Version version = Version.V_1_0_0;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            TDigestState.write(state, out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(version);
+                final TDigestState read = TDigestState.read(in);
+                assertEquals(TDigestState.Implementation.AVL_TREE, read.implementation());
+                assertEquals(state.size(), read.size());
+            }
+        }
+    }
 }
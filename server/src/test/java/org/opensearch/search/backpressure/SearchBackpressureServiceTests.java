@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.monitor.jvm.ThreadResourceProbe;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Collections.emptyMap;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SearchBackpressureServiceTests extends OpenSearchTestCase {
+
+    public void testCancelsMostExpensiveTasksUnderDuress() {
+        final Settings settings = Settings.builder()
+            .put(SearchBackpressureService.ENABLED_SETTING.getKey(), true)
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 2)
+            .put(SearchBackpressureService.TASK_CPU_TIME_THRESHOLD_SETTING.getKey(), "1s")
+            .put(SearchBackpressureService.TASK_ALLOCATION_RATE_THRESHOLD_SETTING.getKey(), "1mb")
+            .put(SearchBackpressureService.MAX_CANCELLATIONS_SETTING.getKey(), 2)
+            .build();
+        final TaskManager taskManager = mock(TaskManager.class);
+        final Map<Long, CancellableTask> tasks = new HashMap<>();
+        final AtomicLong heapHeavyAllocatedBytes = new AtomicLong(1024);
+        final SearchShardTask cheap = addTask(tasks, 1, TimeUnit.MILLISECONDS.toNanos(10), new AtomicLong(1024));
+        final SearchShardTask cpuHeavy = addTask(tasks, 2, TimeUnit.SECONDS.toNanos(5), new AtomicLong(1024));
+        final SearchShardTask heapHeavy = addTask(tasks, 3, TimeUnit.MILLISECONDS.toNanos(10), heapHeavyAllocatedBytes);
+        final SearchShardTask slightlyHeavy = addTask(tasks, 4, TimeUnit.SECONDS.toNanos(2), new AtomicLong(1024));
+        // allocated a lot in the past but does not allocate anymore
+        final SearchShardTask formerlyHeapHeavy = addTask(tasks, 5, TimeUnit.MILLISECONDS.toNanos(10),
+            new AtomicLong(100 * 1024 * 1024));
+        when(taskManager.getCancellableTasks()).thenReturn(tasks);
+
+        final AtomicReference<Double> heapPercent = new AtomicReference<>(90.0);
+        final AtomicLong nanoTime = new AtomicLong();
+        final SearchBackpressureService service = new SearchBackpressureService(settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), mock(ThreadPool.class), taskManager,
+            () -> 10.0, heapPercent::get, nanoTime::get);
+
+        // a single breach is not enough
+        service.check();
+        verify(taskManager, never()).cancel(any(), anyString(), any());
+        assertEquals(0, service.stats().getNodeDuressCount());
+
+        // 10mb allocated in 1 second
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        heapHeavyAllocatedBytes.addAndGet(10 * 1024 * 1024);
+        service.check();
+        verify(taskManager).cancel(eq(heapHeavy), anyString(), any());
+        verify(taskManager).cancel(eq(cpuHeavy), anyString(), any());
+        verify(taskManager, never()).cancel(eq(slightlyHeavy), anyString(), any());
+        verify(taskManager, never()).cancel(eq(cheap), anyString(), any());
+        verify(taskManager, never()).cancel(eq(formerlyHeapHeavy), anyString(), any());
+
+        SearchBackpressureStats stats = service.stats();
+        assertTrue(stats.isEnabled());
+        assertEquals(1, stats.getNodeDuressCount());
+        assertEquals(2, stats.getCancellationCount());
+        assertEquals(1, stats.getCpuTimeCancellationCount());
+        assertEquals(1, stats.getAllocationRateCancellationCount());
+        assertEquals(1, stats.getCancellationLimitReachedCount());
+
+        // the breaches must be successive
+        heapPercent.set(10.0);
+        service.check();
+        heapPercent.set(90.0);
+        service.check();
+        assertEquals(1, service.stats().getNodeDuressCount());
+        verify(taskManager, never()).cancel(eq(slightlyHeavy), anyString(), any());
+    }
+
+    public void testZeroAllocationRateThresholdOnlyCancelsForCpuTime() {
+        final Settings settings = Settings.builder()
+            .put(SearchBackpressureService.ENABLED_SETTING.getKey(), true)
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 1)
+            .put(SearchBackpressureService.TASK_CPU_TIME_THRESHOLD_SETTING.getKey(), "1s")
+            .put(SearchBackpressureService.TASK_ALLOCATION_RATE_THRESHOLD_SETTING.getKey(), "0b")
+            .build();
+        final TaskManager taskManager = mock(TaskManager.class);
+        final Map<Long, CancellableTask> tasks = new HashMap<>();
+        final AtomicLong heapHeavyAllocatedBytes = new AtomicLong(1024);
+        final SearchShardTask cheap = addTask(tasks, 1, TimeUnit.MILLISECONDS.toNanos(10), new AtomicLong());
+        final SearchShardTask cpuHeavy = addTask(tasks, 2, TimeUnit.SECONDS.toNanos(5), new AtomicLong(1024));
+        final SearchShardTask heapHeavy = addTask(tasks, 3, TimeUnit.MILLISECONDS.toNanos(10), heapHeavyAllocatedBytes);
+        when(taskManager.getCancellableTasks()).thenReturn(tasks);
+
+        final AtomicLong nanoTime = new AtomicLong();
+        final SearchBackpressureService service = new SearchBackpressureService(settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), mock(ThreadPool.class), taskManager,
+            () -> 10.0, () -> 90.0, nanoTime::get);
+
+        // the first check has no allocation rate yet
+        service.check();
+        verify(taskManager).cancel(eq(cpuHeavy), anyString(), any());
+        tasks.remove(cpuHeavy.getId());
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        heapHeavyAllocatedBytes.addAndGet(10 * 1024 * 1024);
+        service.check();
+        verify(taskManager, never()).cancel(eq(heapHeavy), anyString(), any());
+        verify(taskManager, never()).cancel(eq(cheap), anyString(), any());
+
+        SearchBackpressureStats stats = service.stats();
+        assertEquals(2, stats.getNodeDuressCount());
+        assertEquals(1, stats.getCancellationCount());
+        assertEquals(1, stats.getCpuTimeCancellationCount());
+        assertEquals(0, stats.getAllocationRateCancellationCount());
+    }
+
+    public void testDisabledByDefault() {
+        final TaskManager taskManager = mock(TaskManager.class);
+        final SearchBackpressureService service = new SearchBackpressureService(Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), mock(ThreadPool.class), taskManager,
+            () -> 100.0, () -> 100.0, System::nanoTime);
+        for (int i = 0; i < 5; i++) {
+            service.check();
+        }
+        verify(taskManager, never()).getCancellableTasks();
+        assertFalse(service.stats().isEnabled());
+        assertEquals(0, service.stats().getNodeDuressCount());
+    }
+
+    public void testTaskResourceTracking() {
+        final long threadId = Thread.currentThread().getId();
+        assumeTrue("thread CPU time is not supported", ThreadResourceProbe.getThreadCpuTimeNanos(threadId) >= 0);
+        final SearchShardTask task = new SearchShardTask(1, "transport", "search", "", TaskId.EMPTY_TASK_ID, emptyMap());
+        assertEquals(0, task.getCpuTimeNanos());
+        assertEquals(0, task.getAllocatedBytes());
+        try (Releasable ignored = task.startResourceTracking()) {
+            final long startCpuTimeNanos = ThreadResourceProbe.getThreadCpuTimeNanos(threadId);
+            // nested executions are not accounted twice
+            task.startResourceTracking().close();
+            final List<byte[]> arrays = new ArrayList<>();
+            while (ThreadResourceProbe.getThreadCpuTimeNanos(threadId) - startCpuTimeNanos < TimeUnit.MILLISECONDS.toNanos(10)) {
+                if (arrays.size() == 1000) {
+                    arrays.clear();
+                }
+                arrays.add(new byte[randomIntBetween(16, 1024)]);
+            }
+            assertThat(task.getCpuTimeNanos(), greaterThan(0L));
+        }
+        final long cpuTimeNanos = task.getCpuTimeNanos();
+        assertThat(cpuTimeNanos, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10)));
+        if (ThreadResourceProbe.getThreadAllocatedBytes(threadId) >= 0) {
+            assertThat(task.getAllocatedBytes(), greaterThan(0L));
+        }
+        // nothing is accounted once the execution completed
+        assertEquals(cpuTimeNanos, task.getCpuTimeNanos());
+    }
+
+    private static SearchShardTask addTask(Map<Long, CancellableTask> tasks, long id, long cpuTimeNanos, AtomicLong allocatedBytes) {
+        final SearchShardTask task = new SearchShardTask(id, "transport", "search", "", TaskId.EMPTY_TASK_ID, emptyMap()) {
+            @Override
+            public synchronized long getCpuTimeNanos() {
+                return cpuTimeNanos;
+            }
+
+            @Override
+            public synchronized long getAllocatedBytes() {
+                return allocatedBytes.get();
+            }
+        };
+        tasks.put(id, task);
+        return task;
+    }
+}
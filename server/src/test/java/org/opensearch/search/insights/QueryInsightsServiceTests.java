@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.insights;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+
+public class QueryInsightsServiceTests extends OpenSearchTestCase {
+
+    public void testShapeIgnoresValues() {
+        final QueryShape shape = QueryShape.of(new SearchSourceBuilder().size(10)
+            .query(QueryBuilders.boolQuery()
+                .filter(QueryBuilders.termsQuery("user", "alice", "bob"))
+                .filter(QueryBuilders.rangeQuery("@timestamp").gte("now-1h"))));
+        final QueryShape sameShape = QueryShape.of(new SearchSourceBuilder().size(50)
+            .query(QueryBuilders.boolQuery()
+                .filter(QueryBuilders.termsQuery("user", "carol"))
+                .filter(QueryBuilders.rangeQuery("@timestamp").gte("now-1d"))));
+        assertEquals(shape.id(), sameShape.id());
+        assertEquals(shape.shape(), sameShape.shape());
+        assertThat(shape.shape(), not(containsString("alice")));
+
+        final QueryShape otherField = QueryShape.of(new SearchSourceBuilder().size(10)
+            .query(QueryBuilders.boolQuery()
+                .filter(QueryBuilders.termsQuery("group", "alice", "bob"))
+                .filter(QueryBuilders.rangeQuery("@timestamp").gte("now-1h"))));
+        assertNotEquals(shape.id(), otherField.id());
+        final QueryShape otherQuery = QueryShape.of(new SearchSourceBuilder().size(10)
+            .query(QueryBuilders.boolQuery()
+                .filter(QueryBuilders.matchQuery("user", "alice"))
+                .filter(QueryBuilders.rangeQuery("@timestamp").gte("now-1h"))));
+        assertNotEquals(shape.id(), otherQuery.id());
+    }
+
+    public void testTopQueriesByMetric() throws Exception {
+        final QueryInsightsService service = newService(Settings.EMPTY, new AtomicLong());
+        final SearchRequest slow = request(QueryBuilders.matchQuery("title", randomAlphaOfLength(5)));
+        final SearchRequest cpuHeavy = request(QueryBuilders.wildcardQuery("title", "*" + randomAlphaOfLength(5)));
+        final SearchRequest memoryHeavy = request(QueryBuilders.termsQuery("tags", randomAlphaOfLength(5)));
+        for (int i = 0; i < 3; i++) {
+            service.record(slow, TimeUnit.SECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(1), 1024);
+            service.record(cpuHeavy, TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(50), 1024);
+            service.record(memoryHeavy, TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(1), 1024 * 1024);
+        }
+
+        final String slowId = QueryShape.of(slow.source()).id();
+        final String cpuHeavyId = QueryShape.of(cpuHeavy.source()).id();
+        final String memoryHeavyId = QueryShape.of(memoryHeavy.source()).id();
+        assertEquals(slowId, service.getTopQueries(QueryGroup.Metric.LATENCY, 1).get(0).getId());
+        assertEquals(cpuHeavyId, service.getTopQueries(QueryGroup.Metric.CPU, 1).get(0).getId());
+        assertEquals(memoryHeavyId, service.getTopQueries(QueryGroup.Metric.MEMORY, 1).get(0).getId());
+
+        final List<QueryGroup> all = service.getTopQueries(QueryGroup.Metric.LATENCY, 10);
+        assertEquals(3, all.size());
+        final QueryGroup top = all.get(0);
+        assertEquals(3, top.getCount());
+        assertEquals(TimeUnit.SECONDS.toNanos(3), top.getTotalLatencyNanos());
+        assertEquals(TimeUnit.SECONDS.toNanos(1), top.getMaxLatencyNanos());
+        assertArrayEquals(new String[] { "index" }, top.getIndices());
+
+        // the returned groups are copies
+        top.merge(top.copy());
+        assertEquals(3, service.getTopQueries(QueryGroup.Metric.LATENCY, 1).get(0).getCount());
+    }
+
+    public void testDropsRequestsOfNewShapesOverMaxGroups() throws Exception {
+        final QueryInsightsService service = newService(Settings.EMPTY, new AtomicLong());
+        for (int i = 0; i < QueryInsightsService.MAX_GROUPS; i++) {
+            service.record(request(QueryBuilders.termQuery("field_" + i, randomAlphaOfLength(5))), 1, 1, 1);
+        }
+        service.record(request(QueryBuilders.termQuery("another_field", "value")), 1, 1, 1);
+        assertEquals(1, service.getDroppedRequests());
+        // requests of known shapes are still recorded
+        service.record(request(QueryBuilders.termQuery("field_0", "value")), 100, 1, 1);
+        assertEquals(1, service.getDroppedRequests());
+        assertEquals(2, service.getTopQueries(QueryGroup.Metric.LATENCY, 1).get(0).getCount());
+    }
+
+    public void testFrequentCheapShapeOutranksExpensiveRequest() throws Exception {
+        final Settings settings = Settings.builder().put(QueryInsightsService.TOP_QUERIES_SIZE_SETTING.getKey(), 1).build();
+        final QueryInsightsService service = newService(settings, new AtomicLong());
+        final SearchRequest expensive = request(QueryBuilders.wildcardQuery("title", "*" + randomAlphaOfLength(5)));
+        service.record(expensive, TimeUnit.MILLISECONDS.toNanos(500), TimeUnit.MILLISECONDS.toNanos(500), 1024 * 1024);
+        for (int i = 0; i < 1000; i++) {
+            service.record(request(QueryBuilders.termQuery("user", randomAlphaOfLength(5))),
+                TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(1), 2048);
+        }
+        final String cheapId = QueryShape.of(request(QueryBuilders.termQuery("user", "value")).source()).id();
+        for (QueryGroup.Metric metric : QueryGroup.Metric.values()) {
+            final QueryGroup top = service.getTopQueries(metric, 1).get(0);
+            assertEquals(cheapId, top.getId());
+            assertEquals(1000, top.getCount());
+        }
+        assertEquals(2, service.getTopQueries(QueryGroup.Metric.LATENCY, 10).size());
+    }
+
+    public void testRollover() throws Exception {
+        final long windowSizeMillis = QueryInsightsService.TOP_QUERIES_WINDOW_SIZE_SETTING.get(Settings.EMPTY).millis();
+        final AtomicLong now = new AtomicLong(randomLongBetween(0, 1000) * windowSizeMillis + randomLongBetween(0, windowSizeMillis - 1));
+        final QueryInsightsService service = newService(Settings.EMPTY, now);
+        final long windowStartMillis = service.getWindowStartMillis();
+        assertEquals(0, windowStartMillis % windowSizeMillis);
+        assertTrue(windowStartMillis <= now.get() && now.get() < windowStartMillis + windowSizeMillis);
+
+        service.record(request(QueryBuilders.matchAllQuery()), 1, 1, 1);
+        now.set(windowStartMillis + windowSizeMillis - 1);
+        service.maybeRollover();
+        assertEquals(1, service.getTopQueries(QueryGroup.Metric.LATENCY, 10).size());
+
+        now.set(windowStartMillis + windowSizeMillis);
+        service.maybeRollover();
+        assertEquals(windowStartMillis + windowSizeMillis, service.getWindowStartMillis());
+        assertEquals(0, service.getTopQueries(QueryGroup.Metric.LATENCY, 10).size());
+    }
+
+    private static QueryInsightsService newService(Settings settings, AtomicLong currentTimeMillis) {
+        settings = Settings.builder().put(settings).put(QueryInsightsService.TOP_QUERIES_ENABLED_SETTING.getKey(), true).build();
+        return new QueryInsightsService(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            mock(ThreadPool.class), null, currentTimeMillis::get);
+    }
+
+    private static SearchRequest request(QueryBuilder query) {
+        return new SearchRequest("index").source(new SearchSourceBuilder().query(query));
+    }
+}
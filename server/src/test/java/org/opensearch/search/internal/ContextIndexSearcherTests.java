@@ -37,6 +37,7 @@ import org.apache.lucene.codecs.StoredFieldsReader;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.FilterDirectoryReader;
@@ -49,11 +50,14 @@ import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.PostingsEnum;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FilterCollector;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.MatchAllDocsQuery;
@@ -63,6 +67,7 @@ import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHitCountCollector;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.Accountable;
@@ -81,6 +86,8 @@ import org.opensearch.index.IndexSettings;
 import org.opensearch.index.cache.bitset.BitsetFilterCache;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.profile.ProfileResult;
+import org.opensearch.search.profile.query.QueryProfiler;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.IndexSettingsModule;
 
@@ -88,6 +95,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Set;
 
 import static org.opensearch.search.internal.ContextIndexSearcher.intersectScorerAndBitSet;
@@ -199,6 +207,67 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
         doTestContextIndexSearcher(false, true);
     }
 
+    public void testSkipsLeavesOutsideOfRequiredPointRanges() throws IOException {
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter w = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                // one segment per range of ten values
+                for (int segment = 0; segment < 3; segment++) {
+                    for (int i = 0; i < 10; i++) {
+                        Document doc = new Document();
+                        doc.add(new LongPoint("timestamp", segment * 10 + i));
+                        doc.add(new StringField("foo", i % 2 == 0 ? "even" : "odd", Field.Store.NO));
+                        w.addDocument(doc);
+                    }
+                    w.commit();
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertThat(reader.leaves().size(), equalTo(3));
+                ContextIndexSearcher searcher = new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(),
+                    null, IndexSearcher.getDefaultQueryCachingPolicy(), true);
+                QueryProfiler profiler = new QueryProfiler();
+                searcher.setProfiler(profiler);
+
+                Query query = new BooleanQuery.Builder()
+                    .add(new TermQuery(new Term("foo", "even")), Occur.MUST)
+                    .add(new ConstantScoreQuery(LongPoint.newRangeQuery("timestamp", 12, 17)), Occur.FILTER)
+                    .build();
+                assertThat(searcher.count(query), equalTo(3));
+                assertThat(searcher.getSkippedLeaves(), equalTo(2L));
+                List<ProfileResult> results = profiler.getTree();
+                assertThat(results.size(), equalTo(1));
+                assertThat(results.get(0).getDebugInfo().get("skipped_leaves"), equalTo(2L));
+
+                // optional ranges don't prune
+                query = new BooleanQuery.Builder()
+                    .add(new TermQuery(new Term("foo", "even")), Occur.SHOULD)
+                    .add(LongPoint.newRangeQuery("timestamp", 12, 17), Occur.SHOULD)
+                    .build();
+                searcher.setProfiler(null);
+                assertThat(searcher.count(query), equalTo(18));
+                assertThat(searcher.getSkippedLeaves(), equalTo(2L));
+
+                // ranges on missing fields match no leaf
+                assertThat(searcher.count(LongPoint.newRangeQuery("missing", 0, 100)), equalTo(0));
+                assertThat(searcher.getSkippedLeaves(), equalTo(5L));
+
+                // skipped leaves are handled like leaves without a scorer, the collector still sees them
+                Set<LeafReaderContext> collectedLeaves = Collections.newSetFromMap(new IdentityHashMap<>());
+                TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
+                searcher.search(LongPoint.newRangeQuery("timestamp", 12, 17), new FilterCollector(totalHitCountCollector) {
+                    @Override
+                    public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+                        collectedLeaves.add(context);
+                        return super.getLeafCollector(context);
+                    }
+                });
+                assertThat(totalHitCountCollector.getTotalHits(), equalTo(6));
+                assertThat(collectedLeaves.size(), equalTo(3));
+                assertThat(searcher.getSkippedLeaves(), equalTo(7L));
+            }
+        }
+    }
+
     public void doTestContextIndexSearcher(boolean sparse, boolean deletions) throws IOException {
         Directory dir = newDirectory();
         IndexWriter w = new IndexWriter(dir, newIndexWriterConfig(null));
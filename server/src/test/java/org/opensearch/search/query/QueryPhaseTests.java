@@ -105,6 +105,7 @@ import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.ScrollContext;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.profile.query.CollectorResult;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.tasks.TaskCancelledException;
 import org.opensearch.test.TestSearchContext;
@@ -120,6 +121,7 @@ import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -785,6 +787,83 @@ public class QueryPhaseTests extends IndexShardTestCase {
             assertEquals(numDocs, totalHits.value);
         }
 
+        // 7. Test that a sort that can't be rewritten skips non-competitive documents with the points of the field instead
+        {
+            final SortField sortField = new SortField(fieldNameLong, SortField.Type.LONG, true);
+            sortField.setMissingValue(Long.MIN_VALUE);
+            sortAndFormats = new SortAndFormats(new Sort(sortField), new DocValueFormat[]{DocValueFormat.RAW});
+            searchContext = spy(new TestSearchContext(null, indexShard, newContextSearcher(reader)));
+            when(searchContext.mapperService()).thenReturn(mapperService);
+            searchContext.sort(sortAndFormats);
+            // search_after disables the rewrite of the sort
+            final FieldDoc searchAfter = new FieldDoc(Integer.MAX_VALUE, Float.NaN, new Object[]{Long.MAX_VALUE});
+            searchContext.searchAfter(searchAfter);
+            // the count of a range query can't be computed upfront, so the hits are counted by the top hits collector
+            final Query query = LongPoint.newRangeQuery(fieldNameLong, Long.MIN_VALUE, Long.MAX_VALUE);
+            searchContext.parsedQuery(new ParsedQuery(query));
+            searchContext.trackTotalHitsUpTo(10);
+            searchContext.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+            searchContext.setSize(10);
+
+            QueryPhase.executeInternal(searchContext);
+            assertTrue(sortField.getCanUsePoints());
+            assertThat(TopDocsCollectorContext.createTopDocsCollectorContext(searchContext, false).createWithProfiler(null).getReason(),
+                equalTo(CollectorResult.REASON_SEARCH_TOP_HITS_SKIP_NON_COMPETITIVE));
+            final TopDocs topDocs = searchContext.queryResult().topDocs().topDocs;
+            // the documents that were skipped are not counted
+            assertEquals(TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO, topDocs.totalHits.relation);
+            assertThat(topDocs.totalHits.value, lessThan((long) numDocs));
+
+            final TopDocs expected = new IndexSearcher(reader).searchAfter(searchAfter, query, 10,
+                new Sort(new SortField(fieldNameLong, SortField.Type.LONG, true)));
+            assertEquals(expected.scoreDocs.length, topDocs.scoreDocs.length);
+            for (int i = 0; i < expected.scoreDocs.length; i++) {
+                assertEquals(((FieldDoc) expected.scoreDocs[i]).fields[0], ((FieldDoc) topDocs.scoreDocs[i]).fields[0]);
+            }
+        }
+
+        // 8. Test that documents are not skipped when the top hits collector is not collected alone, counts all the hits or when
+        // the missing value is competitive
+        {
+            final SortField sortField = new SortField(fieldNameLong, SortField.Type.LONG, true);
+            sortField.setMissingValue(Long.MIN_VALUE);
+            sortAndFormats = new SortAndFormats(new Sort(sortField), new DocValueFormat[]{DocValueFormat.RAW});
+            searchContext = spy(new TestSearchContext(null, indexShard, newContextSearcher(reader)));
+            when(searchContext.mapperService()).thenReturn(mapperService);
+            searchContext.sort(sortAndFormats);
+            // the max score collector is combined with the top hits collector
+            searchContext.trackScores(true);
+            // the count of a range query can't be computed upfront, so the hits are counted by the top hits collector
+            searchContext.parsedQuery(new ParsedQuery(LongPoint.newRangeQuery(fieldNameLong, Long.MIN_VALUE, Long.MAX_VALUE)));
+            searchContext.trackTotalHitsUpTo(10);
+            searchContext.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+            searchContext.setSize(10);
+            QueryPhase.executeInternal(searchContext);
+            assertFalse(sortField.getCanUsePoints());
+            assertThat(TopDocsCollectorContext.createTopDocsCollectorContext(searchContext, false).createWithProfiler(null).getReason(),
+                equalTo(CollectorResult.REASON_SEARCH_TOP_HITS));
+            // every document was compared
+            assertEquals(numDocs, searchContext.queryResult().topDocs().topDocs.totalHits.value);
+
+            searchContext.trackScores(false);
+            searchContext.trackTotalHitsUpTo(SearchContext.TRACK_TOTAL_HITS_ACCURATE);
+            QueryPhase.executeInternal(searchContext);
+            assertFalse(sortField.getCanUsePoints());
+            assertEquals(numDocs, searchContext.queryResult().topDocs().topDocs.totalHits.value);
+            assertEquals(TotalHits.Relation.EQUAL_TO, searchContext.queryResult().topDocs().topDocs.totalHits.relation);
+
+            // documents without a value sort first, the sort can't be rewritten and the points can't be used
+            final SortField missingFirstSortField = new SortField(fieldNameLong, SortField.Type.LONG, true);
+            missingFirstSortField.setMissingValue(Long.MAX_VALUE);
+            searchContext.sort(new SortAndFormats(new Sort(missingFirstSortField), new DocValueFormat[]{DocValueFormat.RAW}));
+            searchContext.trackTotalHitsUpTo(10);
+            QueryPhase.executeInternal(searchContext);
+            assertFalse(missingFirstSortField.getCanUsePoints());
+            assertThat(TopDocsCollectorContext.createTopDocsCollectorContext(searchContext, false).createWithProfiler(null).getReason(),
+                equalTo(CollectorResult.REASON_SEARCH_TOP_HITS));
+            assertEquals(numDocs, searchContext.queryResult().topDocs().topDocs.totalHits.value);
+        }
+
         reader.close();
         dir.close();
     }